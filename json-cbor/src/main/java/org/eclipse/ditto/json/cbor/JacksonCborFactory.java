@@ -98,6 +98,30 @@ public final class JacksonCborFactory implements CborFactory {
         }
     }
 
+    @Override
+    public JsonValue readFromLazily(final byte[] bytes) {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        try {
+            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes);
+            return parseValue(parser, byteBuffer, parser.nextToken(), true);
+        } catch (final IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw createJsonParseException(byteBuffer, e);
+        }
+    }
+
+    @Override
+    public JsonValue readFromLazily(final ByteBuffer byteBuffer) {
+        // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
+        // this buffer.
+        final ByteBuffer slicedByteBuffer = byteBuffer.slice();
+        try {
+            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(slicedByteBuffer));
+            return parseValue(parser, slicedByteBuffer, parser.nextToken(), true);
+        } catch (final IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw createJsonParseException(slicedByteBuffer, e);
+        }
+    }
+
     @Override
     public byte[] toByteArray(final JsonValue jsonValue) throws IOException {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -180,20 +204,26 @@ public final class JacksonCborFactory implements CborFactory {
     }
 
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
-        return parseValue(parser, byteBuffer, parser.nextToken());
+        return parseValue(parser, byteBuffer, parser.nextToken(), false);
     }
 
+    /**
+     * Parses the value starting at the current token.
+     *
+     * @param deferNestedValues whether objects and arrays nested in the parsed value should only keep their CBOR
+     * representation and be parsed on first access.
+     */
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer,
-            @Nullable final JsonToken currentToken)
+            @Nullable final JsonToken currentToken, final boolean deferNestedValues)
             throws IOException {
         if (currentToken == null) {
             throw new IOException("Unexpected end of input while expecting value.");
         }
         switch (currentToken) {
             case START_OBJECT:
-                return parseObject(parser, byteBuffer);
+                return parseObject(parser, byteBuffer, deferNestedValues);
             case START_ARRAY:
-                return parseArray(parser, byteBuffer);
+                return parseArray(parser, byteBuffer, deferNestedValues);
             case VALUE_STRING:
                 return JsonValue.of(parser.getValueAsString());
             case VALUE_NUMBER_INT:
@@ -226,29 +256,55 @@ public final class JacksonCborFactory implements CborFactory {
         }
     }
 
-    private static JsonObject parseObject(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
+    private static JsonObject parseObject(final CBORParser parser, final ByteBuffer byteBuffer,
+            final boolean deferNestedValues) throws IOException {
+
         final LinkedHashMap<String, JsonField> map = new LinkedHashMap<>();
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() == JsonToken.FIELD_NAME) {
             final String key = parser.currentName();
-            final JsonField jsonField = JsonField.newInstance(key, parseValue(parser, byteBuffer));
-            map.put(key, jsonField);
+            final JsonValue value = deferNestedValues
+                    ? parseOrDeferValue(parser, byteBuffer, parser.nextToken())
+                    : parseValue(parser, byteBuffer);
+            map.put(key, JsonField.newInstance(key, value));
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
         return JsonFactory.createJsonObject(map, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
-    private static JsonArray parseArray(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
+    private static JsonArray parseArray(final CBORParser parser, final ByteBuffer byteBuffer,
+            final boolean deferNestedValues) throws IOException {
+
         final LinkedList<JsonValue> list = new LinkedList<>();
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() != JsonToken.END_ARRAY) {
-            final JsonValue jsonValue = parseValue(parser, byteBuffer, parser.currentToken());
+            final JsonValue jsonValue = deferNestedValues
+                    ? parseOrDeferValue(parser, byteBuffer, parser.currentToken())
+                    : parseValue(parser, byteBuffer, parser.currentToken(), false);
             list.add(jsonValue);
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
         return JsonFactory.createJsonArray(list, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
+    /**
+     * Parses scalar values while objects and arrays are skipped and only keep their CBOR representation.
+     */
+    private static JsonValue parseOrDeferValue(final CBORParser parser, final ByteBuffer byteBuffer,
+            @Nullable final JsonToken currentToken) throws IOException {
+
+        if (currentToken == JsonToken.START_OBJECT || currentToken == JsonToken.START_ARRAY) {
+            final long startOffset = parser.getTokenLocation().getByteOffset();
+            parser.skipChildren();
+            final long endOffset = parser.getTokenLocation().getByteOffset();
+            final byte[] bytes = getBytesFromInputSource(startOffset, endOffset, byteBuffer);
+            return currentToken == JsonToken.START_OBJECT
+                    ? JsonFactory.createLazyJsonObject(bytes)
+                    : JsonFactory.createLazyJsonArray(bytes);
+        }
+        return parseValue(parser, byteBuffer, currentToken, false);
+    }
+
     private static byte[] getBytesFromInputSource(final long startOffset, final long endOffset,
             final ByteBuffer byteBuffer) {
         assert endOffset > startOffset;
@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonValue;
 import org.junit.Before;
 import org.junit.Test;
@@ -33,6 +34,11 @@ import org.junit.runners.Parameterized;
 @RunWith(Parameterized.class)
 public final class JacksonCborFactoryTest {
 
+    /**
+     * A map with the key "a" whose value is announced as array of two elements but contains only one.
+     */
+    private static final byte[] TRUNCATED_NESTED_ARRAY = {(byte) 0xA1, 0x61, 'a', (byte) 0x82, 0x01};
+
     @Parameterized.Parameters
     public static List<String> testValue_STRINGS() {
         return Arrays.asList(
@@ -100,6 +106,42 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readFromByteArrayLazily() {
+        final JsonValue result = cborFactory.readFromLazily(testBytes);
+        assertThat(result).isEqualTo(testValue);
+    }
+
+    @Test
+    public void readFromByteBufferLazily() {
+        final JsonValue result = cborFactory.readFromLazily(ByteBuffer.wrap(testBytes).asReadOnlyBuffer());
+        assertThat(result).isEqualTo(testValue);
+    }
+
+    @Test
+    public void readTruncatedNestedValueLazilyFromByteArrayThrowsJsonParseException() {
+        Assertions.assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> cborFactory.readFromLazily(TRUNCATED_NESTED_ARRAY));
+    }
+
+    @Test
+    public void readTruncatedNestedValueLazilyFromByteBufferThrowsJsonParseException() {
+        Assertions.assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> cborFactory.readFromLazily(ByteBuffer.wrap(TRUNCATED_NESTED_ARRAY)));
+    }
+
+    @Test
+    public void lazilyReadNestedValuesAreEqualAndSerializeToSameBytes() throws IOException {
+        final JsonValue parsedValue = JsonFactory.readFrom(testObjectString);
+        final byte[] parsedValueBytes = CborTestUtils.serializeWithJackson(parsedValue);
+
+        final JsonValue result = cborFactory.readFromLazily(parsedValueBytes);
+
+        assertThat(result).isEqualTo(parsedValue);
+        assertThat(result.toString()).isEqualTo(parsedValue.toString());
+        assertThat(cborFactory.toByteArray(result)).isEqualTo(parsedValueBytes);
+    }
+
     @Test
     public void toBytebufferWorks() throws IOException {
         Assertions.assertThat(BinaryToHexConverter.toHexString(cborFactory.toByteBuffer(testValue)))
@@ -70,6 +70,34 @@ public interface CborFactory {
      */
     JsonValue readFrom(ByteBuffer byteBuffer);
 
+    /**
+     * Deserializes a {@code JsonValue} by parsing the passed {@code bytes} with CBOR lazily: only the top-level value
+     * is parsed, nested objects and arrays keep their CBOR representation and are parsed on first access.
+     *
+     * @param bytes the bytes to parse with CBOR.
+     * @return the parsed JsonValue.
+     * @throws JsonParseException if the top-level content of {@code bytes} cannot be deserialized to a
+     * {@link JsonValue}.
+     * @since 2.0.0
+     */
+    default JsonValue readFromLazily(final byte[] bytes) {
+        return readFrom(bytes);
+    }
+
+    /**
+     * Deserializes a {@code JsonValue} by parsing the passed {@code byteBuffer} with CBOR lazily: only the top-level
+     * value is parsed, nested objects and arrays keep their CBOR representation and are parsed on first access.
+     *
+     * @param byteBuffer the ByteBuffer to parse with CBOR.
+     * @return the parsed JsonValue.
+     * @throws JsonParseException if the top-level content of {@code byteBuffer} cannot be deserialized to a
+     * {@link JsonValue}.
+     * @since 2.0.0
+     */
+    default JsonValue readFromLazily(final ByteBuffer byteBuffer) {
+        return readFrom(byteBuffer);
+    }
+
     /**
      * Serializes a CBOR byte array from the passed {@code jsonValue}.
      *
@@ -122,6 +122,45 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return new ImmutableJsonArray(SoftReferencedValueList.of(values, stringRepresentation, cborRepresentation));
     }
 
+    /**
+     * Returns a new JSON array which takes ownership of the given list instead of copying it.
+     * The caller must not modify the list afterwards.
+     *
+     * @param values the values of the new JSON array.
+     * @param stringRepresentation the string representation of the returned array.
+     * @return a new JSON array.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     */
+    static ImmutableJsonArray ofParsed(final List<JsonValue> values, final String stringRepresentation) {
+        requireNonNull(values, ASSERTION_VALUES_OF_JSON_ARRAY);
+        return new ImmutableJsonArray(SoftReferencedValueList.ofParsed(values, stringRepresentation));
+    }
+
+    /**
+     * Returns a new JSON array whose values are parsed from the given string representation on first access only.
+     *
+     * @param stringRepresentation the valid string representation of the returned array as created by
+     * {@link #toString()}.
+     * @return a new JSON array.
+     * @throws NullPointerException if {@code stringRepresentation} is {@code null}.
+     */
+    static ImmutableJsonArray ofLazy(final String stringRepresentation) {
+        requireNonNull(stringRepresentation, "The string representation must not be null!");
+        return new ImmutableJsonArray(SoftReferencedValueList.lazy(stringRepresentation, null));
+    }
+
+    /**
+     * Returns a new JSON array whose values are parsed from the given CBOR representation on first access only.
+     *
+     * @param cborRepresentation the valid CBOR representation of the returned array.
+     * @return a new JSON array.
+     * @throws NullPointerException if {@code cborRepresentation} is {@code null}.
+     */
+    static ImmutableJsonArray ofLazy(final byte[] cborRepresentation) {
+        requireNonNull(cborRepresentation, "The CBOR representation must not be null!");
+        return new ImmutableJsonArray(SoftReferencedValueList.lazy(null, cborRepresentation));
+    }
+
     private static void checkValue(final Object value) {
         requireNonNull(value, "The value to add must not be null!");
     }
@@ -303,7 +342,15 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         private SoftReferencedValueList(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborArrayRepresentation) {
-            valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
+            this(jsonValueList, stringRepresentation, cborArrayRepresentation, true);
+        }
+
+        private SoftReferencedValueList(final List<JsonValue> jsonValueList,
+                @Nullable final String stringRepresentation,
+                @Nullable final byte[] cborArrayRepresentation,
+                final boolean copyValues) {
+            valuesReference = new SoftReference<>(Collections.unmodifiableList(
+                    copyValues ? new ArrayList<>(jsonValueList) : jsonValueList));
             jsonArrayStringRepresentation = stringRepresentation;
             this.cborArrayRepresentation = cborArrayRepresentation;
             if (jsonArrayStringRepresentation == null && cborArrayRepresentation == null) {
@@ -322,6 +369,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             hashCode = 0;
         }
 
+        private SoftReferencedValueList(@Nullable final String stringRepresentation,
+                @Nullable final byte[] cborArrayRepresentation) {
+
+            // the values get recovered from one of the representations on first access
+            valuesReference = new SoftReference<>(null);
+            jsonArrayStringRepresentation = stringRepresentation;
+            this.cborArrayRepresentation = cborArrayRepresentation;
+            hashCode = 0;
+        }
+
         static SoftReferencedValueList empty() {
             return of(Collections.emptyList(), "[]", new byte[]{(byte) 0x80});
         }
@@ -346,6 +403,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             return new SoftReferencedValueList(jsonValueList, stringRepresentation, cborRepresentation);
         }
 
+        static SoftReferencedValueList ofParsed(final List<JsonValue> jsonValueList,
+                final String stringRepresentation) {
+            return new SoftReferencedValueList(jsonValueList, stringRepresentation, null, false);
+        }
+
+        static SoftReferencedValueList lazy(@Nullable final String stringRepresentation,
+                @Nullable final byte[] cborArrayRepresentation) {
+            return new SoftReferencedValueList(stringRepresentation, cborArrayRepresentation);
+        }
+
         private String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('[');
@@ -410,13 +477,14 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         private static List<JsonValue> parseToList(final String jsonArrayString) {
-            final ValueListJsonHandler jsonHandler = new ValueListJsonHandler();
-            JsonValueParser.fromString(jsonHandler).accept(jsonArrayString);
-            return jsonHandler.getValue();
+            // nested values stay unparsed until they are accessed themselves
+            final ImmutableJsonArray jsonArray =
+                    (ImmutableJsonArray) StreamingJsonParser.parseLazily(jsonArrayString);
+            return jsonArray.valueList.values();
         }
 
         private static List<JsonValue> parseToList(final byte[] cborArrayRepresentation) {
-            final JsonValue jsonArray = CBOR_FACTORY.readFrom(cborArrayRepresentation);
+            final JsonValue jsonArray = CBOR_FACTORY.readFromLazily(cborArrayRepresentation);
             List<JsonValue> list = new LinkedList<>();
             for (JsonValue jsonValue : jsonArray.asArray()) {
                 list.add(jsonValue);
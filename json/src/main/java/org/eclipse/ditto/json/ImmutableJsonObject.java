@@ -115,6 +115,46 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         ));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which takes ownership of the given field map instead of
+     * copying it. The caller must not modify the map afterwards.
+     *
+     * @param fields the fields of the new JSON object.
+     * @param stringRepresentation the string representation of the returned object.
+     * @return a new JSON object containing the {@code fields}.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     */
+    static ImmutableJsonObject ofParsed(final Map<String, JsonField> fields, final String stringRepresentation) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofParsed(fields, stringRepresentation));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance whose fields are parsed from the given string representation
+     * on first access only.
+     *
+     * @param stringRepresentation the valid string representation of the returned object as created by
+     * {@link #toString()}.
+     * @return a new JSON object.
+     * @throws NullPointerException if {@code stringRepresentation} is {@code null}.
+     */
+    static ImmutableJsonObject ofLazy(final String stringRepresentation) {
+        requireNonNull(stringRepresentation, "The string representation must not be null!");
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazy(stringRepresentation, null));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance whose fields are parsed from the given CBOR representation
+     * on first access only.
+     *
+     * @param cborRepresentation the valid CBOR representation of the returned object.
+     * @return a new JSON object.
+     * @throws NullPointerException if {@code cborRepresentation} is {@code null}.
+     */
+    static ImmutableJsonObject ofLazy(final byte[] cborRepresentation) {
+        requireNonNull(cborRepresentation, "The CBOR representation must not be null!");
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazy(null, cborRepresentation));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -561,8 +601,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
+            this(jsonFieldMap, stringRepresentation, cborObjectRepresentation, true);
+        }
+
+        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
+                @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation,
+                final boolean copyFields) {
+
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(
+                    copyFields ? new LinkedHashMap<>(jsonFieldMap) : jsonFieldMap));
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
@@ -581,6 +629,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             hashCode = 0;
         }
 
+        private SoftReferencedFieldMap(@Nullable final String stringRepresentation,
+                @Nullable final byte[] cborObjectRepresentation) {
+
+            // the fields get recovered from one of the representations on first access
+            fieldsReference = new SoftReference<>(null);
+            jsonObjectStringRepresentation = stringRepresentation;
+            this.cborObjectRepresentation = cborObjectRepresentation;
+            hashCode = 0;
+        }
+
         static SoftReferencedFieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
@@ -605,6 +663,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
         }
 
+        static SoftReferencedFieldMap ofParsed(final Map<String, JsonField> jsonFieldMap,
+                final String stringRepresentation) {
+            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, null, false);
+        }
+
+        static SoftReferencedFieldMap lazy(@Nullable final String stringRepresentation,
+                @Nullable final byte[] cborObjectRepresentation) {
+            return new SoftReferencedFieldMap(stringRepresentation, cborObjectRepresentation);
+        }
+
         private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('{');
@@ -686,13 +754,14 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private static Map<String, JsonField> parseToMap(final String jsonObjectString) {
-            final FieldMapJsonHandler jsonHandler = new FieldMapJsonHandler();
-            JsonValueParser.fromString(jsonHandler).accept(jsonObjectString);
-            return jsonHandler.getValue();
+            // nested values stay unparsed until they are accessed themselves
+            final ImmutableJsonObject jsonObject =
+                    (ImmutableJsonObject) StreamingJsonParser.parseLazily(jsonObjectString);
+            return jsonObject.fieldMap.fields();
         }
 
         private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
-            final JsonValue jsonObject = CBOR_FACTORY.readFrom(cborObjectRepresentation);
+            final JsonValue jsonObject = CBOR_FACTORY.readFromLazily(cborObjectRepresentation);
             final Map<String, JsonField> map = new LinkedHashMap<>();
             for (final JsonField jsonValue : jsonObject.asObject()) {
                 map.put(jsonValue.getKey().toString(), jsonValue);
@@ -14,9 +14,8 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -201,6 +200,37 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Parses the given UTF-8 encoded JSON data without decoding it to a String first. The data is expected to contain
+     * a valid JSON value with optional whitespace padding.
+     *
+     * @param jsonData the JSON data to read from.
+     * @return a JSON value which represents the read data.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        return JsonValueParser.fromBytes().apply(jsonData);
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded JSON data of the given buffer without decoding it to a String first.
+     * The position of the buffer is not changed. The data is expected to contain a valid JSON value with optional
+     * whitespace padding.
+     *
+     * @param jsonData the JSON data to read from.
+     * @return a JSON value which represents the read data.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final ByteBuffer jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        return JsonValueParser.fromByteBuffer().apply(jsonData);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -287,8 +317,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromBytes().apply(jsonData);
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -298,6 +327,57 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given string which parses nested objects and arrays only when they are accessed.
+     * The whole string is validated nevertheless. Nested values which are not accessed are re-serialized by copying
+     * their string representation, which makes this method suitable for JSON objects which are mostly passed through.
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @return the JSON object that has been created from the string.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} does not contain a valid JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject newObjectLazily(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralString(jsonString)) {
+            return nullObject();
+        } else {
+            return newObject(JsonValueParser.fromStringLazily().apply(jsonString));
+        }
+    }
+
+    /**
+     * Creates a JSON object from the given UTF-8 encoded data which parses nested objects and arrays only when they
+     * are accessed.
+     * The whole data is validated nevertheless.
+     *
+     * @param jsonData the byte array that represents the JSON object.
+     * @return the JSON object that has been created from the data.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonData} is empty.
+     * @throws JsonParseException if {@code jsonData} does not contain a valid JSON object.
+     * @see #newObjectLazily(String)
+     * @since 2.0.0
+     */
+    public static JsonObject newObjectLazily(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to create a JSON object from must not be null!");
+        if (jsonData.length == 0) {
+            throw new IllegalArgumentException("The JSON data to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralData(jsonData)) {
+            return nullObject();
+        } else {
+            return newObject(JsonValueParser.fromBytesLazily().apply(jsonData));
+        }
+    }
+
     private static boolean isJsonNullLiteralString(final String s) {
         return NULL_STRING.equals(s);
     }
@@ -900,6 +980,38 @@ public final class JsonFactory {
                 ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
     }
 
+    /**
+     * Creates a {@link JsonArray} which is parsed from the passed CBOR representation on first access only.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param cborRepresentation the valid CBOR serialized representation of the JsonArray.
+     * @return the created JsonArray.
+     * @throws NullPointerException if {@code cborRepresentation} is {@code null}.
+     * @since 2.0.0
+     */
+    public static JsonArray createLazyJsonArray(final byte[] cborRepresentation) {
+        return ImmutableJsonArray.ofLazy(cborRepresentation);
+    }
+
+    /**
+     * Creates a {@link JsonObject} which is parsed from the passed CBOR representation on first access only.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param cborObjectRepresentation the valid CBOR serialized representation of the JsonObject.
+     * @return the created JsonObject.
+     * @throws NullPointerException if {@code cborObjectRepresentation} is {@code null}.
+     * @since 2.0.0
+     */
+    public static JsonObject createLazyJsonObject(final byte[] cborObjectRepresentation) {
+        return ImmutableJsonObject.ofLazy(cborObjectRepresentation);
+    }
+
     /**
      * Converts the specified char sequence to a {@link JsonPointer} which is guaranteed to be not empty.
      *
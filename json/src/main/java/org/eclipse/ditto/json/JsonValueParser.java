@@ -16,6 +16,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,6 +30,8 @@ import com.eclipsesource.json.ParseException;
 
 /**
  * This class provides access to functionality for parsing a {@link JsonValue} from various inputs.
+ * Parsing to {@code JsonValue}s is done by {@link StreamingJsonParser}; parsing with custom {@link DittoJsonHandler}s
+ * is done by the parser of the Minimal Json project library.
  */
 @Immutable
 final class JsonValueParser {
@@ -63,12 +67,23 @@ final class JsonValueParser {
     public static Function<String, JsonValue> fromString() {
         Function<String, JsonValue> result = fromStringInstance;
         if (null == result) {
-            result = jsonString -> tryToParseJsonValue(jsonString, DefaultDittoJsonHandler.newInstance());
+            result = JsonValueParser::tryToParseJsonValue;
             fromStringInstance = result;
         }
         return result;
     }
 
+    /**
+     * Returns a Function for parsing a String to an instance of {@link JsonValue} which parses nested objects and
+     * arrays only on first access.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<String, JsonValue> fromStringLazily() {
+        return jsonString -> tryToParseJsonString(jsonString, StreamingJsonParser::parseLazily);
+    }
+
     /**
      * Returns a Function for obtaining an instance of {@link JsonValue} from a {@code Reader}.
      *
@@ -78,6 +93,39 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing UTF-8 encoded bytes to an instance of {@link JsonValue} without decoding them
+     * to a String first.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<byte[], JsonValue> fromBytes() {
+        return jsonData -> tryToParseJsonValue(jsonData, StreamingJsonParser::parse);
+    }
+
+    /**
+     * Returns a Function for parsing UTF-8 encoded bytes to an instance of {@link JsonValue} which parses nested
+     * objects and arrays only on first access.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<byte[], JsonValue> fromBytesLazily() {
+        return jsonData -> tryToParseJsonValue(jsonData, StreamingJsonParser::parseLazily);
+    }
+
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded bytes of a {@code ByteBuffer} to an instance of
+     * {@link JsonValue} without decoding them to a String first. The position of the buffer is not changed.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return jsonData -> tryToParseJsonValue(jsonData, StreamingJsonParser::parse);
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
@@ -94,6 +142,47 @@ final class JsonValueParser {
         }
     }
 
+    private static JsonValue tryToParseJsonValue(@Nullable final String jsonString) {
+        return tryToParseJsonString(jsonString, StreamingJsonParser::parse);
+    }
+
+    private static JsonValue tryToParseJsonString(@Nullable final String jsonString,
+            final Function<String, JsonValue> parser) {
+
+        try {
+            return parser.apply(jsonString);
+        } catch (final JsonParseException | IllegalArgumentException | NullPointerException e) {
+            // IllegalArgumentException is thrown for empty keys, NumberFormatException for too large integers
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse JSON string ''{0}''!", jsonString))
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static <T> JsonValue tryToParseJsonValue(@Nullable final T jsonData,
+            final Function<T, JsonValue> parser) {
+
+        try {
+            return parser.apply(jsonData);
+        } catch (final JsonParseException | IllegalArgumentException | NullPointerException e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse JSON data ''{0}''!", decodeForMessage(jsonData)))
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    @Nullable
+    private static String decodeForMessage(@Nullable final Object jsonData) {
+        if (jsonData instanceof byte[]) {
+            return new String((byte[]) jsonData, StandardCharsets.UTF_8);
+        } else if (jsonData instanceof ByteBuffer) {
+            return StandardCharsets.UTF_8.decode(((ByteBuffer) jsonData).duplicate()).toString();
+        }
+        return null;
+    }
+
     private static <T> T parseJsonValue(final String jsonString, final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
         requireNonNull(jsonString, "The JSON string to be parsed must not be null!");
         new JsonParser(dittoJsonHandler).parse(jsonString);
@@ -103,10 +192,7 @@ final class JsonValueParser {
     private static JsonValue tryToReadJsonValueFrom(final Reader reader) {
         try {
             return readJsonValueFrom(reader);
-        } catch (final ParseException | IOException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
-            // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
-            // (e.g. keys) are empty
-            // "ditto-json" library also throws NullPointerException when for example non-nullable objects are null
+        } catch (final JsonParseException | IOException | IllegalArgumentException | NullPointerException e) {
             throw JsonParseException.newBuilder()
                     .message("Failed to parse JSON value from reader!")
                     .cause(e)
@@ -115,10 +201,7 @@ final class JsonValueParser {
     }
 
     private static JsonValue readJsonValueFrom(final Reader reader) throws IOException {
-        requireNonNull(reader, "The reader must not be null!");
-        final DefaultDittoJsonHandler dittoJsonHandler = DefaultDittoJsonHandler.newInstance();
-        new JsonParser(dittoJsonHandler).parse(reader);
-        return dittoJsonHandler.getValue();
+        return StreamingJsonParser.parse(reader);
     }
 
 }
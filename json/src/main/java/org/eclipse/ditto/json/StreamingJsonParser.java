@@ -0,0 +1,792 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Recursive descent parser which creates a {@link JsonValue} directly from a stream of characters.
+ * <p>
+ * In contrast to parsing with a {@link DittoJsonHandler}, no intermediate objects are created for keys and values:
+ * fields are put directly into the field map of the resulting {@link ImmutableJsonObject}, well-known keys are shared
+ * {@link JsonKey} instances and integral numbers are parsed without creating a String.
+ * The string representations of JSON objects and arrays are the same as the ones created by
+ * {@link DefaultDittoJsonHandler}; they are collected in a single buffer for the whole document.
+ * </p>
+ * <p>
+ * UTF-8 encoded input is decoded on the fly without creating a String of the whole document first.
+ * </p>
+ * <p>
+ * When parsing lazily, only the top-level value is materialized. Nested objects and arrays are validated and their
+ * string representations are collected, but they are parsed only when their content is accessed the first time.
+ * Re-serializing a nested value which was not accessed therefore just copies its string representation.
+ * </p>
+ * <p>
+ * <em>An instance parses exactly one document and must not be re-used!</em>
+ * </p>
+ */
+@NotThreadSafe
+final class StreamingJsonParser {
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+    private static final int END_OF_INPUT = -1;
+    private static final int INITIAL_CHARS_CAPACITY = 64;
+    private static final int DEFAULT_STRING_REPRESENTATION_CAPACITY = 512;
+
+    private final CharSource source;
+    private final boolean lazy;
+    private final StringBuilder stringRepresentation;
+    private char[] chars;
+    private int charsLength;
+    private int current;
+    private int nestingLevel;
+    private boolean materializing;
+
+    private StreamingJsonParser(final CharSource source, final boolean lazy, final int expectedLength) {
+        this.source = source;
+        this.lazy = lazy;
+        stringRepresentation = new StringBuilder(expectedLength);
+        chars = new char[INITIAL_CHARS_CAPACITY];
+        charsLength = 0;
+        current = END_OF_INPUT;
+        nestingLevel = 0;
+        materializing = true;
+    }
+
+    /**
+     * Parses the specified JSON string.
+     *
+     * @param jsonString the JSON string to parse.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws JsonParseException if {@code jsonString} is no valid JSON.
+     * @throws NumberFormatException if {@code jsonString} contains an integral number which exceeds the range of
+     * {@code long}.
+     * @throws IllegalArgumentException if {@code jsonString} contains an empty key.
+     */
+    static JsonValue parse(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to be parsed must not be null!");
+        return parseUnchecked(new StringCharSource(jsonString), false, jsonString.length());
+    }
+
+    /**
+     * Parses the specified JSON string lazily, i. e. nested objects and arrays are parsed on first access.
+     *
+     * @param jsonString the JSON string to parse.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws JsonParseException if {@code jsonString} is no valid JSON.
+     * @throws NumberFormatException if {@code jsonString} contains an integral number which exceeds the range of
+     * {@code long}.
+     * @throws IllegalArgumentException if {@code jsonString} contains an empty key.
+     */
+    static JsonValue parseLazily(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to be parsed must not be null!");
+        return parseUnchecked(new StringCharSource(jsonString), true, jsonString.length());
+    }
+
+    /**
+     * Parses the specified UTF-8 encoded JSON data.
+     *
+     * @param jsonData the JSON data to parse.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is no valid JSON.
+     * @throws NumberFormatException if {@code jsonData} contains an integral number which exceeds the range of
+     * {@code long}.
+     * @throws IllegalArgumentException if {@code jsonData} contains an empty key.
+     */
+    static JsonValue parse(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to be parsed must not be null!");
+        return parseUnchecked(new Utf8CharSource(ByteBuffer.wrap(jsonData)), false, jsonData.length);
+    }
+
+    /**
+     * Parses the specified UTF-8 encoded JSON data lazily, i. e. nested objects and arrays are parsed on first access.
+     *
+     * @param jsonData the JSON data to parse.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is no valid JSON.
+     * @throws NumberFormatException if {@code jsonData} contains an integral number which exceeds the range of
+     * {@code long}.
+     * @throws IllegalArgumentException if {@code jsonData} contains an empty key.
+     */
+    static JsonValue parseLazily(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to be parsed must not be null!");
+        return parseUnchecked(new Utf8CharSource(ByteBuffer.wrap(jsonData)), true, jsonData.length);
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded JSON data of the specified buffer without modifying the buffer's position.
+     *
+     * @param jsonData the JSON data to parse.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is no valid JSON.
+     * @throws NumberFormatException if {@code jsonData} contains an integral number which exceeds the range of
+     * {@code long}.
+     * @throws IllegalArgumentException if {@code jsonData} contains an empty key.
+     */
+    static JsonValue parse(final ByteBuffer jsonData) {
+        requireNonNull(jsonData, "The JSON data to be parsed must not be null!");
+        return parseUnchecked(new Utf8CharSource(jsonData.duplicate()), false, jsonData.remaining());
+    }
+
+    /**
+     * Parses the JSON document provided by the specified reader.
+     *
+     * @param reader provides the JSON document to parse.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code reader} is {@code null}.
+     * @throws IOException if reading failed.
+     * @throws JsonParseException if the read characters are no valid JSON.
+     * @throws NumberFormatException if the read characters contain an integral number which exceeds the range of
+     * {@code long}.
+     * @throws IllegalArgumentException if the read characters contain an empty key.
+     */
+    static JsonValue parse(final Reader reader) throws IOException {
+        requireNonNull(reader, "The reader must not be null!");
+        return new StreamingJsonParser(new ReaderCharSource(reader), false, DEFAULT_STRING_REPRESENTATION_CAPACITY)
+                .parseDocument();
+    }
+
+    private static JsonValue parseUnchecked(final CharSource source, final boolean lazy, final int expectedLength) {
+        try {
+            return new StreamingJsonParser(source, lazy, expectedLength).parseDocument();
+        } catch (final IOException e) {
+            // only readers throw IOExceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonValue parseDocument() throws IOException {
+        read();
+        skipWhitespace();
+        final JsonValue result = readValue();
+        skipWhitespace();
+        if (END_OF_INPUT != current) {
+            throw error("Unexpected character");
+        }
+        return result;
+    }
+
+    /**
+     * Reads the next value.
+     *
+     * @return the value or {@code null} if the value is part of a deferred nested value and thus is not materialized.
+     */
+    @Nullable
+    private JsonValue readValue() throws IOException {
+        switch (current) {
+            case 'n':
+                readLiteral("null");
+                return ImmutableJsonNull.getInstance();
+            case 't':
+                readLiteral("true");
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return ImmutableJsonBoolean.FALSE;
+            case '"':
+                readString();
+                return materializing ? ImmutableJsonString.of(new String(chars, 0, charsLength)) : null;
+            case '[':
+                return readArray();
+            case '{':
+                return readObject();
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return readNumber();
+            default:
+                throw expected("value");
+        }
+    }
+
+    @Nullable
+    private JsonValue readArray() throws IOException {
+        final boolean deferred = enterNestedValue();
+        final int start = stringRepresentation.length();
+        stringRepresentation.append('[');
+        read();
+        skipWhitespace();
+        if (readChar(']')) {
+            stringRepresentation.append(']');
+            exitNestedValue(deferred);
+            return ImmutableJsonArray.empty();
+        }
+        @Nullable final List<JsonValue> values = materializing ? new ArrayList<>() : null;
+        do {
+            skipWhitespace();
+            final JsonValue value = readValue();
+            if (null != values) {
+                values.add(value);
+            }
+            skipWhitespace();
+        } while (readSeparator());
+        if (!readChar(']')) {
+            throw expected("',' or ']'");
+        }
+        stringRepresentation.append(']');
+        exitNestedValue(deferred);
+        if (deferred) {
+            return ImmutableJsonArray.ofLazy(stringRepresentation.substring(start));
+        } else if (null != values) {
+            return ImmutableJsonArray.ofParsed(values, stringRepresentation.substring(start));
+        }
+        return null;
+    }
+
+    @Nullable
+    private JsonValue readObject() throws IOException {
+        final boolean deferred = enterNestedValue();
+        final int start = stringRepresentation.length();
+        stringRepresentation.append('{');
+        read();
+        skipWhitespace();
+        if (readChar('}')) {
+            stringRepresentation.append('}');
+            exitNestedValue(deferred);
+            return ImmutableJsonObject.empty();
+        }
+        @Nullable final Map<String, JsonField> fields = materializing ? new LinkedHashMap<>() : null;
+        do {
+            skipWhitespace();
+            if ('"' != current) {
+                throw expected("name");
+            }
+            final JsonKey key = readKey();
+            skipWhitespace();
+            if (!readChar(':')) {
+                throw expected("':'");
+            }
+            stringRepresentation.append(':');
+            skipWhitespace();
+            final JsonValue value = readValue();
+            if (null != fields) {
+                fields.put(key.toString(), ImmutableJsonField.newInstance(key, value));
+            }
+            skipWhitespace();
+        } while (readSeparator());
+        if (!readChar('}')) {
+            throw expected("',' or '}'");
+        }
+        stringRepresentation.append('}');
+        exitNestedValue(deferred);
+        if (deferred) {
+            return ImmutableJsonObject.ofLazy(stringRepresentation.substring(start));
+        } else if (null != fields) {
+            return ImmutableJsonObject.ofParsed(fields, stringRepresentation.substring(start));
+        }
+        return null;
+    }
+
+    /**
+     * Increments the nesting level and stops materializing values if a lazily parsed document reaches a nested value.
+     *
+     * @return whether the entered value is deferred, i. e. it is the outermost value which is not materialized.
+     */
+    private boolean enterNestedValue() {
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        if (lazy && materializing && 1 < nestingLevel) {
+            materializing = false;
+            return true;
+        }
+        return false;
+    }
+
+    private void exitNestedValue(final boolean deferred) {
+        nestingLevel--;
+        if (deferred) {
+            materializing = true;
+        }
+    }
+
+    private boolean readSeparator() throws IOException {
+        if (readChar(',')) {
+            stringRepresentation.append(',');
+            return true;
+        }
+        return false;
+    }
+
+    @Nullable
+    private JsonKey readKey() throws IOException {
+        readString();
+        if (!materializing && 0 < charsLength) {
+            // empty keys are rejected by JsonKey even if they are not materialized
+            return null;
+        }
+        final JsonKey knownKey = KnownKeys.get(chars, charsLength);
+        if (null != knownKey) {
+            return knownKey;
+        }
+        return JsonKey.of(new String(chars, 0, charsLength));
+    }
+
+    private void readLiteral(final String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (!readChar(literal.charAt(i))) {
+                throw expected("'" + literal + "'");
+            }
+        }
+        stringRepresentation.append(literal);
+    }
+
+    /**
+     * Reads a JSON string into {@link #chars} and appends its escaped form to the string representation.
+     */
+    private void readString() throws IOException {
+        charsLength = 0;
+        boolean escapingRequired = false;
+        read();
+        while ('"' != current) {
+            final char c;
+            if ('\\' == current) {
+                c = readEscapeSequence();
+            } else if (0x20 > current) {
+                throw END_OF_INPUT == current ? error("Unexpected end of input") : expected("valid string character");
+            } else {
+                c = (char) current;
+            }
+            escapingRequired |= isEscapingRequired(c);
+            appendToChars(c);
+            read();
+        }
+        read();
+        appendEscapedChars(escapingRequired);
+    }
+
+    private char readEscapeSequence() throws IOException {
+        read();
+        switch (current) {
+            case '"':
+            case '/':
+            case '\\':
+                return (char) current;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    read();
+                    final int digit = Character.digit(current, 16);
+                    if (0 > digit) {
+                        throw expected("hexadecimal digit");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                return (char) codeUnit;
+            default:
+                throw expected("valid escape sequence");
+        }
+    }
+
+    private static boolean isEscapingRequired(final char c) {
+        return 0x20 > c || '"' == c || '\\' == c;
+    }
+
+    private void appendToChars(final char c) {
+        if (charsLength == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+        chars[charsLength++] = c;
+    }
+
+    private void appendEscapedChars(final boolean escapingRequired) {
+        stringRepresentation.append('"');
+        if (escapingRequired) {
+            final JsonCharEscaper jsonCharEscaper = JsonCharEscaper.getInstance();
+            for (int i = 0; i < charsLength; i++) {
+                final char c = chars[i];
+                @Nullable final String replacement = isEscapingRequired(c) ? jsonCharEscaper.apply((int) c) : null;
+                if (null != replacement) {
+                    stringRepresentation.append(replacement);
+                } else {
+                    stringRepresentation.append(c);
+                }
+            }
+        } else {
+            stringRepresentation.append(chars, 0, charsLength);
+        }
+        stringRepresentation.append('"');
+    }
+
+    @Nullable
+    private JsonValue readNumber() throws IOException {
+        final int start = stringRepresentation.length();
+        final boolean negative = readDigitOrSign('-');
+        long absoluteValue = 0L;
+        int digits = 0;
+        if (readDigitOrSign('0')) {
+            digits = 1;
+        } else {
+            while (isDigit()) {
+                absoluteValue = absoluteValue * 10 + (current - '0');
+                digits++;
+                appendAndRead();
+            }
+            if (0 == digits) {
+                throw expected("digit");
+            }
+        }
+        boolean decimal = false;
+        if (readDigitOrSign('.')) {
+            decimal = true;
+            readDigits();
+        }
+        if (readDigitOrSign('e') || readDigitOrSign('E')) {
+            decimal = true;
+            if (!readDigitOrSign('+')) {
+                readDigitOrSign('-');
+            }
+            readDigits();
+        }
+
+        if (!materializing) {
+            if (!decimal && MAX_SAFE_LONG_DIGITS < digits) {
+                // reject numbers exceeding the range of long even if they are not materialized
+                Long.parseLong(stringRepresentation.substring(start));
+            }
+            return null;
+        } else if (decimal) {
+            return ImmutableJsonDouble.of(Double.parseDouble(stringRepresentation.substring(start)));
+        } else if (MAX_SAFE_LONG_DIGITS < digits) {
+            // may exceed the range of long: let Long.parseLong decide
+            return ImmutableJsonLong.of(Long.parseLong(stringRepresentation.substring(start)));
+        }
+        final long value = negative ? -absoluteValue : absoluteValue;
+        if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+            return ImmutableJsonInt.of((int) value);
+        }
+        return ImmutableJsonLong.of(value);
+    }
+
+    private void readDigits() throws IOException {
+        if (!isDigit()) {
+            throw expected("digit");
+        }
+        do {
+            appendAndRead();
+        } while (isDigit());
+    }
+
+    private boolean readDigitOrSign(final char c) throws IOException {
+        if (c == current) {
+            appendAndRead();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isDigit() {
+        return '0' <= current && current <= '9';
+    }
+
+    private void appendAndRead() throws IOException {
+        stringRepresentation.append((char) current);
+        read();
+    }
+
+    private boolean readChar(final char c) throws IOException {
+        if (c == current) {
+            read();
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (' ' == current || '\t' == current || '\n' == current || '\r' == current) {
+            read();
+        }
+    }
+
+    private void read() throws IOException {
+        current = source.read();
+    }
+
+    private JsonParseException expected(final String expected) {
+        if (END_OF_INPUT == current) {
+            return error("Unexpected end of input");
+        }
+        return error("Expected " + expected);
+    }
+
+    private JsonParseException error(final String message) {
+        return new JsonParseException(MessageFormat.format("{0} at offset <{1}>.", message,
+                String.valueOf(source.getOffset())));
+    }
+
+    /**
+     * Supplies the characters of a JSON document one by one.
+     */
+    private interface CharSource {
+
+        /**
+         * Reads the next character.
+         *
+         * @return the next UTF-16 code unit or {@code -1} at the end of input.
+         * @throws IOException if reading failed.
+         */
+        int read() throws IOException;
+
+        /**
+         * @return the number of characters or bytes read so far.
+         */
+        long getOffset();
+
+    }
+
+    @NotThreadSafe
+    private static final class StringCharSource implements CharSource {
+
+        private final String string;
+        private int position;
+
+        private StringCharSource(final String string) {
+            this.string = string;
+            position = 0;
+        }
+
+        @Override
+        public int read() {
+            if (position < string.length()) {
+                return string.charAt(position++);
+            }
+            return END_OF_INPUT;
+        }
+
+        @Override
+        public long getOffset() {
+            return position;
+        }
+
+    }
+
+    @NotThreadSafe
+    private static final class ReaderCharSource implements CharSource {
+
+        private static final int BUFFER_SIZE = 1024;
+
+        private final Reader reader;
+        private final char[] buffer;
+        private int position;
+        private int limit;
+        private long offset;
+
+        private ReaderCharSource(final Reader reader) {
+            this.reader = reader;
+            buffer = new char[BUFFER_SIZE];
+            position = 0;
+            limit = 0;
+            offset = 0L;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position == limit) {
+                offset += limit;
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit < 0) {
+                    limit = 0;
+                    return END_OF_INPUT;
+                }
+            }
+            return buffer[position++];
+        }
+
+        @Override
+        public long getOffset() {
+            return offset + position;
+        }
+
+    }
+
+    /**
+     * Decodes UTF-8; malformed input is replaced by {@code U+FFFD} like {@link java.nio.charset.CharsetDecoder}s
+     * with the default replacement do.
+     */
+    @NotThreadSafe
+    private static final class Utf8CharSource implements CharSource {
+
+        private static final char REPLACEMENT = '\uFFFD';
+
+        private final ByteBuffer bytes;
+        private int pendingLowSurrogate;
+
+        private Utf8CharSource(final ByteBuffer bytes) {
+            this.bytes = bytes;
+            pendingLowSurrogate = END_OF_INPUT;
+        }
+
+        @Override
+        public int read() {
+            if (END_OF_INPUT != pendingLowSurrogate) {
+                final int result = pendingLowSurrogate;
+                pendingLowSurrogate = END_OF_INPUT;
+                return result;
+            }
+            if (!bytes.hasRemaining()) {
+                return END_OF_INPUT;
+            }
+            final int b = bytes.get();
+            if (0 <= b) {
+                return b;
+            } else if ((b & 0xE0) == 0xC0) {
+                return decode(b & 0x1F, 1, 0x80);
+            } else if ((b & 0xF0) == 0xE0) {
+                return decode(b & 0x0F, 2, 0x800);
+            } else if ((b & 0xF8) == 0xF0) {
+                final int codePoint = decode(b & 0x07, 3, 0x10000);
+                if (REPLACEMENT == codePoint || codePoint > Character.MAX_CODE_POINT) {
+                    return REPLACEMENT;
+                }
+                pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                return Character.highSurrogate(codePoint);
+            }
+            return REPLACEMENT;
+        }
+
+        private int decode(final int leadingBits, final int continuationBytes, final int minimum) {
+            int codePoint = leadingBits;
+            for (int i = 0; i < continuationBytes; i++) {
+                if (!bytes.hasRemaining()) {
+                    return REPLACEMENT;
+                }
+                final int b = bytes.get(bytes.position());
+                if ((b & 0xC0) != 0x80) {
+                    return REPLACEMENT;
+                }
+                bytes.get();
+                codePoint = (codePoint << 6) | (b & 0x3F);
+            }
+            if (codePoint < minimum || Character.isSurrogate((char) codePoint) && codePoint <= 0xFFFF) {
+                // overlong encodings and encoded surrogates are malformed
+                return REPLACEMENT;
+            }
+            return codePoint;
+        }
+
+        @Override
+        public long getOffset() {
+            return bytes.position();
+        }
+
+    }
+
+    /**
+     * Shares the keys which occur in almost every Thing, Policy or Ditto Protocol message.
+     */
+    @Immutable
+    private static final class KnownKeys {
+
+        private static final int TABLE_SIZE = 256;
+        private static final JsonKey[] TABLE = createTable(
+                "thingId", "policyId", "definition", "attributes", "features", "properties", "desiredProperties",
+                "_revision", "_modified", "_created", "_namespace", "_policy", "_metadata", "__schemaVersion",
+                "__lifecycle", "entries", "subjects", "resources", "type", "grant", "revoke", "expiry", "importable",
+                "topic", "path", "value", "headers", "status", "fields", "extra", "revision", "timestamp",
+                "correlation-id", "content-type", "response-required", "requested-acks", "version", "channel",
+                "entityId", "entityType", "thing", "policy", "payload", "error", "message", "description", "href",
+                "id", "name", "label", "connectionId", "source", "target", "address", "timeout"
+        );
+
+        private KnownKeys() {
+            throw new AssertionError();
+        }
+
+        private static JsonKey[] createTable(final String... keys) {
+            final JsonKey[] table = new JsonKey[TABLE_SIZE];
+            for (final String key : keys) {
+                int index = indexFor(key.hashCode());
+                while (null != table[index]) {
+                    index = indexFor(index + 1);
+                }
+                table[index] = JsonKey.of(key);
+            }
+            return table;
+        }
+
+        private static int indexFor(final int hash) {
+            return hash & (TABLE_SIZE - 1);
+        }
+
+        @Nullable
+        static JsonKey get(final char[] chars, final int length) {
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + chars[i];
+            }
+            int index = indexFor(hash);
+            JsonKey candidate = TABLE[index];
+            while (null != candidate) {
+                if (contentEquals(candidate, chars, length)) {
+                    return candidate;
+                }
+                index = indexFor(index + 1);
+                candidate = TABLE[index];
+            }
+            return null;
+        }
+
+        private static boolean contentEquals(final CharSequence key, final char[] chars, final int length) {
+            if (key.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key.charAt(i) != chars[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
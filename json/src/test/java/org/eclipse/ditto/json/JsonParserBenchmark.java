@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eclipsesource.json.JsonParser;
+
+/**
+ * Compares parsing with minimal-json and {@link DefaultDittoJsonHandler} against {@link StreamingJsonParser} for a
+ * Thing and a Ditto Protocol message.
+ */
+@State(Scope.Benchmark)
+public class JsonParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String THING = "{" +
+            "\"thingId\":\"org.eclipse.ditto:smart-coffee-1\"," +
+            "\"policyId\":\"org.eclipse.ditto:smart-coffee-1\"," +
+            "\"definition\":\"org.eclipse.ditto:coffeebrewer:0.1.0\"," +
+            "\"attributes\":{" +
+            "\"manufacturer\":\"ACME demo corp.\"," +
+            "\"location\":{\"latitude\":44.673856,\"longitude\":8.261719,\"address\":\"Müllerstraße 42\"}," +
+            "\"serialno\":\"42\",\"model\":\"Speaking coffee machine\",\"installedAt\":1611830400000" +
+            "}," +
+            "\"features\":{" +
+            "\"coffee-brewer\":{\"definition\":[\"org.eclipse.ditto:coffeebrewer:0.1.0\"]," +
+            "\"properties\":{\"brewed-coffees\":4711,\"temperature\":92.5,\"on\":true,\"lastError\":null}}," +
+            "\"water-tank\":{\"properties\":{\"configuration\":{\"smartMode\":true,\"brewingTemp\":87," +
+            "\"tempOffset\":-4,\"threshold\":{\"min\":50,\"max\":450}},\"status\":{\"waterAmount\":731," +
+            "\"temperature\":44.2,\"history\":[731,740,755,770,783,801,812,830]}}}" +
+            "}," +
+            "\"_revision\":1337,\"_modified\":\"2021-01-28T12:00:00.000Z\"," +
+            "\"_created\":\"2021-01-01T08:00:00.000Z\"" +
+            "}";
+
+    private static final String SIGNAL = "{" +
+            "\"topic\":\"org.eclipse.ditto/smart-coffee-1/things/twin/commands/modify\"," +
+            "\"headers\":{\"correlation-id\":\"a780b7b5-fdd2-4864-91fc-80df6bb0a636\"," +
+            "\"content-type\":\"application/json\",\"response-required\":true," +
+            "\"version\":2,\"requested-acks\":[\"twin-persisted\"]}," +
+            "\"path\":\"/features/water-tank/properties/status\"," +
+            "\"value\":{\"waterAmount\":725,\"temperature\":43.9,\"history\":[725,731,740,755]}," +
+            "\"revision\":1338,\"timestamp\":\"2021-01-28T12:00:01.000Z\"" +
+            "}";
+
+    private static final byte[] THING_BYTES = THING.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SIGNAL_BYTES = SIGNAL.getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue minimalJson_thing() {
+        return parseWithMinimalJson(THING);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue minimalJson_thingBytes() {
+        return parseWithMinimalJson(new String(THING_BYTES, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue minimalJson_signal() {
+        return parseWithMinimalJson(SIGNAL);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue minimalJson_signalBytes() {
+        return parseWithMinimalJson(new String(SIGNAL_BYTES, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue streaming_thing() {
+        return StreamingJsonParser.parse(THING);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue streaming_thingBytes() {
+        return StreamingJsonParser.parse(THING_BYTES);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue streaming_signal() {
+        return StreamingJsonParser.parse(SIGNAL);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue streaming_signalBytes() {
+        return StreamingJsonParser.parse(SIGNAL_BYTES);
+    }
+
+    private static JsonValue parseWithMinimalJson(final String jsonString) {
+        final DefaultDittoJsonHandler jsonHandler = DefaultDittoJsonHandler.newInstance();
+        new JsonParser(jsonHandler).parse(jsonString);
+        return jsonHandler.getValue();
+    }
+
+}
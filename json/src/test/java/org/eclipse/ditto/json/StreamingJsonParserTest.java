@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.eclipsesource.json.JsonParser;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.json.StreamingJsonParser}.
+ */
+public final class StreamingJsonParserTest {
+
+    private static final String THING = "{\n" +
+            "  \"thingId\": \"org.eclipse.ditto:thing-1\",\n" +
+            "  \"policyId\": \"org.eclipse.ditto:policy-1\",\n" +
+            "  \"attributes\": { \"location\": { \"latitude\": 44.673856, \"longitude\": 8.261719 },\n" +
+            "    \"serial\": \"\\u00e9\\t\\\"quoted\\\" \\/ \uD83D\uDE00\", \"empty\": {}, \"list\": [ ] },\n" +
+            "  \"features\": { \"counter\": { \"properties\": { \"value\": -0, \"int\": -2147483648,\n" +
+            "    \"long\": 9223372036854775807, \"exp\": 1E2, \"dec\": 2.5e-3, \"on\": true, \"off\": false,\n" +
+            "    \"nothing\": null, \"control\": \"\\u0001\" } } },\n" +
+            "  \"_revision\": 42\n" +
+            "}";
+
+    @Test
+    public void parseStringResultsInSameValueAndStringRepresentationAsDefaultHandler() {
+        final JsonValue expected = parseWithDefaultDittoJsonHandler(THING);
+
+        final JsonValue actual = StreamingJsonParser.parse(THING);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+        assertThat(actual.asObject().getValue("attributes/list")).contains(JsonArray.empty());
+    }
+
+    @Test
+    public void parseBytesResultsInSameValueAsParseString() {
+        final byte[] bytes = THING.getBytes(StandardCharsets.UTF_8);
+
+        final JsonValue actual = StreamingJsonParser.parse(bytes);
+
+        assertThat(actual).isEqualTo(StreamingJsonParser.parse(THING));
+        assertThat(actual.toString()).isEqualTo(StreamingJsonParser.parse(THING).toString());
+    }
+
+    @Test
+    public void parseByteBufferDoesNotChangeItsPosition() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(("  " + THING).getBytes(StandardCharsets.UTF_8));
+        byteBuffer.position(2);
+
+        final JsonValue actual = StreamingJsonParser.parse(byteBuffer);
+
+        assertThat(actual).isEqualTo(StreamingJsonParser.parse(THING));
+        assertThat(byteBuffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    public void parseReaderResultsInSameValueAsParseString() throws IOException {
+        final JsonValue actual = StreamingJsonParser.parse(new StringReader(THING));
+
+        assertThat(actual).isEqualTo(StreamingJsonParser.parse(THING));
+    }
+
+    @Test
+    public void parseLazilyResultsInSameValueAndStringRepresentationAsParse() {
+        final JsonValue expected = StreamingJsonParser.parse(THING);
+
+        final JsonValue actual = StreamingJsonParser.parseLazily(THING);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+        assertThat(actual.asObject().getValue("features/counter/properties/long"))
+                .contains(JsonValue.of(Long.MAX_VALUE));
+        assertThat(StreamingJsonParser.parseLazily(THING.getBytes(StandardCharsets.UTF_8))).isEqualTo(expected);
+    }
+
+    @Test
+    public void parseLazilyValidatesNestedValues() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> StreamingJsonParser.parseLazily("{\"a\":{\"b\":[1,]}}"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> StreamingJsonParser.parseLazily("{\"a\":{\"\":1}}"));
+        assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> StreamingJsonParser.parseLazily("{\"a\":[99999999999999999999]}"));
+    }
+
+    @Test
+    public void parseNumbersToNarrowestType() {
+        final JsonArray actual = StreamingJsonParser.parse("[1,-2147483649,1.0,123456789012345678]").asArray();
+
+        assertThat(actual.get(0)).contains(JsonValue.of(1));
+        assertThat(actual.get(1)).contains(JsonValue.of(-2147483649L));
+        assertThat(actual.get(2)).contains(JsonValue.of(1.0));
+        assertThat(actual.get(3)).contains(JsonValue.of(123456789012345678L));
+    }
+
+    @Test
+    public void wellKnownKeysAreShared() {
+        final JsonObject first = StreamingJsonParser.parse("{\"thingId\":\"a:b\"}").asObject();
+        final JsonObject second = StreamingJsonParser.parse("{\"thingId\":\"c:d\"}").asObject();
+
+        assertThat(first.getKeys().get(0)).isSameAs(second.getKeys().get(0));
+    }
+
+    @Test
+    public void malformedUtf8IsReplaced() {
+        final byte[] bytes = {'"', 'a', (byte) 0xC3, '"'};
+
+        assertThat(StreamingJsonParser.parse(bytes)).isEqualTo(JsonValue.of("a\uFFFD"));
+    }
+
+    @Test
+    public void invalidJsonCausesJsonParseException() {
+        for (final String invalidJson : new String[]{"", "{", "[1,]", "{\"a\"}", "01", "1.", "-", "tru", "\"\\x\"",
+                "[1 2]", "\"a\nb\"", "{}x"}) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidJson)
+                    .isThrownBy(() -> StreamingJsonParser.parse(invalidJson));
+        }
+    }
+
+    @Test
+    public void tooDeeplyNestedJsonCausesJsonParseException() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 1001; i++) {
+            stringBuilder.append('[');
+        }
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> StreamingJsonParser.parse(stringBuilder.toString()))
+                .withMessageStartingWith("Nesting too deep");
+    }
+
+    private static JsonValue parseWithDefaultDittoJsonHandler(final String jsonString) {
+        final DefaultDittoJsonHandler jsonHandler = DefaultDittoJsonHandler.newInstance();
+        new JsonParser(jsonHandler).parse(jsonString);
+        return jsonHandler.getValue();
+    }
+
+}
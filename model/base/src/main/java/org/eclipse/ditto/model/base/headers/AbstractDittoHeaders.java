@@ -18,9 +18,11 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -28,7 +30,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,6 +56,12 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 
 /**
  * Abstract immutable implementation of {@link DittoHeaders} which is heavily based on {@link AbstractMap}.
+ * <p>
+ * The typed values of well-known headers, e.g. the authorization context or the acknowledgement requests, are parsed
+ * at most once per header and cached with the header. The headers are shared with builders created by
+ * {@link #toBuilder()} and the {@code DittoHeaders} built by them until a header is changed, so that unchanged headers
+ * keep their parsed values.
+ * </p>
  */
 @Immutable
 @SuppressWarnings("squid:S2160")
@@ -62,6 +70,43 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     private static final String ISSUER_DIVIDER = ":";
 
+    /**
+     * Parses the authorization context and keeps only the subjects with issuer. Parsing with this parser thus
+     * normalizes the authorization context, and every authorization context header which was parsed with it is known to
+     * be normalized.
+     */
+    private static final Function<String, AuthorizationContext> AUTHORIZATION_CONTEXT_PARSER =
+            value -> keepAuthContextSubjectsWithIssuer(AuthorizationModelFactory.newAuthContext(JsonObject.of(value)));
+
+    private static final Function<String, Set<AcknowledgementRequest>> ACKNOWLEDGEMENT_REQUESTS_PARSER =
+            value -> Collections.unmodifiableSet(JsonArray.of(value).stream()
+                    .map(JsonValue::asString)
+                    .map(AcknowledgementRequest::parseAcknowledgementRequest)
+                    .collect(Collectors.<AcknowledgementRequest, Set<AcknowledgementRequest>>toCollection(
+                            LinkedHashSet::new)));
+
+    private static final Function<String, Set<AuthorizationSubject>> AUTHORIZATION_SUBJECTS_PARSER =
+            value -> Collections.unmodifiableSet(JsonArray.of(value).stream()
+                    .map(JsonValue::asString)
+                    .map(AuthorizationSubject::newInstance)
+                    .collect(Collectors.toSet()));
+
+    private static final Function<String, List<ResponseType>> RESPONSE_TYPES_PARSER =
+            value -> Collections.unmodifiableList(JsonArray.of(value).stream()
+                    .map(JsonValue::asString)
+                    .map(ResponseType::fromName)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(Collectors.toList())); // toList() to keep original order
+
+    private static final Function<String, Duration> TIMEOUT_PARSER =
+            value -> DittoDuration.parseDuration(value).getDuration();
+
+    private static final Function<String, Optional<JsonSchemaVersion>> SCHEMA_VERSION_PARSER =
+            value -> JsonSchemaVersion.forInt(Integer.parseInt(value));
+
+    private static final Function<String, JsonValue> JSON_VALUE_PARSER = JsonFactory::readFrom;
+
     final Map<String, Header> headers;
 
     /**
@@ -76,14 +121,13 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
             // Share the map from the other AbstractDittoHeaders--it is not modifiable. Otherwise case is not preserved.
             this.headers = ((AbstractDittoHeaders) headers).headers;
         } else {
-            final Map<String, String> headersWithOnlyPrefixedSubjects =
-                    keepAuthContextSubjectsWithIssuer(headers, (key, value) -> value);
-            this.headers = indexByLowerCase(headersWithOnlyPrefixedSubjects);
+            this.headers = keepAuthContextSubjectsWithIssuer(indexByLowerCase(headers));
         }
     }
 
     /**
      * Construct a new {@code AbstractDittoHeaders} from a known case insensitive map.
+     * The map is not copied; it must not be modified afterwards.
      *
      * @param headers headers indexed by lower-case keys.
      * @param flag unused disambiguation parameter.
@@ -91,8 +135,7 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     @SuppressWarnings("unused")
     protected AbstractDittoHeaders(final Map<String, Header> headers, final boolean flag) {
         checkNotNull(headers, "headers");
-        final Map<String, Header> candidate = keepAuthContextSubjectsWithIssuer(headers, Header::of);
-        this.headers = candidate != headers ? candidate : new LinkedHashMap<>(candidate);
+        this.headers = keepAuthContextSubjectsWithIssuer(headers);
     }
 
     @Override
@@ -139,33 +182,26 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
         }
     }
 
-    private static <T extends CharSequence> Map<String, T> keepAuthContextSubjectsWithIssuer(
-            final Map<String, T> headers,
-            final BiFunction<String, String, T> fromString) {
-
-        if (headers.containsKey(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey())) {
-            final Map<String, T> newHeaders = new LinkedHashMap<>(headers);
-            final AuthorizationContext authContext =
-                    AuthorizationModelFactory.newAuthContext(getAuthorizationContextAsJson(headers));
-            final AuthorizationContext authContextWithoutDups = keepAuthContextSubjectsWithIssuer(authContext);
-            newHeaders.put(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey(),
-                    fromString.apply(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey(),
-                            authContextWithoutDups.toJsonString()));
-            return newHeaders;
-        } else {
+    private static Map<String, Header> keepAuthContextSubjectsWithIssuer(final Map<String, Header> headers) {
+        final String key = DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey();
+        @Nullable final Header authContextHeader = headers.get(key);
+        if (null == authContextHeader || authContextHeader.isParsedBy(AUTHORIZATION_CONTEXT_PARSER)) {
+            // no authorization context or one which is already normalized
             return headers;
+        } else {
+            final AuthorizationContext authContextWithoutDups =
+                    AUTHORIZATION_CONTEXT_PARSER.apply(authContextHeader.getValue());
+            final Map<String, Header> newHeaders = new LinkedHashMap<>(headers);
+            newHeaders.put(key, Header.parsed(authContextHeader.getKey(), authContextWithoutDups.toJsonString(),
+                    AUTHORIZATION_CONTEXT_PARSER, authContextWithoutDups));
+            return newHeaders;
         }
     }
 
-    private static JsonObject getAuthorizationContextAsJson(final Map<String, ? extends CharSequence> headers) {
-        final CharSequence jsonObjectString = headers.get(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey());
-        final JsonObject result;
-        if (null != jsonObjectString) {
-            result = JsonObject.of(jsonObjectString.toString());
-        } else {
-            result = JsonObject.empty();
-        }
-        return result;
+    @Nullable
+    private <T> T getParsedValueForDefinition(final HeaderDefinition definition, final Function<String, T> parser) {
+        @Nullable final Header header = headers.get(definition.getKey());
+        return null != header ? header.getParsedValue(parser) : null;
     }
 
     protected static AuthorizationContext keepAuthContextSubjectsWithIssuer(final AuthorizationContext authContext) {
@@ -195,7 +231,8 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     }
 
     protected Optional<String> getStringForDefinition(final HeaderDefinition definition) {
-        return Optional.ofNullable(get(definition.getKey()));
+        @Nullable final Header header = headers.get(definition.getKey());
+        return null != header ? Optional.of(header.getValue()) : Optional.empty();
     }
 
     @Override
@@ -210,9 +247,9 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public Optional<JsonSchemaVersion> getSchemaVersion() {
-        return getStringForDefinition(DittoHeaderDefinition.SCHEMA_VERSION)
-                .map(Integer::valueOf)
-                .flatMap(JsonSchemaVersion::forInt);
+        @Nullable final Optional<JsonSchemaVersion> schemaVersion =
+                getParsedValueForDefinition(DittoHeaderDefinition.SCHEMA_VERSION, SCHEMA_VERSION_PARSER);
+        return null != schemaVersion ? schemaVersion : Optional.empty();
     }
 
     @Override
@@ -226,8 +263,11 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
         /*
          * TODO: remove this duplication when removing {@link JsonSchemaVersion#V_1}.
          */
-        return duplicateSubjectsByStrippingIssuerPrefix(AuthorizationModelFactory.newAuthContext(
-                getAuthorizationContextAsJson(headers)));
+        @Nullable final AuthorizationContext authorizationContext =
+                getParsedValueForDefinition(DittoHeaderDefinition.AUTHORIZATION_CONTEXT, AUTHORIZATION_CONTEXT_PARSER);
+        return duplicateSubjectsByStrippingIssuerPrefix(null != authorizationContext
+                ? authorizationContext
+                : AuthorizationModelFactory.newAuthContext(JsonObject.empty()));
     }
 
     private static AuthorizationContext duplicateSubjectsByStrippingIssuerPrefix(
@@ -277,11 +317,9 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     }
 
     private Set<AuthorizationSubject> getAuthorizationSubjectSet(final HeaderDefinition definition) {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(definition);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .map(AuthorizationSubject::newInstance)
-                .collect(Collectors.toSet());
+        @Nullable final Set<AuthorizationSubject> authorizationSubjects =
+                getParsedValueForDefinition(definition, AUTHORIZATION_SUBJECTS_PARSER);
+        return null != authorizationSubjects ? new HashSet<>(authorizationSubjects) : new HashSet<>();
     }
 
     @Override
@@ -385,29 +423,21 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public Collection<ResponseType> getExpectedResponseTypes() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.EXPECTED_RESPONSE_TYPES);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .map(ResponseType::fromName)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList()); // toList() to keep original order
+        @Nullable final List<ResponseType> responseTypes =
+                getParsedValueForDefinition(DittoHeaderDefinition.EXPECTED_RESPONSE_TYPES, RESPONSE_TYPES_PARSER);
+        return null != responseTypes ? new ArrayList<>(responseTypes) : new ArrayList<>();
     }
 
     @Override
     public Set<AcknowledgementRequest> getAcknowledgementRequests() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.REQUESTED_ACKS);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .map(AcknowledgementRequest::parseAcknowledgementRequest)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        @Nullable final Set<AcknowledgementRequest> acknowledgementRequests =
+                getParsedValueForDefinition(DittoHeaderDefinition.REQUESTED_ACKS, ACKNOWLEDGEMENT_REQUESTS_PARSER);
+        return null != acknowledgementRequests ? new LinkedHashSet<>(acknowledgementRequests) : new LinkedHashSet<>();
     }
 
     @Override
     public Optional<Duration> getTimeout() {
-        return getStringForDefinition(DittoHeaderDefinition.TIMEOUT)
-                .map(DittoDuration::parseDuration)
-                .map(DittoDuration::getDuration);
+        return Optional.ofNullable(getParsedValueForDefinition(DittoHeaderDefinition.TIMEOUT, TIMEOUT_PARSER));
     }
 
     @Override
@@ -428,7 +458,7 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
             final Class<?> type = getSerializationTypeForKey(key);
             final JsonValue jsonValue = CharSequence.class.isAssignableFrom(type)
                     ? JsonValue.of(header.getValue())
-                    : JsonFactory.readFrom(header.getValue());
+                    : header.getParsedValueAsFallback(JSON_VALUE_PARSER);
             jsonObjectBuilder.set(header.getKey(), jsonValue);
         });
         return jsonObjectBuilder.build();
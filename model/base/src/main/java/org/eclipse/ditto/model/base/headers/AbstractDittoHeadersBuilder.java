@@ -72,7 +72,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     }
 
     protected final S myself;
-    private final Map<String, Header> headers;
+    private Map<String, Header> headers;
+    private boolean headersShared;
     private MetadataHeaders metadataHeaders;
     private final Map<String, HeaderDefinition> definitions;
 
@@ -95,22 +96,38 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         validateValueTypes(initialHeaders, definitions); // this constructor does validate the known value types
         myself = (S) selfType.cast(this);
         headers = preserveCaseSensitivity(initialHeaders);
+        headersShared = initialHeaders instanceof AbstractDittoHeaders;
         metadataHeaders = MetadataHeaders.newInstance();
-        metadataHeaders.addAll(extractMetadataHeaders(headers));
+        metadataHeaders.addAll(extractMetadataHeaders());
         this.definitions = getHeaderDefinitionsAsMap(definitions);
     }
 
-    private static MetadataHeaders extractMetadataHeaders(final Map<String, Header> headers) {
-        final CharSequence metadataHeadersCharSequence = headers.remove(DittoHeaderDefinition.PUT_METADATA.getKey());
+    private MetadataHeaders extractMetadataHeaders() {
+        final String key = DittoHeaderDefinition.PUT_METADATA.getKey();
         final MetadataHeaders result;
-        if (null != metadataHeadersCharSequence) {
-            result = MetadataHeaders.parseMetadataHeaders(metadataHeadersCharSequence);
+        if (headers.containsKey(key)) {
+            result = MetadataHeaders.parseMetadataHeaders(mutableHeaders().remove(key));
         } else {
             result = MetadataHeaders.newInstance();
         }
         return result;
     }
 
+    /**
+     * Returns the headers of this builder for modification. The headers are shared with the {@code DittoHeaders} this
+     * builder was created from and with the {@code DittoHeaders} built by this builder; they are copied before the
+     * first modification after sharing them.
+     *
+     * @return the modifiable headers.
+     */
+    private Map<String, Header> mutableHeaders() {
+        if (headersShared) {
+            headers = new LinkedHashMap<>(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
     private static Map<String, HeaderDefinition> getHeaderDefinitionsAsMap(
             final Collection<? extends HeaderDefinition> headerDefinitions) {
 
@@ -144,8 +161,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(definitions, "definitions");
         myself = (S) selfType.cast(this);
         headers = preserveCaseSensitivity(initialHeaders);
+        headersShared = initialHeaders instanceof AbstractDittoHeaders;
         metadataHeaders = MetadataHeaders.newInstance();
-        metadataHeaders.addAll(extractMetadataHeaders(headers));
+        metadataHeaders.addAll(extractMetadataHeaders());
         this.definitions = getHeaderDefinitionsAsMap(definitions);
     }
 
@@ -184,14 +202,15 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         final String key = DittoHeaderDefinition.CORRELATION_ID.getKey();
         if (correlationId != null) {
             checkNotEmpty(correlationId, "correlationId");
-            final Header previousCorrelationId = headers.remove(key);
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            final Header previousCorrelationId = mutableHeaders.remove(key);
             if (previousCorrelationId != null) {
-                headers.put(key, Header.of(previousCorrelationId.getKey(), correlationId.toString()));
+                mutableHeaders.put(key, Header.of(previousCorrelationId.getKey(), correlationId.toString()));
             } else {
-                headers.put(key, Header.of(key, correlationId.toString()));
+                mutableHeaders.put(key, Header.of(key, correlationId.toString()));
             }
-        } else {
-            headers.remove(key);
+        } else if (headers.containsKey(key)) {
+            mutableHeaders().remove(key);
         }
         return myself;
     }
@@ -207,8 +226,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     protected void putCharSequence(final HeaderDefinition definition, @Nullable final CharSequence value) {
         if (null != value) {
             checkNotEmpty(value, definition.getKey());
-            headers.remove(definition.getKey());
-            headers.put(definition.getKey(), Header.of(definition.getKey(), value.toString()));
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            mutableHeaders.remove(definition.getKey());
+            mutableHeaders.put(definition.getKey(), Header.of(definition.getKey(), value.toString()));
         } else {
             removeHeader(definition.getKey());
         }
@@ -497,8 +517,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         } else if (DittoHeaderDefinition.CORRELATION_ID.getKey().equals(keyString)) {
             correlationId(value);
         } else {
-            headers.remove(keyString);
-            headers.put(keyString, Header.of(key.toString(), value.toString()));
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            mutableHeaders.remove(keyString);
+            mutableHeaders.put(keyString, Header.of(key.toString(), value.toString()));
         }
         return myself;
     }
@@ -529,7 +550,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     public S removeHeader(final CharSequence key) {
         validateKey(key);
         final String keyString = key.toString().toLowerCase();
-        headers.remove(keyString);
+        if (headers.containsKey(keyString)) {
+            mutableHeaders().remove(keyString);
+        }
         if (isMetadataKey(keyString)) {
             metadataHeaders.clear();
         }
@@ -538,8 +561,12 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
 
     @Override
     public S removePreconditionHeaders() {
-        headers.remove(DittoHeaderDefinition.IF_MATCH.getKey());
-        headers.remove(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
+        if (headers.containsKey(DittoHeaderDefinition.IF_MATCH.getKey()) ||
+                headers.containsKey(DittoHeaderDefinition.IF_NONE_MATCH.getKey())) {
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            mutableHeaders.remove(DittoHeaderDefinition.IF_MATCH.getKey());
+            mutableHeaders.remove(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
+        }
         return myself;
     }
 
@@ -547,13 +574,15 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     public R build() {
         // do it here
         putMetadataHeadersToRegularHeaders();
+        // the built headers share the map of this builder until it is modified again
+        headersShared = true;
         final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.fromBuilder(headers);
         return doBuild(dittoHeaders);
     }
 
     private void putMetadataHeadersToRegularHeaders() {
         if (!metadataHeaders.isEmpty()) {
-            headers.put(DittoHeaderDefinition.PUT_METADATA.getKey(),
+            mutableHeaders().put(DittoHeaderDefinition.PUT_METADATA.getKey(),
                     Header.of(DittoHeaderDefinition.PUT_METADATA.getKey(), metadataHeaders.toJsonString()));
         }
     }
@@ -568,7 +597,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
 
     private static Map<String, Header> preserveCaseSensitivity(final Map<String, String> headers) {
         if (headers instanceof AbstractDittoHeaders) {
-            return new LinkedHashMap<>(((AbstractDittoHeaders) headers).headers);
+            // shared until the first modification
+            return ((AbstractDittoHeaders) headers).headers;
         } else {
             final LinkedHashMap<String, Header> result = new LinkedHashMap<>();
             headers.forEach((k, v) -> result.put(k.toLowerCase(), Header.of(k, v)));
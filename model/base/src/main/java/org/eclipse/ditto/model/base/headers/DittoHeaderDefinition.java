@@ -305,7 +305,20 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      * @since 2.0.0
      */
     POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY("ditto-policy-enforcer-invalidated-preemptively", boolean.class,
-            false, false, HeaderValueValidators.getBooleanValidator());
+            false, false, HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Header definition for the internal header "ditto-search-unprojected-thing-ids". It is set by the search service
+     * if the items of a search result were projected from the search index and contains the IDs of the found things
+     * which could not be projected.
+     * <p>
+     * Key: {@code "ditto-search-unprojected-thing-ids"}, Java type: {@link JsonArray}.
+     * </p>
+     *
+     * @since 2.0.0
+     */
+    SEARCH_UNPROJECTED_THING_IDS("ditto-search-unprojected-thing-ids", JsonArray.class, false, false,
+            HeaderValueValidators.getJsonArrayValidator());
 
     /**
      * Map to speed up lookup of header definition by key.
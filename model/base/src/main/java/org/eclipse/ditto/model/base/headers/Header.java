@@ -13,7 +13,9 @@
 package org.eclipse.ditto.model.base.headers;
 
 import java.util.Objects;
+import java.util.function.Function;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -21,6 +23,11 @@ import javax.annotation.concurrent.Immutable;
  * The key is only for information. Object identity only takes value into account.
  * This is important because as cache keys of CachingSignalEnrichmentFacade, where header keys should be interpreted
  * case-insensitively.
+ * <p>
+ * A header caches the typed value its string value was first parsed to. As headers are shared between
+ * {@code DittoHeaders} and the builders derived from them, the parsed value of a header survives changes of other
+ * headers. The cache is not observable from outside as parsers are deterministic.
+ * </p>
  *
  * @since 2.0.0
  */
@@ -29,14 +36,32 @@ final class Header implements CharSequence {
 
     private final String key;
     private final String value;
+    @Nullable private volatile ParsedValue parsedValue;
 
-    private Header(final String key, final String value) {
+    private Header(final String key, final String value, @Nullable final ParsedValue parsedValue) {
         this.key = key;
         this.value = value;
+        this.parsedValue = parsedValue;
     }
 
     static Header of(final String key, final String value) {
-        return new Header(key, value);
+        return new Header(key, value, null);
+    }
+
+    /**
+     * Returns a header whose value is already known to be parsed to the given value by the given parser.
+     *
+     * @param key the key of the header.
+     * @param value the value of the header.
+     * @param parser the parser.
+     * @param parsedValue the result of applying {@code parser} to {@code value}.
+     * @param <T> the type of the parsed value.
+     * @return the header.
+     */
+    static <T> Header parsed(final String key, final String value, final Function<String, T> parser,
+            final T parsedValue) {
+
+        return new Header(key, value, new ParsedValue(parser, parsedValue, false));
     }
 
     String getKey() {
@@ -47,6 +72,56 @@ final class Header implements CharSequence {
         return value;
     }
 
+    /**
+     * Returns the value of this header parsed by the given parser. The result of the first parser applied to this
+     * header is cached, thus parsers should be constants and their results should be immutable.
+     * A result cached by {@link #getParsedValueAsFallback(Function)} is replaced.
+     *
+     * @param parser the parser.
+     * @param <T> the type of the parsed value.
+     * @return the parsed value.
+     */
+    <T> T getParsedValue(final Function<String, T> parser) {
+        return getParsedValue(parser, false);
+    }
+
+    /**
+     * Returns the value of this header parsed by the given general purpose parser, e.g. to JSON. The result is cached
+     * only if no other parser's result is cached yet and is replaced by the result of the next parser applied by
+     * {@link #getParsedValue(Function)}, so that it does not take the place of the typed value of the header.
+     *
+     * @param parser the parser.
+     * @param <T> the type of the parsed value.
+     * @return the parsed value.
+     */
+    <T> T getParsedValueAsFallback(final Function<String, T> parser) {
+        return getParsedValue(parser, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getParsedValue(final Function<String, T> parser, final boolean fallback) {
+        @Nullable final ParsedValue cached = parsedValue;
+        if (null != cached && cached.parser == parser) {
+            return (T) cached.value;
+        }
+        final T result = parser.apply(value);
+        if (null == cached || cached.fallback && !fallback) {
+            parsedValue = new ParsedValue(parser, result, fallback);
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether the cached parsed value of this header was parsed by the given parser.
+     *
+     * @param parser the parser.
+     * @return {@code true} if the parsed value of {@code parser} is cached.
+     */
+    boolean isParsedBy(final Function<String, ?> parser) {
+        @Nullable final ParsedValue cached = parsedValue;
+        return null != cached && cached.parser == parser;
+    }
+
     @Override
     public boolean equals(final Object other) {
         if (other instanceof CharSequence) {
@@ -78,6 +153,22 @@ final class Header implements CharSequence {
 
     @Override
     public Header subSequence(final int i, final int j) {
-        return new Header(key, value.substring(i, j));
+        return of(key, value.substring(i, j));
+    }
+
+    @Immutable
+    private static final class ParsedValue {
+
+        private final Function<String, ?> parser;
+        private final Object value;
+        private final boolean fallback;
+
+        private ParsedValue(final Function<String, ?> parser, final Object value, final boolean fallback) {
+            this.parser = parser;
+            this.value = value;
+            this.fallback = fallback;
+        }
+
     }
+
 }
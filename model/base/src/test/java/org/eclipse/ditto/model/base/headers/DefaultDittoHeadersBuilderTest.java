@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -493,4 +494,40 @@ public final class DefaultDittoHeadersBuilderTest {
                 .withCauseInstanceOf(JsonParseException.class);
     }
 
+    @Test
+    public void modifyingBuilderDoesNotModifyDittoHeadersItSharesHeadersWith() {
+        final DittoHeaders original = DittoHeaders.newBuilder().putHeader("foo", "bar").build();
+        final DittoHeadersBuilder<?, ?> builder = original.toBuilder().putHeader("foo", "baz");
+        final DittoHeaders built = builder.build();
+        builder.removeHeader("foo").correlationId("modified-after-build");
+
+        assertThat(original).containsOnly(entry("foo", "bar"));
+        assertThat(built).containsOnly(entry("foo", "baz"));
+        assertThat(builder.build()).containsOnly(entry(DittoHeaderDefinition.CORRELATION_ID.getKey(),
+                "modified-after-build"));
+    }
+
+    @Test
+    public void typedValuesOfDerivedDittoHeadersAreEqualAndModifiable() {
+        final List<AcknowledgementRequest> acknowledgementRequests =
+                Arrays.asList(AcknowledgementRequest.of(AcknowledgementLabel.of("some-ack")),
+                        AcknowledgementRequest.of(AcknowledgementLabel.of("other-ack")));
+        final AuthorizationContext authorizationContext =
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("issuer:subject"));
+        final DittoHeaders original = DittoHeaders.newBuilder()
+                .acknowledgementRequests(acknowledgementRequests)
+                .authorizationContext(authorizationContext)
+                .build();
+        final Set<AcknowledgementRequest> originalAcknowledgementRequests = original.getAcknowledgementRequests();
+        final DittoHeaders derived = original.toBuilder().putHeader("foo", "bar").build();
+
+        final Set<AcknowledgementRequest> derivedAcknowledgementRequests = derived.getAcknowledgementRequests();
+        derivedAcknowledgementRequests.clear();
+
+        assertThat(derived.getAuthorizationContext()).isEqualTo(original.getAuthorizationContext());
+        assertThat(derived.getAcknowledgementRequests()).isEqualTo(originalAcknowledgementRequests);
+        assertThat(original.getAcknowledgementRequests()).containsExactlyElementsOf(acknowledgementRequests);
+    }
+
 }
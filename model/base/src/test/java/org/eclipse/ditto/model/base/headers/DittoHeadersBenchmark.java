@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the lifecycle of the headers of a typical signal: building them, reading their typed values several times
+ * as the signal passes the services, deriving headers with one changed header and serializing them to JSON.
+ */
+@State(Scope.Benchmark)
+public class DittoHeadersBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * How often the typed values of the headers are read during the lifecycle of a signal.
+     */
+    private static final int READS_PER_SIGNAL = 5;
+
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                    AuthorizationSubject.newInstance("integration:solution:connection"),
+                    AuthorizationSubject.newInstance("nginx:ditto"));
+
+    private static final DittoHeaders DITTO_HEADERS = newDittoHeaders();
+
+    private static final JsonObject DITTO_HEADERS_JSON = DITTO_HEADERS.toJson();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public DittoHeaders build() {
+        return newDittoHeaders();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void readTypedValues(final Blackhole blackhole) {
+        readTypedValues(DITTO_HEADERS, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public DittoHeaders changeOneHeader() {
+        return DITTO_HEADERS.toBuilder().putHeader("custom-header", "other-value").build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject toJson() {
+        return DITTO_HEADERS.toJson();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject lifecycle(final Blackhole blackhole) {
+        final DittoHeaders received = DittoHeaders.newBuilder(DITTO_HEADERS_JSON).build();
+        readTypedValues(received, blackhole);
+        final DittoHeaders forwarded = received.toBuilder().putHeader("custom-header", "other-value").build();
+        readTypedValues(forwarded, blackhole);
+        return forwarded.toJson();
+    }
+
+    private static void readTypedValues(final DittoHeaders dittoHeaders, final Blackhole blackhole) {
+        for (int i = 0; i < READS_PER_SIGNAL; i++) {
+            blackhole.consume(dittoHeaders.getCorrelationId());
+            blackhole.consume(dittoHeaders.getAuthorizationContext());
+            blackhole.consume(dittoHeaders.getAcknowledgementRequests());
+            blackhole.consume(dittoHeaders.getTimeout());
+            blackhole.consume(dittoHeaders.getSchemaVersion());
+            blackhole.consume(dittoHeaders.isResponseRequired());
+        }
+    }
+
+    private static DittoHeaders newDittoHeaders() {
+        return DittoHeaders.newBuilder()
+                .correlationId("benchmark-correlation-id")
+                .authorizationContext(AUTHORIZATION_CONTEXT)
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .timeout(Duration.ofSeconds(10L))
+                .responseRequired(true)
+                .putHeader("custom-header", "custom-value")
+                .build();
+    }
+
+}
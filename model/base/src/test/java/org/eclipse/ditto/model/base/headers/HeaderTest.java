@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Header}.
+ */
+public final class HeaderTest {
+
+    private static final Function<String, JsonValue> JSON_PARSER = JsonFactory::readFrom;
+    private static final Function<String, Integer> SIZE_PARSER = value -> JsonArray.of(value).getSize();
+
+    @Test
+    public void parsedValueIsCached() {
+        final AtomicInteger parseCount = new AtomicInteger();
+        final Function<String, Integer> countingSizeParser = value -> {
+            parseCount.incrementAndGet();
+            return SIZE_PARSER.apply(value);
+        };
+        final Header underTest = Header.of("key", "[1,2]");
+
+        assertThat(underTest.getParsedValue(countingSizeParser)).isEqualTo(2);
+        assertThat(underTest.getParsedValue(countingSizeParser)).isEqualTo(2);
+        assertThat(parseCount).hasValue(1);
+        assertThat(underTest.isParsedBy(countingSizeParser)).isTrue();
+    }
+
+    @Test
+    public void typedValueReplacesFallbackValue() {
+        final Header underTest = Header.of("key", "[1,2]");
+
+        assertThat(underTest.getParsedValueAsFallback(JSON_PARSER)).isEqualTo(JsonArray.of("[1,2]"));
+        assertThat(underTest.isParsedBy(JSON_PARSER)).isTrue();
+
+        assertThat(underTest.getParsedValue(SIZE_PARSER)).isEqualTo(2);
+        assertThat(underTest.isParsedBy(SIZE_PARSER)).isTrue();
+    }
+
+    @Test
+    public void fallbackValueDoesNotReplaceTypedValue() {
+        final Header underTest = Header.of("key", "[1,2]");
+
+        assertThat(underTest.getParsedValue(SIZE_PARSER)).isEqualTo(2);
+        assertThat(underTest.getParsedValueAsFallback(JSON_PARSER)).isEqualTo(JsonArray.of("[1,2]"));
+
+        assertThat(underTest.isParsedBy(SIZE_PARSER)).isTrue();
+    }
+
+    @Test
+    public void firstTypedValueIsKept() {
+        final Function<String, String> otherParser = String::trim;
+        final Header underTest = Header.of("key", "[1,2]");
+
+        underTest.getParsedValue(SIZE_PARSER);
+        assertThat(underTest.getParsedValue(otherParser)).isEqualTo("[1,2]");
+
+        assertThat(underTest.isParsedBy(SIZE_PARSER)).isTrue();
+    }
+
+}
@@ -117,6 +117,9 @@ public final class ImmutableDittoHeadersTest {
     private static final boolean KNOWN_ALLOW_POLICY_LOCKOUT = true;
     private static final boolean KNOWN_IS_WEAK_ACK = false;
     private static final boolean KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY = true;
+    private static final JsonArray KNOWN_SEARCH_UNPROJECTED_THING_IDS = JsonArray.newBuilder()
+            .add("known:unprojectedThing")
+            .build();
 
     static {
         KNOWN_METADATA_HEADERS = MetadataHeaders.newInstance();
@@ -171,6 +174,8 @@ public final class ImmutableDittoHeadersTest {
                 .putHeader(DittoHeaderDefinition.WEAK_ACK.getKey(), String.valueOf(KNOWN_IS_WEAK_ACK))
                 .putHeader(DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
                         String.valueOf(KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY))
+                .putHeader(DittoHeaderDefinition.SEARCH_UNPROJECTED_THING_IDS.getKey(),
+                        KNOWN_SEARCH_UNPROJECTED_THING_IDS.toString())
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -393,6 +398,7 @@ public final class ImmutableDittoHeadersTest {
                 .set(DittoHeaderDefinition.WEAK_ACK.getKey(), KNOWN_IS_WEAK_ACK)
                 .set(DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
                         KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY)
+                .set(DittoHeaderDefinition.SEARCH_UNPROJECTED_THING_IDS.getKey(), KNOWN_SEARCH_UNPROJECTED_THING_IDS)
                 .build();
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
 
@@ -642,6 +648,8 @@ public final class ImmutableDittoHeadersTest {
         result.put(DittoHeaderDefinition.WEAK_ACK.getKey(), String.valueOf(KNOWN_IS_WEAK_ACK));
         result.put(DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
                 String.valueOf(KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY));
+        result.put(DittoHeaderDefinition.SEARCH_UNPROJECTED_THING_IDS.getKey(),
+                KNOWN_SEARCH_UNPROJECTED_THING_IDS.toString());
 
         return result;
     }
@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.enforcers;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.model.enforcers.trie.CompiledPolicyEnforcer;
 import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
 
@@ -55,6 +56,20 @@ public final class PolicyEnforcers {
         return TrieBasedPolicyEnforcer.newInstance(policy);
     }
 
+    /**
+     * Returns a Enforcer with the same semantics as {@link #throughputOptimizedEvaluator(Policy)} which compiles the
+     * Policy once to bit sets of subjects and permissions. It delivers the highest throughput, especially for Policies
+     * with many subjects, at the cost of a slower creation.
+     *
+     * @param policy the Policy to initialize the evaluator with.
+     * @return the initialized compiled Enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @since 2.0.0
+     */
+    public static Enforcer compiledEvaluator(final Policy policy) {
+        return CompiledPolicyEnforcer.newInstance(policy);
+    }
+
     /**
      * Returns a Enforcer which requires little memory and delivers good performance for most of the Policies.
      *
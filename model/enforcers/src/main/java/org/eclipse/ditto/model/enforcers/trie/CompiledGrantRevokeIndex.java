@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Compiled form of a {@link GrantRevokeIndex}: subjects and permissions are replaced by their integer IDs, and the
+ * subjects of each permission are stored as one bit set per weight.
+ * <p>
+ * Subject sets are {@code long} arrays of the same length for all indices of a policy, where bit {@code i} is set if
+ * the subject with ID {@code i} is contained. Permission IDs are indices into the arrays of granted and revoked
+ * subjects; unknown permissions have the ID {@code -1}.
+ * </p>
+ */
+@Immutable
+final class CompiledGrantRevokeIndex {
+
+    /**
+     * Weight of a permission which is related to none of the given subjects.
+     */
+    static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    /**
+     * Granted subjects by permission ID; {@code null} if the permission is absent from the grant-map.
+     */
+    private final WeightedSubjects[] granted;
+
+    /**
+     * Revoked subjects by permission ID; {@code null} if the permission is absent from the revoke-map.
+     */
+    private final WeightedSubjects[] revoked;
+
+    private CompiledGrantRevokeIndex(final WeightedSubjects[] granted, final WeightedSubjects[] revoked) {
+        this.granted = granted;
+        this.revoked = revoked;
+    }
+
+    /**
+     * Compiles a {@code GrantRevokeIndex}.
+     *
+     * @param grantRevokeIndex the index to compile.
+     * @param subjectIds the IDs of all subjects of the policy.
+     * @param permissionIds the IDs of all permissions of the policy.
+     * @return the compiled index.
+     */
+    static CompiledGrantRevokeIndex compile(final GrantRevokeIndex grantRevokeIndex,
+            final Map<String, Integer> subjectIds, final Map<String, Integer> permissionIds) {
+
+        return new CompiledGrantRevokeIndex(compile(grantRevokeIndex.getGranted(), subjectIds, permissionIds),
+                compile(grantRevokeIndex.getRevoked(), subjectIds, permissionIds));
+    }
+
+    private static WeightedSubjects[] compile(final PermissionSubjectsMap permissionSubjectsMap,
+            final Map<String, Integer> subjectIds, final Map<String, Integer> permissionIds) {
+
+        final WeightedSubjects[] result = new WeightedSubjects[permissionIds.size()];
+        permissionSubjectsMap.forEach((permission, subjectWeights) ->
+                result[permissionIds.get(permission)] = WeightedSubjects.compile(subjectWeights, subjectIds));
+        return result;
+    }
+
+    /**
+     * Same as {@link GrantRevokeIndex#hasPermissions(java.util.Collection, java.util.Collection)} for compiled
+     * subjects and permissions.
+     *
+     * @param subjects the bit set of subjects to check.
+     * @param permissions the IDs of the permissions to check.
+     * @return whether each permission is granted to some subject and not revoked with the same or a greater weight.
+     */
+    boolean hasPermissions(final long[] subjects, final int[] permissions) {
+        int grantWeight = NO_WEIGHT;
+        for (final int permission : permissions) {
+            final int weight = getMaxWeight(granted, permission, subjects);
+            if (weight == NO_WEIGHT) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, weight);
+        }
+        if (grantWeight == NO_WEIGHT) {
+            return false;
+        }
+        for (final int permission : permissions) {
+            if (getMaxWeight(revoked, permission, subjects) >= grantWeight) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the subjects for whom all of the given permissions present in the grant-map are granted.
+     *
+     * @param permissions the IDs of the permissions to check.
+     * @param words the length of subject sets.
+     * @return the bit set of granted subjects.
+     */
+    long[] getGrantedSubjects(final int[] permissions, final int words) {
+        long[] result = null;
+        for (final int permission : permissions) {
+            final WeightedSubjects weightedSubjects = get(granted, permission);
+            if (null != weightedSubjects) {
+                if (null == result) {
+                    result = weightedSubjects.getAll().clone();
+                } else {
+                    weightedSubjects.retainIn(result);
+                }
+            }
+        }
+        return null != result ? result : new long[words];
+    }
+
+    /**
+     * Returns the subjects from whom any of the given permissions is revoked.
+     *
+     * @param permissions the IDs of the permissions to check.
+     * @param words the length of subject sets.
+     * @return the bit set of revoked subjects.
+     */
+    long[] getRevokedSubjects(final int[] permissions, final int words) {
+        final long[] result = new long[words];
+        for (final int permission : permissions) {
+            final WeightedSubjects weightedSubjects = get(revoked, permission);
+            if (null != weightedSubjects) {
+                weightedSubjects.addTo(result);
+            }
+        }
+        return result;
+    }
+
+    private static int getMaxWeight(final WeightedSubjects[] weightedSubjectsArray, final int permission,
+            final long[] subjects) {
+
+        final WeightedSubjects weightedSubjects = get(weightedSubjectsArray, permission);
+        return null != weightedSubjects ? weightedSubjects.getMaxWeight(subjects) : NO_WEIGHT;
+    }
+
+    @Nullable
+    private static WeightedSubjects get(final WeightedSubjects[] weightedSubjectsArray, final int permission) {
+        return permission >= 0 ? weightedSubjectsArray[permission] : null;
+    }
+
+    /**
+     * Returns the length of subject sets for the given number of subjects.
+     *
+     * @param subjectCount the number of subjects.
+     * @return the number of {@code long} words needed.
+     */
+    static int getWords(final int subjectCount) {
+        return (subjectCount + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Adds a subject to a subject set.
+     *
+     * @param subjects the subject set.
+     * @param subjectId ID of the subject to add.
+     */
+    static void setBit(final long[] subjects, final int subjectId) {
+        subjects[subjectId / Long.SIZE] |= 1L << subjectId;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "granted=" + Arrays.toString(granted) +
+                ", revoked=" + Arrays.toString(revoked) +
+                "]";
+    }
+
+    /**
+     * Subjects related to one permission, grouped by weight.
+     */
+    @Immutable
+    private static final class WeightedSubjects {
+
+        /**
+         * Distinct weights in descending order.
+         */
+        private final int[] weights;
+
+        /**
+         * Subjects of each weight.
+         */
+        private final long[][] subjectsByWeight;
+
+        /**
+         * Subjects of all weights.
+         */
+        private final long[] all;
+
+        private WeightedSubjects(final int[] weights, final long[][] subjectsByWeight, final long[] all) {
+            this.weights = weights;
+            this.subjectsByWeight = subjectsByWeight;
+            this.all = all;
+        }
+
+        private static WeightedSubjects compile(final Map<String, Integer> subjectWeights,
+                final Map<String, Integer> subjectIds) {
+
+            final int words = getWords(subjectIds.size());
+            final Map<Integer, long[]> subjectsByWeight = new TreeMap<>(Comparator.reverseOrder());
+            final long[] all = new long[words];
+            subjectWeights.forEach((subject, weight) -> {
+                final int subjectId = subjectIds.get(subject);
+                setBit(subjectsByWeight.computeIfAbsent(weight, w -> new long[words]), subjectId);
+                setBit(all, subjectId);
+            });
+            final int[] weights = subjectsByWeight.keySet().stream().mapToInt(Integer::intValue).toArray();
+            return new WeightedSubjects(weights, subjectsByWeight.values().toArray(new long[0][]), all);
+        }
+
+        private int getMaxWeight(final long[] subjects) {
+            for (int i = 0; i < weights.length; i++) {
+                if (intersects(subjectsByWeight[i], subjects)) {
+                    return weights[i];
+                }
+            }
+            return NO_WEIGHT;
+        }
+
+        private long[] getAll() {
+            return all;
+        }
+
+        private void retainIn(final long[] subjects) {
+            for (int i = 0; i < subjects.length; i++) {
+                subjects[i] &= all[i];
+            }
+        }
+
+        private void addTo(final long[] subjects) {
+            for (int i = 0; i < subjects.length; i++) {
+                subjects[i] |= all[i];
+            }
+        }
+
+        private static boolean intersects(final long[] subjects1, final long[] subjects2) {
+            for (int i = 0; i < subjects1.length; i++) {
+                if ((subjects1[i] & subjects2[i]) != 0L) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "weights=" + Arrays.toString(weights) +
+                    ", all=" + Arrays.toString(all) +
+                    "]";
+        }
+
+    }
+
+}
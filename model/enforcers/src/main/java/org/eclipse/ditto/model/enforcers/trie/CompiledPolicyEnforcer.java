@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.ImmutableEffectedSubjectIds;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+
+/**
+ * Policy enforcer with the same semantics as {@link TrieBasedPolicyEnforcer} which compiles the tries of a policy
+ * once for fast authorization checks.
+ * <p>
+ * Each subject and each permission of the policy is assigned an integer ID. The three tries used for enforcement are
+ * merged into one immutable trie whose grant-revoke-indices hold bit sets of subject IDs by permission ID and weight.
+ * Thus an authorization check looks up the subject IDs of the authorization context once and then needs only a few
+ * bitwise operations per trie node, and {@code buildJsonView} copies only those JSON values which are not visible as a
+ * whole.
+ * </p>
+ */
+@Immutable
+public final class CompiledPolicyEnforcer implements Enforcer {
+
+    private final Map<String, Integer> subjectIds;
+    private final List<String> subjects;
+    private final Map<String, Integer> permissionIds;
+    private final int words;
+    private final CompiledPolicyTrie root;
+
+    private CompiledPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+        subjectIds = new HashMap<>();
+        subjects = new ArrayList<>();
+        permissionIds = new HashMap<>();
+        policy.forEach(this::assignIds);
+        words = CompiledGrantRevokeIndex.getWords(subjects.size());
+
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        root = CompiledPolicyTrie.compile(inheritedTrie, inheritedTrie.getBottomUpGrantTrie(),
+                inheritedTrie.getBottomUpRevokeTrie(), subjectIds, permissionIds);
+    }
+
+    /**
+     * Compiles a policy into a policy enforcer.
+     *
+     * @param policy The policy to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static CompiledPolicyEnforcer newInstance(final Policy policy) {
+        return new CompiledPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
+    }
+
+    private void assignIds(final PolicyEntry policyEntry) {
+        for (final Subject subject : policyEntry.getSubjects()) {
+            final String subjectId = subject.getId().toString();
+            if (!subjectIds.containsKey(subjectId)) {
+                subjectIds.put(subjectId, subjects.size());
+                subjects.add(subjectId);
+            }
+        }
+        policyEntry.getResources().forEach(resource -> {
+            final EffectedPermissions effectedPermissions = resource.getEffectedPermissions();
+            effectedPermissions.getGrantedPermissions().forEach(this::assignPermissionId);
+            effectedPermissions.getRevokedPermissions().forEach(this::assignPermissionId);
+        });
+    }
+
+    private void assignPermissionId(final String permission) {
+        permissionIds.putIfAbsent(permission, permissionIds.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses the bottom-up revoke index of the node of the given resource if it is mentioned in the policy, otherwise the
+     * inherited index of its least ancestor.
+     */
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledPolicyTrie exactNode = root.seekToExactNode(resourceKey);
+        final CompiledGrantRevokeIndex index = null != exactNode
+                ? exactNode.getBottomUpRevoke()
+                : root.seekToLeastAncestor(resourceKey).getInherited();
+
+        return index.hasPermissions(getSubjects(authorizationContext), getPermissionIds(permissions));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses the bottom-up grant index of the node of the given resource if it is mentioned in the policy, otherwise the
+     * inherited index of its least ancestor.
+     */
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return getPartialIndex(resourceKey)
+                .hasPermissions(getSubjects(authorizationContext), getPermissionIds(permissions));
+    }
+
+    @Override
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledGrantRevokeIndex index = root.seekToLeastAncestor(resourceKey).getInherited();
+        final int[] permissionIdArray = getPermissionIds(permissions);
+        return ImmutableEffectedSubjectIds.of(getSubjectIds(index.getGrantedSubjects(permissionIdArray, words)),
+                getSubjectIds(index.getRevokedSubjects(permissionIdArray, words)));
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledGrantRevokeIndex index = root.seekToLeastAncestor(resourceKey).getInherited();
+        final int[] permissionIdArray = getPermissionIds(permissions);
+        return DefaultEffectedSubjects.of(
+                getAuthorizationSubjects(index.getGrantedSubjects(permissionIdArray, words)),
+                getAuthorizationSubjects(index.getRevokedSubjects(permissionIdArray, words)));
+    }
+
+    @Override
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return getSubjectIds(getPartialIndex(resourceKey).getGrantedSubjects(getPermissionIds(permissions), words));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return getAuthorizationSubjects(
+                getPartialIndex(resourceKey).getGrantedSubjects(getPermissionIds(permissions), words));
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        if (root.hasChild(JsonKey.of(resourceKey.getResourceType()))) {
+            return root.seekToLeastAncestor(resourceKey)
+                    .buildJsonView(jsonFields, getSubjects(authorizationContext), getPermissionIds(permissions));
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    private CompiledGrantRevokeIndex getPartialIndex(final ResourceKey resourceKey) {
+        final CompiledPolicyTrie exactNode = root.seekToExactNode(resourceKey);
+        return null != exactNode ? exactNode.getBottomUpGrant() : root.seekToLeastAncestor(resourceKey).getInherited();
+    }
+
+    private long[] getSubjects(final AuthorizationContext authorizationContext) {
+        final long[] result = new long[words];
+        for (final AuthorizationSubject authorizationSubject : authorizationContext.getAuthorizationSubjects()) {
+            final Integer subjectId = subjectIds.get(authorizationSubject.getId());
+            if (null != subjectId) {
+                CompiledGrantRevokeIndex.setBit(result, subjectId);
+            }
+        }
+        return result;
+    }
+
+    private int[] getPermissionIds(final Collection<String> permissions) {
+        final int[] result = new int[permissions.size()];
+        int i = 0;
+        for (final String permission : permissions) {
+            result[i++] = permissionIds.getOrDefault(permission, -1);
+        }
+        return result;
+    }
+
+    private Set<String> getSubjectIds(final long[] subjectBits) {
+        final Set<String> result = new HashSet<>();
+        forEachSubject(subjectBits, subjectId -> result.add(subjects.get(subjectId)));
+        return result;
+    }
+
+    private Set<AuthorizationSubject> getAuthorizationSubjects(final long[] subjectBits) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        forEachSubject(subjectBits, subjectId -> result.add(AuthorizationSubject.newInstance(subjects.get(subjectId))));
+        return result;
+    }
+
+    private static void forEachSubject(final long[] subjectBits, final IntConsumer action) {
+        for (int word = 0; word < subjectBits.length; word++) {
+            long bits = subjectBits[word];
+            while (bits != 0L) {
+                action.accept(word * Long.SIZE + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * Immutable trie combining the inherited, bottom-up grant and bottom-up revoke {@link PolicyTrie}s of a policy, which
+ * all have the same shape, with their grant-revoke-indices compiled to {@link CompiledGrantRevokeIndex}es.
+ */
+@Immutable
+final class CompiledPolicyTrie {
+
+    private final CompiledGrantRevokeIndex inherited;
+    private final CompiledGrantRevokeIndex bottomUpGrant;
+    private final CompiledGrantRevokeIndex bottomUpRevoke;
+    private final Map<JsonKey, CompiledPolicyTrie> children;
+
+    /**
+     * This node without children, i. e., the node of all sub-resources not mentioned in the policy.
+     */
+    private final CompiledPolicyTrie leaf;
+
+    private CompiledPolicyTrie(final CompiledGrantRevokeIndex inherited,
+            final CompiledGrantRevokeIndex bottomUpGrant,
+            final CompiledGrantRevokeIndex bottomUpRevoke,
+            final Map<JsonKey, CompiledPolicyTrie> children) {
+
+        this.inherited = inherited;
+        this.bottomUpGrant = bottomUpGrant;
+        this.bottomUpRevoke = bottomUpRevoke;
+        this.children = children;
+        leaf = children.isEmpty()
+                ? this
+                : new CompiledPolicyTrie(inherited, bottomUpGrant, bottomUpRevoke, Collections.emptyMap());
+    }
+
+    /**
+     * Compiles the tries of a policy.
+     *
+     * @param inheritedTrie the trie with grants and revokes pushed down from ancestors to descendants.
+     * @param bottomUpGrantTrie the trie with grants pushed up from descendants to ancestors.
+     * @param bottomUpRevokeTrie the trie with revokes pushed up from descendants to ancestors.
+     * @param subjectIds the IDs of all subjects of the policy.
+     * @param permissionIds the IDs of all permissions of the policy.
+     * @return the compiled trie.
+     */
+    static CompiledPolicyTrie compile(final PolicyTrie inheritedTrie,
+            final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie,
+            final Map<String, Integer> subjectIds,
+            final Map<String, Integer> permissionIds) {
+
+        final Map<JsonKey, PolicyTrie> bottomUpGrantChildren = bottomUpGrantTrie.getChildren();
+        final Map<JsonKey, PolicyTrie> bottomUpRevokeChildren = bottomUpRevokeTrie.getChildren();
+        final Map<JsonKey, CompiledPolicyTrie> children = new HashMap<>(inheritedTrie.getChildren().size());
+        inheritedTrie.getChildren().forEach((key, inheritedChild) -> children.put(key,
+                compile(inheritedChild, bottomUpGrantChildren.get(key), bottomUpRevokeChildren.get(key), subjectIds,
+                        permissionIds)));
+
+        return new CompiledPolicyTrie(
+                CompiledGrantRevokeIndex.compile(inheritedTrie.getGrantRevokeIndex(), subjectIds, permissionIds),
+                CompiledGrantRevokeIndex.compile(bottomUpGrantTrie.getGrantRevokeIndex(), subjectIds, permissionIds),
+                CompiledGrantRevokeIndex.compile(bottomUpRevokeTrie.getGrantRevokeIndex(), subjectIds, permissionIds),
+                children.isEmpty() ? Collections.emptyMap() : children);
+    }
+
+    /**
+     * @return the index with grants and revokes pushed down from ancestors.
+     */
+    CompiledGrantRevokeIndex getInherited() {
+        return inherited;
+    }
+
+    /**
+     * @return the index with grants pushed up from descendants.
+     */
+    CompiledGrantRevokeIndex getBottomUpGrant() {
+        return bottomUpGrant;
+    }
+
+    /**
+     * @return the index with revokes pushed up from descendants.
+     */
+    CompiledGrantRevokeIndex getBottomUpRevoke() {
+        return bottomUpRevoke;
+    }
+
+    /**
+     * Returns whether a child exists for the given key.
+     *
+     * @param childKey Key of the child to check.
+     * @return {@code true} if a child with the given key exists, {@code false} otherwise.
+     */
+    boolean hasChild(final JsonKey childKey) {
+        return children.containsKey(childKey);
+    }
+
+    /**
+     * Seek to the trie node whose path from root matches the resource key exactly.
+     *
+     * @param resourceKey the resource key to match.
+     * @return the exactly matched trie node, or {@code null} if no trie node matches the resource key exactly.
+     */
+    @Nullable
+    CompiledPolicyTrie seekToExactNode(final ResourceKey resourceKey) {
+        CompiledPolicyTrie node = children.get(JsonKey.of(resourceKey.getResourceType()));
+        for (final JsonKey key : resourceKey.getResourcePath()) {
+            if (null == node) {
+                return null;
+            }
+            node = node.children.get(key);
+        }
+        return node;
+    }
+
+    /**
+     * Seek to the trie node whose path from root matches the resource key as much as possible.
+     *
+     * @param resourceKey the resource key to match.
+     * @return the best matched node.
+     */
+    CompiledPolicyTrie seekToLeastAncestor(final ResourceKey resourceKey) {
+        CompiledPolicyTrie node = children.get(JsonKey.of(resourceKey.getResourceType()));
+        if (null == node) {
+            return this;
+        }
+        for (final JsonKey key : resourceKey.getResourcePath()) {
+            final CompiledPolicyTrie child = node.children.get(key);
+            if (null == child) {
+                return node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Filters JSON fields in the same way as {@link PolicyTrie#buildJsonView(Iterable, java.util.Collection,
+     * org.eclipse.ditto.model.policies.Permissions)}. Values which are visible as a whole are not copied, and
+     * the given JSON object itself is returned if all of its fields are visible.
+     *
+     * @param jsonFields the JSON fields to filter.
+     * @param subjects the bit set of subjects to check.
+     * @param permissions the IDs of the permissions to check.
+     * @return the visible JSON fields.
+     */
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final long[] subjects, final int[] permissions) {
+        final boolean isJsonObject = jsonFields instanceof JsonObject;
+        if (isJsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+        if (children.isEmpty()) {
+            if (inherited.hasPermissions(subjects, permissions)) {
+                return isJsonObject ? (JsonObject) jsonFields : JsonFactory.newObject(jsonFields);
+            }
+            return JsonFactory.newObject();
+        }
+
+        // Start copying fields only when the first field is not visible as a whole.
+        JsonObjectBuilder outputObjectBuilder = isJsonObject ? null : JsonFactory.newObjectBuilder();
+        int unchangedFields = 0;
+        for (final JsonField field : jsonFields) {
+            final JsonValue value = field.getValue();
+            final JsonValue jsonView = getChildOrLeaf(field.getKey()).getViewOrNull(value, subjects, permissions);
+            if (null == outputObjectBuilder) {
+                if (jsonView == value) {
+                    unchangedFields++;
+                    continue;
+                }
+                outputObjectBuilder = JsonFactory.newObjectBuilder();
+                copyFields(jsonFields, unchangedFields, outputObjectBuilder);
+            }
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return null != outputObjectBuilder ? outputObjectBuilder.build() : (JsonObject) jsonFields;
+    }
+
+    private CompiledPolicyTrie getChildOrLeaf(final JsonKey key) {
+        final CompiledPolicyTrie child = children.get(key);
+        return null != child ? child : leaf;
+    }
+
+    private static void copyFields(final Iterable<JsonField> jsonFields, final int count,
+            final JsonObjectBuilder outputObjectBuilder) {
+
+        int copied = 0;
+        for (final JsonField field : jsonFields) {
+            if (copied++ >= count) {
+                return;
+            }
+            outputObjectBuilder.set(field);
+        }
+    }
+
+    @Nullable
+    private JsonValue getViewOrNull(final JsonValue jsonValue, final long[] subjects, final int[] permissions) {
+        if (children.isEmpty()) {
+            // all descendants of this node have the same grants and revokes
+            return inherited.hasPermissions(subjects, permissions) ? jsonValue : null;
+        }
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(buildJsonView(jsonValue.asObject(), subjects, permissions), subjects,
+                    permissions);
+        } else if (jsonValue.isArray()) {
+            result = filterCandidate(getViewForJsonArray(jsonValue.asArray(), subjects, permissions), subjects,
+                    permissions);
+        } else if (inherited.hasPermissions(subjects, permissions)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    private JsonArray getViewForJsonArray(final JsonArray jsonArray, final long[] subjects,
+            final int[] permissions) {
+
+        JsonArrayBuilder outputArrayBuilder = null;
+        int unchangedValues = 0;
+        for (final JsonValue value : jsonArray) {
+            final JsonValue jsonView = getViewOrNull(value, subjects, permissions);
+            if (null == outputArrayBuilder) {
+                if (jsonView == value) {
+                    unchangedValues++;
+                    continue;
+                }
+                outputArrayBuilder = JsonFactory.newArrayBuilder();
+                copyValues(jsonArray, unchangedValues, outputArrayBuilder);
+            }
+            if (null != jsonView) {
+                outputArrayBuilder.add(jsonView);
+            }
+        }
+
+        return null != outputArrayBuilder ? outputArrayBuilder.build() : jsonArray;
+    }
+
+    private static void copyValues(final Iterable<JsonValue> jsonValues, final int count,
+            final JsonArrayBuilder outputArrayBuilder) {
+
+        int copied = 0;
+        for (final JsonValue value : jsonValues) {
+            if (copied++ >= count) {
+                return;
+            }
+            outputArrayBuilder.add(value);
+        }
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer<?>> T filterCandidate(final T candidate, final long[] subjects,
+            final int[] permissions) {
+
+        if (!candidate.isEmpty() || inherited.hasPermissions(subjects, permissions)) {
+            return candidate;
+        }
+        return null;
+    }
+
+}
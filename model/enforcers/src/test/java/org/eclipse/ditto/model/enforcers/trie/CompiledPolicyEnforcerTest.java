@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Compares the results of {@link CompiledPolicyEnforcer} with those of {@link TrieBasedPolicyEnforcer} for all
+ * combinations of resources, subjects and permissions of several policies.
+ */
+@RunWith(Parameterized.class)
+public final class CompiledPolicyEnforcerTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("namespace", "policy");
+    private static final String THING = "thing";
+    private static final String POLICY = "policy";
+    private static final String MESSAGE = "message";
+    private static final String READ = "READ";
+    private static final String WRITE = "WRITE";
+
+    private static final List<String> SUBJECTS = Arrays.asList("test:alice", "test:bob", "test:carol");
+
+    private static final List<ResourceKey> RESOURCE_KEYS = Arrays.asList(
+            ResourceKey.newInstance(THING, "/"),
+            ResourceKey.newInstance(THING, "/attributes"),
+            ResourceKey.newInstance(THING, "/attributes/public"),
+            ResourceKey.newInstance(THING, "/attributes/secret"),
+            ResourceKey.newInstance(THING, "/attributes/secret/nested"),
+            ResourceKey.newInstance(THING, "/features"),
+            ResourceKey.newInstance(THING, "/features/lamp/properties"),
+            ResourceKey.newInstance(THING, "/features/lamp/properties/on"),
+            ResourceKey.newInstance(THING, "/features/lamp/properties/config/brightness"),
+            ResourceKey.newInstance(THING, "/unknown/path"),
+            ResourceKey.newInstance(POLICY, "/"),
+            ResourceKey.newInstance(POLICY, "/entries/DEFAULT"),
+            ResourceKey.newInstance(MESSAGE, "/"),
+            ResourceKey.newInstance(MESSAGE, "/inbox/messages/switch"));
+
+    private static final List<Permissions> PERMISSIONS = Arrays.asList(
+            Permissions.newInstance(READ),
+            Permissions.newInstance(WRITE),
+            Permissions.newInstance(READ, WRITE));
+
+    private static final JsonObject THING_JSON = JsonFactory.newObject("{" +
+            "\"thingId\":\"namespace:thing\"," +
+            "\"policyId\":\"namespace:policy\"," +
+            "\"attributes\":{\"public\":{\"a\":1,\"b\":[1,2]},\"secret\":{\"nested\":\"s\",\"other\":true}}," +
+            "\"features\":{\"lamp\":{\"properties\":{\"on\":true,\"config\":{\"brightness\":50,\"color\":\"red\"}}}," +
+            "\"door\":{\"properties\":{\"open\":false}}}" +
+            "}");
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> policies() {
+        return Arrays.asList(
+                new Object[]{"grants", grants()},
+                new Object[]{"revokes", revokes()},
+                new Object[]{"subject-specific revokes", subjectSpecificRevokes()},
+                new Object[]{"policy and message resources", policyAndMessageResources()});
+    }
+
+    @Parameterized.Parameter
+    public String description;
+
+    @Parameterized.Parameter(1)
+    public Policy policy;
+
+    @Test
+    public void permissionChecksAreEqualToTrieBasedEnforcer() {
+        final Enforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+        final Enforcer underTest = CompiledPolicyEnforcer.newInstance(policy);
+
+        final SoftAssertions softly = new SoftAssertions();
+        for (final AuthorizationContext authorizationContext : authorizationContexts()) {
+            for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+                for (final Permissions permissions : PERMISSIONS) {
+                    final String check = authorizationContext.getAuthorizationSubjectIds() + " " +
+                            resourceKey + " " + permissions;
+                    softly.assertThat(underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                            permissions))
+                            .describedAs("hasUnrestrictedPermissions " + check)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    softly.assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext,
+                            permissions))
+                            .describedAs("hasPartialPermissions " + check)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                }
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    public void subjectsWithPermissionAreEqualToTrieBasedEnforcer() {
+        final Enforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+        final Enforcer underTest = CompiledPolicyEnforcer.newInstance(policy);
+
+        final SoftAssertions softly = new SoftAssertions();
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            for (final Permissions permissions : PERMISSIONS) {
+                final String check = resourceKey + " " + permissions;
+                softly.assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .describedAs("getSubjectsWithPermission " + check)
+                        .isEqualTo(expected.getSubjectsWithPermission(resourceKey, permissions));
+                softly.assertThat(underTest.getSubjectIdsWithPermission(resourceKey, permissions))
+                        .describedAs("getSubjectIdsWithPermission " + check)
+                        .isEqualTo(expected.getSubjectIdsWithPermission(resourceKey, permissions));
+                softly.assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .describedAs("getSubjectsWithPartialPermission " + check)
+                        .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, permissions));
+                softly.assertThat(underTest.getSubjectIdsWithPartialPermission(resourceKey, permissions))
+                        .describedAs("getSubjectIdsWithPartialPermission " + check)
+                        .isEqualTo(expected.getSubjectIdsWithPartialPermission(resourceKey, permissions));
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    public void jsonViewsAreEqualToTrieBasedEnforcer() {
+        final Enforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+        final Enforcer underTest = CompiledPolicyEnforcer.newInstance(policy);
+        final ResourceKey thingRoot = ResourceKey.newInstance(THING, "/");
+
+        final SoftAssertions softly = new SoftAssertions();
+        for (final AuthorizationContext authorizationContext : authorizationContexts()) {
+            for (final Permissions permissions : PERMISSIONS) {
+                softly.assertThat(underTest.buildJsonView(thingRoot, THING_JSON, authorizationContext, permissions))
+                        .describedAs("buildJsonView " + authorizationContext.getAuthorizationSubjectIds() + " " +
+                                permissions)
+                        .isEqualTo(expected.buildJsonView(thingRoot, THING_JSON, authorizationContext,
+                                permissions));
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    public void policiesGrantSomethingToEverySubject() {
+        // guards against policies which make the comparison trivial
+        final Enforcer underTest = CompiledPolicyEnforcer.newInstance(policy);
+        assertThat(SUBJECTS).allMatch(subject -> RESOURCE_KEYS.stream()
+                .anyMatch(resourceKey -> underTest.hasPartialPermissions(resourceKey, contextOf(subject),
+                        Permissions.newInstance(READ))));
+    }
+
+    private static List<AuthorizationContext> authorizationContexts() {
+        final List<AuthorizationContext> result = new ArrayList<>();
+        for (int mask = 1; mask < 1 << SUBJECTS.size(); mask++) {
+            final List<AuthorizationSubject> subjects = new ArrayList<>();
+            for (int i = 0; i < SUBJECTS.size(); i++) {
+                if ((mask & 1 << i) != 0) {
+                    subjects.add(AuthorizationSubject.newInstance(SUBJECTS.get(i)));
+                }
+            }
+            result.add(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subjects));
+        }
+        return result;
+    }
+
+    private static AuthorizationContext contextOf(final String subject) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(subject));
+    }
+
+    private static Policy grants() {
+        return PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("owner")
+                .setSubject(SUBJECTS.get(0), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", READ, WRITE)
+                .forLabel("attributes")
+                .setSubject(SUBJECTS.get(1), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/attributes", READ)
+                .forLabel("lamp")
+                .setSubject(SUBJECTS.get(2), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/features/lamp/properties/on", READ, WRITE)
+                .setGrantedPermissions(THING, "/attributes/public/a", READ)
+                .setRevision(1L)
+                .build();
+    }
+
+    private static Policy revokes() {
+        return PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("all")
+                .setSubject(SUBJECTS.get(0), SubjectType.GENERATED)
+                .setSubject(SUBJECTS.get(1), SubjectType.GENERATED)
+                .setSubject(SUBJECTS.get(2), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", READ, WRITE)
+                .setRevokedPermissions(THING, "/attributes/secret", READ)
+                .setRevokedPermissions(THING, "/features/lamp/properties/config", WRITE)
+                .forLabel("regrant")
+                .setSubject(SUBJECTS.get(2), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/attributes/secret/nested", READ)
+                .setRevision(1L)
+                .build();
+    }
+
+    private static Policy subjectSpecificRevokes() {
+        return PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("readers")
+                .setSubject(SUBJECTS.get(0), SubjectType.GENERATED)
+                .setSubject(SUBJECTS.get(1), SubjectType.GENERATED)
+                .setSubject(SUBJECTS.get(2), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", READ)
+                .forLabel("no-secrets")
+                .setSubject(SUBJECTS.get(1), SubjectType.GENERATED)
+                .setRevokedPermissions(THING, "/attributes/secret", READ)
+                .setRevokedPermissions(THING, "/features/lamp", READ)
+                .forLabel("lamp-user")
+                .setSubject(SUBJECTS.get(1), SubjectType.GENERATED)
+                .setSubject(SUBJECTS.get(2), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/features/lamp/properties/on", READ, WRITE)
+                .forLabel("no-config")
+                .setSubject(SUBJECTS.get(2), SubjectType.GENERATED)
+                .setRevokedPermissions(THING, "/features/lamp/properties/config", READ, WRITE)
+                .setRevision(1L)
+                .build();
+    }
+
+    private static Policy policyAndMessageResources() {
+        return PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("admin")
+                .setSubject(SUBJECTS.get(0), SubjectType.GENERATED)
+                .setGrantedPermissions(POLICY, "/", READ, WRITE)
+                .setGrantedPermissions(THING, "/", READ, WRITE)
+                .setGrantedPermissions(MESSAGE, "/", READ, WRITE)
+                .forLabel("operator")
+                .setSubject(SUBJECTS.get(1), SubjectType.GENERATED)
+                .setGrantedPermissions(POLICY, "/entries/DEFAULT", READ)
+                .setGrantedPermissions(MESSAGE, "/inbox/messages/switch", WRITE)
+                .setGrantedPermissions(THING, "/features", READ)
+                .forLabel("restricted")
+                .setSubject(SUBJECTS.get(0), SubjectType.GENERATED)
+                .setSubject(SUBJECTS.get(2), SubjectType.GENERATED)
+                .setRevokedPermissions(MESSAGE, "/inbox", WRITE)
+                .setRevokedPermissions(POLICY, "/", WRITE)
+                .setGrantedPermissions(THING, "/attributes/public", READ)
+                .setRevision(1L)
+                .build();
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * Bounded cache of {@link ThingPredicateCompiler compiled} predicates of things by their RQL filter string.
+ * The least recently used predicate is evicted when the cache is full. Invalid filters are not cached.
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class ThingPredicateCache {
+
+    private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
+
+    @GuardedBy("this")
+    private final Map<String, Predicate<Thing>> predicates;
+
+    private ThingPredicateCache(final int maximumSize) {
+        queryFilterCriteriaFactory = QueryFilterCriteriaFactory.modelBased();
+        predicates = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -4426178311640853410L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Predicate<Thing>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns a new empty cache.
+     *
+     * @param maximumSize the maximum number of cached predicates.
+     * @return the cache.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    public static ThingPredicateCache newInstance(final int maximumSize) {
+        checkArgument(maximumSize, size -> size > 0, () -> "The maximum size must be positive!");
+        return new ThingPredicateCache(maximumSize);
+    }
+
+    /**
+     * Returns the compiled predicate of the given filter, parsing and compiling the filter if it is not cached.
+     *
+     * @param filter the RQL filter string.
+     * @param dittoHeaders the headers to report an invalid filter with.
+     * @return the predicate.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter is invalid.
+     */
+    public Predicate<Thing> getPredicate(final String filter, final DittoHeaders dittoHeaders) {
+        checkNotNull(filter, "filter");
+        checkNotNull(dittoHeaders, "dittoHeaders");
+        @Nullable Predicate<Thing> predicate;
+        synchronized (this) {
+            predicate = predicates.get(filter);
+        }
+        if (null == predicate) {
+            // parse outside the lock; concurrent misses of the same filter compile equal predicates
+            predicate = ThingPredicateCompiler.compile(queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders));
+            synchronized (this) {
+                predicates.put(filter, predicate);
+            }
+        }
+        return predicate;
+    }
+
+}
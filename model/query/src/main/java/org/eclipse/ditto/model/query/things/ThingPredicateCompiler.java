@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * Compiles {@link Criteria} into Java {@link Predicate}s of {@link Thing}s which evaluate to the same results as the
+ * predicates of {@link ThingPredicateVisitor}, but do the per-filter work only once:
+ * <ul>
+ *     <li>the JSON pointers of the fields are parsed at compile time and resolved directly in the attributes or
+ *     feature (desired) properties of the thing, evaluating to "field absent" as soon as the thing has no attributes
+ *     or no such feature;</li>
+ *     <li>the JSON representation of the whole thing is only created for other fields, at most once per
+ *     evaluation;</li>
+ *     <li>comparisons with string, long and boolean literals are specialized for the literal type, and regular
+ *     expressions of {@code like} are compiled once.</li>
+ * </ul>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class ThingPredicateCompiler {
+
+    private ThingPredicateCompiler() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compiles the given criteria into a predicate of things.
+     *
+     * @param criteria the criteria.
+     * @return the predicate; it is thread-safe and may be evaluated any number of times.
+     */
+    public static Predicate<Thing> compile(final Criteria criteria) {
+        final Predicate<Evaluation> compiledCriteria = criteria.accept(CompilingCriteriaVisitor.INSTANCE);
+        return thing -> compiledCriteria.test(new Evaluation(thing));
+    }
+
+    /**
+     * The thing under evaluation together with its lazily created JSON representation.
+     */
+    private static final class Evaluation {
+
+        private final Thing thing;
+        @Nullable private JsonObject thingJson;
+
+        private Evaluation(final Thing thing) {
+            this.thing = thing;
+        }
+
+        private JsonObject getThingJson() {
+            if (null == thingJson) {
+                thingJson = thing.toJson(field -> true);
+            }
+            return thingJson;
+        }
+
+    }
+
+    /**
+     * Resolves the value of a field in the thing under evaluation.
+     */
+    @FunctionalInterface
+    private interface FieldAccessor {
+
+        /**
+         * @param evaluation the evaluation.
+         * @return the value of the field or {@code null} if the thing does not have the field.
+         */
+        @Nullable
+        JsonValue get(Evaluation evaluation);
+
+    }
+
+    /**
+     * Tests the value of a field; knows the result for an absent field.
+     */
+    @Immutable
+    private static final class ValueMatcher {
+
+        @Nullable private final Predicate<JsonValue> presentValuePredicate;
+        private final boolean resultForAbsentValue;
+
+        private ValueMatcher(@Nullable final Predicate<JsonValue> presentValuePredicate,
+                final boolean resultForAbsentValue) {
+
+            this.presentValuePredicate = presentValuePredicate;
+            this.resultForAbsentValue = resultForAbsentValue;
+        }
+
+        private static ValueMatcher ifPresent(final Predicate<JsonValue> presentValuePredicate) {
+            return new ValueMatcher(presentValuePredicate, false);
+        }
+
+        /**
+         * Returns a matcher which throws a {@code NullPointerException} for every value, present or absent, as the
+         * predicates of {@link ThingPredicatePredicateVisitor} do for {@code eq} and {@code ne} with a {@code null}
+         * literal.
+         *
+         * @return the matcher.
+         */
+        private static ValueMatcher rejectingNullLiteral() {
+            return new ValueMatcher(null, false);
+        }
+
+        private boolean test(@Nullable final JsonValue value) {
+            if (null == presentValuePredicate) {
+                throw new NullPointerException("The value to compare with must not be null!");
+            }
+            return null == value ? resultForAbsentValue : presentValuePredicate.test(value);
+        }
+
+    }
+
+    private static final class CompilingCriteriaVisitor implements CriteriaVisitor<Predicate<Evaluation>> {
+
+        private static final CompilingCriteriaVisitor INSTANCE = new CompilingCriteriaVisitor();
+
+        @Override
+        public Predicate<Evaluation> visitAnd(final List<Predicate<Evaluation>> conjuncts) {
+            @SuppressWarnings("unchecked") final Predicate<Evaluation>[] predicates =
+                    conjuncts.toArray(new Predicate[0]);
+            return evaluation -> {
+                for (final Predicate<Evaluation> predicate : predicates) {
+                    if (!predicate.test(evaluation)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        public Predicate<Evaluation> visitAnd(final Stream<Predicate<Evaluation>> conjuncts) {
+            return visitAnd(conjuncts.collect(Collectors.toList()));
+        }
+
+        @Override
+        public Predicate<Evaluation> visitAny() {
+            return evaluation -> true;
+        }
+
+        @Override
+        public Predicate<Evaluation> visitExists(final ExistsFieldExpression fieldExpression) {
+            // the exists predicates access the thing directly already
+            final Predicate<Thing> existsPredicate = ExistsThingPredicateVisitor.apply(fieldExpression);
+            return evaluation -> existsPredicate.test(evaluation.thing);
+        }
+
+        @Override
+        public Predicate<Evaluation> visitField(final FilterFieldExpression fieldExpression,
+                final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+
+            final FieldAccessor fieldAccessor = fieldExpression.acceptFilterVisitor(FieldAccessorVisitor.INSTANCE);
+            final ValueMatcher valueMatcher = predicate.accept(ValueMatcherVisitor.INSTANCE);
+            return evaluation -> valueMatcher.test(fieldAccessor.get(evaluation));
+        }
+
+        @Override
+        public Predicate<Evaluation> visitNor(final List<Predicate<Evaluation>> negativeDisjoints) {
+            final Predicate<Evaluation> or = visitOr(negativeDisjoints);
+            return evaluation -> !or.test(evaluation);
+        }
+
+        @Override
+        public Predicate<Evaluation> visitNor(final Stream<Predicate<Evaluation>> negativeDisjoints) {
+            return visitNor(negativeDisjoints.collect(Collectors.toList()));
+        }
+
+        @Override
+        public Predicate<Evaluation> visitOr(final List<Predicate<Evaluation>> disjoints) {
+            @SuppressWarnings("unchecked") final Predicate<Evaluation>[] predicates =
+                    disjoints.toArray(new Predicate[0]);
+            return evaluation -> {
+                for (final Predicate<Evaluation> predicate : predicates) {
+                    if (predicate.test(evaluation)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        @Override
+        public Predicate<Evaluation> visitOr(final Stream<Predicate<Evaluation>> disjoints) {
+            return visitOr(disjoints.collect(Collectors.toList()));
+        }
+
+    }
+
+    /**
+     * Creates accessors for the same fields as {@link FilterThingPredicateVisitor}.
+     */
+    private static final class FieldAccessorVisitor implements FilterFieldExpressionVisitor<FieldAccessor> {
+
+        private static final FieldAccessorVisitor INSTANCE = new FieldAccessorVisitor();
+
+        @Override
+        public FieldAccessor visitAttribute(final String key) {
+            final JsonPointer pointer = JsonPointer.of(key);
+            return evaluation -> evaluation.thing.getAttributes()
+                    .flatMap(attributes -> attributes.getValue(pointer))
+                    .orElse(null);
+        }
+
+        @Override
+        public FieldAccessor visitFeatureIdProperty(final String featureId, final String property) {
+            final JsonPointer pointer = JsonPointer.of(property);
+            return evaluation -> evaluation.thing.getFeatures()
+                    .flatMap(features -> features.getFeature(featureId))
+                    .flatMap(Feature::getProperties)
+                    .flatMap(properties -> properties.getValue(pointer))
+                    .orElse(null);
+        }
+
+        @Override
+        public FieldAccessor visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+
+            final String featureIdString = featureId.toString();
+            final JsonPointer pointer = JsonPointer.of(desiredProperty);
+            return evaluation -> evaluation.thing.getFeatures()
+                    .flatMap(features -> features.getFeature(featureIdString))
+                    .flatMap(Feature::getDesiredProperties)
+                    .flatMap(desiredProperties -> desiredProperties.getValue(pointer))
+                    .orElse(null);
+        }
+
+        @Override
+        public FieldAccessor visitSimple(final String fieldName) {
+            final JsonPointer pointer = JsonPointer.of(fieldName);
+            return evaluation -> evaluation.getThingJson().getValue(pointer).orElse(null);
+        }
+
+    }
+
+    /**
+     * Creates value matchers with the same results as the predicates of {@link ThingPredicatePredicateVisitor}.
+     */
+    private static final class ValueMatcherVisitor implements PredicateVisitor<ValueMatcher> {
+
+        private static final ValueMatcherVisitor INSTANCE = new ValueMatcherVisitor();
+
+        @Override
+        public ValueMatcher visitEq(@Nullable final Object value) {
+            if (null == value) {
+                return ValueMatcher.rejectingNullLiteral();
+            }
+            return ValueMatcher.ifPresent(equalTo(value));
+        }
+
+        @Override
+        public ValueMatcher visitNe(@Nullable final Object value) {
+            if (null == value) {
+                return ValueMatcher.rejectingNullLiteral();
+            }
+            return new ValueMatcher(equalTo(value).negate(), true);
+        }
+
+        @Override
+        public ValueMatcher visitGe(@Nullable final Object value) {
+            return ValueMatcher.ifPresent(comparingTo(value, comparison -> comparison >= 0));
+        }
+
+        @Override
+        public ValueMatcher visitGt(@Nullable final Object value) {
+            return ValueMatcher.ifPresent(comparingTo(value, comparison -> comparison > 0));
+        }
+
+        @Override
+        public ValueMatcher visitLe(@Nullable final Object value) {
+            return ValueMatcher.ifPresent(comparingTo(value, comparison -> comparison <= 0));
+        }
+
+        @Override
+        public ValueMatcher visitLt(@Nullable final Object value) {
+            return ValueMatcher.ifPresent(comparingTo(value, comparison -> comparison < 0));
+        }
+
+        @Override
+        public ValueMatcher visitIn(final List<?> values) {
+            final Set<?> valueSet = new HashSet<>(values);
+            return ValueMatcher.ifPresent(jsonValue -> {
+                // JSON null, arrays and objects are mapped to null and never match, even if the values contain null
+                @Nullable final Object javaValue = ThingPredicatePredicateVisitor.mapJsonValueToJava(jsonValue);
+                return null != javaValue && valueSet.contains(javaValue);
+            });
+        }
+
+        @Override
+        public ValueMatcher visitLike(final String value) {
+            final Pattern pattern = Pattern.compile(value);
+            return ValueMatcher.ifPresent(jsonValue ->
+                    jsonValue.isString() && pattern.matcher(jsonValue.asString()).matches());
+        }
+
+        private static Predicate<JsonValue> equalTo(final Object value) {
+            if (value instanceof String) {
+                final String stringValue = (String) value;
+                return jsonValue -> jsonValue.isString() && stringValue.equals(jsonValue.asString());
+            } else if (value instanceof Long) {
+                final long longValue = (Long) value;
+                return jsonValue -> jsonValue.isLong() && longValue == jsonValue.asLong();
+            } else if (value instanceof Boolean) {
+                final boolean booleanValue = (Boolean) value;
+                return jsonValue -> jsonValue.isBoolean() && booleanValue == jsonValue.asBoolean();
+            } else {
+                return jsonValue -> value.equals(ThingPredicatePredicateVisitor.mapJsonValueToJava(jsonValue));
+            }
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static Predicate<JsonValue> comparingTo(@Nullable final Object value,
+                final IntPredicate comparisonPredicate) {
+
+            if (!(value instanceof Comparable)) {
+                return jsonValue -> false;
+            }
+            final Comparable comparableValue = (Comparable) value;
+            final Predicate<JsonValue> genericComparison = jsonValue -> {
+                @Nullable final Object javaValue = ThingPredicatePredicateVisitor.mapJsonValueToJava(jsonValue);
+                return javaValue instanceof Comparable && comparisonPredicate.test(
+                        ThingPredicatePredicateVisitor.compare(comparableValue, (Comparable) javaValue));
+            };
+            if (value instanceof Long) {
+                final long longValue = (Long) value;
+                return jsonValue -> jsonValue.isLong()
+                        ? comparisonPredicate.test(Long.compare(jsonValue.asLong(), longValue))
+                        : genericComparison.test(jsonValue);
+            } else if (value instanceof String) {
+                final String stringValue = (String) value;
+                return jsonValue -> jsonValue.isString()
+                        ? comparisonPredicate.test(jsonValue.asString().compareTo(stringValue))
+                        : genericComparison.test(jsonValue);
+            } else {
+                return genericComparison;
+            }
+        }
+
+    }
+
+}
@@ -19,6 +19,8 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
@@ -122,7 +124,7 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
                         .isPresent();
     }
 
-    private static int compare(final Comparable value, final Comparable obj) {
+    static int compare(final Comparable value, final Comparable obj) {
         final Comparable comparableObj = asNumber(obj);
         final Comparable comparableValue = asNumber(value);
         // best effort try to convert both values to a BigDecimal in order to compare them:
@@ -178,7 +180,8 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
         return thing.toJson(p -> true).getValue(fieldName);
     }
 
-    private static Object mapJsonValueToJava(final JsonValue jsonValue) {
+    @Nullable
+    static Object mapJsonValueToJava(final JsonValue jsonValue) {
         final Object result;
 
         if (jsonValue.isString()) {
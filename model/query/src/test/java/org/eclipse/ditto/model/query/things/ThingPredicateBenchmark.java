@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the evaluation of an RQL filter by the predicates of {@link ThingPredicateVisitor} against the predicates
+ * of {@link ThingPredicateCompiler} for a Thing, with and without the filtered attributes.
+ */
+@State(Scope.Benchmark)
+public class ThingPredicateBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final Thing THING = ThingsModelFactory.newThing("{" +
+            "\"thingId\":\"org.eclipse.ditto:smart-coffee-1\"," +
+            "\"policyId\":\"org.eclipse.ditto:smart-coffee-1\"," +
+            "\"definition\":\"org.eclipse.ditto:coffeebrewer:0.1.0\"," +
+            "\"attributes\":{" +
+            "\"manufacturer\":\"ACME demo corp.\"," +
+            "\"location\":{\"latitude\":44.673856,\"longitude\":8.261719,\"address\":\"Müllerstraße 42\"}," +
+            "\"serialno\":\"42\",\"model\":\"Speaking coffee machine\",\"installedAt\":1611830400000" +
+            "}," +
+            "\"features\":{" +
+            "\"coffee-brewer\":{\"definition\":[\"org.eclipse.ditto:coffeebrewer:0.1.0\"]," +
+            "\"properties\":{\"brewed-coffees\":4711,\"temperature\":92.5,\"on\":true,\"lastError\":null}}," +
+            "\"water-tank\":{\"properties\":{\"configuration\":{\"smartMode\":true,\"brewingTemp\":87," +
+            "\"tempOffset\":-4,\"threshold\":{\"min\":50,\"max\":450}},\"status\":{\"waterAmount\":731," +
+            "\"temperature\":44.2,\"history\":[731,740,755,770,783,801,812,830]}}}" +
+            "}," +
+            "\"_revision\":1337,\"_modified\":\"2021-01-28T12:00:00.000Z\"" +
+            "}");
+
+    private static final Thing THING_WITHOUT_ATTRIBUTES = THING.removeAttributes();
+
+    private static final String FILTER = "and(" +
+            "eq(attributes/manufacturer,\"ACME demo corp.\")," +
+            "like(attributes/model,\"Speaking*\")," +
+            "gt(features/coffee-brewer/properties/brewed-coffees,1000)," +
+            "in(features/water-tank/properties/configuration/brewingTemp,85,86,87)" +
+            ")";
+
+    private static final Criteria CRITERIA =
+            QueryFilterCriteriaFactory.modelBased().filterCriteria(FILTER, DittoHeaders.empty());
+
+    private static final Predicate<Thing> VISITOR_PREDICATE = ThingPredicateVisitor.apply(CRITERIA);
+    private static final Predicate<Thing> COMPILED_PREDICATE = ThingPredicateCompiler.compile(CRITERIA);
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean visitor_matchingThing() {
+        return VISITOR_PREDICATE.test(THING);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean compiled_matchingThing() {
+        return COMPILED_PREDICATE.test(THING);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean visitor_thingWithoutAttributes() {
+        return VISITOR_PREDICATE.test(THING_WITHOUT_ATTRIBUTES);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean compiled_thingWithoutAttributes() {
+        return COMPILED_PREDICATE.test(THING_WITHOUT_ATTRIBUTES);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean visitor_parseAndEvaluate() {
+        return ThingPredicateVisitor.apply(
+                QueryFilterCriteriaFactory.modelBased().filterCriteria(FILTER, DittoHeaders.empty())).test(THING);
+    }
+
+}
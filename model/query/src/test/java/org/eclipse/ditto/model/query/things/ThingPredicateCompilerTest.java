@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingPredicateCompiler} and {@link ThingPredicateCache}.
+ */
+public final class ThingPredicateCompilerTest {
+
+    private static final List<Thing> THINGS = List.of(
+            ThingsModelFactory.newThing("{\"thingId\":\"org.eclipse.ditto:coffee-1\"," +
+                    "\"policyId\":\"org.eclipse.ditto:coffee-1\"," +
+                    "\"attributes\":{\"manufacturer\":\"ACME\",\"serialno\":\"42\",\"installedAt\":1611830400000," +
+                    "\"location\":{\"latitude\":44.673856,\"longitude\":8.261719},\"active\":true,\"count\":42}," +
+                    "\"features\":{\"brewer\":{\"properties\":{\"brewed\":4711,\"temperature\":92.5,\"on\":true," +
+                    "\"lastError\":null,\"mode\":\"espresso\"},\"desiredProperties\":{\"temperature\":90}}}," +
+                    "\"_revision\":1337}"),
+            ThingsModelFactory.newThing("{\"thingId\":\"org.eclipse.ditto:coffee-2\"," +
+                    "\"attributes\":{\"manufacturer\":\"Other\",\"serialno\":17,\"count\":42.0," +
+                    "\"location\":\"unknown\",\"active\":\"true\"}," +
+                    "\"features\":{\"brewer\":{\"properties\":{\"brewed\":\"4711\",\"temperature\":88," +
+                    "\"mode\":[\"espresso\"]}}}}"),
+            ThingsModelFactory.newThing("{\"thingId\":\"org.eclipse.ditto:coffee-3\"}")
+    );
+
+    private static final List<String> FILTERS = List.of(
+            "eq(attributes/manufacturer,\"ACME\")",
+            "ne(attributes/manufacturer,\"ACME\")",
+            "eq(attributes/count,42)",
+            "eq(attributes/count,42.0)",
+            "eq(attributes/active,true)",
+            "eq(attributes/serialno,\"42\")",
+            "eq(attributes/location/latitude,44.673856)",
+            "gt(attributes/installedAt,1600000000000)",
+            "ge(attributes/serialno,17)",
+            "lt(attributes/serialno,\"5\")",
+            "le(attributes/manufacturer,\"B\")",
+            "gt(features/brewer/properties/temperature,90)",
+            "lt(features/brewer/properties/temperature,90.0)",
+            "ge(features/brewer/properties/brewed,\"4711\")",
+            "le(features/brewer/desiredProperties/temperature,90)",
+            "in(features/brewer/properties/mode,\"espresso\",\"lungo\")",
+            "in(attributes/count,41,42,43)",
+            "in(features/brewer/properties/lastError,null,\"espresso\")",
+            "in(features/brewer/properties/mode,null)",
+            "in(attributes/location,null,\"unknown\")",
+            "in(attributes/foo,null)",
+            "like(attributes/manufacturer,\"AC*\")",
+            "like(features/brewer/properties/mode,\"esp*\")",
+            "exists(attributes/location)",
+            "exists(features/brewer/desiredProperties)",
+            "eq(thingId,\"org.eclipse.ditto:coffee-2\")",
+            "gt(_revision,1000)",
+            "and(eq(attributes/manufacturer,\"ACME\"),gt(features/brewer/properties/brewed,4000))",
+            "or(eq(attributes/manufacturer,\"Other\"),exists(features/brewer/desiredProperties))",
+            "not(eq(attributes/manufacturer,\"ACME\"))",
+            "not(or(eq(attributes/count,42),exists(attributes/foo)))"
+    );
+
+    @Test
+    public void compiledPredicatesEvaluateLikeVisitorPredicates() {
+        final SoftAssertions softly = new SoftAssertions();
+        for (final String filter : FILTERS) {
+            final Criteria criteria = QueryFilterCriteriaFactory.modelBased().filterCriteria(filter,
+                    DittoHeaders.empty());
+            final Predicate<Thing> expected = ThingPredicateVisitor.apply(criteria);
+            final Predicate<Thing> compiled = ThingPredicateCompiler.compile(criteria);
+            for (final Thing thing : THINGS) {
+                softly.assertThat(compiled.test(thing))
+                        .describedAs("%s on %s", filter, thing.getEntityId().orElseThrow())
+                        .isEqualTo(expected.test(thing));
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    public void compiledPredicatesWithNullLiteralFailLikeVisitorPredicates() {
+        final List<String> filters = List.of(
+                "eq(features/brewer/properties/lastError,null)",
+                "ne(features/brewer/properties/lastError,null)",
+                "eq(attributes/foo,null)",
+                "not(ne(attributes/manufacturer,null))"
+        );
+        final SoftAssertions softly = new SoftAssertions();
+        for (final String filter : filters) {
+            final Criteria criteria = QueryFilterCriteriaFactory.modelBased().filterCriteria(filter,
+                    DittoHeaders.empty());
+            final Predicate<Thing> expected = ThingPredicateVisitor.apply(criteria);
+            final Predicate<Thing> compiled = ThingPredicateCompiler.compile(criteria);
+            for (final Thing thing : THINGS) {
+                softly.assertThatThrownBy(() -> expected.test(thing))
+                        .describedAs("visitor: %s on %s", filter, thing.getEntityId().orElseThrow())
+                        .isInstanceOf(NullPointerException.class);
+                softly.assertThatThrownBy(() -> compiled.test(thing))
+                        .describedAs("compiled: %s on %s", filter, thing.getEntityId().orElseThrow())
+                        .isInstanceOf(NullPointerException.class);
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    public void cacheReturnsSamePredicateForSameFilter() {
+        final ThingPredicateCache underTest = ThingPredicateCache.newInstance(2);
+        final Predicate<Thing> predicate = underTest.getPredicate(FILTERS.get(0), DittoHeaders.empty());
+
+        assertThat(underTest.getPredicate(FILTERS.get(0), DittoHeaders.empty())).isSameAs(predicate);
+        assertThat(predicate.test(THINGS.get(0))).isTrue();
+        assertThat(predicate.test(THINGS.get(1))).isFalse();
+    }
+
+    @Test
+    public void cacheEvictsLeastRecentlyUsedPredicate() {
+        final ThingPredicateCache underTest = ThingPredicateCache.newInstance(2);
+        final Predicate<Thing> first = underTest.getPredicate(FILTERS.get(0), DittoHeaders.empty());
+        final Predicate<Thing> second = underTest.getPredicate(FILTERS.get(1), DittoHeaders.empty());
+        underTest.getPredicate(FILTERS.get(0), DittoHeaders.empty());
+        underTest.getPredicate(FILTERS.get(2), DittoHeaders.empty());
+
+        assertThat(underTest.getPredicate(FILTERS.get(0), DittoHeaders.empty())).isSameAs(first);
+        assertThat(underTest.getPredicate(FILTERS.get(1), DittoHeaders.empty())).isNotSameAs(second);
+    }
+
+    @Test
+    public void cacheRejectsInvalidFilter() {
+        final ThingPredicateCache underTest = ThingPredicateCache.newInstance(2);
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> underTest.getPredicate("eq(attributes/foo", DittoHeaders.empty()));
+    }
+
+}
@@ -116,25 +116,15 @@ public abstract class AbstractAdapter<T extends Jsonifiable.WithPredicate<JsonOb
     }
 
     /**
-     * Add to headers any information that will be missing from topic path.
+     * Add to headers any information that will be missing from topic path. Currently the entity ID and the "channel"
+     * are the only relevant headers.
      *
      * @param filteredHeaders headers read from external headers.
      * @param topicPath topic path of an adaptable.
      * @return filteredHeaders with extra information from topicPath.
      */
     private static DittoHeaders addTopicPathInfo(final DittoHeaders filteredHeaders, final TopicPath topicPath) {
-        final DittoHeaders extraInfo = mapTopicPathToHeaders(topicPath);
-        return extraInfo.isEmpty() ? filteredHeaders : filteredHeaders.toBuilder().putHeaders(extraInfo).build();
-    }
-
-    /**
-     * Add any extra information in topic path as Ditto headers. Currently "channel" is the only relevant header.
-     *
-     * @param topicPath the topic path to extract information from.
-     * @return headers containing extra information from topic path.
-     */
-    private static DittoHeaders mapTopicPathToHeaders(final TopicPath topicPath) {
-        final DittoHeadersBuilder<?, ?> headersBuilder = DittoHeaders.newBuilder();
+        final DittoHeadersBuilder<?, ?> headersBuilder = filteredHeaders.toBuilder();
         if (topicPath.getNamespace() != null && topicPath.getId() != null) {
             // add entity ID for known topic-paths for error reporting.
             headersBuilder.putHeader(DittoHeaderDefinition.ENTITY_ID.getKey(),
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link HeaderEntryFilter} which was precompiled for a set of header definitions: the filter to apply to a header
+ * entry is looked up by the entry's key instead of evaluating a chain of filters each of which looks up the
+ * header definition of the key again.
+ * <p>
+ * The keys of the table are expected to be lower-case, just like the keys passed to {@link #apply(String, String)}.
+ * </p>
+ */
+@Immutable
+final class HeaderEntryFilterTable implements HeaderEntryFilter {
+
+    /**
+     * Filter which keeps every header entry as it is.
+     */
+    static final HeaderEntryFilter KEEP = (key, value) -> value;
+
+    /**
+     * Filter which filters out every header entry.
+     */
+    static final HeaderEntryFilter DISCARD = (key, value) -> null;
+
+    private final Map<String, HeaderEntryFilter> filtersByKey;
+    private final HeaderEntryFilter defaultFilter;
+
+    private HeaderEntryFilterTable(final Map<String, HeaderEntryFilter> filtersByKey,
+            final HeaderEntryFilter defaultFilter) {
+
+        this.filtersByKey = Collections.unmodifiableMap(new HashMap<>(filtersByKey));
+        this.defaultFilter = defaultFilter;
+    }
+
+    /**
+     * Returns a new table of header entry filters.
+     *
+     * @param filtersByKey the filters to apply to the header entries with the respective key.
+     * @param defaultFilter the filter to apply to header entries whose key is not contained in {@code filtersByKey}.
+     * @return the table.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static HeaderEntryFilterTable of(final Map<String, HeaderEntryFilter> filtersByKey,
+            final HeaderEntryFilter defaultFilter) {
+
+        checkNotNull(filtersByKey, "filtersByKey");
+        checkNotNull(defaultFilter, "defaultFilter");
+        return new HeaderEntryFilterTable(filtersByKey, defaultFilter);
+    }
+
+    /**
+     * Returns the filter which is applied to header entries with the given key.
+     *
+     * @param key the lower-case header key.
+     * @return the filter.
+     */
+    HeaderEntryFilter getFilter(final String key) {
+        return filtersByKey.getOrDefault(key, defaultFilter);
+    }
+
+    @Nullable
+    @Override
+    public String apply(final String key, @Nullable final String value) {
+        if (null == value) {
+            return null;
+        }
+        return getFilter(key).apply(key, value);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "keys=" + filtersByKey.keySet() +
+                "]";
+    }
+
+}
@@ -12,14 +12,23 @@
  */
 package org.eclipse.ditto.protocoladapter;
 
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
 import java.util.Map;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.HeaderDefinition;
 
 /**
  * This factory provides various {@link HeaderEntryFilter}s both atomic ones and composed ones.
+ * <p>
+ * The composed filters are precompiled into a {@link HeaderEntryFilterTable} for the given header definitions, so that
+ * filtering a header entry costs a single lookup. Callers should create them once per set of header definitions.
+ * </p>
  */
 @Immutable
 final class HeaderEntryFilters {
@@ -41,30 +50,29 @@ final class HeaderEntryFilters {
      * entry will be filtered or adjusted accordingly.
      * @return the created HeaderEntryFilter.
      * @throws NullPointerException if {@code headerDefinitionMap} is {@code null}.
-     * @see CheckExternalFilter#shouldWriteToExternal(Map)
+     * @see HeaderDefinition#shouldWriteToExternalHeaders()
      * @see DittoAckRequestsFilter#getInstance()
      */
     static HeaderEntryFilter toExternalHeadersFilter(final Map<String, HeaderDefinition> headerDefinitionMap) {
-        final HeaderEntryFilter headerEntryFilter = shouldWriteToExternal(headerDefinitionMap);
-        if (headerDefinitionMap.isEmpty()) {
-            return headerEntryFilter;
-        } else {
-            // only discard Ditto ack request if any headerDefinitions were set - e.g. that is case for the Ditto backend
-            //  the Ditto client should not discard ack requests
-            return headerEntryFilter.andThen(discardDittoAckRequests());
-        }
+        return toExternalHeadersFilterTable(headerDefinitionMap);
     }
 
-    private static HeaderEntryFilter shouldWriteToExternal(final Map<String, HeaderDefinition> headerDefinitions) {
-        return CheckExternalFilter.shouldWriteToExternal(headerDefinitions);
-    }
+    private static HeaderEntryFilterTable toExternalHeadersFilterTable(
+            final Map<String, HeaderDefinition> headerDefinitionMap) {
 
-    private static HeaderEntryFilter readJsonArraysFromHeaders(final Map<String, HeaderDefinition> headerDefinitions) {
-        return ReadJsonArrayHeadersFilter.getInstance(headerDefinitions);
-    }
-
-    private static HeaderEntryFilter discardDittoAckRequests() {
-        return DittoAckRequestsFilter.getInstance();
+        checkNotNull(headerDefinitionMap, "headerDefinitionMap");
+        final Map<String, HeaderEntryFilter> filtersByKey = new HashMap<>();
+        if (!headerDefinitionMap.isEmpty()) {
+            // only discard Ditto ack request if any headerDefinitions were set - e.g. that is case for the Ditto backend
+            //  the Ditto client should not discard ack requests
+            filtersByKey.put(DittoHeaderDefinition.REQUESTED_ACKS.getKey(), DittoAckRequestsFilter.getInstance());
+        }
+        headerDefinitionMap.forEach((key, headerDefinition) -> {
+            if (!headerDefinition.shouldWriteToExternalHeaders()) {
+                filtersByKey.put(key, HeaderEntryFilterTable.DISCARD);
+            }
+        });
+        return HeaderEntryFilterTable.of(filtersByKey, HeaderEntryFilterTable.KEEP);
     }
 
     /**
@@ -78,8 +86,17 @@ final class HeaderEntryFilters {
      * @see HeaderDefinition#shouldReadFromExternalHeaders()
      */
     static HeaderEntryFilter fromExternalHeadersFilter(final Map<String, HeaderDefinition> headerDefinitionMap) {
-        return CheckExternalFilter.shouldReadFromExternal(headerDefinitionMap)
-                .andThen(readJsonArraysFromHeaders(headerDefinitionMap));
+        checkNotNull(headerDefinitionMap, "headerDefinitionMap");
+        final HeaderEntryFilter readJsonArrayFilter = ReadJsonArrayHeadersFilter.getInstance(headerDefinitionMap);
+        final Map<String, HeaderEntryFilter> filtersByKey = new HashMap<>();
+        headerDefinitionMap.forEach((key, headerDefinition) -> {
+            if (!headerDefinition.shouldReadFromExternalHeaders()) {
+                filtersByKey.put(key, HeaderEntryFilterTable.DISCARD);
+            } else if (JsonArray.class.equals(headerDefinition.getSerializationType())) {
+                filtersByKey.put(key, readJsonArrayFilter);
+            }
+        });
+        return HeaderEntryFilterTable.of(filtersByKey, HeaderEntryFilterTable.KEEP);
     }
 
     /**
@@ -93,7 +110,10 @@ final class HeaderEntryFilters {
      * @since 1.1.0
      */
     static HeaderEntryFilter existsAsHeaderDefinition(final Map<String, HeaderDefinition> headerDefinitionMap) {
-        return CheckExternalFilter.existsAsHeaderDefinition(headerDefinitionMap);
+        checkNotNull(headerDefinitionMap, "headerDefinitionMap");
+        final Map<String, HeaderEntryFilter> filtersByKey = new HashMap<>();
+        headerDefinitionMap.keySet().forEach(key -> filtersByKey.put(key, HeaderEntryFilterTable.KEEP));
+        return HeaderEntryFilterTable.of(filtersByKey, HeaderEntryFilterTable.DISCARD);
     }
 
     /**
@@ -111,9 +131,14 @@ final class HeaderEntryFilters {
      * @throws NullPointerException if {@code headerDefinitionMap} is {@code null}.
      * @since 1.1.0
      */
-    static HeaderEntryFilter existsAsHeaderDefinitionAndExternal(final Map<String, HeaderDefinition> headerDefinitionMap) {
-        return existsAsHeaderDefinition(headerDefinitionMap)
-                .andThen(toExternalHeadersFilter(headerDefinitionMap));
+    static HeaderEntryFilter existsAsHeaderDefinitionAndExternal(
+            final Map<String, HeaderDefinition> headerDefinitionMap) {
+
+        final HeaderEntryFilterTable toExternalHeadersFilter = toExternalHeadersFilterTable(headerDefinitionMap);
+        final Map<String, HeaderEntryFilter> filtersByKey = new HashMap<>();
+        headerDefinitionMap.keySet()
+                .forEach(key -> filtersByKey.put(key, toExternalHeadersFilter.getFilter(key)));
+        return HeaderEntryFilterTable.of(filtersByKey, HeaderEntryFilterTable.DISCARD);
     }
 
 }
@@ -41,8 +41,19 @@ public final class HeaderTranslator {
 
     private final Map<String, HeaderDefinition> headerDefinitions;
 
+    // the filters are precompiled once per set of header definitions as they are applied to every translated message
+    private final HeaderEntryFilter fromExternalHeadersFilter;
+    private final HeaderEntryFilter toExternalHeadersFilter;
+    private final HeaderEntryFilter retainKnownHeadersFilter;
+    private final HeaderEntryFilter toExternalAndRetainKnownHeadersFilter;
+
     private HeaderTranslator(final Map<String, HeaderDefinition> headerDefinitionMap) {
         headerDefinitions = Collections.unmodifiableMap(headerDefinitionMap);
+        fromExternalHeadersFilter = HeaderEntryFilters.fromExternalHeadersFilter(headerDefinitions);
+        toExternalHeadersFilter = HeaderEntryFilters.toExternalHeadersFilter(headerDefinitions);
+        retainKnownHeadersFilter = HeaderEntryFilters.existsAsHeaderDefinition(headerDefinitions);
+        toExternalAndRetainKnownHeadersFilter =
+                HeaderEntryFilters.existsAsHeaderDefinitionAndExternal(headerDefinitions);
     }
 
     /**
@@ -86,8 +97,7 @@ public final class HeaderTranslator {
      */
     public Map<String, String> fromExternalHeaders(final Map<String, String> externalHeaders) {
         checkNotNull(externalHeaders, "externalHeaders");
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters.fromExternalHeadersFilter(headerDefinitions);
-        return filterHeaders(externalHeaders, headerEntryFilter);
+        return filterHeaders(externalHeaders, fromExternalHeadersFilter);
     }
 
     /**
@@ -99,8 +109,7 @@ public final class HeaderTranslator {
      */
     public Map<String, String> toExternalHeaders(final DittoHeaders dittoHeaders) {
         checkNotNull(dittoHeaders, "dittoHeaders");
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters.toExternalHeadersFilter(headerDefinitions);
-        return filterHeadersMap(dittoHeaders.asCaseSensitiveMap(), headerEntryFilter);
+        return filterHeadersMap(dittoHeaders.asCaseSensitiveMap(), toExternalHeadersFilter);
     }
 
     /**
@@ -114,8 +123,7 @@ public final class HeaderTranslator {
      */
     public Map<String, String> retainKnownHeaders(final Map<String, String> externalHeaders) {
         checkNotNull(externalHeaders, "externalHeaders");
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters.existsAsHeaderDefinition(headerDefinitions);
-        return filterHeaders(externalHeaders, headerEntryFilter);
+        return filterHeaders(externalHeaders, retainKnownHeadersFilter);
     }
 
     /**
@@ -132,9 +140,7 @@ public final class HeaderTranslator {
         if (headerDefinitions.isEmpty()) {
             return dittoHeaders;
         }
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters
-                .existsAsHeaderDefinitionAndExternal(headerDefinitions);
-        return filterHeaders(dittoHeaders, headerEntryFilter);
+        return filterHeaders(dittoHeaders, toExternalAndRetainKnownHeadersFilter);
     }
 
     /**
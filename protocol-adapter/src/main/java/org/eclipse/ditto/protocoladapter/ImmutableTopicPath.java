@@ -15,7 +15,6 @@ package org.eclipse.ditto.protocoladapter;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
-import java.text.MessageFormat;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -47,6 +46,13 @@ final class ImmutableTopicPath implements TopicPath {
     private ImmutableTopicPath(final String namespace, final String name, final Group group,
             @Nullable final Channel channel, final Criterion criterion, @Nullable final Action action, @Nullable final SearchAction searchAction,
             @Nullable final String subject) {
+
+        this(namespace, name, group, channel, criterion, action, searchAction, subject, null);
+    }
+
+    private ImmutableTopicPath(final String namespace, final String name, final Group group,
+            @Nullable final Channel channel, final Criterion criterion, @Nullable final Action action,
+            @Nullable final SearchAction searchAction, @Nullable final String subject, @Nullable final String path) {
         this.namespace = checkNotNull(namespace, PROP_NAME_NAMESPACE);
         this.name = checkNotNull(name, PROP_NAME_ID);
         this.group = checkNotNull(group, PROP_NAME_GROUP);
@@ -55,7 +61,7 @@ final class ImmutableTopicPath implements TopicPath {
         this.action = action;
         this.searchAction = searchAction;
         this.subject = subject;
-        this.path = buildPath();
+        this.path = null != path ? path : buildPath();
     }
 
     private Channel checkChannelArgument(final Channel channel, final Group group) {
@@ -145,6 +151,31 @@ final class ImmutableTopicPath implements TopicPath {
         return new ImmutableTopicPath(namespace, entityName, group, channel, criterion, null, searchAction, null);
     }
 
+    /**
+     * Returns a new ImmutableTopicPath for a parsed path which is known to be the canonical string representation of
+     * the other arguments, so that it does not have to be built again.
+     *
+     * @param path the parsed path.
+     * @param namespace the namespace.
+     * @param entityName the entityName.
+     * @param group the group.
+     * @param channel the channel.
+     * @param criterion the criterion.
+     * @param action the action or {@code null}.
+     * @param searchAction the search action or {@code null}.
+     * @param subject the subject or {@code null}.
+     * @return the TopicPath.
+     * @throws NullPointerException if any non-nullable argument is {@code null}.
+     */
+    static ImmutableTopicPath ofParsedPath(final String path, final String namespace, final String entityName,
+            final Group group, final Channel channel, final Criterion criterion, @Nullable final Action action,
+            @Nullable final SearchAction searchAction, @Nullable final String subject) {
+
+        checkNotNull(path, "path");
+        return new ImmutableTopicPath(namespace, entityName, group, channel, criterion, action, searchAction, subject,
+                path);
+    }
+
     @Override
     public String getNamespace() {
         return namespace;
@@ -224,9 +255,9 @@ final class ImmutableTopicPath implements TopicPath {
     }
 
     private String buildPath() {
-
-        final String namespaceIdGroup = MessageFormat.format("{0}/{1}/{2}", namespace, name, group);
-        final StringBuilder builder = new StringBuilder(namespaceIdGroup);
+        final StringBuilder builder = new StringBuilder(namespace)
+                .append(PATH_DELIMITER).append(name)
+                .append(PATH_DELIMITER).append(group);
 
         // e.g. policy commands do not have a channel
         if (channel != Channel.NONE) {
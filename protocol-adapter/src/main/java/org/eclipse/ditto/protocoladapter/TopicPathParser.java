@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Parses topic paths in a single pass over the path string.
+ * <p>
+ * All combinations of group, channel, criterion and action which may follow the namespace and the entity name of a
+ * topic path are known in advance. They are interned in a table keyed by their canonical string form, so that a
+ * parsed topic path is the result of locating the first two delimiters and one table lookup. The parsed path string is
+ * kept as the path of the topic path instead of being built again.
+ * </p>
+ * <p>
+ * Paths which are not in their canonical form, e.g. because of trailing delimiters, and invalid paths are parsed by
+ * splitting them into their parts, which yields the same results as before the table was introduced.
+ * </p>
+ */
+@Immutable
+final class TopicPathParser {
+
+    private static final char DELIMITER = '/';
+
+    /**
+     * Maximum number of parts between the entity name and the subject of a topic path: group, channel and criterion.
+     */
+    private static final int MAX_SUBJECT_PREFIX_PARTS = 3;
+
+    private static final Map<String, Template> TEMPLATES = computeTemplates();
+
+    private TopicPathParser() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Parses the given path into a {@code TopicPath}.
+     *
+     * @param path the path.
+     * @return the topic path.
+     * @throws UnknownTopicPathException if {@code path} is no valid {@code TopicPath}.
+     */
+    static TopicPath parse(final String path) {
+        final int namespaceEnd = path.indexOf(DELIMITER);
+        final int nameEnd = namespaceEnd < 0 ? -1 : path.indexOf(DELIMITER, namespaceEnd + 1);
+        if (nameEnd < 0) {
+            throw UnknownTopicPathException.newBuilder(path).build();
+        }
+        @Nullable final TopicPath result = parseCanonical(path, namespaceEnd, nameEnd);
+        return null != result ? result : parseBySplitting(path);
+    }
+
+    @Nullable
+    private static TopicPath parseCanonical(final String path, final int namespaceEnd, final int nameEnd) {
+        final String suffix = path.substring(nameEnd + 1);
+        @Nullable final Template template = TEMPLATES.get(suffix);
+        if (null != template) {
+            return template.toTopicPath(path, path.substring(0, namespaceEnd),
+                    path.substring(namespaceEnd + 1, nameEnd), null);
+        }
+
+        // messages and acknowledgements carry a subject after the criterion
+        int prefixEnd = -1;
+        for (int i = 0; i < MAX_SUBJECT_PREFIX_PARTS; i++) {
+            prefixEnd = suffix.indexOf(DELIMITER, prefixEnd + 1);
+            if (prefixEnd < 0) {
+                return null;
+            }
+            @Nullable final Template subjectTemplate = TEMPLATES.get(suffix.substring(0, prefixEnd));
+            if (null != subjectTemplate && subjectTemplate.hasSubject()) {
+                final String subject = suffix.substring(prefixEnd + 1);
+                // empty subjects and trailing delimiters are not part of the canonical path
+                if (subject.isEmpty() || subject.charAt(subject.length() - 1) == DELIMITER) {
+                    return null;
+                }
+                return subjectTemplate.toTopicPath(path, path.substring(0, namespaceEnd),
+                        path.substring(namespaceEnd + 1, nameEnd), subject);
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"squid:S1166"})
+    private static TopicPath parseBySplitting(final String path) {
+        final LinkedList<String> parts = new LinkedList<>(Arrays.asList(path.split(TopicPath.PATH_DELIMITER)));
+
+        try {
+            final String namespace = parts.pop(); // parts[0]
+            final String id = parts.pop(); // parts[1]
+            final TopicPath.Group group =
+                    TopicPath.Group.forName(parts.pop()) // parts[2]
+                            .orElseThrow(() -> UnknownTopicPathException.newBuilder(path).build());
+
+            final TopicPath.Channel channel;
+            switch (group) {
+                case POLICIES:
+                    channel = TopicPath.Channel.NONE;
+                    break;
+                case THINGS:
+                    channel = TopicPath.Channel.forName(parts.pop()) // parts[3]
+                            .orElseThrow(() -> UnknownTopicPathException.newBuilder(path).build());
+                    break;
+                default:
+                    throw UnknownTopicPathException.newBuilder(path).build();
+            }
+
+            final TopicPath.Criterion criterion =
+                    TopicPath.Criterion.forName(parts.pop())
+                            .orElseThrow(() -> UnknownTopicPathException.newBuilder(path).build());
+
+            switch (criterion) {
+                case COMMANDS:
+                case EVENTS:
+                    // commands and events Path always contain an ID:
+                    final TopicPath.Action action =
+                            TopicPath.Action.forName(parts.pop())
+                                    .orElseThrow(() -> UnknownTopicPathException.newBuilder(path).build());
+                    return ImmutableTopicPath.of(namespace, id, group, channel, criterion, action);
+                case SEARCH:
+                    final TopicPath.SearchAction searchAction =
+                            TopicPath.SearchAction.forName(parts.pop())
+                                    .orElseThrow(() -> UnknownTopicPathException.newBuilder(path).build());
+                    return ImmutableTopicPath.of(namespace, id, group, channel, criterion, searchAction);
+                case ERRORS:
+                    // errors Path does neither contain an "action":
+                    return ImmutableTopicPath.of(namespace, id, group, channel, criterion);
+                case MESSAGES:
+                case ACKS:
+                    // messages should always contain a non-empty subject:
+                    // ACK Paths contain a custom acknowledgement label or an empty subject for aggregated ACKs:
+                    final String subject = String.join(TopicPath.PATH_DELIMITER, parts);
+                    if (subject.isEmpty()) {
+                        return ImmutableTopicPath.of(namespace, id, group, channel, criterion);
+                    } else {
+                        return ImmutableTopicPath.of(namespace, id, group, channel, criterion, subject);
+                    }
+                default:
+                    throw UnknownTopicPathException.newBuilder(path).build();
+            }
+        } catch (final NoSuchElementException e) {
+            throw UnknownTopicPathException.newBuilder(path).build();
+        }
+    }
+
+    private static Map<String, Template> computeTemplates() {
+        final Map<String, Template> templates = new HashMap<>();
+        for (final TopicPath.Group group : TopicPath.Group.values()) {
+            for (final TopicPath.Channel channel : TopicPath.Channel.values()) {
+                // policies have no channel, things always have one
+                if ((group == TopicPath.Group.POLICIES) == (channel == TopicPath.Channel.NONE)) {
+                    for (final TopicPath.Criterion criterion : TopicPath.Criterion.values()) {
+                        putTemplates(templates, group, channel, criterion);
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableMap(templates);
+    }
+
+    private static void putTemplates(final Map<String, Template> templates, final TopicPath.Group group,
+            final TopicPath.Channel channel, final TopicPath.Criterion criterion) {
+
+        switch (criterion) {
+            case COMMANDS:
+            case EVENTS:
+                for (final TopicPath.Action action : TopicPath.Action.values()) {
+                    putTemplate(templates, new Template(group, channel, criterion, action, null));
+                }
+                break;
+            case SEARCH:
+                for (final TopicPath.SearchAction searchAction : TopicPath.SearchAction.values()) {
+                    putTemplate(templates, new Template(group, channel, criterion, null, searchAction));
+                }
+                break;
+            default:
+                putTemplate(templates, new Template(group, channel, criterion, null, null));
+        }
+    }
+
+    private static void putTemplate(final Map<String, Template> templates, final Template template) {
+        templates.put(template.toString(), template);
+    }
+
+    /**
+     * The part of a topic path following the namespace and the entity name without subject.
+     */
+    @Immutable
+    private static final class Template {
+
+        private final TopicPath.Group group;
+        private final TopicPath.Channel channel;
+        private final TopicPath.Criterion criterion;
+        @Nullable private final TopicPath.Action action;
+        @Nullable private final TopicPath.SearchAction searchAction;
+
+        private Template(final TopicPath.Group group, final TopicPath.Channel channel,
+                final TopicPath.Criterion criterion, @Nullable final TopicPath.Action action,
+                @Nullable final TopicPath.SearchAction searchAction) {
+
+            this.group = group;
+            this.channel = channel;
+            this.criterion = criterion;
+            this.action = action;
+            this.searchAction = searchAction;
+        }
+
+        private boolean hasSubject() {
+            return criterion == TopicPath.Criterion.MESSAGES || criterion == TopicPath.Criterion.ACKS;
+        }
+
+        private TopicPath toTopicPath(final String path, final String namespace, final String name,
+                @Nullable final String subject) {
+
+            return ImmutableTopicPath.ofParsedPath(path, namespace, name, group, channel, criterion, action,
+                    searchAction, subject);
+        }
+
+        /**
+         * @return the canonical string form of this template.
+         */
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder(group.getName());
+            if (channel != TopicPath.Channel.NONE) {
+                builder.append(DELIMITER).append(channel.getName());
+            }
+            builder.append(DELIMITER).append(criterion.getName());
+            if (null != action) {
+                builder.append(DELIMITER).append(action.getName());
+            } else if (null != searchAction) {
+                builder.append(DELIMITER).append(searchAction.getName());
+            }
+            return builder.toString();
+        }
+
+    }
+
+}
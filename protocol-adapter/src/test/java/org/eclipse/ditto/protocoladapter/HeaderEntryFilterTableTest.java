@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.assertj.core.api.AutoCloseableSoftAssertions;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.HeaderDefinition;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HeaderEntryFilterTable}.
+ * <p>
+ * The filters created by {@link HeaderEntryFilters} are compared against the composed filter chains which they
+ * replaced for every {@link DittoHeaderDefinition}.
+ * </p>
+ */
+public final class HeaderEntryFilterTableTest {
+
+    private static final Map<String, HeaderDefinition> DITTO_HEADER_DEFINITIONS = getDittoHeaderDefinitions();
+
+    private static final List<String> VALUES = List.of("", "foo", "foo,bar", " foo , bar ", "true", "42",
+            "[\"foo\",\"bar\"]", "[\"" + DittoAcknowledgementLabel.TWIN_PERSISTED + "\"]",
+            "[\"" + DittoAcknowledgementLabel.LIVE_RESPONSE + "\"]",
+            "[\"" + DittoAcknowledgementLabel.TWIN_PERSISTED + "\",\"foo\"]", "[\"\"]", "[]");
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(HeaderEntryFilterTable.class,
+                areImmutable(),
+                assumingFields("filtersByKey").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                provided(HeaderEntryFilter.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void nullValueIsFilteredOut() {
+        final HeaderEntryFilterTable underTest =
+                HeaderEntryFilterTable.of(Collections.emptyMap(), HeaderEntryFilterTable.KEEP);
+
+        assertThat(underTest.apply("foo", null)).isNull();
+    }
+
+    @Test
+    public void toExternalHeadersFilterBehavesLikeComposedFilters() {
+        assertBehavesLikeComposedFilters(HeaderEntryFilters::toExternalHeadersFilter,
+                HeaderEntryFilterTableTest::composedToExternalHeadersFilter, DITTO_HEADER_DEFINITIONS);
+    }
+
+    @Test
+    public void toExternalHeadersFilterWithoutHeaderDefinitionsBehavesLikeComposedFilters() {
+        assertBehavesLikeComposedFilters(HeaderEntryFilters::toExternalHeadersFilter,
+                HeaderEntryFilterTableTest::composedToExternalHeadersFilter, Collections.emptyMap());
+    }
+
+    @Test
+    public void fromExternalHeadersFilterBehavesLikeComposedFilters() {
+        assertBehavesLikeComposedFilters(HeaderEntryFilters::fromExternalHeadersFilter,
+                HeaderEntryFilterTableTest::composedFromExternalHeadersFilter, DITTO_HEADER_DEFINITIONS);
+    }
+
+    @Test
+    public void existsAsHeaderDefinitionBehavesLikeComposedFilters() {
+        assertBehavesLikeComposedFilters(HeaderEntryFilters::existsAsHeaderDefinition,
+                HeaderEntryFilterTableTest::composedExistsAsHeaderDefinition, DITTO_HEADER_DEFINITIONS);
+    }
+
+    @Test
+    public void existsAsHeaderDefinitionAndExternalBehavesLikeComposedFilters() {
+        assertBehavesLikeComposedFilters(HeaderEntryFilters::existsAsHeaderDefinitionAndExternal,
+                HeaderEntryFilterTableTest::composedExistsAsHeaderDefinitionAndExternal, DITTO_HEADER_DEFINITIONS);
+    }
+
+    @Test
+    public void toExternalHeadersFilterDiscardsDittoInternalAckRequests() {
+        final HeaderEntryFilter underTest = HeaderEntryFilters.toExternalHeadersFilter(DITTO_HEADER_DEFINITIONS);
+        final String key = DittoHeaderDefinition.REQUESTED_ACKS.getKey();
+
+        assertThat(underTest.apply(key, "[\"" + DittoAcknowledgementLabel.TWIN_PERSISTED + "\"]")).isNull();
+        assertThat(underTest.apply(key, "[\"" + DittoAcknowledgementLabel.TWIN_PERSISTED + "\",\"foo\"]"))
+                .isEqualTo("[\"foo\"]");
+    }
+
+    @Test
+    public void searchUnprojectedThingIdsAreNeitherReadFromNorWrittenToExternalHeaders() {
+        final String key = DittoHeaderDefinition.SEARCH_UNPROJECTED_THING_IDS.getKey();
+        final String value = "[\"org.eclipse.ditto:thing\"]";
+
+        assertThat(HeaderEntryFilters.fromExternalHeadersFilter(DITTO_HEADER_DEFINITIONS).apply(key, value))
+                .isNull();
+        assertThat(HeaderEntryFilters.toExternalHeadersFilter(DITTO_HEADER_DEFINITIONS).apply(key, value))
+                .isNull();
+        assertThat(HeaderEntryFilters.existsAsHeaderDefinitionAndExternal(DITTO_HEADER_DEFINITIONS)
+                .apply(key, value))
+                .isNull();
+        assertThat(HeaderEntryFilters.existsAsHeaderDefinition(DITTO_HEADER_DEFINITIONS).apply(key, value))
+                .isEqualTo(value);
+    }
+
+    private static void assertBehavesLikeComposedFilters(
+            final Function<Map<String, HeaderDefinition>, HeaderEntryFilter> filterFactory,
+            final Function<Map<String, HeaderDefinition>, HeaderEntryFilter> composedFilterFactory,
+            final Map<String, HeaderDefinition> headerDefinitions) {
+
+        final HeaderEntryFilter underTest = filterFactory.apply(headerDefinitions);
+        final HeaderEntryFilter composedFilter = composedFilterFactory.apply(headerDefinitions);
+        final List<String> keys = new ArrayList<>(DITTO_HEADER_DEFINITIONS.keySet());
+        keys.add("x-custom-header");
+
+        try (final AutoCloseableSoftAssertions softly = new AutoCloseableSoftAssertions()) {
+            for (final String key : keys) {
+                for (final String value : VALUES) {
+                    softly.assertThat(underTest.apply(key, value))
+                            .as("%s: %s", key, value)
+                            .isEqualTo(composedFilter.apply(key, value));
+                }
+            }
+        }
+    }
+
+    private static HeaderEntryFilter composedToExternalHeadersFilter(
+            final Map<String, HeaderDefinition> headerDefinitions) {
+
+        final HeaderEntryFilter shouldWriteToExternal = checkHeaderDefinition(headerDefinitions,
+                headerDefinition -> null == headerDefinition || headerDefinition.shouldWriteToExternalHeaders());
+        if (headerDefinitions.isEmpty()) {
+            return shouldWriteToExternal;
+        } else {
+            return shouldWriteToExternal.andThen(DittoAckRequestsFilter.getInstance());
+        }
+    }
+
+    private static HeaderEntryFilter composedFromExternalHeadersFilter(
+            final Map<String, HeaderDefinition> headerDefinitions) {
+
+        return checkHeaderDefinition(headerDefinitions,
+                headerDefinition -> null == headerDefinition || headerDefinition.shouldReadFromExternalHeaders())
+                .andThen(ReadJsonArrayHeadersFilter.getInstance(headerDefinitions));
+    }
+
+    private static HeaderEntryFilter composedExistsAsHeaderDefinition(
+            final Map<String, HeaderDefinition> headerDefinitions) {
+
+        return checkHeaderDefinition(headerDefinitions, Objects::nonNull);
+    }
+
+    private static HeaderEntryFilter composedExistsAsHeaderDefinitionAndExternal(
+            final Map<String, HeaderDefinition> headerDefinitions) {
+
+        return composedExistsAsHeaderDefinition(headerDefinitions)
+                .andThen(composedToExternalHeadersFilter(headerDefinitions));
+    }
+
+    private static HeaderEntryFilter checkHeaderDefinition(final Map<String, HeaderDefinition> headerDefinitions,
+            final Predicate<HeaderDefinition> headerDefinitionPredicate) {
+
+        return (key, value) -> {
+            @Nullable final HeaderDefinition headerDefinition = headerDefinitions.get(key.toLowerCase());
+            return null != value && headerDefinitionPredicate.test(headerDefinition) ? value : null;
+        };
+    }
+
+    private static Map<String, HeaderDefinition> getDittoHeaderDefinitions() {
+        final Map<String, HeaderDefinition> result = new LinkedHashMap<>();
+        for (final DittoHeaderDefinition headerDefinition : DittoHeaderDefinition.values()) {
+            result.put(headerDefinition.getKey(), headerDefinition);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+}
@@ -97,6 +97,16 @@ public final class HeaderTranslatorTest {
         assertThat(underTest.fromExternalHeaders(externalHeaders)).isEmpty();
     }
 
+    @Test
+    public void clientSuppliedUnprojectedThingIdsAreNotReadFromOrWrittenToExternalHeaders() {
+        final HeaderTranslator underTest = HeaderTranslator.of(DittoHeaderDefinition.values());
+        final String key = DittoHeaderDefinition.SEARCH_UNPROJECTED_THING_IDS.getKey();
+
+        assertThat(underTest.fromExternalHeaders(Map.of(key, "[\"thing:unauthorized\"]"))).isEmpty();
+        assertThat(underTest.fromExternalHeaders(Map.of(key, "{not json"))).isEmpty();
+        assertThat(underTest.toExternalHeaders(DittoHeaders.newBuilder().putHeader(key, "[]").build())).isEmpty();
+    }
+
     @Test
     public void testReadExternalAllowedHeader() {
         final HeaderTranslator underTest = HeaderTranslator.of(DittoHeaderDefinition.values());
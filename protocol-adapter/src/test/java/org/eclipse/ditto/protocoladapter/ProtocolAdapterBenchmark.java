@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-message work of the protocol adapter: parsing topic paths, translating headers and round trips of
+ * commands and events through {@link DittoProtocolAdapter#toAdaptable(Signal)} and
+ * {@link DittoProtocolAdapter#fromAdaptable(Adaptable)}, including the (de-)serialization of the Ditto Protocol JSON.
+ */
+@State(Scope.Benchmark)
+public class ProtocolAdapterBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final DittoProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "smart-coffee-1");
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("benchmark-correlation-id")
+            .contentType("application/json")
+            .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+            .responseRequired(true)
+            .putHeader("custom-header", "custom-value")
+            .build();
+
+    private static final ModifyAttribute MODIFY_ATTRIBUTE = ModifyAttribute.of(THING_ID,
+            JsonPointer.of("location/latitude"), JsonValue.of(44.673856), DITTO_HEADERS);
+
+    private static final AttributeModified ATTRIBUTE_MODIFIED = AttributeModified.of(THING_ID,
+            JsonPointer.of("location/latitude"), JsonValue.of(44.673856), 42L, Instant.EPOCH, DITTO_HEADERS, null);
+
+    private static final String MODIFY_ATTRIBUTE_JSON =
+            ProtocolFactory.wrapAsJsonifiableAdaptable(PROTOCOL_ADAPTER.toAdaptable(MODIFY_ATTRIBUTE))
+                    .toJsonString();
+
+    private static final Adaptable MODIFY_ATTRIBUTE_ADAPTABLE = PROTOCOL_ADAPTER.toAdaptable(MODIFY_ATTRIBUTE);
+
+    private static final String COMMAND_TOPIC = "org.eclipse.ditto/smart-coffee-1/things/twin/commands/modify";
+    private static final String MESSAGE_TOPIC = "org.eclipse.ditto/smart-coffee-1/things/live/messages/brew-coffee";
+
+    private static final Map<String, String> EXTERNAL_HEADERS = DITTO_HEADERS.asCaseSensitiveMap();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public TopicPath parseCommandTopicPath() {
+        return ProtocolFactory.newTopicPath(COMMAND_TOPIC);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public TopicPath parseMessageTopicPath() {
+        return ProtocolFactory.newTopicPath(MESSAGE_TOPIC);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Map<String, String> fromExternalHeaders() {
+        return PROTOCOL_ADAPTER.headerTranslator().fromExternalHeaders(EXTERNAL_HEADERS);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Map<String, String> toExternalHeaders() {
+        return PROTOCOL_ADAPTER.headerTranslator().toExternalHeaders(DITTO_HEADERS);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Signal<?> fromAdaptable_command() {
+        return PROTOCOL_ADAPTER.fromAdaptable(MODIFY_ATTRIBUTE_ADAPTABLE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Adaptable toAdaptable_command() {
+        return PROTOCOL_ADAPTER.toAdaptable(MODIFY_ATTRIBUTE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Signal<?> roundTrip_command() {
+        return PROTOCOL_ADAPTER.fromAdaptable(PROTOCOL_ADAPTER.toAdaptable(MODIFY_ATTRIBUTE));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Signal<?> roundTrip_event() {
+        return PROTOCOL_ADAPTER.fromAdaptable(PROTOCOL_ADAPTER.toAdaptable(ATTRIBUTE_MODIFIED));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String roundTrip_commandJson() {
+        final Adaptable adaptable = ProtocolFactory.jsonifiableAdaptableFromJson(
+                JsonFactory.readFrom(MODIFY_ATTRIBUTE_JSON).asObject());
+        final Signal<?> signal = PROTOCOL_ADAPTER.fromAdaptable(adaptable);
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(PROTOCOL_ADAPTER.toAdaptable(signal)).toJsonString();
+    }
+
+}
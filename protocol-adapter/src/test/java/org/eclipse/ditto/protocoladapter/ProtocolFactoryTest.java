@@ -72,6 +72,28 @@ public class ProtocolFactoryTest {
         ProtocolFactory.newTopicPath(null);
     }
 
+    @Test
+    public void parsedTopicPathEqualsBuiltTopicPath() {
+        final TopicPath expected = ProtocolFactory.newTopicPathBuilder(ThingId.of(NAMESPACE, ID))
+                .live()
+                .messages()
+                .subject("some/subject")
+                .build();
+
+        final TopicPath topicPath = ProtocolFactory.newTopicPath(expected.getPath());
+
+        assertThat(topicPath).isEqualTo(expected);
+    }
+
+    @Test
+    public void trailingDelimiterIsNotPartOfParsedTopicPath() {
+        final TopicPath topicPath =
+                ProtocolFactory.newTopicPath(NAMESPACE + "/" + ID + "/things/live/messages/subject/");
+
+        assertThat(topicPath.getSubject()).contains("subject");
+        assertThat(topicPath.getPath()).isEqualTo(NAMESPACE + "/" + ID + "/things/live/messages/subject");
+    }
+
     @Test
     public void testNewTopicPathBuilderFromThingId() {
         final TopicPathBuilder topicPathBuilder = ProtocolFactory.newTopicPathBuilder(ThingId.of(NAMESPACE, ID));
@@ -46,6 +46,33 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Indicates whether policies pushed by the policies service on modification replace the cached policy enforcers
+     * in place instead of loading them again.
+     *
+     * @return {@code true} if pushed policy updates are applied to the enforcer cache.
+     * @since 2.0.0
+     */
+    boolean isEnforcerPushUpdatesEnabled();
+
+    /**
+     * Indicates whether pushed policy updates are also added to the enforcer cache if the policy enforcer was not
+     * cached yet, so that the first request after a modification does not have to load it.
+     *
+     * @return {@code true} if the enforcer cache is warmed by pushed policy updates.
+     * @since 2.0.0
+     */
+    boolean isEnforcerWarmOnPush();
+
+    /**
+     * Indicates whether invalidated policy enforcers are reloaded asynchronously while the outdated enforcer is still
+     * used, instead of blocking requests until the enforcer is loaded again.
+     *
+     * @return {@code true} if outdated policy enforcers are served until reloaded.
+     * @since 2.0.0
+     */
+    boolean isEnforcerServeStaleOnInvalidation();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +82,22 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * Whether pushed policy updates replace cached policy enforcers in place.
+         */
+        ENFORCER_PUSH_UPDATES_ENABLED("enforcer-push-updates-enabled", true),
+
+        /**
+         * Whether pushed policy updates are added to the enforcer cache if not cached yet.
+         */
+        ENFORCER_WARM_ON_PUSH("enforcer-warm-on-push", false),
+
+        /**
+         * Whether outdated policy enforcers are served while they are reloaded.
+         */
+        ENFORCER_SERVE_STALE_ON_INVALIDATION("enforcer-serve-stale-on-invalidation", false);
 
         private final String path;
         private final Object defaultValue;
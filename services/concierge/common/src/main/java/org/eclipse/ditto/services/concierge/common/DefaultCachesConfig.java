@@ -35,11 +35,19 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final boolean enforcerPushUpdatesEnabled;
+    private final boolean enforcerWarmOnPush;
+    private final boolean enforcerServeStaleOnInvalidation;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        enforcerPushUpdatesEnabled =
+                config.getBoolean(CachesConfigValue.ENFORCER_PUSH_UPDATES_ENABLED.getConfigPath());
+        enforcerWarmOnPush = config.getBoolean(CachesConfigValue.ENFORCER_WARM_ON_PUSH.getConfigPath());
+        enforcerServeStaleOnInvalidation =
+                config.getBoolean(CachesConfigValue.ENFORCER_SERVE_STALE_ON_INVALIDATION.getConfigPath());
     }
 
     /**
@@ -68,6 +76,21 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public boolean isEnforcerPushUpdatesEnabled() {
+        return enforcerPushUpdatesEnabled;
+    }
+
+    @Override
+    public boolean isEnforcerWarmOnPush() {
+        return enforcerWarmOnPush;
+    }
+
+    @Override
+    public boolean isEnforcerServeStaleOnInvalidation() {
+        return enforcerServeStaleOnInvalidation;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -77,14 +100,18 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return askTimeout.equals(that.askTimeout) &&
+        return enforcerPushUpdatesEnabled == that.enforcerPushUpdatesEnabled &&
+                enforcerWarmOnPush == that.enforcerWarmOnPush &&
+                enforcerServeStaleOnInvalidation == that.enforcerServeStaleOnInvalidation &&
+                askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
                 enforcerCacheConfig.equals(that.enforcerCacheConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, enforcerPushUpdatesEnabled,
+                enforcerWarmOnPush, enforcerServeStaleOnInvalidation);
     }
 
     @Override
@@ -93,6 +120,9 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", enforcerPushUpdatesEnabled=" + enforcerPushUpdatesEnabled +
+                ", enforcerWarmOnPush=" + enforcerWarmOnPush +
+                ", enforcerServeStaleOnInvalidation=" + enforcerServeStaleOnInvalidation +
                 "]";
     }
 
@@ -45,6 +45,15 @@ public interface EnforcementConfig {
      */
     boolean shouldDispatchLiveResponsesGlobally();
 
+    /**
+     * Returns whether enforcement tasks are scheduled concurrently by the enforcer actor's stream instead of by a
+     * dedicated scheduler actor.
+     *
+     * @return whether concurrent scheduling is enabled.
+     * @since 2.0.0
+     */
+    boolean isConcurrentSchedulingEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code EnforcementConfig}.
@@ -64,7 +73,12 @@ public interface EnforcementConfig {
         /**
          * Whether to enable dispatching live responses from channels other than the subscribers.
          */
-        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false);
+        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false),
+
+        /**
+         * Whether to schedule enforcement tasks concurrently instead of by a dedicated scheduler actor.
+         */
+        CONCURRENT_SCHEDULING("concurrent-scheduling", false);
 
         private final String path;
         private final Object defaultValue;
@@ -62,6 +62,15 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.isEnforcerPushUpdatesEnabled())
+                .as("isEnforcerPushUpdatesEnabled")
+                .isEqualTo(CachesConfig.CachesConfigValue.ENFORCER_PUSH_UPDATES_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.isEnforcerWarmOnPush())
+                .as("isEnforcerWarmOnPush")
+                .isEqualTo(CachesConfig.CachesConfigValue.ENFORCER_WARM_ON_PUSH.getDefaultValue());
+        softly.assertThat(underTest.isEnforcerServeStaleOnInvalidation())
+                .as("isEnforcerServeStaleOnInvalidation")
+                .isEqualTo(CachesConfig.CachesConfigValue.ENFORCER_SERVE_STALE_ON_INVALIDATION.getDefaultValue());
     }
 
     @Test
@@ -71,6 +80,15 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(30L));
+        softly.assertThat(underTest.isEnforcerPushUpdatesEnabled())
+                .as(CachesConfig.CachesConfigValue.ENFORCER_PUSH_UPDATES_ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.isEnforcerWarmOnPush())
+                .as(CachesConfig.CachesConfigValue.ENFORCER_WARM_ON_PUSH.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.isEnforcerServeStaleOnInvalidation())
+                .as(CachesConfig.CachesConfigValue.ENFORCER_SERVE_STALE_ON_INVALIDATION.getConfigPath())
+                .isTrue();
 
         softly.assertThat(underTest.getEnforcerCacheConfig())
                 .as("enforcerCacheConfig")
@@ -64,6 +64,9 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.isConcurrentSchedulingEnabled())
+                .as(EnforcementConfig.EnforcementConfigValue.CONCURRENT_SCHEDULING.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.CONCURRENT_SCHEDULING.getDefaultValue());
     }
 
     @Test
@@ -76,6 +79,9 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(1337);
+        softly.assertThat(underTest.isConcurrentSchedulingEnabled())
+                .as(EnforcementConfig.EnforcementConfigValue.CONCURRENT_SCHEDULING.getConfigPath())
+                .isTrue();
     }
 
 }
@@ -13,21 +13,27 @@
 package org.eclipse.ditto.services.concierge.enforcement;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.PolicyUpdate;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
@@ -57,14 +63,16 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
     protected final Contextual<WithDittoHeaders<?>> contextual;
 
     private final EnforcementConfig enforcementConfig;
+    private final CachesConfig cachesConfig;
 
     @Nullable
     private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
     @Nullable
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
     @Nullable
-    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
-
+    private final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache;
+    @Nullable
+    private final Cache<EntityIdWithResourceType, Long> invalidatedPolicyRevisions;
 
     /**
      * Create an instance of this actor.
@@ -79,7 +87,7 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
             final ActorRef conciergeForwarder,
             @Nullable final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
-            @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
+            @Nullable final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache) {
 
         super(WithDittoHeaders.class);
 
@@ -87,6 +95,7 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
         enforcementConfig = conciergeConfig.getEnforcementConfig();
+        cachesConfig = conciergeConfig.getCachesConfig();
 
         this.thingIdCache = thingIdCache;
         this.aclEnforcerCache = aclEnforcerCache;
@@ -103,6 +112,17 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         // register for receiving invalidate policy enforcers
         pubSubMediator.tell(DistPubSubAccess.subscribe(PolicyTag.PUB_SUB_TOPIC_INVALIDATE_ENFORCERS, self()),
                 ActorRef.noSender());
+        // register for receiving modified policies to replace cached policy enforcers with
+        if (null != policyEnforcerCache && cachesConfig.isEnforcerPushUpdatesEnabled()) {
+            pubSubMediator.tell(DistPubSubAccess.subscribe(PolicyUpdate.PUB_SUB_TOPIC_UPDATE_ENFORCERS, self()),
+                    ActorRef.noSender());
+            // policy modifications invalidate the enforcer before the modified policy is pushed; remember
+            // invalidations as long as the enforcement waits for the response of a modify command
+            invalidatedPolicyRevisions = CaffeineCache.of(Caffeine.newBuilder()
+                    .expireAfterWrite(enforcementConfig.getAskTimeout()));
+        } else {
+            invalidatedPolicyRevisions = null;
+        }
     }
 
     @Override
@@ -112,16 +132,44 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
                     logger.debug("Received <{}> -> Invalidating caches...", policyTag);
                     final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE,
                             policyTag.getEntityId());
-                    invalidateCaches(entityId);
+                    invalidateThingIdAndAclEnforcerCaches(entityId);
+                    invalidatePolicyEnforcerCacheIfOutdated(entityId, policyTag.getRevision());
                 })
+                .match(PolicyUpdate.class, policyUpdate -> {
+                    logger.debug("Received <{}> -> Updating policy enforcer cache...", policyUpdate);
+                    updatePolicyEnforcerCache(policyUpdate);
+                })
+                .match(PushedPolicyEnforcer.class, this::putPushedPolicyEnforcer)
                 .match(InvalidateCacheEntry.class, invalidateCacheEntry -> {
                     logger.debug("Received <{}> -> Invalidating caches...", invalidateCacheEntry);
                     final EntityIdWithResourceType entityId = invalidateCacheEntry.getEntityId();
-                    invalidateCaches(entityId);
+                    // the enforcement of this actor already invalidated the policy enforcer it used
+                    invalidateCaches(entityId, getSelf().equals(getSender()));
                 });
     }
 
-    private void invalidateCaches(final EntityIdWithResourceType entityId) {
+    /**
+     * Returns the enforcement config of this actor.
+     *
+     * @return the enforcement config.
+     */
+    protected EnforcementConfig getEnforcementConfig() {
+        return enforcementConfig;
+    }
+
+    private void invalidateCaches(final EntityIdWithResourceType entityId, final boolean invalidatedByEnforcement) {
+        invalidateThingIdAndAclEnforcerCaches(entityId);
+        if (policyEnforcerCache != null) {
+            final boolean invalidated = policyEnforcerCache.invalidate(entityId);
+            logger.debug("Policy enforcer cache for entity ID <{}> was invalidated: {}", entityId, invalidated);
+            if (invalidated || invalidatedByEnforcement) {
+                // the invalidation precedes a policy modification whose pushed policy of any revision is newer
+                rememberPolicyInvalidation(entityId, 0L);
+            }
+        }
+    }
+
+    private void invalidateThingIdAndAclEnforcerCaches(final EntityIdWithResourceType entityId) {
         if (thingIdCache != null) {
             final boolean invalidated = thingIdCache.invalidate(entityId);
             logger.debug("Thing ID cache for entity ID <{}> was invalidated: {}", entityId, invalidated);
@@ -130,10 +178,109 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
             final boolean invalidated = aclEnforcerCache.invalidate(entityId);
             logger.debug("ACL enforcer cache for entity ID <{}> was invalidated: {}", entityId, invalidated);
         }
-        if (policyEnforcerCache != null) {
+    }
+
+    private void invalidatePolicyEnforcerCacheIfOutdated(final EntityIdWithResourceType entityId,
+            final long revision) {
+
+        if (policyEnforcerCache == null) {
+            return;
+        }
+        // an entry being loaded may be of an older revision and is invalidated
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cachedEntry =
+                policyEnforcerCache.getIfPresent(entityId);
+        final boolean notCached = cachedEntry.isDone() && getLoadedEntry(cachedEntry).isEmpty();
+        final boolean upToDate = cachedEntry.isDone() &&
+                getLoadedEntry(cachedEntry).filter(entry -> entry.getRevision() >= revision).isPresent();
+        if (notCached) {
+            logger.debug("Policy enforcer cache for entity ID <{}> has no entry to invalidate", entityId);
+        } else if (upToDate) {
+            logger.debug("Policy enforcer cache for entity ID <{}> is already at revision <{}>", entityId, revision);
+        } else if (cachesConfig.isEnforcerServeStaleOnInvalidation()) {
+            policyEnforcerCache.refresh(entityId);
+            logger.debug("Policy enforcer cache for entity ID <{}> is refreshed", entityId);
+            rememberPolicyInvalidation(entityId, revision);
+        } else {
             final boolean invalidated = policyEnforcerCache.invalidate(entityId);
             logger.debug("Policy enforcer cache for entity ID <{}> was invalidated: {}", entityId, invalidated);
+            rememberPolicyInvalidation(entityId, revision);
+        }
+    }
+
+    private void rememberPolicyInvalidation(final EntityIdWithResourceType entityId, final long revision) {
+        if (null != invalidatedPolicyRevisions && PolicyCommand.RESOURCE_TYPE.equals(entityId.getResourceType())) {
+            invalidatedPolicyRevisions.asMap().merge(entityId, revision, Math::max);
+        }
+    }
+
+    private void updatePolicyEnforcerCache(final PolicyUpdate policyUpdate) {
+        if (policyEnforcerCache == null) {
+            return;
+        }
+        final EntityIdWithResourceType entityId =
+                EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyUpdate.getPolicyId());
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cachedEntry =
+                policyEnforcerCache.getIfPresent(entityId);
+        if (cachedEntry.isDone() && !acceptsPushedRevision(entityId, getLoadedEntry(cachedEntry),
+                policyUpdate.getRevision())) {
+            logger.debug("Policy enforcer cache for entity ID <{}> does not take pushed revision <{}>", entityId,
+                    policyUpdate.getRevision());
+            return;
+        }
+
+        // build the enforcer outside of the actor, but put it into the cache within the actor so that the revision
+        // checks are not interleaved with invalidations
+        final ActorRef self = getSelf();
+        CompletableFuture.supplyAsync(
+                () -> PolicyEnforcer.entryOf(policyUpdate.getPolicy(), PolicyEnforcers::compiledEvaluator),
+                getContext().getDispatcher()
+        ).thenAccept(entry -> self.tell(new PushedPolicyEnforcer(entityId, entry), ActorRef.noSender()));
+    }
+
+    private void putPushedPolicyEnforcer(final PushedPolicyEnforcer pushedPolicyEnforcer) {
+        if (policyEnforcerCache == null) {
+            return;
+        }
+        final EntityIdWithResourceType entityId = pushedPolicyEnforcer.entityId;
+        final Entry<PolicyEnforcer> pushedEntry = pushedPolicyEnforcer.entry;
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cachedEntry =
+                policyEnforcerCache.getIfPresent(entityId);
+        if (!cachedEntry.isDone()) {
+            // computing an entry which is being loaded would block the actor; try again once it is loaded
+            final ActorRef self = getSelf();
+            cachedEntry.whenComplete((entry, error) -> self.tell(pushedPolicyEnforcer, ActorRef.noSender()));
+            return;
+        }
+        final Entry<PolicyEnforcer> resultingEntry = policyEnforcerCache.asMap().compute(entityId,
+                (key, existingEntry) -> acceptsPushedRevision(key, Optional.ofNullable(existingEntry),
+                        pushedEntry.getRevision()) ? pushedEntry : existingEntry);
+        logger.debug("Policy enforcer cache for entity ID <{}> took pushed revision <{}>: {}", entityId,
+                pushedEntry.getRevision(), resultingEntry == pushedEntry);
+    }
+
+    /**
+     * Indicates whether a pushed policy enforcer replaces the cached entry. If no entry is cached, the pushed enforcer
+     * is only added if the entry was invalidated for an older revision or if the cache is warmed on push.
+     */
+    private boolean acceptsPushedRevision(final EntityIdWithResourceType entityId,
+            final Optional<Entry<PolicyEnforcer>> cachedEntry, final long pushedRevision) {
+
+        if (cachedEntry.isPresent()) {
+            return cachedEntry.get().getRevision() < pushedRevision;
+        }
+        @Nullable final Long invalidatedRevision =
+                null != invalidatedPolicyRevisions ? invalidatedPolicyRevisions.asMap().get(entityId) : null;
+        if (null != invalidatedRevision) {
+            return invalidatedRevision <= pushedRevision;
         }
+        return cachesConfig.isEnforcerWarmOnPush();
+    }
+
+    private static Optional<Entry<PolicyEnforcer>> getLoadedEntry(
+            final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cachedEntry) {
+
+        // failed loads are removed from the cache
+        return cachedEntry.isCompletedExceptionally() ? Optional.empty() : cachedEntry.join();
     }
 
     @Override
@@ -178,4 +325,19 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         }
     }
 
+    /**
+     * A policy enforcer built from a pushed {@link PolicyUpdate} to be put into the policy enforcer cache.
+     */
+    private static final class PushedPolicyEnforcer {
+
+        private final EntityIdWithResourceType entityId;
+        private final Entry<PolicyEnforcer> entry;
+
+        private PushedPolicyEnforcer(final EntityIdWithResourceType entityId, final Entry<PolicyEnforcer> entry) {
+            this.entityId = entityId;
+            this.entry = entry;
+        }
+
+    }
+
 }
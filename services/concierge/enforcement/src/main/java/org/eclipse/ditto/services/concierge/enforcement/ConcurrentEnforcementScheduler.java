@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+
+/**
+ * Schedules enforcement tasks like {@link EnforcementScheduler} but without an actor: the in-flight tasks of each
+ * entity are kept in a concurrent map which is updated by the threads completing the tasks. Thus tasks of different
+ * entities neither wait for each other nor for a mailbox hop per completion.
+ * <p>
+ * Tasks are ordered in the sequence of the calls to {@link #schedule(EnforcementTask)}, which must therefore be
+ * called by one thread at a time, e. g. by a stream sink.
+ * </p>
+ */
+@ThreadSafe
+final class ConcurrentEnforcementScheduler {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(ConcurrentEnforcementScheduler.class);
+
+    private final ConcurrentMap<EntityId, EnforcementScheduler.Futures> futuresMap;
+    private final Executor dispatcher;
+    private final Counter scheduledEnforcementTasks;
+    private final Counter completedEnforcementTasks;
+    private final Gauge enforcementTasksInFlight;
+    private final Histogram timeInScheduler;
+
+    private ConcurrentEnforcementScheduler(final Executor dispatcher) {
+        futuresMap = new ConcurrentHashMap<>();
+        this.dispatcher = dispatcher;
+        scheduledEnforcementTasks = DittoMetrics.counter(EnforcementScheduler.SCHEDULED_ENFORCEMENT_TASKS);
+        completedEnforcementTasks = DittoMetrics.counter(EnforcementScheduler.COMPLETED_ENFORCEMENT_TASKS);
+        enforcementTasksInFlight = DittoMetrics.gauge(EnforcementScheduler.ENFORCEMENT_TASKS_IN_FLIGHT);
+        timeInScheduler = DittoMetrics.histogram(EnforcementScheduler.ENFORCEMENT_TASK_TIME_IN_SCHEDULER);
+    }
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param dispatcher the executor to run the ask-futures of enforcement results with.
+     * @return the scheduler.
+     */
+    static ConcurrentEnforcementScheduler of(final Executor dispatcher) {
+        return new ConcurrentEnforcementScheduler(dispatcher);
+    }
+
+    /**
+     * Schedules an enforcement task such that it does not start until all previous authorization changes of its
+     * entity are complete and does not complete until all previous tasks of its entity are complete.
+     *
+     * @param task the task to schedule.
+     */
+    void schedule(final EnforcementTask task) {
+        final EntityId entityId = task.getEntityId();
+        if (entityId.isDummy()) {
+            // This should not happen: Refuse to perform enforcement task for messages without ID.
+            LOGGER.error("EnforcementTaskWithoutEntityId <{}>", task);
+            return;
+        }
+        final long scheduledAtNanos = System.nanoTime();
+
+        // The task must not start while the map entry is being computed: a task completing immediately would update
+        // the entry recursively.
+        final CompletableFuture<Void> trigger = new CompletableFuture<>();
+        futuresMap.compute(entityId, (id, cachedFutures) -> {
+            final EnforcementScheduler.Futures previousFutures =
+                    cachedFutures != null ? cachedFutures : EnforcementScheduler.Futures.initial();
+            return EnforcementScheduler.scheduleTaskAfter(previousFutures.startingAfter(trigger), task, dispatcher,
+                    (completedTask, error) -> taskComplete(completedTask, error, scheduledAtNanos));
+        });
+        enforcementTasksInFlight.increment();
+        scheduledEnforcementTasks.increment();
+        trigger.complete(null);
+    }
+
+    private Void taskComplete(final EnforcementTask task, @Nullable final Throwable error,
+            final long scheduledAtNanos) {
+
+        if (null != error) {
+            LOGGER.error("FutureFailed <{}>", task, error);
+        }
+        futuresMap.computeIfPresent(task.getEntityId(), (entityId, futures) -> futures.onComplete());
+        enforcementTasksInFlight.decrement();
+        completedEnforcementTasks.increment();
+        timeInScheduler.record(System.nanoTime() - scheduledAtNanos);
+        return null;
+    }
+
+}
@@ -17,6 +17,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -28,6 +30,8 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -45,6 +49,11 @@ final class EnforcementScheduler extends AbstractActor {
      */
     static final String ACTOR_NAME = "scheduler";
 
+    static final String SCHEDULED_ENFORCEMENT_TASKS = "scheduled_enforcement_tasks";
+    static final String COMPLETED_ENFORCEMENT_TASKS = "completed_enforcement_tasks";
+    static final String ENFORCEMENT_TASKS_IN_FLIGHT = "enforcement_tasks_in_flight";
+    static final String ENFORCEMENT_TASK_TIME_IN_SCHEDULER = "enforcement_task_time_in_scheduler_nanos";
+
     /**
      * Cache of started enforcement tasks for each entity ID.
      */
@@ -52,12 +61,16 @@ final class EnforcementScheduler extends AbstractActor {
     private final DittoDiagnosticLoggingAdapter log;
     private final Counter scheduledEnforcementTasks;
     private final Counter completedEnforcementTasks;
+    private final Gauge enforcementTasksInFlight;
+    private final Histogram timeInScheduler;
 
     private EnforcementScheduler() {
         futuresMap = new HashMap<>();
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
-        scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks");
-        completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks");
+        scheduledEnforcementTasks = DittoMetrics.counter(SCHEDULED_ENFORCEMENT_TASKS);
+        completedEnforcementTasks = DittoMetrics.counter(COMPLETED_ENFORCEMENT_TASKS);
+        enforcementTasksInFlight = DittoMetrics.gauge(ENFORCEMENT_TASKS_IN_FLIGHT);
+        timeInScheduler = DittoMetrics.histogram(ENFORCEMENT_TASK_TIME_IN_SCHEDULER);
     }
 
     static Props props() {
@@ -74,6 +87,7 @@ final class EnforcementScheduler extends AbstractActor {
     }
 
     private void scheduleEnforcement(final EnforcementTask task) {
+        final long scheduledAtNanos = System.nanoTime();
         futuresMap.compute(task.getEntityId(), (entityId, cachedFutures) -> {
             if (entityId.isDummy()) {
                 // This should not happen: Refuse to perform enforcement task for messages without ID.
@@ -82,7 +96,9 @@ final class EnforcementScheduler extends AbstractActor {
             } else {
                 log.debug("Scheduling <{}> at <{}>", task, cachedFutures);
                 final Futures previousFutures = cachedFutures != null ? cachedFutures : Futures.initial();
-                return scheduleTaskAfter(previousFutures, task);
+                enforcementTasksInFlight.increment();
+                return scheduleTaskAfter(previousFutures, task, getContext().dispatcher(),
+                        (completedTask, error) -> sendFutureComplete(completedTask, error, scheduledAtNanos));
             }
         });
         scheduledEnforcementTasks.increment();
@@ -95,10 +111,12 @@ final class EnforcementScheduler extends AbstractActor {
             log.debug("Reducing reference count <{}>", futures);
             return futures.onComplete();
         });
+        enforcementTasksInFlight.decrement();
         completedEnforcementTasks.increment();
+        timeInScheduler.record(System.nanoTime() - futureComplete.scheduledAtNanos);
     }
 
-    private Void dispatchEnforcedMessage(final Contextual<?> enforcementResult) {
+    private static Void dispatchEnforcedMessage(final Contextual<?> enforcementResult, final Executor dispatcher) {
         final Optional<? extends WithDittoHeaders> messageOpt = enforcementResult.getMessageOptional();
         if (messageOpt.isPresent()) {
             final WithDittoHeaders<?> message = messageOpt.get();
@@ -112,7 +130,7 @@ final class EnforcementScheduler extends AbstractActor {
                 // It does not disrupt command order guarantee to run the ask-future here if the ask-future
                 // is initiated by a call to Patterns.ask(), because Patterns.ask() calls ActorRef.tell()
                 // in the calling thread.
-                Patterns.pipe(askFutureOpt.get().get(), getContext().dispatcher()).to(receiver);
+                Patterns.pipe(askFutureOpt.get().get(), dispatcher).to(receiver);
             } else if (receiverOpt.isPresent()) {
                 final ActorRef receiver = receiverOpt.get();
                 final Object wrappedMsg =
@@ -137,22 +155,29 @@ final class EnforcementScheduler extends AbstractActor {
      *
      * @param previousFutures in-flight enforcement tasks for the same entity.
      * @param task the task to schedule.
+     * @param dispatcher the executor to run the ask-futures of enforcement results with.
+     * @param onComplete called with the task and its error, if any, after the task completed.
      * @return the next in-flight enforcement tasks, including the scheduled task.
      */
-    private Futures scheduleTaskAfter(final Futures previousFutures, final EnforcementTask task) {
+    static Futures scheduleTaskAfter(final Futures previousFutures, final EnforcementTask task,
+            final Executor dispatcher, final BiFunction<EnforcementTask, Throwable, Void> onComplete) {
+
         final CompletionStage<?> taskFuture =
                 previousFutures.beforeStartFuture.thenCompose(authChangeComplete ->
                         previousFutures.beforeCompleteFuture.thenCombine(task.start(),
-                                (previousTaskComplete, enforcementResult) -> dispatchEnforcedMessage(enforcementResult)
+                                (previousTaskComplete, enforcementResult) ->
+                                        dispatchEnforcedMessage(enforcementResult, dispatcher)
                         )
-                ).handle((result, error) -> sendFutureComplete(task, error));
+                ).handle((result, error) -> onComplete.apply(task, error));
         return task.changesAuthorization()
                 ? previousFutures.appendBeforeStartFuture(taskFuture)
                 : previousFutures.appendBeforeCompleteFuture(taskFuture);
     }
 
-    private Void sendFutureComplete(final EnforcementTask task, @Nullable final Throwable error) {
-        getSelf().tell(FutureComplete.of(task.getEntityId(), error), ActorRef.noSender());
+    private Void sendFutureComplete(final EnforcementTask task, @Nullable final Throwable error,
+            final long scheduledAtNanos) {
+
+        getSelf().tell(FutureComplete.of(task.getEntityId(), error, scheduledAtNanos), ActorRef.noSender());
         return null;
     }
 
@@ -163,14 +188,18 @@ final class EnforcementScheduler extends AbstractActor {
 
         private final EntityId entityId;
         @Nullable private final Throwable error;
+        private final long scheduledAtNanos;
 
-        private FutureComplete(final EntityId entityId, @Nullable final Throwable error) {
+        private FutureComplete(final EntityId entityId, @Nullable final Throwable error,
+                final long scheduledAtNanos) {
             this.entityId = entityId;
             this.error = error;
+            this.scheduledAtNanos = scheduledAtNanos;
         }
 
-        private static FutureComplete of(final EntityId entityId, @Nullable final Throwable error) {
-            return new FutureComplete(entityId, error);
+        private static FutureComplete of(final EntityId entityId, @Nullable final Throwable error,
+                final long scheduledAtNanos) {
+            return new FutureComplete(entityId, error, scheduledAtNanos);
         }
 
         private Optional<Throwable> getError() {
@@ -187,7 +216,7 @@ final class EnforcementScheduler extends AbstractActor {
      * Cache entry for 1 entity including: its last scheduled authorization-changing task, its last scheduled
      * non-authorization-changing task, and the amount of in-flight enforcement tasks.
      */
-    private static final class Futures {
+    static final class Futures {
 
         private static final Futures INITIAL_FUTURES =
                 new Futures(CompletableFuture.completedStage(null), CompletableFuture.completedStage(null), 0);
@@ -207,10 +236,18 @@ final class EnforcementScheduler extends AbstractActor {
         /**
          * @return the initial future of all entities: all tasks complete; 0 task in-flight.
          */
-        private static Futures initial() {
+        static Futures initial() {
             return INITIAL_FUTURES;
         }
 
+        /**
+         * @return these futures with tasks scheduled after them not starting before {@code trigger} completes.
+         */
+        Futures startingAfter(final CompletionStage<?> trigger) {
+            return new Futures(trigger.thenCompose(triggered -> beforeStartFuture), beforeCompleteFuture,
+                    referenceCount);
+        }
+
         private Futures appendBeforeStartFuture(final CompletionStage<?> beforeStartFuture) {
 
             // Setting both futures to the specified future allows the garbage collector to discard the unused
@@ -223,7 +260,7 @@ final class EnforcementScheduler extends AbstractActor {
         }
 
         @Nullable
-        private Futures onComplete() {
+        Futures onComplete() {
             final int nextReferenceCount = referenceCount - 1;
             if (nextReferenceCount <= 0) {
                 return null;
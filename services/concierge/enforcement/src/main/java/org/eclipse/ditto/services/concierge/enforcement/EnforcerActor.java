@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
@@ -58,11 +59,17 @@ public final class EnforcerActor extends AbstractEnforcerActor {
             @Nullable final PreEnforcer preEnforcer,
             @Nullable final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
-            @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
+            @Nullable final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache) {
 
         super(pubSubMediator, conciergeForwarder, thingIdCache, aclEnforcerCache, policyEnforcerCache);
-        final ActorRef enforcementScheduler =
-                getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
+        final Consumer<EnforcementTask> enforcementScheduler;
+        if (getEnforcementConfig().isConcurrentSchedulingEnabled()) {
+            enforcementScheduler = ConcurrentEnforcementScheduler.of(getContext().dispatcher())::schedule;
+        } else {
+            final ActorRef enforcementSchedulerActor =
+                    getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
+            enforcementScheduler = task -> enforcementSchedulerActor.tell(task, ActorRef.noSender());
+        }
         sink = assembleSink(enforcementProviders, preEnforcer, enforcementScheduler);
     }
 
@@ -124,13 +131,14 @@ public final class EnforcerActor extends AbstractEnforcerActor {
      *
      * @param enforcementProviders a set of {@link EnforcementProvider}s.
      * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
+     * @param enforcementScheduler schedules the created enforcement tasks.
      * @return a handler as {@link Flow} of {@link Contextual} messages.
      */
     @SuppressWarnings("unchecked") // due to GraphDSL usage
     private Sink<Contextual<WithDittoHeaders<?>>, CompletionStage<Done>> assembleSink(
             final Set<EnforcementProvider<?>> enforcementProviders,
             @Nullable final PreEnforcer preEnforcer,
-            final ActorRef enforcementScheduler) {
+            final Consumer<EnforcementTask> enforcementScheduler) {
 
         final PreEnforcer preEnforcerStep =
                 preEnforcer != null ? preEnforcer : CompletableFuture::completedStage;
@@ -152,6 +160,6 @@ public final class EnforcerActor extends AbstractEnforcerActor {
 
         return Flow.<Contextual<WithDittoHeaders<?>>>create()
                 .via(enforcerFlow)
-                .toMat(Sink.foreach(task -> enforcementScheduler.tell(task, ActorRef.noSender())), Keep.right());
+                .toMat(Sink.foreach(enforcementScheduler::accept), Keep.right());
     }
 }
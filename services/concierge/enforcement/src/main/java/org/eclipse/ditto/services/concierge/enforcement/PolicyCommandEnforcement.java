@@ -323,6 +323,8 @@ public final class PolicyCommandEnforcement
     /**
      * Whenever a Command changed the authorization, the caches must be invalidated - otherwise a directly following
      * Command targeted for the same entity will probably fail as the enforcer was not yet updated.
+     * The enforcer actor of this node is notified as well, so that it puts the pushed modified policy into the cache
+     * although its entry was invalidated.
      *
      * @param policyId the ID of the Policy to invalidate caches for.
      */
@@ -332,7 +334,7 @@ public final class PolicyCommandEnforcement
         pubSubMediator().tell(DistPubSubAccess.sendToAll(
                 ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
                 InvalidateCacheEntry.of(entityId),
-                true),
+                false),
                 self());
     }
 
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.PolicyUpdate;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests that an {@link EnforcerActor} puts policies pushed as {@link PolicyUpdate} into its policy enforcer cache.
+ */
+public final class PolicyUpdateEnforcerCacheTest {
+
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(10);
+    private static final PolicyId POLICY_ID = PolicyId.of("my.namespace", "policyId");
+    private static final EntityIdWithResourceType ENTITY_ID =
+            EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, POLICY_ID);
+    private static final long REVISION = 4712L;
+
+    private ActorSystem system;
+    private TestProbe policiesShardRegionProbe;
+    private Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> enforcerCache;
+    private ActorRef underTest;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create("test", ConfigFactory.load("test"));
+        policiesShardRegionProbe = new TestProbe(system, "policiesShardRegion-" + UUID.randomUUID());
+        enforcerCache = CaffeineCache.of(Caffeine.newBuilder(),
+                new PolicyEnforcerCacheLoader(ASK_TIMEOUT, policiesShardRegionProbe.ref()));
+        final ActorRef pubSubMediator = new TestProbe(system, "pubSubMediator-" + UUID.randomUUID()).ref();
+        final ActorRef conciergeForwarder = new TestProbe(system, "conciergeForwarder-" + UUID.randomUUID()).ref();
+        underTest = system.actorOf(EnforcerActor.props(pubSubMediator,
+                Set.of(new PolicyCommandEnforcement.Provider(policiesShardRegionProbe.ref(), enforcerCache)),
+                conciergeForwarder, null, null, enforcerCache));
+    }
+
+    @After
+    public void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void newerRevisionReplacesCachedEnforcer() {
+        loadIntoCache(REVISION);
+
+        underTest.tell(PolicyUpdate.of(policyOfRevision(REVISION + 1)), ActorRef.noSender());
+
+        awaitCachedRevision(REVISION + 1);
+    }
+
+    @Test
+    public void olderRevisionIsIgnored() {
+        loadIntoCache(REVISION);
+
+        underTest.tell(PolicyUpdate.of(policyOfRevision(REVISION - 1)), ActorRef.noSender());
+        underTest.tell(PolicyUpdate.of(policyOfRevision(REVISION)), ActorRef.noSender());
+        policiesShardRegionProbe.expectNoMessage(scala.concurrent.duration.Duration.create(500, TimeUnit.MILLISECONDS));
+
+        assertThat(getCachedRevision()).contains(REVISION);
+    }
+
+    @Test
+    public void uncachedPolicyIsNotAddedWithoutWarmingOnPush() {
+        underTest.tell(PolicyUpdate.of(policyOfRevision(REVISION)), ActorRef.noSender());
+        policiesShardRegionProbe.expectNoMessage(scala.concurrent.duration.Duration.create(500, TimeUnit.MILLISECONDS));
+
+        assertThat(enforcerCache.getIfPresent(ENTITY_ID).join()).isEmpty();
+    }
+
+    @Test
+    public void pushedPolicyIsAddedAfterPreemptiveInvalidation() {
+        loadIntoCache(REVISION);
+
+        underTest.tell(InvalidateCacheEntry.of(ENTITY_ID), ActorRef.noSender());
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> enforcerCache.getIfPresent(ENTITY_ID).join().isEmpty());
+        underTest.tell(PolicyUpdate.of(policyOfRevision(REVISION + 1)), ActorRef.noSender());
+
+        awaitCachedRevision(REVISION + 1);
+        policiesShardRegionProbe.expectNoMessage();
+    }
+
+    @Test
+    public void pushedPolicyIsAddedAfterInvalidationOfItsRevision() {
+        loadIntoCache(REVISION);
+
+        underTest.tell(PolicyTag.of(POLICY_ID, REVISION + 1), ActorRef.noSender());
+        underTest.tell(PolicyUpdate.of(policyOfRevision(REVISION + 1)), ActorRef.noSender());
+
+        awaitCachedRevision(REVISION + 1);
+        policiesShardRegionProbe.expectNoMessage();
+    }
+
+    @Test
+    public void pushedPolicyIsNotAddedAfterInvalidationOfNewerRevision() {
+        loadIntoCache(REVISION);
+
+        underTest.tell(PolicyTag.of(POLICY_ID, REVISION + 2), ActorRef.noSender());
+        underTest.tell(PolicyUpdate.of(policyOfRevision(REVISION + 1)), ActorRef.noSender());
+        policiesShardRegionProbe.expectNoMessage(scala.concurrent.duration.Duration.create(500, TimeUnit.MILLISECONDS));
+
+        assertThat(enforcerCache.getIfPresent(ENTITY_ID).join()).isEmpty();
+    }
+
+    private void loadIntoCache(final long revision) {
+        final var loaded = enforcerCache.get(ENTITY_ID);
+        policiesShardRegionProbe.expectMsgClass(SudoRetrievePolicy.class);
+        policiesShardRegionProbe.reply(SudoRetrievePolicyResponse.of(POLICY_ID, policyOfRevision(revision),
+                DittoHeaders.empty()));
+        assertThat(loaded.join().map(Entry::getRevision)).contains(revision);
+    }
+
+    private void awaitCachedRevision(final long revision) {
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(getCachedRevision()).contains(revision));
+    }
+
+    private Optional<Long> getCachedRevision() {
+        return enforcerCache.getIfPresent(ENTITY_ID).join().map(Entry::getRevision);
+    }
+
+    private static Policy policyOfRevision(final long revision) {
+        return Policy.newBuilder(POLICY_ID)
+                .setRevision(revision)
+                .set(PolicyEntry.newInstance("default",
+                        Collections.singleton(Subject.newInstance(SubjectIssuer.GOOGLE, "subject")),
+                        Collections.singleton(Resource.newInstance(PoliciesResourceType.policyResource("/"),
+                                EffectedPermissions.newInstance(Permission.DEFAULT_POLICY_PERMISSIONS,
+                                        Collections.emptySet())))))
+                .build();
+    }
+
+}
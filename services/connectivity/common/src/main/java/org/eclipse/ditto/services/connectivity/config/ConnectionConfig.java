@@ -115,6 +115,14 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
      */
     HttpPushConfig getHttpPushConfig();
 
+    /**
+     * Returns the configuration of the micro-batching of outbound messages in publisher actors.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    PublisherBatchConfig getPublisherBatchConfig();
+
     /**
      * Returns the acknowledgement label declaration interval.
      *
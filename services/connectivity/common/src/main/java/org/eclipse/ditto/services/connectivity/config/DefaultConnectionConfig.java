@@ -49,6 +49,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
     private final MqttConfig mqttConfig;
     private final KafkaConfig kafkaConfig;
     private final HttpPushConfig httpPushConfig;
+    private final PublisherBatchConfig publisherBatchConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final Integer maxNumberOfTargets;
     private final Integer maxNumberOfSources;
@@ -67,6 +68,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         mqttConfig = DefaultMqttConfig.of(config);
         kafkaConfig = DefaultKafkaConfig.of(config);
         httpPushConfig = DefaultHttpPushConfig.of(config);
+        publisherBatchConfig = DefaultPublisherBatchConfig.of(config);
         activityCheckConfig = DefaultActivityCheckConfig.of(config);
         maxNumberOfTargets = config.getInt(ConnectionConfigValue.MAX_TARGET_NUMBER.getConfigPath());
         maxNumberOfSources = config.getInt(ConnectionConfigValue.MAX_SOURCE_NUMBER.getConfigPath());
@@ -158,6 +160,11 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return httpPushConfig;
     }
 
+    @Override
+    public PublisherBatchConfig getPublisherBatchConfig() {
+        return publisherBatchConfig;
+    }
+
     @Override
     public Duration getAckLabelDeclareInterval() {
         return ackLabelDeclareInterval;
@@ -193,6 +200,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 Objects.equals(mqttConfig, that.mqttConfig) &&
                 Objects.equals(kafkaConfig, that.kafkaConfig) &&
                 Objects.equals(httpPushConfig, that.httpPushConfig) &&
+                Objects.equals(publisherBatchConfig, that.publisherBatchConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(maxNumberOfTargets, that.maxNumberOfTargets) &&
                 Objects.equals(maxNumberOfSources, that.maxNumberOfSources) &&
@@ -205,7 +213,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return Objects.hash(clientActorAskTimeout, allowedHostnames, blockedHostnames, supervisorConfig, snapshotConfig,
                 acknowledgementConfig, maxNumberOfTargets, maxNumberOfSources,
                 activityCheckConfig, amqp10Config, amqp091Config, mqttConfig, kafkaConfig,
-                httpPushConfig, ackLabelDeclareInterval, allClientActorsOnOneNode);
+                httpPushConfig, publisherBatchConfig, ackLabelDeclareInterval, allClientActorsOnOneNode);
     }
 
     @Override
@@ -222,6 +230,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 ", mqttConfig=" + mqttConfig +
                 ", kafkaConfig=" + kafkaConfig +
                 ", httpPushConfig=" + httpPushConfig +
+                ", publisherBatchConfig=" + publisherBatchConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", maxNumberOfTargets=" + maxNumberOfTargets +
                 ", maxNumberOfSources=" + maxNumberOfSources +
@@ -30,9 +30,11 @@ public final class DefaultKafkaConfig implements KafkaConfig {
     private static final String CONFIG_PATH = "kafka";
 
     private final Config internalProducerConfig;
+    private final KafkaConsumerConfig consumerConfig;
 
     private DefaultKafkaConfig(final ScopedConfig kafkaScopedConfig) {
         internalProducerConfig = kafkaScopedConfig.getConfig("producer.internal");
+        consumerConfig = DefaultKafkaConsumerConfig.of(kafkaScopedConfig);
     }
 
     /**
@@ -51,6 +53,11 @@ public final class DefaultKafkaConfig implements KafkaConfig {
         return internalProducerConfig;
     }
 
+    @Override
+    public KafkaConsumerConfig getConsumerConfig() {
+        return consumerConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +67,20 @@ public final class DefaultKafkaConfig implements KafkaConfig {
             return false;
         }
         final DefaultKafkaConfig that = (DefaultKafkaConfig) o;
-        return Objects.equals(internalProducerConfig, that.internalProducerConfig);
+        return Objects.equals(internalProducerConfig, that.internalProducerConfig) &&
+                Objects.equals(consumerConfig, that.consumerConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalProducerConfig);
+        return Objects.hash(internalProducerConfig, consumerConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "internalProducerConfig=" + internalProducerConfig +
+                ", consumerConfig=" + consumerConfig +
                 "]";
     }
 
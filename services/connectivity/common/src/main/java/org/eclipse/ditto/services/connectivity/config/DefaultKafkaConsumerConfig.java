@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * This class is the default implementation of {@link KafkaConsumerConfig}.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
+
+    private static final String CONFIG_PATH = "consumer";
+    private static final String INTERNAL_CONFIG_PATH = "internal";
+
+    private final Duration pollTimeout;
+    private final int maxInFlightPerPartition;
+    private final Config internalConsumerConfig;
+
+    private DefaultKafkaConsumerConfig(final ScopedConfig config) {
+        pollTimeout = config.getDuration(ConfigValue.POLL_TIMEOUT.getConfigPath());
+        maxInFlightPerPartition = config.getInt(ConfigValue.MAX_IN_FLIGHT_PER_PARTITION.getConfigPath());
+        internalConsumerConfig = config.hasPath(INTERNAL_CONFIG_PATH)
+                ? config.getConfig(INTERNAL_CONFIG_PATH)
+                : ConfigFactory.empty();
+    }
+
+    /**
+     * Returns an instance of {@code DefaultKafkaConsumerConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the Kafka consumer config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultKafkaConsumerConfig of(final Config config) {
+        return new DefaultKafkaConsumerConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public Duration getPollTimeout() {
+        return pollTimeout;
+    }
+
+    @Override
+    public int getMaxInFlightPerPartition() {
+        return maxInFlightPerPartition;
+    }
+
+    @Override
+    public Config getInternalConsumerConfig() {
+        return internalConsumerConfig;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultKafkaConsumerConfig that = (DefaultKafkaConsumerConfig) o;
+        return maxInFlightPerPartition == that.maxInFlightPerPartition &&
+                Objects.equals(pollTimeout, that.pollTimeout) &&
+                Objects.equals(internalConsumerConfig, that.internalConsumerConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pollTimeout, maxInFlightPerPartition, internalConsumerConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "pollTimeout=" + pollTimeout +
+                ", maxInFlightPerPartition=" + maxInFlightPerPartition +
+                ", internalConsumerConfig=" + internalConsumerConfig +
+                "]";
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link PublisherBatchConfig}.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DefaultPublisherBatchConfig implements PublisherBatchConfig {
+
+    private static final String CONFIG_PATH = "publisher-batch";
+
+    private final int maxSize;
+    private final Duration linger;
+
+    private DefaultPublisherBatchConfig(final ScopedConfig config) {
+        maxSize = config.getInt(ConfigValue.MAX_SIZE.getConfigPath());
+        linger = config.getDuration(ConfigValue.LINGER.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultPublisherBatchConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the publisher batch config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultPublisherBatchConfig of(final Config config) {
+        return new DefaultPublisherBatchConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public Duration getLinger() {
+        return linger;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultPublisherBatchConfig that = (DefaultPublisherBatchConfig) o;
+        return maxSize == that.maxSize && Objects.equals(linger, that.linger);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxSize, linger);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxSize=" + maxSize +
+                ", linger=" + linger +
+                "]";
+    }
+
+}
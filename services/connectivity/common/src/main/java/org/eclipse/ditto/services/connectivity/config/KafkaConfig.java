@@ -29,4 +29,12 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the configuration of the consumers of Kafka connections.
+     *
+     * @return the consumer config.
+     * @since 2.0.0
+     */
+    KafkaConsumerConfig getConsumerConfig();
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * Provides configuration settings of the consumers of Kafka connections.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface KafkaConsumerConfig {
+
+    /**
+     * Returns how long one poll of a consumer waits for records.
+     *
+     * @return the poll timeout.
+     */
+    Duration getPollTimeout();
+
+    /**
+     * Returns the maximum number of records of one partition which are consumed but not yet settled. The partition is
+     * paused while this number is reached.
+     *
+     * @return the maximum number of unsettled records per partition.
+     */
+    int getMaxInFlightPerPartition();
+
+    /**
+     * Returns the Config for consumers needed by the Kafka client.
+     *
+     * @return internal consumer configuration needed by the Kafka client.
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConsumerConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * How long one poll of a consumer waits for records.
+         */
+        POLL_TIMEOUT("poll-timeout", Duration.ofMillis(100L)),
+
+        /**
+         * The maximum number of consumed but not yet settled records per partition.
+         */
+        MAX_IN_FLIGHT_PER_PARTITION("max-in-flight-per-partition", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the micro-batching of outbound messages in publisher actors.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface PublisherBatchConfig {
+
+    /**
+     * Returns the maximum number of messages for one publish target to collect in a batch.
+     * Batching is disabled if this is 1 or less.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxSize();
+
+    /**
+     * Returns how long to wait for more messages for one publish target before publishing an incomplete batch.
+     *
+     * @return the linger duration.
+     */
+    Duration getLinger();
+
+    /**
+     * Indicates whether batching is enabled.
+     *
+     * @return whether more than 1 message may be published in a batch.
+     */
+    default boolean isEnabled() {
+        return getMaxSize() > 1;
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code PublisherBatchConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of messages for one publish target to collect in a batch.
+         */
+        MAX_SIZE("max-size", 1),
+
+        /**
+         * How long to wait for more messages before publishing an incomplete batch.
+         */
+        LINGER("linger", Duration.ofMillis(5L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -49,6 +49,15 @@ public interface JavaScriptConfig {
      */
     int getMaxScriptStackDepth();
 
+    /**
+     * Returns the Rhino optimization level of compiled mapping scripts. {@code -1} runs scripts in the interpreter,
+     * levels from {@code 0} to {@code 9} compile them to JVM bytecode which does not limit the call stack depth.
+     *
+     * @return the optimization level.
+     * @since 2.0.0
+     */
+    int getOptimizationLevel();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code JavaScriptConfig}.
@@ -68,7 +77,14 @@ public interface JavaScriptConfig {
         /**
          * The maximum call stack depth in the mapping script.
          */
-        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10);
+        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10),
+
+        /**
+         * The Rhino optimization level of compiled mapping scripts.
+         *
+         * @since 2.0.0
+         */
+        OPTIMIZATION_LEVEL("optimizationLevel", -1);
 
         private final String path;
         private final Object defaultValue;
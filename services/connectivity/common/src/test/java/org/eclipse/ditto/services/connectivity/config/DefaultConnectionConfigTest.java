@@ -61,7 +61,8 @@ public final class DefaultConnectionConfigTest {
                         DefaultSignalEnrichmentConfig.class,
                         DefaultMqttConfig.class,
                         DefaultKafkaConfig.class,
-                        DefaultAmqp10Config.class
+                        DefaultAmqp10Config.class,
+                        DefaultPublisherBatchConfig.class
                 ).areAlsoImmutable()
         );
     }
@@ -123,6 +124,32 @@ public final class DefaultConnectionConfigTest {
                         .as(HttpPushConfig.ConfigValue.MAX_QUEUE_SIZE.getConfigPath())
                         .isEqualTo(9));
 
+        softly.assertThat(underTest.getPublisherBatchConfig())
+                .as("publisherBatchConfig")
+                .satisfies(publisherBatchConfig -> {
+                    softly.assertThat(publisherBatchConfig.getMaxSize())
+                            .as(PublisherBatchConfig.ConfigValue.MAX_SIZE.getConfigPath())
+                            .isEqualTo(50);
+                    softly.assertThat(publisherBatchConfig.getLinger())
+                            .as(PublisherBatchConfig.ConfigValue.LINGER.getConfigPath())
+                            .isEqualTo(Duration.ofMillis(20L));
+                });
+
+        softly.assertThat(underTest.getKafkaConfig().getConsumerConfig())
+                .as("kafkaConsumerConfig")
+                .satisfies(kafkaConsumerConfig -> {
+                    softly.assertThat(kafkaConsumerConfig.getPollTimeout())
+                            .as(KafkaConsumerConfig.ConfigValue.POLL_TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofMillis(50L));
+                    softly.assertThat(kafkaConsumerConfig.getMaxInFlightPerPartition())
+                            .as(KafkaConsumerConfig.ConfigValue.MAX_IN_FLIGHT_PER_PARTITION.getConfigPath())
+                            .isEqualTo(10);
+                    softly.assertThat(kafkaConsumerConfig.getInternalConsumerConfig()
+                            .getInt("kafka-clients.max.poll.records"))
+                            .as("internal.kafka-clients.max.poll.records")
+                            .isEqualTo(100);
+                });
+
         softly.assertThat(underTest.getAmqp091Config())
                 .as("amqp091Config")
                 .satisfies(amqp091Config -> softly.assertThat(amqp091Config.getPublisherPendingAckTTL())
@@ -66,7 +66,7 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
     public List<Adaptable> map(final ExternalMessage message) {
         final String payload = extractPayloadAsString(message);
         final JsonifiableAdaptable jsonifiableAdaptable = DittoJsonException.wrapJsonRuntimeException(() ->
-                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(payload))
+                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObjectLazily(payload))
         );
 
         final DittoHeaders mergedHeaders = jsonifiableAdaptable.getDittoHeaders();
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Node-wide cache of compiled Rhino {@link Script}s shared by all {@link JavaScriptMessageMapperRhino}s.
+ * <p>
+ * Compiled scripts do not hold any state and may be executed concurrently in different scopes and contexts, so mappers
+ * with identical scripts only compile them once. Each mapper still executes the scripts in its own scope with its own
+ * standard objects, so that mappers can neither see each other's global variables nor each other's modifications of
+ * built-in prototypes.
+ */
+@ThreadSafe
+final class CompiledScriptCache {
+
+    /**
+     * Maximum number of cached compiled scripts which are not loaded from the classpath, i. e. of mapping scripts of
+     * connections.
+     */
+    private static final int MAX_CACHED_SCRIPTS = 1000;
+
+    private static final CompiledScriptCache INSTANCE = new CompiledScriptCache();
+
+    private final Map<ScriptKey, Script> resourceScripts;
+    private final Map<ScriptKey, Script> scripts;
+
+    private CompiledScriptCache() {
+        resourceScripts = new ConcurrentHashMap<>();
+        scripts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ScriptKey, Script> eldest) {
+                return size() > MAX_CACHED_SCRIPTS;
+            }
+        });
+    }
+
+    /**
+     * Returns the node-wide instance of the cache.
+     *
+     * @return the instance.
+     */
+    static CompiledScriptCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a new top-level scope for one mapper with its own safe standard objects, which disable "print, exit,
+     * quit", etc. The standard objects are initialized lazily by Rhino, so this is cheap compared to compiling scripts.
+     *
+     * @param cx the context of the current thread.
+     * @return the new scope.
+     */
+    Scriptable newScope(final Context cx) {
+        return cx.initSafeStandardObjects();
+    }
+
+    /**
+     * Returns the compiled script of a classpath resource, e. g. a library, compiling it on first use.
+     *
+     * @param cx the context of the current thread which determines the optimization level.
+     * @param resourcePath the path of the script on the classpath.
+     * @return the compiled script.
+     * @throws IllegalStateException if the resource could not be read.
+     */
+    Script getResourceScript(final Context cx, final String resourcePath) {
+        final ScriptKey key = new ScriptKey(cx.getOptimizationLevel(), resourcePath, resourcePath);
+        return resourceScripts.computeIfAbsent(key, k -> cx.compileString(readResource(resourcePath), resourcePath,
+                1, null));
+    }
+
+    /**
+     * Returns the compiled script of a source, compiling it if no identical script with the same name and
+     * optimization level was compiled before.
+     *
+     * @param cx the context of the current thread which determines the optimization level.
+     * @param source the source of the script.
+     * @param sourceName the name of the script shown in errors.
+     * @return the compiled script.
+     * @throws org.mozilla.javascript.EvaluatorException if the script contains syntax errors.
+     */
+    Script getScript(final Context cx, final String source, final String sourceName) {
+        final ScriptKey key = new ScriptKey(cx.getOptimizationLevel(), sourceName, hash(source));
+        final Script cachedScript = scripts.get(key);
+        if (cachedScript != null) {
+            return cachedScript;
+        }
+        // compile outside of the lock; concurrently compiled identical scripts are equivalent
+        final Script script = cx.compileString(source, sourceName, 1, null);
+        scripts.put(key, script);
+        return script;
+    }
+
+    private static String readResource(final String resourcePath) {
+        try (final InputStream inputStream = CompiledScriptCache.class.getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Could not find script <" + resourcePath + ">");
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not load script <" + resourcePath + ">", e);
+        }
+    }
+
+    private static String hash(final String source) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ScriptKey {
+
+        private final int optimizationLevel;
+        private final String sourceName;
+        private final String sourceHash;
+
+        private ScriptKey(final int optimizationLevel, final String sourceName, final String sourceHash) {
+            this.optimizationLevel = optimizationLevel;
+            this.sourceName = sourceName;
+            this.sourceHash = sourceHash;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ScriptKey that = (ScriptKey) o;
+            return optimizationLevel == that.optimizationLevel &&
+                    Objects.equals(sourceName, that.sourceName) &&
+                    Objects.equals(sourceHash, that.sourceHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(optimizationLevel, sourceName, sourceHash);
+        }
+
+    }
+
+}
@@ -13,7 +13,6 @@
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collections;
 import java.util.List;
@@ -54,6 +53,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
+    private static final CompiledScriptCache COMPILED_SCRIPTS = CompiledScriptCache.getInstance();
+
     @Nullable private ContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
@@ -88,12 +89,13 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         }
 
         contextFactory = new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
-                javaScriptConfig.getMaxScriptStackDepth());
+                javaScriptConfig.getMaxScriptStackDepth(), javaScriptConfig.getOptimizationLevel());
 
         try {
             // create scope once and load the required libraries in order to get best performance:
             contextFactory.call(cx -> {
-                final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
+                // the safe standard objects disable "print, exit, quit", etc.
+                final Scriptable scope = COMPILED_SCRIPTS.newScope(cx);
                 initLibraries(cx, scope);
                 return scope;
             });
@@ -121,20 +123,15 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
     private void initLibraries(final Context cx, final Scriptable scope) {
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
+            COMPILED_SCRIPTS.getResourceScript(cx, WEBJARS_LONG).exec(cx, scope);
         }
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
+            COMPILED_SCRIPTS.getResourceScript(cx, WEBJARS_BYTEBUFFER).exec(cx, scope);
         }
 
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+        COMPILED_SCRIPTS.getResourceScript(cx, DITTO_SCOPE_SCRIPT).exec(cx, scope);
+        COMPILED_SCRIPTS.getResourceScript(cx, INCOMING_SCRIPT).exec(cx, scope);
+        COMPILED_SCRIPTS.getResourceScript(cx, OUTGOING_SCRIPT).exec(cx, scope);
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
@@ -144,8 +141,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             incomingMapping = DefaultIncomingMapping.get();
         } else {
             incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
+            COMPILED_SCRIPTS.getScript(cx, userIncomingScript,
+                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT).exec(cx, scope);
         }
 
         final String userOutgoingScript = getConfiguration()
@@ -156,8 +153,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
             outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+            COMPILED_SCRIPTS.getScript(cx, userOutgoingScript,
+                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT).exec(cx, scope);
         }
     }
 
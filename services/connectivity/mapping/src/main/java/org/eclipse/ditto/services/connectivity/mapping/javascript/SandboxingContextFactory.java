@@ -30,12 +30,13 @@ final class SandboxingContextFactory extends ContextFactory {
     private static final int INSTRUCTION_OBSERVER_THRESHOLD = 10000;
 
     /**
-     * Use pure interpreter mode, otherwise max script exec time observation won't work.
+     * Pure interpreter mode, the only mode in which the max stack depth can be limited.
      */
-    private static final int OPTIMIZATION_LEVEL = -1;
+    static final int INTERPRETED_OPTIMIZATION_LEVEL = -1;
 
     private final Duration maxScriptExecutionTime;
     private final int maxStackDepth;
+    private final int optimizationLevel;
 
     /**
      * Constructs a new ContextFactory for sandboxing Rhino executions.
@@ -46,17 +47,37 @@ final class SandboxingContextFactory extends ContextFactory {
      * computation.
      */
     SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth) {
+        this(maxScriptExecutionTime, maxStackDepth, INTERPRETED_OPTIMIZATION_LEVEL);
+    }
+
+    /**
+     * Constructs a new ContextFactory for sandboxing Rhino executions.
+     *
+     * @param maxScriptExecutionTime the maximum execution time of a mapping script to run.
+     * Prevents endless loops and too complex scripts.
+     * @param maxStackDepth the maximum call stack depth in the mapping script. Only limited in interpreter mode.
+     * @param optimizationLevel the Rhino optimization level: {@code -1} for interpreter mode, {@code 0} to {@code 9}
+     * for compiling scripts to JVM bytecode.
+     */
+    SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth,
+            final int optimizationLevel) {
         this.maxScriptExecutionTime = maxScriptExecutionTime;
         this.maxStackDepth = maxStackDepth;
+        this.optimizationLevel = optimizationLevel;
     }
 
     @Override
     protected Context makeContext() {
         final StartTimeAwareContext cx = new StartTimeAwareContext(this);
-        cx.setOptimizationLevel(OPTIMIZATION_LEVEL);
+        cx.setOptimizationLevel(optimizationLevel);
         cx.setInstructionObserverThreshold(INSTRUCTION_OBSERVER_THRESHOLD);
         cx.setLanguageVersion(Context.VERSION_ES6);
-        cx.setMaximumInterpreterStackDepth(maxStackDepth);
+        if (optimizationLevel == INTERPRETED_OPTIMIZATION_LEVEL) {
+            cx.setMaximumInterpreterStackDepth(maxStackDepth);
+        } else {
+            // compiled scripts only observe the max script exec time if the bytecode counts instructions
+            cx.setGenerateObserverCount(true);
+        }
         return cx;
     }
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Unit test for {@link CompiledScriptCache}.
+ */
+public final class CompiledScriptCacheTest {
+
+    private static final String SCRIPT = "var counter = (typeof counter === 'undefined') ? 1 : counter + 1;";
+
+    private final CompiledScriptCache underTest = CompiledScriptCache.getInstance();
+
+    @Test
+    public void identicalScriptsAreCompiledOnce() {
+        final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+        final Script first = contextFactory.call(cx -> underTest.getScript(cx, SCRIPT, "test"));
+        final Script second = contextFactory.call(cx -> underTest.getScript(cx, SCRIPT, "test"));
+        final Script otherName = contextFactory.call(cx -> underTest.getScript(cx, SCRIPT, "other"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(otherName).isNotSameAs(first);
+    }
+
+    @Test
+    public void scriptsOfOtherOptimizationLevelsAreCompiledSeparately() {
+        final SandboxingContextFactory interpreted = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+        final SandboxingContextFactory compiled = new SandboxingContextFactory(Duration.ofMillis(500), 10, 9);
+        final Script interpretedScript = interpreted.call(cx -> underTest.getScript(cx, SCRIPT, "test"));
+        final Script compiledScript = compiled.call(cx -> underTest.getScript(cx, SCRIPT, "test"));
+
+        assertThat(compiledScript).isNotSameAs(interpretedScript);
+    }
+
+    @Test
+    public void resourceScriptsAreCompiledOnce() {
+        final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+        final Script first = contextFactory.call(cx ->
+                underTest.getResourceScript(cx, JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT));
+        final Script second = contextFactory.call(cx ->
+                underTest.getResourceScript(cx, JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void scopesDoNotShareGlobalVariables() {
+        final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+        contextFactory.call(cx -> {
+            final Script script = underTest.getScript(cx, SCRIPT, "test");
+            final Scriptable scope1 = underTest.newScope(cx);
+            final Scriptable scope2 = underTest.newScope(cx);
+            script.exec(cx, scope1);
+            script.exec(cx, scope1);
+            script.exec(cx, scope2);
+
+            assertThat(((Number) scope1.get("counter", scope1)).intValue()).isEqualTo(2);
+            assertThat(((Number) scope2.get("counter", scope2)).intValue()).isEqualTo(1);
+            return null;
+        });
+    }
+
+    @Test
+    public void scopesDoNotShareModificationsOfBuiltInPrototypes() {
+        final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+        contextFactory.call(cx -> {
+            final Scriptable scope1 = underTest.newScope(cx);
+            final Scriptable scope2 = underTest.newScope(cx);
+            cx.evaluateString(scope1, "String.prototype.shout = function() { return this.toUpperCase(); };",
+                    "test", 1, null);
+
+            assertThat(cx.evaluateString(scope1, "'ditto'.shout()", "test", 1, null)).isEqualTo("DITTO");
+            assertThat(cx.evaluateString(scope2, "typeof 'ditto'.shout", "test", 1, null)).isEqualTo("undefined");
+            return null;
+        });
+    }
+
+}
@@ -75,6 +75,17 @@ public class JavaScriptMessageMapperRhinoBenchmark {
         runScenario(scenario);
     }
 
+    /**
+     * Measures the configuration of a mapper loading the bytebuffer.js library, i. e. the startup cost of a
+     * connection with a JavaScript mapping whose scripts were already compiled for another mapper.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public MessageMapper configureMapperWithBytebuffer(final Test1DecodeBinaryPayloadToDitto scenario) {
+        return scenario.getMessageMapper();
+    }
+
     private void runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
@@ -46,6 +46,7 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.GenericTarget;
 import org.eclipse.ditto.model.connectivity.HeaderMapping;
+import org.eclipse.ditto.model.connectivity.MessageSendingFailedException;
 import org.eclipse.ditto.model.connectivity.ReplyTarget;
 import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
@@ -58,6 +59,7 @@ import org.eclipse.ditto.services.connectivity.config.ConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.config.MonitoringLoggerConfig;
+import org.eclipse.ditto.services.connectivity.config.PublisherBatchConfig;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
@@ -110,6 +112,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     private final List<Optional<ReplyTarget>> replyTargets;
     private final int acknowledgementSizeBudget;
     private final String clientId;
+    private final PublisherBatchConfig batchConfig;
+    private final Map<T, List<BatchedMessage<T>>> pendingBatches;
     protected final ExpressionResolver connectionIdResolver;
 
     protected BasePublisherActor(final Connection connection, final String clientId) {
@@ -133,6 +137,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         responseAcknowledgedMonitor = connectionMonitorRegistry.forResponseAcknowledged(connection);
         replyTargets = connection.getSources().stream().map(Source::getReplyTarget).collect(Collectors.toList());
         acknowledgementSizeBudget = connectionConfig.getAcknowledgementConfig().getIssuedMaxBytes();
+        batchConfig = connectionConfig.getPublisherBatchConfig();
+        pendingBatches = new HashMap<>();
         this.logger = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this)
                 .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID, connection.getId());
 
@@ -148,12 +154,19 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return DittoConnectivityConfig.of(dittoScopedConfig);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        failPendingBatches();
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         final ReceiveBuilder receiveBuilder = receiveBuilder();
         preEnhancement(receiveBuilder);
 
         receiveBuilder.match(OutboundSignal.MultiMapped.class, this::sendMultiMappedOutboundSignal)
+                .match(FlushBatch.class, this::flushBatch)
                 .match(RetrieveAddressStatus.class, ram -> getCurrentTargetStatus().forEach(rs ->
                         getSender().tell(rs, getSelf())));
 
@@ -417,7 +430,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
             @Nullable final Target autoAckTarget = sendingContext.getAutoAckTarget().orElse(null);
             final HeaderMapping headerMapping = genericTarget.getHeaderMapping().orElse(null);
             final ExternalMessage mappedMessage = applyHeaderMapping(resolver, outbound, headerMapping);
-            final CompletionStage<CommandResponse<?>> responsesFuture = publishMessage(outboundSource,
+            final CompletionStage<CommandResponse<?>> responsesFuture = publishMessageOrAddToBatch(outboundSource,
                     autoAckTarget,
                     publishTarget,
                     mappedMessage,
@@ -433,6 +446,71 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return result;
     }
 
+    private CompletionStage<CommandResponse<?>> publishMessageOrAddToBatch(final Signal<?> signal,
+            @Nullable final Target autoAckTarget,
+            final T publishTarget,
+            final ExternalMessage message,
+            final int maxTotalMessageSize,
+            final int ackSizeQuota) {
+
+        if (batchConfig.isEnabled() && isBatchable(signal, autoAckTarget, message)) {
+            final BatchedMessage<T> batchedMessage = new BatchedMessage<>(signal, autoAckTarget, publishTarget,
+                    message, maxTotalMessageSize, ackSizeQuota);
+            final List<BatchedMessage<T>> batch = pendingBatches.computeIfAbsent(publishTarget, target -> {
+                final List<BatchedMessage<T>> newBatch = new ArrayList<>(batchConfig.getMaxSize());
+                scheduleFlush(target, newBatch);
+                return newBatch;
+            });
+            batch.add(batchedMessage);
+            if (batch.size() >= batchConfig.getMaxSize()) {
+                publishPendingBatch(publishTarget);
+            }
+            return batchedMessage.getResult();
+        } else {
+            // publish the pending batch first to keep the order of messages for the publish target
+            publishPendingBatch(publishTarget);
+            return publishMessage(signal, autoAckTarget, publishTarget, message, maxTotalMessageSize, ackSizeQuota);
+        }
+    }
+
+    private void scheduleFlush(final T publishTarget, final List<BatchedMessage<T>> batch) {
+        final ActorContext context = getContext();
+        context.getSystem()
+                .scheduler()
+                .scheduleOnce(batchConfig.getLinger(), getSelf(), new FlushBatch(publishTarget, batch),
+                        context.getDispatcher(), ActorRef.noSender());
+    }
+
+    private void flushBatch(final FlushBatch flushBatch) {
+        final List<BatchedMessage<T>> pendingBatch = pendingBatches.get(flushBatch.publishTarget);
+        // the batch may already be published because it was full
+        if (pendingBatch != null && pendingBatch == flushBatch.batch) {
+            publishPendingBatch(flushBatch.publishTarget);
+        }
+    }
+
+    private void publishPendingBatch(final Object publishTarget) {
+        final List<BatchedMessage<T>> batch = pendingBatches.remove(publishTarget);
+        if (batch != null && !batch.isEmpty()) {
+            try {
+                publishBatch(batch.get(0).getPublishTarget(), batch);
+            } catch (final Exception e) {
+                batch.forEach(batchedMessage -> batchedMessage.getResult().completeExceptionally(e));
+            }
+        }
+    }
+
+    private void failPendingBatches() {
+        pendingBatches.values().forEach(batch -> batch.forEach(batchedMessage -> {
+            final MessageSendingFailedException error = MessageSendingFailedException.newBuilder()
+                    .message("Publisher stopped before the message was sent.")
+                    .dittoHeaders(batchedMessage.getSignal().getDittoHeaders())
+                    .build();
+            batchedMessage.getResult().completeExceptionally(error);
+        }));
+        pendingBatches.clear();
+    }
+
     private static ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
             final OutboundSignal.Mapped outboundSignal, @Nullable final HeaderMapping headerMapping) {
 
@@ -486,6 +564,41 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
             int maxTotalMessageSize,
             int ackSizeQuota);
 
+    /**
+     * Indicates whether a message may be collected in a batch with other messages for the same publish target
+     * if batching is enabled by the config {@code ditto.connectivity.connection.publisher-batch}.
+     * Override if the publisher supports native batches.
+     *
+     * @param signal the signal from which the message was mapped.
+     * @param autoAckTarget the target issuing acknowledgements for the message, if any.
+     * @param message the message to publish.
+     * @return whether the message may be batched. {@code false} by default.
+     */
+    protected boolean isBatchable(final Signal<?> signal, @Nullable final Target autoAckTarget,
+            final ExternalMessage message) {
+
+        return false;
+    }
+
+    /**
+     * Publish a batch of messages for the same publish target. Must complete the result of each message with its
+     * command response, like {@link #publishMessage(Signal, Target, PublishTarget, ExternalMessage, int, int)}.
+     * Publishes the messages one by one by default; override to use the native batch mechanism of the protocol.
+     *
+     * @param publishTarget the {@link PublishTarget} to publish to.
+     * @param batch the batched messages in the order they were published in.
+     */
+    protected void publishBatch(final T publishTarget, final List<BatchedMessage<T>> batch) {
+        for (final BatchedMessage<T> batchedMessage : batch) {
+            batchedMessage.completeWith(publishMessage(batchedMessage.getSignal(),
+                    batchedMessage.getAutoAckTarget().orElse(null),
+                    publishTarget,
+                    batchedMessage.getMessage(),
+                    batchedMessage.getMaxTotalMessageSize(),
+                    batchedMessage.getAckSizeQuota()));
+        }
+    }
+
     /**
      * Decode a byte buffer according to the charset specified in an external message.
      *
@@ -582,4 +695,117 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                 (signal instanceof ThingCommand && ProtocolAdapter.isLiveSignal(signal));
     }
 
+    /**
+     * A message collected in a batch for a publish target. The acknowledgement of each message in the batch is
+     * tracked individually by its result.
+     *
+     * @param <T> the type of publish targets.
+     */
+    protected static final class BatchedMessage<T extends PublishTarget> {
+
+        private final Signal<?> signal;
+        @Nullable private final Target autoAckTarget;
+        private final T publishTarget;
+        private final ExternalMessage message;
+        private final int maxTotalMessageSize;
+        private final int ackSizeQuota;
+        private final CompletableFuture<CommandResponse<?>> result;
+
+        private BatchedMessage(final Signal<?> signal,
+                @Nullable final Target autoAckTarget,
+                final T publishTarget,
+                final ExternalMessage message,
+                final int maxTotalMessageSize,
+                final int ackSizeQuota) {
+
+            this.signal = signal;
+            this.autoAckTarget = autoAckTarget;
+            this.publishTarget = publishTarget;
+            this.message = message;
+            this.maxTotalMessageSize = maxTotalMessageSize;
+            this.ackSizeQuota = ackSizeQuota;
+            result = new CompletableFuture<>();
+        }
+
+        /**
+         * @return the signal from which the message was mapped.
+         */
+        public Signal<?> getSignal() {
+            return signal;
+        }
+
+        /**
+         * @return the target issuing acknowledgements for the message, if any.
+         */
+        public Optional<Target> getAutoAckTarget() {
+            return Optional.ofNullable(autoAckTarget);
+        }
+
+        /**
+         * @return the publish target of the message.
+         */
+        public T getPublishTarget() {
+            return publishTarget;
+        }
+
+        /**
+         * @return the message to publish.
+         */
+        public ExternalMessage getMessage() {
+            return message;
+        }
+
+        /**
+         * @return the total max message size in bytes of the payload of an automatically created response.
+         */
+        public int getMaxTotalMessageSize() {
+            return maxTotalMessageSize;
+        }
+
+        /**
+         * @return the budget in bytes for the payload of the acknowledgement of the message.
+         */
+        public int getAckSizeQuota() {
+            return ackSizeQuota;
+        }
+
+        /**
+         * @return the future of the command response of the message, to be completed by the publisher.
+         */
+        public CompletableFuture<CommandResponse<?>> getResult() {
+            return result;
+        }
+
+        /**
+         * Complete the result of the message with the result of publishing it.
+         *
+         * @param responseFuture future of the command response of the message.
+         */
+        public void completeWith(final CompletionStage<CommandResponse<?>> responseFuture) {
+            responseFuture.whenComplete((response, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(response);
+                }
+            });
+        }
+
+    }
+
+    /**
+     * Message to publish a pending batch after the linger duration.
+     */
+    private static final class FlushBatch {
+
+        private final Object publishTarget;
+        private final List<?> batch;
+
+        private FlushBatch(final Object publishTarget, final List<?> batch) {
+            this.publishTarget = publishTarget;
+            this.batch = batch;
+        }
+
+    }
+
 }
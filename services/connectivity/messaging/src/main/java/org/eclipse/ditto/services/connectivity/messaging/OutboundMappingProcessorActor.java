@@ -26,9 +26,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -53,9 +53,8 @@ import org.eclipse.ditto.model.connectivity.LogType;
 import org.eclipse.ditto.model.connectivity.MetricDirection;
 import org.eclipse.ditto.model.connectivity.MetricType;
 import org.eclipse.ditto.model.connectivity.Target;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.query.things.ThingPredicateCache;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
@@ -91,7 +90,6 @@ import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleEx
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
 import akka.Done;
-import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
@@ -100,7 +98,6 @@ import akka.japi.pf.PFBuilder;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Sink;
-import akka.stream.javadsl.Source;
 import scala.PartialFunction;
 import scala.runtime.BoxedUnit;
 
@@ -120,6 +117,11 @@ public final class OutboundMappingProcessorActor
      */
     private static final String MESSAGE_MAPPING_PROCESSOR_DISPATCHER = "message-mapping-processor-dispatcher";
 
+    /**
+     * The filters of a connection are those of its target topics; this bound is only a safeguard.
+     */
+    private static final int MAX_COMPILED_FILTERS = 100;
+
     private final ThreadSafeDittoLoggingAdapter logger;
 
     private final ActorRef clientActor;
@@ -132,6 +134,8 @@ public final class OutboundMappingProcessorActor
     private final SignalEnrichmentFacade signalEnrichmentFacade;
     private final int processorPoolSize;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
+    private final Executor mappingExecutor;
+    private final ThingPredicateCache thingPredicateCache;
 
     // not final because it may change when the underlying config changed
     private OutboundMappingProcessor outboundMappingProcessor;
@@ -167,6 +171,8 @@ public final class OutboundMappingProcessorActor
                 ConnectivitySignalEnrichmentProvider.get(getContext().getSystem()).getFacade(this.connection.getId());
         this.processorPoolSize = determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
         toErrorResponseFunction = DittoRuntimeExceptionToErrorResponseFunction.of(limitsConfig.getHeadersMaxSize());
+        mappingExecutor = getContext().getDispatcher();
+        thingPredicateCache = ThingPredicateCache.newInstance(MAX_COMPILED_FILTERS);
     }
 
     /**
@@ -294,22 +300,32 @@ public final class OutboundMappingProcessorActor
     protected Sink<OutboundSignalWithId, ?> createSink() {
         // Enrich outbound signals by extra fields if necessary.
         // Targets attached to the OutboundSignal are pre-selected by authorization, topic and filter sans enrichment.
+        // Splitting, enrichment, filtering and mapping are fused into 1 future per outbound signal instead of
+        // materializing a sub-stream for each of them.
         final Flow<OutboundSignalWithId, OutboundSignal.MultiMapped, ?> flow = Flow.<OutboundSignalWithId>create()
-                .mapAsync(processorPoolSize, outbound -> toMultiMappedOutboundSignal(
-                        outbound,
-                        Source.single(outbound)
-                                .via(splitByTargetExtraFieldsFlow())
-                                .mapAsync(mappingConfig.getParallelism(), this::enrichAndFilterSignal)
-                                .mapConcat(x -> x)
-                                .map(this::handleOutboundSignal)
-                                .flatMapConcat(x -> x)
-                ))
+                .mapAsync(processorPoolSize, this::processOutboundSignal)
                 .mapConcat(x -> x);
         return flow.to(Sink.foreach(this::forwardToPublisherActor));
     }
 
+    // Called inside stream; must be thread-safe
+    private CompletionStage<Collection<OutboundSignal.MultiMapped>> processOutboundSignal(
+            final OutboundSignalWithId outbound) {
+
+        final List<Pair<OutboundSignalWithId, FilteredTopic>> splitSignals = splitByTargetExtraFields(outbound);
+        final CompletableFuture<List<OutboundSignalWithId>> enrichedSignals = enrichAndFilterSignals(splitSignals);
+        if (enrichedSignals.isDone()) {
+            // no signal enrichment pending: map in the calling stream stage without a thread hop
+            return enrichedSignals.thenApply(signals -> toMultiMappedOutboundSignal(outbound, signals));
+        } else {
+            // map on the dispatcher of this actor rather than on the thread completing the enrichment
+            return enrichedSignals.thenApplyAsync(signals -> toMultiMappedOutboundSignal(outbound, signals),
+                    mappingExecutor);
+        }
+    }
+
     /**
-     * Create a flow that splits 1 outbound signal into many as follows.
+     * Split 1 outbound signal into many as follows.
      * <ol>
      * <li>
      * Targets with matching filtered topics without extra fields are grouped into 1 outbound signal, followed by
@@ -317,39 +333,75 @@ public final class OutboundMappingProcessorActor
      * <li>one outbound signal for each target with a matching filtered topic with extra fields.</li>
      * </ol>
      * The matching filtered topic is attached in the latter case.
-     * Consequently, for each outbound signal leaving this flow, if it has a filtered topic attached,
+     * Consequently, for each outbound signal in the result, if it has a filtered topic attached,
      * then it has 1 unique target with a matching topic with extra fields.
      * This satisfies the precondition of {@code this#enrichAndFilterSignal}.
      *
-     * @return the flow.
+     * @param outboundSignal the outbound signal to split.
+     * @return the split outbound signals in the order in which they are to be published.
      */
-    private static Flow<OutboundSignalWithId, Pair<OutboundSignalWithId, FilteredTopic>, NotUsed> splitByTargetExtraFieldsFlow() {
-        return Flow.<OutboundSignalWithId>create()
-                .mapConcat(outboundSignal -> {
-                    final Pair<List<Target>, List<Pair<Target, FilteredTopic>>> splitTargets =
-                            splitTargetsByExtraFields(outboundSignal);
-
-                    final boolean shouldSendSignalWithoutExtraFields =
-                            !splitTargets.first().isEmpty() ||
-                                    isCommandResponseWithReplyTarget(outboundSignal.getSource()) ||
-                                    outboundSignal.getTargets().isEmpty(); // no target - this is an error response
-                    final Stream<Pair<OutboundSignalWithId, FilteredTopic>> outboundSignalWithoutExtraFields =
-                            shouldSendSignalWithoutExtraFields
-                                    ? Stream.of(Pair.create(outboundSignal.setTargets(splitTargets.first()), null))
-                                    : Stream.empty();
-
-                    final Stream<Pair<OutboundSignalWithId, FilteredTopic>> outboundSignalWithExtraFields =
-                            splitTargets.second().stream()
-                                    .map(targetAndSelector -> Pair.create(
-                                            outboundSignal.setTargets(
-                                                    Collections.singletonList(targetAndSelector.first())),
-                                            targetAndSelector.second()));
-
-                    return Stream.concat(outboundSignalWithoutExtraFields, outboundSignalWithExtraFields)
-                            .collect(Collectors.toList());
-                });
+    private static List<Pair<OutboundSignalWithId, FilteredTopic>> splitByTargetExtraFields(
+            final OutboundSignalWithId outboundSignal) {
+
+        final Pair<List<Target>, List<Pair<Target, FilteredTopic>>> splitTargets =
+                splitTargetsByExtraFields(outboundSignal);
+        final List<Pair<OutboundSignalWithId, FilteredTopic>> result =
+                new ArrayList<>(splitTargets.second().size() + 1);
+
+        final boolean shouldSendSignalWithoutExtraFields =
+                !splitTargets.first().isEmpty() ||
+                        isCommandResponseWithReplyTarget(outboundSignal.getSource()) ||
+                        outboundSignal.getTargets().isEmpty(); // no target - this is an error response
+        if (shouldSendSignalWithoutExtraFields) {
+            result.add(Pair.create(outboundSignal.setTargets(splitTargets.first()), null));
+        }
+        for (final Pair<Target, FilteredTopic> targetAndSelector : splitTargets.second()) {
+            result.add(Pair.create(outboundSignal.setTargets(Collections.singletonList(targetAndSelector.first())),
+                    targetAndSelector.second()));
+        }
+        return result;
     }
 
+    /**
+     * Enrich and filter split outbound signals while keeping their order.
+     * Like {@code mapAsync} with the configured mapping parallelism, an enrichment is started only after all
+     * enrichments at least that many positions before it are completed.
+     *
+     * @param splitSignals the split outbound signals.
+     * @return future of the enriched and filtered outbound signals in the order of the split outbound signals.
+     */
+    private CompletableFuture<List<OutboundSignalWithId>> enrichAndFilterSignals(
+            final List<Pair<OutboundSignalWithId, FilteredTopic>> splitSignals) {
+
+        final int parallelism = Math.max(1, mappingConfig.getParallelism());
+        final List<CompletableFuture<Collection<OutboundSignalWithId>>> futures = new ArrayList<>(splitSignals.size());
+        // completedPrefixes.get(i) completes when the futures 0 to i are completed
+        final List<CompletableFuture<?>> completedPrefixes = new ArrayList<>(splitSignals.size());
+        boolean allDone = true;
+        for (int i = 0; i < splitSignals.size(); ++i) {
+            final Pair<OutboundSignalWithId, FilteredTopic> splitSignal = splitSignals.get(i);
+            final CompletableFuture<Collection<OutboundSignalWithId>> future;
+            if (i < parallelism || completedPrefixes.get(i - parallelism).isDone()) {
+                future = enrichAndFilterSignal(splitSignal).toCompletableFuture();
+            } else {
+                future = completedPrefixes.get(i - parallelism)
+                        .thenCompose(done -> enrichAndFilterSignal(splitSignal))
+                        .toCompletableFuture();
+            }
+            allDone &= future.isDone();
+            futures.add(future);
+            completedPrefixes.add(allDone ? future : CompletableFuture.allOf(
+                    i == 0 ? future : completedPrefixes.get(i - 1), future));
+        }
+        final CompletableFuture<?> allCompleted = futures.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : completedPrefixes.get(futures.size() - 1);
+        return allCompleted.thenApply(done -> {
+            final List<OutboundSignalWithId> result = new ArrayList<>(futures.size());
+            futures.forEach(future -> result.addAll(future.join()));
+            return result;
+        });
+    }
 
     // Called inside stream; must be thread-safe
     // precondition: whenever filteredTopic != null, it contains an extra fields
@@ -476,7 +528,7 @@ public final class OutboundMappingProcessorActor
         }
     }
 
-    private Source<OutboundSignalWithId, ?> handleOutboundSignal(final OutboundSignalWithId outbound) {
+    private List<OutboundSignalWithId> handleOutboundSignal(final OutboundSignalWithId outbound) {
         final Signal<?> source = outbound.getSource();
         if (logger.isDebugEnabled()) {
             logger.withCorrelationId(source).debug("Handling outbound signal <{}>.", source);
@@ -499,24 +551,24 @@ public final class OutboundMappingProcessorActor
         return OutboundSignalWithId.of(signal, sender);
     }
 
-    private Source<OutboundSignalWithId, ?> mapToExternalMessage(final OutboundSignalWithId outbound) {
+    private List<OutboundSignalWithId> mapToExternalMessage(final OutboundSignalWithId outbound) {
         final ConnectionMonitor.InfoProvider infoProvider = InfoProviderFactory.forSignal(outbound.getSource());
         final Set<ConnectionMonitor> outboundMapped = getMonitorsForMappedSignal(outbound);
         final Set<ConnectionMonitor> outboundDropped = getMonitorsForDroppedSignal(outbound);
         final Set<ConnectionMonitor> monitorsForOther = getMonitorsForOther(outbound);
 
-        final MappingOutcome.Visitor<OutboundSignal.Mapped, Source<OutboundSignalWithId, ?>> visitor =
-                MappingOutcome.<OutboundSignal.Mapped, Source<OutboundSignalWithId, ?>>newVisitorBuilder()
+        final MappingOutcome.Visitor<OutboundSignal.Mapped, List<OutboundSignalWithId>> visitor =
+                MappingOutcome.<OutboundSignal.Mapped, List<OutboundSignalWithId>>newVisitorBuilder()
                         .onMapped((mapperId, mapped) -> {
                             outboundMapped.forEach(monitor -> monitor.success(infoProvider,
                                     "Mapped outgoing signal with mapper <{0}>.", mapperId));
-                            return Source.single(outbound.mapped(mapped));
+                            return List.of(outbound.mapped(mapped));
                         })
                         .onDropped((mapperId, _null) -> {
                             outboundDropped.forEach(monitor -> monitor.success(infoProvider,
                                     "Payload mapping of mapper <{0}> returned null, outgoing message is dropped.",
                                     mapperId));
-                            return Source.empty();
+                            return List.of();
                         })
                         .onError((mapperId, exception, topicPath, _null) -> {
                             if (exception instanceof DittoRuntimeException) {
@@ -534,14 +586,16 @@ public final class OutboundMappingProcessorActor
                                         .warning("Got unexpected exception during processing Signal <{}>.",
                                                 exception.getMessage());
                             }
-                            return Source.empty();
+                            return List.of();
                         })
                         .build();
 
-        return outboundMappingProcessor.process(outbound).stream()
-                .<Source<OutboundSignalWithId, ?>>map(visitor::eval)
-                .reduce(Source::concat)
-                .orElse(Source.empty());
+        final List<MappingOutcome<OutboundSignal.Mapped>> outcomes = outboundMappingProcessor.process(outbound);
+        final List<OutboundSignalWithId> result = new ArrayList<>(outcomes.size());
+        for (final MappingOutcome<OutboundSignal.Mapped> outcome : outcomes) {
+            result.addAll(visitor.eval(outcome));
+        }
+        return result;
     }
 
     private Set<ConnectionMonitor> getMonitorsForDroppedSignal(final OutboundSignal outbound) {
@@ -577,37 +631,38 @@ public final class OutboundMappingProcessorActor
         }
     }
 
-    private <T> CompletionStage<Collection<OutboundSignal.MultiMapped>> toMultiMappedOutboundSignal(
-            final OutboundSignalWithId outbound,
-            final Source<OutboundSignalWithId, T> source) {
-
-        return source.runWith(Sink.seq(), materializer)
-                .thenApply(outboundSignals -> {
-                    if (outboundSignals.isEmpty()) {
-                        // signal dropped; issue weak acks for all requested acks belonging to this connection
-                        issueWeakAcknowledgements(outbound.getSource(),
-                                outboundMappingProcessor::isSourceDeclaredOrTargetIssuedAck,
-                                outbound.sender);
-                        return List.of();
-                    } else {
-                        final ActorRef sender = outboundSignals.get(0).sender;
-                        final List<Mapped> mappedSignals = outboundSignals.stream()
-                                .map(OutboundSignalWithId::asMapped)
-                                .collect(Collectors.toList());
-                        final List<Target> targetsToPublishAt = outboundSignals.stream()
-                                .map(OutboundSignal::getTargets)
-                                .flatMap(List::stream)
-                                .collect(Collectors.toList());
-                        final Predicate<AcknowledgementLabel> willPublish =
-                                ConnectionValidator.getTargetIssuedAcknowledgementLabels(connection.getId(),
-                                        targetsToPublishAt)
-                                        .collect(Collectors.toSet())::contains;
-                        issueWeakAcknowledgements(outbound.getSource(),
-                                willPublish.negate().and(outboundMappingProcessor::isTargetIssuedAck),
-                                sender);
-                        return List.of(OutboundSignalFactory.newMultiMappedOutboundSignal(mappedSignals, sender));
-                    }
-                });
+    // Called inside future; must be thread-safe
+    private Collection<OutboundSignal.MultiMapped> toMultiMappedOutboundSignal(final OutboundSignalWithId outbound,
+            final List<OutboundSignalWithId> enrichedSignals) {
+
+        final List<OutboundSignalWithId> outboundSignals = new ArrayList<>(enrichedSignals.size());
+        for (final OutboundSignalWithId enrichedSignal : enrichedSignals) {
+            outboundSignals.addAll(handleOutboundSignal(enrichedSignal));
+        }
+        if (outboundSignals.isEmpty()) {
+            // signal dropped; issue weak acks for all requested acks belonging to this connection
+            issueWeakAcknowledgements(outbound.getSource(),
+                    outboundMappingProcessor::isSourceDeclaredOrTargetIssuedAck,
+                    outbound.sender);
+            return List.of();
+        } else {
+            final ActorRef sender = outboundSignals.get(0).sender;
+            final List<Mapped> mappedSignals = outboundSignals.stream()
+                    .map(OutboundSignalWithId::asMapped)
+                    .collect(Collectors.toList());
+            final List<Target> targetsToPublishAt = outboundSignals.stream()
+                    .map(OutboundSignal::getTargets)
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+            final Predicate<AcknowledgementLabel> willPublish =
+                    ConnectionValidator.getTargetIssuedAcknowledgementLabels(connection.getId(),
+                            targetsToPublishAt)
+                            .collect(Collectors.toSet())::contains;
+            issueWeakAcknowledgements(outbound.getSource(),
+                    willPublish.negate().and(outboundMappingProcessor::isTargetIssuedAck),
+                    sender);
+            return List.of(OutboundSignalFactory.newMultiMappedOutboundSignal(mappedSignals, sender));
+        }
     }
 
     private Collection<OutboundSignalWithId> applyFilter(final OutboundSignalWithId outboundSignalWithExtra,
@@ -619,12 +674,11 @@ public final class OutboundMappingProcessorActor
             // evaluate filter criteria again if signal enrichment is involved.
             final Signal<?> signal = outboundSignalWithExtra.getSource();
             final DittoHeaders dittoHeaders = signal.getDittoHeaders();
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased()
-                    .filterCriteria(filter.get(), dittoHeaders);
+            final Predicate<Thing> thingPredicate = thingPredicateCache.getPredicate(filter.get(), dittoHeaders);
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> ThingEventToThingConverter
                             .mergeThingWithExtraFields(signal, extraFields.get(), extra)
-                            .filter(ThingPredicateVisitor.apply(criteria))
+                            .filter(thingPredicate)
                             .map(thing -> outboundSignalWithExtra))
                     .map(Collections::singletonList)
                     .orElse(List.of());
@@ -16,6 +16,7 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -25,8 +26,8 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
-import java.util.function.Function;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -107,8 +108,10 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     private final Map<Destination, MessageProducer> staticTargets;
     private final int producerCacheSize;
     private final ActorRef backOffActor;
-    private final SourceQueueWithComplete<Pair<ExternalMessage, AmqpMessageContext>> sourceQueue;
+    private final SourceQueueWithComplete<List<Pair<ExternalMessage, AmqpMessageContext>>> sourceQueue;
     private final KillSwitch killSwitch;
+    private final int maxQueueSize;
+    private final AtomicInteger queuedMessages;
 
     private boolean isInBackOffMode;
 
@@ -123,10 +126,17 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
 
         final Amqp10Config config = connectionConfig.getAmqp10Config();
         final Materializer materializer = Materializer.createMaterializer(this::getContext);
-        final Pair<SourceQueueWithComplete<Pair<ExternalMessage, AmqpMessageContext>>, UniqueKillSwitch> materialized =
-                Source.<Pair<ExternalMessage, AmqpMessageContext>>queue(config.getMaxQueueSize(),
+        // elements of the queue are batches, yet max-queue-size limits the number of queued messages
+        maxQueueSize = config.getMaxQueueSize();
+        queuedMessages = new AtomicInteger();
+        final Pair<SourceQueueWithComplete<List<Pair<ExternalMessage, AmqpMessageContext>>>, UniqueKillSwitch>
+                materialized =
+                Source.<List<Pair<ExternalMessage, AmqpMessageContext>>>queue(maxQueueSize,
                         OverflowStrategy.dropNew())
-                        .mapAsync(config.getPublisherParallelism(), msg -> triggerPublishAsync(msg, jmsDispatcher))
+                        .mapAsync(config.getPublisherParallelism(), msgs -> {
+                            queuedMessages.addAndGet(-msgs.size());
+                            return triggerPublishAsync(msgs, jmsDispatcher);
+                        })
                         .recover(new PFBuilder<Throwable, Object>()
                                 // the "Done" instance is not used, this just means to not fail the stream for any Throwables
                                 .matchAny(x -> Done.getInstance())
@@ -149,19 +159,22 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     }
 
     /**
-     * Wrap 'publishing the message' in a Future for async map stage in stream.
+     * Wrap 'publishing the messages' in a Future for async map stage in stream.
+     * The messages of a batch are sent asynchronously one after another by the same task.
      *
-     * @param messageToPublish The Element in the Stream, the message to publish and its context.
+     * @param messagesToPublish The Element in the Stream, the messages to publish and their contexts.
      * @param jmsDispatcher Executor, which triggers the async publishing via JMS.
      * @return A future, which is done, when the publishing was triggered.
      */
     private static CompletableFuture<Object> triggerPublishAsync(
-            final Pair<ExternalMessage, AmqpMessageContext> messageToPublish,
+            final List<Pair<ExternalMessage, AmqpMessageContext>> messagesToPublish,
             final Executor jmsDispatcher) {
-        final ExternalMessage message = messageToPublish.first();
-        final AmqpMessageContext context = messageToPublish.second();
-        return CompletableFuture.supplyAsync(() -> context.onPublishMessage(message), jmsDispatcher)
-                .thenCompose(Function.identity())
+
+        return CompletableFuture.supplyAsync(() -> messagesToPublish.stream()
+                .map(messageToPublish -> messageToPublish.second().onPublishMessage(messageToPublish.first()))
+                .map(CompletionStage::toCompletableFuture)
+                .toArray(CompletableFuture[]::new), jmsDispatcher)
+                .thenCompose(CompletableFuture::allOf)
                 .exceptionally(t -> null)
                 .thenApply(x -> x);
     }
@@ -290,25 +303,77 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
             final CompletableFuture<CommandResponse<?>> resultFuture = new CompletableFuture<>();
 
             final AmqpMessageContext context = newContext(signal, autoAckTarget, publishTarget, resultFuture);
-            sourceQueue.offer(Pair.create(message, context))
-                    .handle(handleQueueOfferResult(message, resultFuture));
+            offer(List.of(Pair.create(message, context)), List.of(Pair.create(message, resultFuture)));
             return resultFuture;
         } else {
             return CompletableFuture.failedStage(getBackOffModeError(message, publishTarget.getJmsDestination()));
         }
     }
 
+    @Override
+    protected boolean isBatchable(final Signal<?> signal, @Nullable final Target autoAckTarget,
+            final ExternalMessage message) {
+
+        return !isInBackOffMode;
+    }
+
+    @Override
+    protected void publishBatch(final AmqpTarget publishTarget, final List<BatchedMessage<AmqpTarget>> batch) {
+        if (isInBackOffMode) {
+            super.publishBatch(publishTarget, batch);
+        } else {
+            // offer the whole batch as 1 element to the stream so that it is sent by 1 task of the JMS dispatcher
+            final List<Pair<ExternalMessage, AmqpMessageContext>> messagesToPublish = new ArrayList<>(batch.size());
+            final List<Pair<ExternalMessage, CompletableFuture<?>>> resultFutures = new ArrayList<>(batch.size());
+            for (final BatchedMessage<AmqpTarget> batchedMessage : batch) {
+                final ExternalMessage message = batchedMessage.getMessage();
+                final AmqpMessageContext context = newContext(batchedMessage.getSignal(),
+                        batchedMessage.getAutoAckTarget().orElse(null), publishTarget, batchedMessage.getResult());
+                messagesToPublish.add(Pair.create(message, context));
+                resultFutures.add(Pair.create(message, batchedMessage.getResult()));
+            }
+            offer(messagesToPublish, resultFutures);
+        }
+    }
+
+    private void offer(final List<Pair<ExternalMessage, AmqpMessageContext>> messagesToPublish,
+            final List<Pair<ExternalMessage, CompletableFuture<?>>> resultFutures) {
+
+        final BiFunction<QueueOfferResult, Throwable, Void> handler = handleQueueOfferResult(resultFutures);
+        if (queuedMessages.addAndGet(messagesToPublish.size()) > maxQueueSize) {
+            queuedMessages.addAndGet(-messagesToPublish.size());
+            handler.apply(QueueOfferResult.dropped(), null);
+        } else {
+            sourceQueue.offer(messagesToPublish).handle((queueOfferResult, error) -> {
+                if (error != null || !Objects.equals(queueOfferResult, QueueOfferResult.enqueued())) {
+                    queuedMessages.addAndGet(-messagesToPublish.size());
+                }
+                return handler.apply(queueOfferResult, error);
+            });
+        }
+    }
+
     private AmqpMessageContext newContext(@Nullable final Signal<?> signal,
             @Nullable final Target autoAckTarget,
             final AmqpTarget publishTarget,
             final CompletableFuture<CommandResponse<?>> resultFuture) {
 
         final MessageProducer producer = getProducer(publishTarget.getJmsDestination());
+        final AmqpMessageContext context;
         if (producer != null) {
-            return newContextWithProducer(signal, autoAckTarget, producer, resultFuture);
+            context = newContextWithProducer(signal, autoAckTarget, producer, resultFuture);
         } else {
-            return newContextWithoutProducer(publishTarget, resultFuture);
+            context = newContextWithoutProducer(publishTarget, resultFuture);
         }
+        // fail only this message so that the other messages of its batch are still sent and acknowledged
+        return message -> {
+            try {
+                return context.onPublishMessage(message);
+            } catch (final RuntimeException e) {
+                resultFuture.completeExceptionally(getMessageSendingException(message, e));
+                return resultFuture;
+            }
+        };
     }
 
     private AmqpMessageContext newContextWithProducer(
@@ -371,22 +436,23 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     }
 
     // Async callback. Must be thread-safe.
-    private BiFunction<QueueOfferResult, Throwable, Void> handleQueueOfferResult(final ExternalMessage message,
-            final CompletableFuture<?> resultFuture) {
+    private BiFunction<QueueOfferResult, Throwable, Void> handleQueueOfferResult(
+            final List<Pair<ExternalMessage, CompletableFuture<?>>> messagesWithResultFutures) {
 
         return (queueOfferResult, error) -> {
             if (error != null) {
                 final String errorDescription = "Source queue failure";
                 logger.error(error, errorDescription);
-                resultFuture.completeExceptionally(error);
+                messagesWithResultFutures.forEach(pair -> pair.second().completeExceptionally(error));
                 escalate(error, errorDescription);
             } else if (Objects.equals(queueOfferResult, QueueOfferResult.dropped())) {
-                resultFuture.completeExceptionally(MessageSendingFailedException.newBuilder()
-                        .message("Outgoing AMQP message dropped: There are too many unsettled messages " +
-                                "or too few credits.")
-                        .description(TOO_MANY_IN_FLIGHT_MESSAGE_DESCRIPTION)
-                        .dittoHeaders(message.getInternalHeaders())
-                        .build());
+                messagesWithResultFutures.forEach(pair ->
+                        pair.second().completeExceptionally(MessageSendingFailedException.newBuilder()
+                                .message("Outgoing AMQP message dropped: There are too many unsettled messages " +
+                                        "or too few credits.")
+                                .description(TOO_MANY_IN_FLIGHT_MESSAGE_DESCRIPTION)
+                                .dittoHeaders(pair.first().getInternalHeaders())
+                                .build()));
             }
             return null;
         };
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Formats of the body of an HTTP request containing a batch of messages, configured by the specific config
+ * {@value HttpPushFactory#BATCH_FORMAT}.
+ */
+enum HttpBatchFormat {
+
+    /**
+     * The payloads of the messages as elements of a JSON array.
+     */
+    JSON_ARRAY("json-array", "application/json") {
+        @Override
+        String toBody(final List<JsonValue> payloads) {
+            return payloads.stream().collect(JsonCollectors.valuesToArray()).toString();
+        }
+    },
+
+    /**
+     * The payloads of the messages as newline delimited JSON.
+     */
+    NDJSON("ndjson", "application/x-ndjson") {
+        @Override
+        String toBody(final List<JsonValue> payloads) {
+            return payloads.stream().map(JsonValue::toString).collect(Collectors.joining("\n", "", "\n"));
+        }
+    };
+
+    private final String configName;
+    private final String contentType;
+
+    HttpBatchFormat(final String configName, final String contentType) {
+        this.configName = configName;
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return the name of the format in the specific config.
+     */
+    String getConfigName() {
+        return configName;
+    }
+
+    /**
+     * @return the content type of the request body.
+     */
+    String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Create the request body of a batch.
+     *
+     * @param payloads the JSON payloads of the messages in the batch.
+     * @return the request body.
+     */
+    abstract String toBody(List<JsonValue> payloads);
+
+    /**
+     * Find a format by its name.
+     *
+     * @param name the name in the specific config.
+     * @return the format, or an empty optional if there is none with the name.
+     */
+    static Optional<HttpBatchFormat> forName(final String name) {
+        return Arrays.stream(values()).filter(format -> format.configName.equals(name)).findAny();
+    }
+
+    /**
+     * @return the names of all formats.
+     */
+    static String getNames() {
+        return Arrays.stream(values()).map(HttpBatchFormat::getConfigName).collect(Collectors.joining(", "));
+    }
+
+}
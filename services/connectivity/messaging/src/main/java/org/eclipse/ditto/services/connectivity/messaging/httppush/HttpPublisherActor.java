@@ -20,11 +20,16 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -121,6 +126,7 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
     private final Materializer materializer;
     private final SourceQueue<Pair<HttpRequest, HttpPushContext>> sourceQueue;
     private final KillSwitch killSwitch;
+    @Nullable private final HttpBatchFormat batchFormat;
 
     @SuppressWarnings("unused")
     private HttpPublisherActor(final Connection connection, final HttpPushFactory factory, final String clientId) {
@@ -137,6 +143,9 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
                         .run(materializer);
         sourceQueue = materialized.first().first();
         killSwitch = materialized.first().second();
+        batchFormat = Optional.ofNullable(connection.getSpecificConfig().get(HttpPushFactory.BATCH_FORMAT))
+                .flatMap(HttpBatchFormat::forName)
+                .orElse(null);
 
         // Inform self of stream termination.
         // If self is alive, the error should be escalated.
@@ -206,10 +215,38 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         final HttpPushContext context = newContext(signal, autoAckTarget, request, message, maxTotalMessageSize,
                 ackSizeQuota, resultFuture);
         sourceQueue.offer(Pair.create(request, context))
-                .handle(handleQueueOfferResult(message, resultFuture));
+                .handle(handleQueueOfferResult(message, resultFuture::completeExceptionally));
         return resultFuture;
     }
 
+    @Override
+    protected boolean isBatchable(final Signal<?> signal, @Nullable final Target autoAckTarget,
+            final ExternalMessage message) {
+
+        // live responses and responses to message commands can only be read from the response of one message
+        return batchFormat != null &&
+                message.isTextMessage() &&
+                !(signal instanceof MessageCommand) &&
+                !getAcknowledgementLabel(autoAckTarget).filter(DittoAcknowledgementLabel.LIVE_RESPONSE::equals)
+                        .isPresent();
+    }
+
+    @Override
+    protected void publishBatch(final HttpPublishTarget publishTarget,
+            final List<BatchedMessage<HttpPublishTarget>> batch) {
+
+        if (batchFormat == null || batch.size() == 1) {
+            super.publishBatch(publishTarget, batch);
+        } else {
+            final HttpRequest request = createBatchRequest(publishTarget, batchFormat, batch);
+            final HttpPushContext context = newBatchContext(request, batch);
+            final Consumer<Throwable> failBatch = error -> batch.forEach(batchedMessage ->
+                    batchedMessage.getResult().completeExceptionally(error));
+            sourceQueue.offer(Pair.create(request, context))
+                    .handle(handleQueueOfferResult(batch.get(0).getMessage(), failBatch));
+        }
+    }
+
     private HttpRequest createRequest(final HttpPublishTarget publishTarget, final ExternalMessage message) {
         final Pair<Iterable<HttpHeader>, ContentType> headersPair = getHttpHeadersPair(message);
         final HttpRequest requestWithoutEntity = factory.newRequest(publishTarget).addHeaders(headersPair.first());
@@ -225,6 +262,38 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         }
     }
 
+    private HttpRequest createBatchRequest(final HttpPublishTarget publishTarget, final HttpBatchFormat format,
+            final List<BatchedMessage<HttpPublishTarget>> batch) {
+
+        // only the headers which all messages of the batch have in common are sent
+        final Map<String, String> commonHeaders = new HashMap<>(batch.get(0).getMessage().getHeaders());
+        for (final BatchedMessage<HttpPublishTarget> batchedMessage : batch) {
+            commonHeaders.entrySet().retainAll(batchedMessage.getMessage().getHeaders().entrySet());
+        }
+        final List<HttpHeader> headers = commonHeaders.entrySet()
+                .stream()
+                .map(entry -> HttpHeader.parse(entry.getKey(), entry.getValue()))
+                .filter(httpHeader -> !(httpHeader instanceof ContentType))
+                .collect(Collectors.toList());
+        final List<JsonValue> payloads = batch.stream()
+                .map(batchedMessage -> toJsonPayload(getTextPayload(batchedMessage.getMessage())))
+                .collect(Collectors.toList());
+        final byte[] body = format.toBody(payloads).getBytes(StandardCharsets.UTF_8);
+        final HttpHeader contentTypeHeader = HttpHeader.parse("content-type", format.getContentType());
+        final HttpEntity.Strict httpEntity = contentTypeHeader instanceof ContentType
+                ? HttpEntities.create(((ContentType) contentTypeHeader).contentType(), body)
+                : HttpEntities.create(body);
+        return factory.newRequest(publishTarget).addHeaders(headers).withEntity(httpEntity);
+    }
+
+    private static JsonValue toJsonPayload(final String textPayload) {
+        try {
+            return JsonFactory.readFrom(textPayload);
+        } catch (final Exception e) {
+            return JsonValue.of(textPayload);
+        }
+    }
+
     private static Pair<Iterable<HttpHeader>, ContentType> getHttpHeadersPair(final ExternalMessage message) {
         final Collection<HttpHeader> headers = new ArrayList<>(message.getHeaders().size());
         ContentType contentType = null;
@@ -241,16 +310,16 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
 
     // Async callback. Must be thread-safe.
     private BiFunction<QueueOfferResult, Throwable, Void> handleQueueOfferResult(final ExternalMessage message,
-            final CompletableFuture<?> resultFuture) {
+            final Consumer<Throwable> failResult) {
 
         return (queueOfferResult, error) -> {
             if (error != null) {
                 final String errorDescription = "Source queue failure";
                 logger.error(error, errorDescription);
-                resultFuture.completeExceptionally(error);
+                failResult.accept(error);
                 escalate(error, errorDescription);
             } else if (Objects.equals(queueOfferResult, QueueOfferResult.dropped())) {
-                resultFuture.completeExceptionally(MessageSendingFailedException.newBuilder()
+                failResult.accept(MessageSendingFailedException.newBuilder()
                         .message("Outgoing HTTP request aborted: There are too many in-flight requests.")
                         .description(TOO_MANY_IN_FLIGHT_MESSAGE_DESCRIPTION)
                         .dittoHeaders(message.getInternalHeaders())
@@ -305,6 +374,45 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         };
     }
 
+    private HttpPushContext newBatchContext(final HttpRequest request,
+            final List<BatchedMessage<HttpPublishTarget>> batch) {
+
+        return tryResponse -> {
+            if (tryResponse.isFailure()) {
+                final Throwable error = tryResponse.toEither().left().get();
+                final String errorDescription = MessageFormat.format("Failed to send HTTP request to <{0}>.",
+                        stripUserInfo(request.getUri()));
+                logger.debug("Failed to send batch of <{}> messages due to <{}>", batch.size(), error);
+                batch.forEach(batchedMessage -> batchedMessage.getResult().completeExceptionally(error));
+                escalate(error, errorDescription);
+            } else {
+                final HttpResponse response = tryResponse.toEither().right().get();
+                logger.debug("Sent batch of <{}> messages. Got response <{} {}>", batch.size(), response.status(),
+                        response.getHeaders());
+                final int maxResponseSize = batch.stream()
+                        .mapToInt(BatchedMessage::getAckSizeQuota)
+                        .max()
+                        .orElse(0);
+                // read the body once so that each message of the batch is acknowledged by the same response
+                response.entity()
+                        .withSizeLimit(maxResponseSize)
+                        .toStrict(READ_BODY_TIMEOUT_MS, materializer)
+                        .whenComplete((strictEntity, error) -> batch.forEach(batchedMessage -> {
+                            if (error != null) {
+                                batchedMessage.getResult().completeExceptionally(error);
+                            } else {
+                                batchedMessage.completeWith(toCommandResponseOrAcknowledgement(
+                                        batchedMessage.getSignal(),
+                                        batchedMessage.getAutoAckTarget().orElse(null),
+                                        response.withEntity(strictEntity),
+                                        batchedMessage.getMaxTotalMessageSize(),
+                                        batchedMessage.getAckSizeQuota()));
+                            }
+                        }));
+            }
+        };
+    }
+
     private CompletionStage<CommandResponse<?>> toCommandResponseOrAcknowledgement(final Signal<?> signal,
             @Nullable final Target autoAckTarget,
             final HttpResponse response,
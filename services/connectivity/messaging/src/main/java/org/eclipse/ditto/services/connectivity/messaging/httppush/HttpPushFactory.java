@@ -36,6 +36,14 @@ public interface HttpPushFactory {
      */
     String PARALLELISM = "parallelism";
 
+    /**
+     * Specific config name for the format of the body of requests containing a batch of messages. Messages are only
+     * batched if it is set.
+     *
+     * @since 2.0.0
+     */
+    String BATCH_FORMAT = "batchFormat";
+
     /**
      * Create a request template without headers or payload for an HTTP publish target.
      * Published external messages set the headers and payload.
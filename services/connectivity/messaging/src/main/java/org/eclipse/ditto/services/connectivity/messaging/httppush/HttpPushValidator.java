@@ -75,6 +75,7 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateTargetConfigs(connection, dittoHeaders);
         validatePayloadMappings(connection, actorSystem, dittoHeaders);
         validateParallelism(connection.getSpecificConfig(), dittoHeaders);
+        validateBatchFormat(connection.getSpecificConfig(), dittoHeaders);
     }
 
     @Override
@@ -153,6 +154,20 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
                 .build();
     }
 
+    private static void validateBatchFormat(final Map<String, String> specificConfig,
+            final DittoHeaders dittoHeaders) {
+
+        final String batchFormat = specificConfig.get(HttpPushFactory.BATCH_FORMAT);
+        if (batchFormat != null && HttpBatchFormat.forName(batchFormat).isEmpty()) {
+            final String errorMessage = String.format("The configured value '%s' of '%s' is invalid.",
+                    batchFormat, HttpPushFactory.BATCH_FORMAT);
+            throw ConnectionConfigurationInvalidException.newBuilder(errorMessage)
+                    .description("Supported batch formats are: " + HttpBatchFormat.getNames())
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
     static boolean isSecureScheme(final String scheme) {
         return HTTPS.equals(scheme);
     }
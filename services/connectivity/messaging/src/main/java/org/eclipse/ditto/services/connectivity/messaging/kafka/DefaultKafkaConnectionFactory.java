@@ -12,30 +12,40 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.config.KafkaConfig;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private static final Serializer<String> KEY_SERIALIZER = new StringSerializer();
     private static final Serializer<String> VALUE_SERIALIZER = KEY_SERIALIZER;
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<String> VALUE_DESERIALIZER = KEY_DESERIALIZER;
 
     private final Connection connection;
     private final Map<String, Object> properties;
+    private final Map<String, Object> consumerProperties;
 
-    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties) {
+    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties,
+            final Map<String, Object> consumerProperties) {
 
         this.connection = connection;
         properties = producerProperties;
+        this.consumerProperties = consumerProperties;
     }
 
     /**
@@ -48,10 +58,11 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
      */
     static DefaultKafkaConnectionFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig,
             final String clientId) {
-        final ProducerPropertiesFactory settingsFactory =
-                ProducerPropertiesFactory.getInstance(connection, kafkaConfig, clientId);
+        final PropertiesFactory settingsFactory =
+                PropertiesFactory.getInstance(connection, kafkaConfig, clientId);
 
-        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties());
+        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties(),
+                settingsFactory.getConsumerProperties());
     }
 
     @Override
@@ -64,4 +75,13 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
         return new KafkaProducer<>(properties, KEY_SERIALIZER, VALUE_SERIALIZER);
     }
 
+    @Override
+    public org.apache.kafka.clients.consumer.Consumer<String, String> newConsumer(final String consumerId) {
+        // consumers with the same client ID would register the same mbeans and report the same metrics
+        final Map<String, Object> properties = new HashMap<>(consumerProperties);
+        properties.put(CommonClientConfigs.CLIENT_ID_CONFIG,
+                consumerProperties.get(CommonClientConfigs.CLIENT_ID_CONFIG) + "-" + consumerId);
+        return new KafkaConsumer<>(properties, KEY_DESERIALIZER, VALUE_DESERIALIZER);
+    }
+
 }
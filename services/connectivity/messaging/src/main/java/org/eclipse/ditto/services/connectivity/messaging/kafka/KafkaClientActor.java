@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -25,6 +27,7 @@ import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
 import org.eclipse.ditto.services.connectivity.config.ConnectionConfig;
 import org.eclipse.ditto.services.connectivity.config.KafkaConfig;
+import org.eclipse.ditto.services.connectivity.config.KafkaConsumerConfig;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientConnected;
@@ -48,6 +51,8 @@ public final class KafkaClientActor extends BaseClientActor {
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConsumerConfig consumerConfig;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -63,8 +68,10 @@ public final class KafkaClientActor extends BaseClientActor {
         final KafkaConfig kafkaConfig = connectionConfig.getKafkaConfig();
         connectionFactory =
                 DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig, getClientId(connection.getId()));
+        consumerConfig = kafkaConfig.getConsumerConfig();
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -143,7 +150,8 @@ public final class KafkaClientActor extends BaseClientActor {
     }
 
     /**
-     * Start Kafka publishers, expect "Status.Success" from each of them, then send "ClientConnected" to self.
+     * Start Kafka publishers and consumers, expect "Status.Success" from each of them, then send "ClientConnected" to
+     * self.
      *
      * @param dryRun if set to true, exchange no message between the broker and the Ditto cluster.
      * @param connectionId the ID of the connection to connect the client for.
@@ -154,7 +162,10 @@ public final class KafkaClientActor extends BaseClientActor {
 
         // start publisher
         startKafkaPublisher(dryRun, connectionId, correlationId);
-        // no command consumers as we don't support consuming from sources yet
+        // start consumers
+        if (!dryRun) {
+            startKafkaConsumers(connectionId, correlationId);
+        }
     }
 
     private void startKafkaPublisher(final boolean dryRun, final ConnectionId connectionId,
@@ -170,10 +181,32 @@ public final class KafkaClientActor extends BaseClientActor {
         pendingStatusReportsFromStreams.add(kafkaPublisherActor);
     }
 
+    private void startKafkaConsumers(final ConnectionId connectionId, @Nullable final CharSequence correlationId) {
+        // ensure no previous consumers stay in memory
+        stopConsumerActors();
+        getSourcesOrEmptyList().forEach(source ->
+                source.getAddresses().forEach(sourceAddress -> {
+                    for (int i = 0; i < source.getConsumerCount(); i++) {
+                        logger.withCorrelationId(correlationId)
+                                .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID, connectionId)
+                                .info("Starting Kafka consumer actor <{}> for topic <{}>.", i, sourceAddress);
+                        final Props consumerActorProps =
+                                KafkaConsumerActor.props(connection(), connectionFactory, sourceAddress,
+                                        getInboundMappingProcessorActor(), source, consumerConfig)
+                                        .withDispatcher(KafkaConsumerActor.DISPATCHER_NAME);
+                        final ActorRef consumerActor = startChildActorConflictFree(
+                                KafkaConsumerActor.ACTOR_NAME_PREFIX + sourceAddress + "-" + i, consumerActorProps);
+                        kafkaConsumerActors.add(consumerActor);
+                        pendingStatusReportsFromStreams.add(consumerActor);
+                    }
+                }));
+    }
+
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
         stopPublisherActor();
+        stopConsumerActors();
     }
 
     @Override
@@ -189,6 +222,11 @@ public final class KafkaClientActor extends BaseClientActor {
         }
     }
 
+    private void stopConsumerActors() {
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
+    }
+
     private State<BaseClientState, BaseClientData> handleStatusReportFromChildren(final Status.Status status) {
         if (pendingStatusReportsFromStreams.contains(getSender())) {
             pendingStatusReportsFromStreams.remove(getSender());
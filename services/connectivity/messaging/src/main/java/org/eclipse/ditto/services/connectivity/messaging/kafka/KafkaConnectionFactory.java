@@ -12,11 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.producer.Producer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 interface KafkaConnectionFactory {
 
@@ -33,4 +34,14 @@ interface KafkaConnectionFactory {
      * @return the producer.
      */
     Producer<String, String> newProducer();
+
+    /**
+     * Create a consumer of Kafka messages which is a member of the consumer group of the connection.
+     *
+     * @param consumerId distinguishes the consumer from the other consumers of the connection and is appended to its
+     * client ID.
+     * @return the consumer.
+     * @since 2.0.0
+     */
+    Consumer<String, String> newConsumer(String consumerId);
 }
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.ResourceStatus;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.config.KafkaConsumerConfig;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectivityMdcEntryKey;
+import org.eclipse.ditto.services.models.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor which consumes records of one Kafka topic and forwards them to the inbound mapping processor.
+ * <p>
+ * Records of one partition are forwarded in order while records of different partitions are processed in parallel.
+ * The offset of a record is committed once it and all records before it in its partition were settled. A partition is
+ * paused while it has the configured maximum of unsettled records, so that the consumption is back-pressured by the
+ * throughput of the inbound mapping and the acknowledgements of the consumed messages.
+ * <p>
+ * The actor polls the blocking Kafka consumer in its message loop; it should run on the
+ * {@value #DISPATCHER_NAME}.
+ */
+final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    /**
+     * Name of the dispatcher with a dedicated thread for each consumer actor.
+     */
+    static final String DISPATCHER_NAME = "kafka-consumer-dispatcher";
+
+    static final String KAFKA_TOPIC_HEADER = "kafka.topic";
+    static final String KAFKA_KEY_HEADER = "kafka.key";
+    static final String KAFKA_TIMESTAMP_HEADER = "kafka.timestamp";
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10L);
+
+    private final ThreadSafeDittoLoggingAdapter log;
+    private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConsumerConfig consumerConfig;
+    @Nullable
+    private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+    private final Map<TopicPartition, PartitionState> partitionStates;
+
+    @Nullable private Consumer<String, String> consumer;
+    private long nextGeneration;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final Connection connection, final KafkaConnectionFactory connectionFactory,
+            final String sourceAddress, final ActorRef inboundMappingProcessor, final Source source,
+            final KafkaConsumerConfig consumerConfig) {
+
+        super(connection, sourceAddress, inboundMappingProcessor, source);
+        this.connectionFactory = connectionFactory;
+        this.consumerConfig = consumerConfig;
+
+        log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this)
+                .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID.toString(), connectionId);
+
+        headerEnforcementFilterFactory = source.getEnforcement()
+                .map(value -> EnforcementFactoryFactory.newEnforcementFilterFactory(value,
+                        PlaceholderFactory.newHeadersPlaceholder()))
+                .orElse(null);
+        partitionStates = new HashMap<>();
+        nextGeneration = 0L;
+    }
+
+    /**
+     * Creates Akka configuration object {@link Props} for this {@code KafkaConsumerActor}.
+     *
+     * @param connection the connection.
+     * @param connectionFactory the factory to create the Kafka consumer with.
+     * @param sourceAddress the topic to consume.
+     * @param inboundMappingProcessor the actor where consumed messages are forwarded to.
+     * @param source the configured connection source of the consumer actor.
+     * @param consumerConfig the configuration of Kafka consumers.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final Connection connection, final KafkaConnectionFactory connectionFactory,
+            final String sourceAddress, final ActorRef inboundMappingProcessor, final Source source,
+            final KafkaConsumerConfig consumerConfig) {
+
+        return Props.create(KafkaConsumerActor.class, connection, connectionFactory, sourceAddress,
+                inboundMappingProcessor, source, consumerConfig);
+    }
+
+    @Override
+    protected ThreadSafeDittoLoggingAdapter log() {
+        return log;
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        try {
+            consumer = connectionFactory.newConsumer(getSelf().path().name());
+            consumer.subscribe(List.of(sourceAddress), new RebalanceListener());
+        } catch (final KafkaException e) {
+            log.error(e, "Failed to subscribe to topic <{}>.", sourceAddress);
+            getContext().getParent().tell(new Status.Failure(e), getSelf());
+            getContext().stop(getSelf());
+            return;
+        }
+        log.info("Consumer of topic <{}> ready.", sourceAddress);
+        getContext().getParent().tell(new Status.Success(Done.done()), getSelf());
+        getSelf().tell(Poll.INSTANCE, getSelf());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (consumer != null) {
+            try {
+                final Map<TopicPartition, OffsetAndMetadata> offsets = getOffsetsToCommit(true);
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+            } catch (final KafkaException e) {
+                log.warning("Failed to commit offsets of topic <{}> on stop: {}", sourceAddress, e.getMessage());
+            }
+            try {
+                consumer.close(CLOSE_TIMEOUT);
+            } catch (final KafkaException e) {
+                log.warning("Failed to close consumer of topic <{}>: {}", sourceAddress, e.getMessage());
+            }
+            consumer = null;
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Poll.INSTANCE, poll -> poll())
+                .match(Settlement.class, this::settle)
+                .match(ResourceStatus.class, this::handleAddressStatus)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                }).build();
+    }
+
+    private void poll() {
+        if (consumer == null) {
+            return;
+        }
+        try {
+            final ConsumerRecords<String, String> records = consumer.poll(consumerConfig.getPollTimeout());
+            for (final TopicPartition partition : records.partitions()) {
+                getPartitionState(partition).pendingRecords.addAll(records.records(partition));
+            }
+            partitionStates.forEach(this::dispatchPendingRecords);
+            commitSettledOffsets();
+        } catch (final RetriableException e) {
+            log.info("Retrying to poll topic <{}> after: {}", sourceAddress, e.getMessage());
+        } catch (final KafkaException e) {
+            log.error(e, "Failed to poll topic <{}>.", sourceAddress);
+            inboundMonitor.exception(e);
+            // stop polling; the client actor handles the failure by reconnecting
+            getContext().getParent()
+                    .tell(new ImmutableConnectionFailure(getSelf(), e, "Kafka consumer failed"), getSelf());
+            return;
+        }
+        getSelf().tell(Poll.INSTANCE, getSelf());
+    }
+
+    private PartitionState getPartitionState(final TopicPartition partition) {
+        return partitionStates.computeIfAbsent(partition, p -> new PartitionState(nextGeneration++));
+    }
+
+    private void dispatchPendingRecords(final TopicPartition partition, final PartitionState state) {
+        final int maxInFlight = consumerConfig.getMaxInFlightPerPartition();
+        while (!state.pendingRecords.isEmpty() && state.inFlightOffsets.size() < maxInFlight) {
+            final ConsumerRecord<String, String> record = state.pendingRecords.remove();
+            state.inFlightOffsets.put(record.offset(), false);
+            dispatch(partition, state.generation, record);
+        }
+        final boolean shouldPause = !state.pendingRecords.isEmpty() || state.inFlightOffsets.size() >= maxInFlight;
+        if (consumer != null && shouldPause != state.paused) {
+            if (shouldPause) {
+                consumer.pause(List.of(partition));
+            } else {
+                consumer.resume(List.of(partition));
+            }
+            state.paused = shouldPause;
+        }
+    }
+
+    private void dispatch(final TopicPartition partition, final long generation,
+            final ConsumerRecord<String, String> record) {
+
+        final long offset = record.offset();
+        final ActorRef self = getSelf();
+        final Optional<ExternalMessage> externalMessageOptional = toExternalMessage(record);
+        if (externalMessageOptional.isEmpty()) {
+            // the record can never be processed; don't block the partition with it
+            settle(new Settlement(partition, generation, offset, false));
+            return;
+        }
+        final ExternalMessage externalMessage = externalMessageOptional.get();
+        forwardToMappingActor(externalMessage,
+                () -> {
+                    inboundAcknowledgedMonitor.success(externalMessage,
+                            "Settling record of partition {0} at offset {1}", partition, offset);
+                    self.tell(new Settlement(partition, generation, offset, false), ActorRef.noSender());
+                },
+                shouldRedeliver -> {
+                    inboundAcknowledgedMonitor.exception("Rejecting record of partition {0} at offset {1}, " +
+                            "redeliver={2}", partition, offset, shouldRedeliver);
+                    self.tell(new Settlement(partition, generation, offset, shouldRedeliver), ActorRef.noSender());
+                });
+    }
+
+    private void settle(final Settlement settlement) {
+        final PartitionState state = partitionStates.get(settlement.partition);
+        if (state == null || state.generation != settlement.generation) {
+            log.debug("Ignoring stale settlement of partition <{}> at offset <{}>.", settlement.partition,
+                    settlement.offset);
+            return;
+        }
+        if (settlement.redeliver) {
+            redeliver(settlement.partition, state);
+        } else {
+            state.settle(settlement.offset);
+            dispatchPendingRecords(settlement.partition, state);
+        }
+    }
+
+    private void redeliver(final TopicPartition partition, final PartitionState state) {
+        // seek to the first unsettled record; records after it are consumed again, even if already settled
+        final OptionalLong firstUnsettledOffset = state.getFirstUnsettledOffset();
+        partitionStates.remove(partition);
+        if (consumer != null && firstUnsettledOffset.isPresent()) {
+            log.info("Redelivering records of partition <{}> from offset <{}>.", partition,
+                    firstUnsettledOffset.getAsLong());
+            consumer.seek(partition, firstUnsettledOffset.getAsLong());
+            if (state.paused) {
+                consumer.resume(List.of(partition));
+            }
+        }
+    }
+
+    private void commitSettledOffsets() {
+        final Map<TopicPartition, OffsetAndMetadata> offsets = getOffsetsToCommit(false);
+        if (consumer != null && !offsets.isEmpty()) {
+            consumer.commitAsync(offsets, (committedOffsets, error) -> {
+                if (error != null) {
+                    // a later commit of higher offsets supersedes this one
+                    log.warning("Failed to commit offsets <{}>: {}", committedOffsets, error.getMessage());
+                }
+            });
+        }
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> getOffsetsToCommit(final boolean includeCommitted) {
+        final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        partitionStates.forEach((partition, state) -> {
+            if (state.committableOffset > state.committedOffset ||
+                    includeCommitted && state.committableOffset >= 0L) {
+                offsets.put(partition, new OffsetAndMetadata(state.committableOffset));
+                state.committedOffset = state.committableOffset;
+            }
+        });
+        return offsets;
+    }
+
+    private Optional<ExternalMessage> toExternalMessage(final ConsumerRecord<String, String> record) {
+        Map<String, String> headers = null;
+        try {
+            headers = extractHeaders(record);
+            if (log.isDebugEnabled()) {
+                log.withCorrelationId(headers.get(DittoHeaderDefinition.CORRELATION_ID.getKey()))
+                        .debug("Received record from Kafka partition <{}> at offset <{}>: {}", record.partition(),
+                                record.offset(), record.value());
+            }
+            final String text = record.value() != null ? record.value() : "";
+            final ExternalMessageBuilder externalMessageBuilder =
+                    ExternalMessageFactory.newExternalMessageBuilder(headers)
+                            .withTextAndBytes(text, text.getBytes(StandardCharsets.UTF_8))
+                            .withAuthorizationContext(source.getAuthorizationContext());
+            if (headerEnforcementFilterFactory != null) {
+                externalMessageBuilder.withEnforcement(headerEnforcementFilterFactory.getFilter(headers));
+            }
+            final ExternalMessage externalMessage = externalMessageBuilder
+                    .withHeaderMapping(source.getHeaderMapping().orElse(null))
+                    .withSourceAddress(sourceAddress)
+                    .withPayloadMapping(source.getPayloadMapping())
+                    .build();
+            inboundMonitor.success(externalMessage);
+            return Optional.of(externalMessage);
+        } catch (final DittoRuntimeException e) {
+            log.warning("Processing record of partition <{}> at offset <{}> failed: {}", record.partition(),
+                    record.offset(), e.getMessage());
+            if (headers != null) {
+                // send response if headers were extracted successfully
+                forwardToMappingActor(e.setDittoHeaders(DittoHeaders.of(headers)));
+                inboundMonitor.failure(headers, e);
+            } else {
+                inboundMonitor.failure(e);
+            }
+        } catch (final Exception e) {
+            log.warning("Processing record of partition <{}> at offset <{}> failed: {}", record.partition(),
+                    record.offset(), e.getMessage());
+            if (headers != null) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Map<String, String> extractHeaders(final ConsumerRecord<String, String> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (header.value() != null) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        headers.put(KAFKA_TOPIC_HEADER, record.topic());
+        if (record.key() != null) {
+            headers.put(KAFKA_KEY_HEADER, record.key());
+        }
+        headers.put(KAFKA_TIMESTAMP_HEADER, Long.toString(record.timestamp()));
+        return headers;
+    }
+
+    /**
+     * Commits the settled offsets of revoked partitions and forgets their state. Invoked during {@code poll}.
+     */
+    private final class RebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {
+            final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            for (final TopicPartition partition : partitions) {
+                final PartitionState state = partitionStates.remove(partition);
+                if (state != null && state.committableOffset > state.committedOffset) {
+                    offsets.put(partition, new OffsetAndMetadata(state.committableOffset));
+                }
+            }
+            if (consumer != null && !offsets.isEmpty()) {
+                try {
+                    consumer.commitSync(offsets);
+                } catch (final KafkaException e) {
+                    log.warning("Failed to commit offsets <{}> of revoked partitions: {}", offsets, e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void onPartitionsAssigned(final Collection<TopicPartition> partitions) {
+            log.info("Assigned partitions <{}>.", partitions);
+        }
+
+    }
+
+    /**
+     * The consumption state of one assigned partition.
+     */
+    private static final class PartitionState {
+
+        private final long generation;
+        private final Queue<ConsumerRecord<String, String>> pendingRecords;
+        private final NavigableMap<Long, Boolean> inFlightOffsets;
+        private long committableOffset;
+        private long committedOffset;
+        private boolean paused;
+
+        private PartitionState(final long generation) {
+            this.generation = generation;
+            pendingRecords = new ArrayDeque<>();
+            inFlightOffsets = new TreeMap<>();
+            committableOffset = -1L;
+            committedOffset = -1L;
+            paused = false;
+        }
+
+        private void settle(final long offset) {
+            inFlightOffsets.replace(offset, true);
+            while (!inFlightOffsets.isEmpty() && inFlightOffsets.firstEntry().getValue()) {
+                committableOffset = inFlightOffsets.pollFirstEntry().getKey() + 1L;
+            }
+        }
+
+        private OptionalLong getFirstUnsettledOffset() {
+            if (!inFlightOffsets.isEmpty()) {
+                return OptionalLong.of(inFlightOffsets.firstKey());
+            } else if (!pendingRecords.isEmpty()) {
+                return OptionalLong.of(pendingRecords.element().offset());
+            } else {
+                return OptionalLong.empty();
+            }
+        }
+
+    }
+
+    /**
+     * Message to self to poll the next records.
+     */
+    private enum Poll {
+        INSTANCE
+    }
+
+    /**
+     * Message to self that a record was settled or rejected.
+     */
+    private static final class Settlement {
+
+        private final TopicPartition partition;
+        private final long generation;
+        private final long offset;
+        private final boolean redeliver;
+
+        private Settlement(final TopicPartition partition, final long generation, final long offset,
+                final boolean redeliver) {
+            this.partition = partition;
+            this.generation = generation;
+            this.offset = offset;
+            this.redeliver = redeliver;
+        }
+
+    }
+
+}
@@ -21,19 +21,21 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.config.KafkaConfig;
 
 import com.typesafe.config.Config;
 
 /**
- * Creates Kafka producer properties from a given {@link org.eclipse.ditto.model.connectivity.Connection}
+ * Creates Kafka producer and consumer properties from a given {@link org.eclipse.ditto.model.connectivity.Connection}
  * configuration.
  */
-final class ProducerPropertiesFactory {
+final class PropertiesFactory {
 
     /**
-     * Key of properties defined by org.apache.kafka.clients.producer.ProducerConfig inside producer internal config.
+     * Key of properties defined by org.apache.kafka.clients.producer.ProducerConfig inside producer internal config
+     * and by org.apache.kafka.clients.consumer.ConsumerConfig inside consumer internal config.
      * Defined by a previously used Alpakka kafka client.
      */
     private static final String KAFKA_CLIENTS_KEY = "kafka-clients";
@@ -45,7 +47,7 @@ final class ProducerPropertiesFactory {
     private final KafkaConfig kafkaConfig;
     private final String clientId;
 
-    private ProducerPropertiesFactory(final Connection connection, final KafkaConfig kafkaConfig,
+    private PropertiesFactory(final Connection connection, final KafkaConfig kafkaConfig,
             final String clientId) {
         this.connection = checkNotNull(connection, "connection");
         this.kafkaConfig = checkNotNull(kafkaConfig, "Kafka config");
@@ -53,7 +55,7 @@ final class ProducerPropertiesFactory {
     }
 
     /**
-     * Returns an instance of the ProducerSettings factory.
+     * Returns an instance of the properties factory.
      *
      * @param connection the Kafka connection.
      * @param kafkaConfig the Kafka configuration settings.
@@ -61,9 +63,9 @@ final class ProducerPropertiesFactory {
      * @return the instance.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    static ProducerPropertiesFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig,
+    static PropertiesFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig,
             final String clientId) {
-        return new ProducerPropertiesFactory(connection, kafkaConfig, clientId);
+        return new PropertiesFactory(connection, kafkaConfig, clientId);
     }
 
     Map<String, Object> getProducerProperties() {
@@ -75,6 +77,26 @@ final class ProducerPropertiesFactory {
         return Collections.unmodifiableMap(producerProperties);
     }
 
+    /**
+     * Returns the properties of consumers of the connection. All consumers of the connection are in the same
+     * consumer group so that the partitions of the source topics are distributed among them.
+     *
+     * @return the consumer properties.
+     */
+    Map<String, Object> getConsumerProperties() {
+        final Config internalConsumerConfig = kafkaConfig.getConsumerConfig().getInternalConsumerConfig();
+        final HashMap<String, Object> consumerProperties = internalConsumerConfig.hasPath(KAFKA_CLIENTS_KEY)
+                ? configToProperties(internalConsumerConfig.getConfig(KAFKA_CLIENTS_KEY))
+                : new HashMap<>();
+        addMetadata(consumerProperties);
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, connection.getId().toString());
+        // offsets are committed by the consumer actors once the consumed records are settled
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        addSecurityProtocol(consumerProperties);
+        addSpecificConfig(consumerProperties);
+        return Collections.unmodifiableMap(consumerProperties);
+    }
+
     private void addMetadata(final HashMap<String, Object> properties) {
         properties.put(CommonClientConfigs.CLIENT_ID_CONFIG, clientId);
     }
@@ -133,7 +155,7 @@ final class ProducerPropertiesFactory {
     }
 
     /**
-     * Convert an unwrapped config into a flat properties map for the Kafka producer.
+     * Convert an unwrapped config into a flat properties map for the Kafka producer or consumer.
      *
      * @param unwrapped Result of {@code ConfigObject#unwrapped} containing structural maps.
      * @param prefix prefix of the config path.
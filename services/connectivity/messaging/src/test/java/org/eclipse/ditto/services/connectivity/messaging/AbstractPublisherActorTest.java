@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +47,7 @@ import org.junit.rules.TestName;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
@@ -56,6 +58,7 @@ import akka.testkit.javadsl.TestKit;
 public abstract class AbstractPublisherActorTest {
 
     protected static final Config CONFIG = ConfigFactory.load("test");
+    private static final String PUBLISHER_BATCH_CONFIG_PATH = "ditto.connectivity.connection.publisher-batch";
     protected ActorSystem actorSystem;
 
     @Rule
@@ -74,6 +77,20 @@ public abstract class AbstractPublisherActorTest {
         }
     }
 
+    /**
+     * Replaces the actor system by one in which publisher actors collect messages in batches.
+     *
+     * @param maxSize the maximum number of messages in a batch.
+     * @param linger how long to wait for more messages before publishing an incomplete batch.
+     */
+    protected void startActorSystemWithPublisherBatch(final int maxSize, final Duration linger) {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = ActorSystem.create("AkkaTestSystem", CONFIG
+                .withValue(PUBLISHER_BATCH_CONFIG_PATH + ".max-size", ConfigValueFactory.fromAnyRef(maxSize))
+                .withValue(PUBLISHER_BATCH_CONFIG_PATH + ".linger",
+                        ConfigValueFactory.fromAnyRef(linger.toMillis() + "ms")));
+    }
+
     @Test
     public void testPublishMessage() throws Exception {
 
@@ -202,6 +219,43 @@ public abstract class AbstractPublisherActorTest {
         return OutboundSignalFactory.newMappedOutboundSignal(outboundSignal, adaptable, externalMessage);
     }
 
+    /**
+     * Creates a signal whose message payload and correlation ID contain the index of the message so that the order of
+     * published messages and their acknowledgements can be verified.
+     *
+     * @param index the index of the message.
+     * @param ack the label of the acknowledgement issued by the target.
+     * @param sender the sender of the acknowledgements.
+     * @return the signal.
+     */
+    protected OutboundSignal.MultiMapped newIndexedSignalWithAutoAck(final int index, final CharSequence ack,
+            final ActorRef sender) {
+
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId(getIndexedCorrelationId(index))
+                .putHeader("device_id", "ditto:thing")
+                .putHeader("requested-acks", JsonArray.of(JsonValue.of(ack.toString())).toString())
+                .build();
+        final Signal<?> source = ThingDeleted.of(TestConstants.Things.THING_ID, 99L, dittoHeaders);
+        final OutboundSignal outboundSignal = OutboundSignalFactory.newOutboundSignal(source,
+                Collections.singletonList(decorateTarget(createTestTarget(ack))));
+        final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap())
+                .withText(getIndexedPayload(index))
+                .build();
+        final Adaptable adaptable = DittoProtocolAdapter.newInstance().toAdaptable(source);
+        return OutboundSignalFactory.newMultiMappedOutboundSignal(
+                List.of(OutboundSignalFactory.newMappedOutboundSignal(outboundSignal, adaptable, externalMessage)),
+                sender);
+    }
+
+    protected static String getIndexedCorrelationId(final int index) {
+        return "batched-" + index;
+    }
+
+    protected static String getIndexedPayload(final int index) {
+        return "{\"index\":" + index + "}";
+    }
+
     private OutboundSignal.Mapped getResponseWithReplyTarget() {
         final DittoHeaders externalHeaders = DittoHeaders.newBuilder()
                 .correlationId(TestConstants.CORRELATION_ID)
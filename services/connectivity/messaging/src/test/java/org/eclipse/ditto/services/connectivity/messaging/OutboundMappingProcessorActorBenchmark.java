@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.entity.metadata.Metadata;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
+import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * JMH Benchmark for the throughput of {@link OutboundMappingProcessorActor} for connections with 1, 10 and 100
+ * targets.
+ */
+@State(Scope.Benchmark)
+public class OutboundMappingProcessorActorBenchmark {
+
+    private static final int SIGNALS_PER_INVOCATION = 1000;
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"1", "10", "100"})
+    public int numberOfTargets;
+
+    private final AtomicReference<CountDownLatch> publishedSignals = new AtomicReference<>();
+
+    private ActorSystem actorSystem;
+    private ActorRef underTest;
+    private List<OutboundSignal> outboundSignals;
+
+    @Setup
+    public void setUp() {
+        actorSystem = ActorSystem.create("OutboundMappingProcessorActorBenchmark", TestConstants.CONFIG);
+        final List<Target> targets = IntStream.range(0, numberOfTargets)
+                .mapToObj(i -> target("target" + i))
+                .collect(Collectors.toList());
+        final Connection connection = ConnectivityModelFactory.newConnectionBuilder(ConnectionId.of("benchmark"),
+                ConnectionType.MQTT_5, ConnectivityStatus.OPEN, "tcp://localhost:1883")
+                .setTargets(targets)
+                .build();
+        final ProtocolAdapterProvider protocolAdapterProvider =
+                ProtocolAdapterProvider.load(TestConstants.PROTOCOL_CONFIG, actorSystem);
+        final OutboundMappingProcessor outboundMappingProcessor =
+                OutboundMappingProcessor.of(connection, actorSystem, TestConstants.CONNECTIVITY_CONFIG,
+                        protocolAdapterProvider.getProtocolAdapter(null),
+                        AbstractMessageMappingProcessorActorTest.mockLoggingAdapter());
+        final ActorRef clientActor =
+                actorSystem.actorOf(Props.create(PublishCountingActor.class, publishedSignals));
+        underTest = actorSystem.actorOf(
+                OutboundMappingProcessorActor.props(clientActor, outboundMappingProcessor, connection, 5));
+        outboundSignals = IntStream.range(0, SIGNALS_PER_INVOCATION)
+                .mapToObj(i -> outboundTwinEvent(i, targets))
+                .collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIGNALS_PER_INVOCATION)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void publishTwinEvents() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(SIGNALS_PER_INVOCATION);
+        publishedSignals.set(latch);
+        outboundSignals.forEach(outboundSignal -> underTest.tell(outboundSignal, ActorRef.noSender()));
+        latch.await();
+    }
+
+    private static Target target(final String address) {
+        return ConnectivityModelFactory.newTargetBuilder()
+                .address(address)
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("integration:benchmark")))
+                .topics(Topic.TWIN_EVENTS)
+                .build();
+    }
+
+    private static OutboundSignal outboundTwinEvent(final int revision, final List<Target> targets) {
+        final ThingId thingId = ThingId.of("benchmark:thing");
+        final Thing thing = Thing.newBuilder()
+                .setId(thingId)
+                .setAttribute(JsonPointer.of("counter"), JsonValue.of(revision))
+                .build();
+        final ThingModified thingModified = ThingModified.of(thing, revision, Instant.EPOCH, DittoHeaders.empty(),
+                Metadata.newMetadata(JsonObject.empty()));
+        return OutboundSignalFactory.newOutboundSignal(thingModified, targets);
+    }
+
+    /**
+     * Client actor counting the published signals.
+     */
+    static final class PublishCountingActor extends AbstractActor {
+
+        private final AtomicReference<CountDownLatch> publishedSignals;
+
+        @SuppressWarnings("unused")
+        private PublishCountingActor(final AtomicReference<CountDownLatch> publishedSignals) {
+            this.publishedSignals = publishedSignals;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(BaseClientActor.PublishMappedMessage.class,
+                            publish -> publishedSignals.get().countDown())
+                    .build();
+        }
+    }
+
+}
@@ -228,6 +228,35 @@ public final class OutboundMappingProcessorActorTest {
         }};
     }
 
+    @Test
+    public void publishSignalsOfTargetsWithoutExtraFieldsBeforeSignalsOfEnrichedTargets() {
+        new TestKit(actorSystem) {{
+            final Props props =
+                    OutboundMappingProcessorActor.props(clientActorProbe.ref(), getProcessor(), CONNECTION, 3);
+            final ActorRef underTest = actorSystem.actorOf(props);
+
+            // WHEN: mapping processor actor receives outbound signal for a target with extra fields
+            // followed by a target without extra fields
+            final Attributes attributes = Attributes.newBuilder().set("target2", true).build();
+            final OutboundSignal outboundSignal =
+                    outboundTwinEvent(attributes, List.of(), List.of(target2(), target1()));
+            underTest.tell(outboundSignal, getRef());
+            proxyActorProbe.expectMsgClass(RetrieveThing.class);
+            proxyActorProbe.reply(retrieveThingResponse(attributes));
+
+            // THEN: both are published in 1 message, the target without extra fields first
+            final BaseClientActor.PublishMappedMessage publish =
+                    clientActorProbe.expectMsgClass(BaseClientActor.PublishMappedMessage.class);
+            final List<String> targetAddresses = publish.getOutboundSignal()
+                    .getMappedOutboundSignals()
+                    .stream()
+                    .flatMap(mapped -> mapped.getTargets().stream())
+                    .map(Target::getAddress)
+                    .collect(Collectors.toList());
+            assertThat(targetAddresses).containsExactly("target1", "target2");
+        }};
+    }
+
     private OutboundMappingProcessor getProcessor() {
         return OutboundMappingProcessor.of(CONNECTION, actorSystem, TestConstants.CONNECTIVITY_CONFIG,
                 protocolAdapterProvider.getProtocolAdapter("test"),
@@ -222,6 +222,14 @@ public final class TestConstants {
 
     public static final Instant INSTANT = Instant.now();
 
+    /**
+     * Create the message a mapping processor sends to the response collector of a consumed message to tell it how many
+     * responses to expect. Needed by consumer actor tests outside of this package.
+     */
+    public static Object setResponseCollectorCount(final int expectedCount) {
+        return ResponseCollectorActor.setCount(expectedCount);
+    }
+
     public static DittoProtocolSub dummyDittoProtocolSub(final ActorRef pubSubMediator) {
         return dummyDittoProtocolSub(pubSubMediator, null);
     }
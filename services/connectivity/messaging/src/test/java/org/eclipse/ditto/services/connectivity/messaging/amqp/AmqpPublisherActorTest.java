@@ -16,13 +16,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,6 +38,7 @@ import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageProducer;
+import javax.jms.TextMessage;
 
 import org.apache.qpid.jms.JmsSession;
 import org.apache.qpid.jms.message.JmsMessage;
@@ -341,6 +345,117 @@ public class AmqpPublisherActorTest extends AbstractPublisherActorTest {
 
     }
 
+    @Test
+    public void fullBatchIsPublishedInOrderAndAcknowledgedPerMessage() throws Exception {
+        startActorSystemWithPublisherBatch(3, Duration.ofMinutes(1L));
+
+        new TestKit(actorSystem) {{
+            final TestProbe probe = new TestProbe(actorSystem);
+            setupMocks(probe);
+
+            // GIVEN: the 2nd message of a batch cannot be sent
+            doAnswer(invocation -> {
+                final Message message = invocation.getArgument(0);
+                if (getIndexedPayload(1).equals(getText(message))) {
+                    throw new IllegalStateException("Expected failure");
+                }
+                invocation.<CompletionListener>getArgument(1).onCompletion(message);
+                return null;
+            }).when(messageProducer).send(any(Message.class), any(CompletionListener.class));
+
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            publisherCreated(this, publisherActor);
+
+            // WHEN: as many messages as fit into a batch are published
+            final String ack = "please-verify";
+            for (int i = 0; i < 3; i++) {
+                publisherActor.tell(newIndexedSignalWithAutoAck(i, ack, getRef()), getRef());
+            }
+
+            // THEN: the batch is published without waiting for the linger duration and in order
+            final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+            verify(messageProducer, timeout(2_000).times(3))
+                    .send(messageCaptor.capture(), any(CompletionListener.class));
+            assertThat(messageCaptor.getAllValues())
+                    .extracting(AmqpPublisherActorTest::getText)
+                    .containsExactly(getIndexedPayload(0), getIndexedPayload(1), getIndexedPayload(2));
+
+            // THEN: each message is acknowledged by its own result
+            final Map<String, Acknowledgements> acks = expectIndexedAcknowledgements(this, 3);
+            assertThat(acks.get(getIndexedCorrelationId(0)).getFailedAcknowledgements()).isEmpty();
+            assertThat(acks.get(getIndexedCorrelationId(1)).getFailedAcknowledgements()).isNotEmpty();
+            assertThat(acks.get(getIndexedCorrelationId(2)).getFailedAcknowledgements()).isEmpty();
+        }};
+    }
+
+    @Test
+    public void incompleteBatchIsPublishedAfterLinger() throws Exception {
+        startActorSystemWithPublisherBatch(10, Duration.ofSeconds(1L));
+
+        new TestKit(actorSystem) {{
+            final TestProbe probe = new TestProbe(actorSystem);
+            setupMocks(probe);
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            publisherCreated(this, publisherActor);
+
+            publisherActor.tell(newIndexedSignalWithAutoAck(0, "please-verify", getRef()), getRef());
+            publisherActor.tell(newIndexedSignalWithAutoAck(1, "please-verify", getRef()), getRef());
+
+            verify(messageProducer, after(500).never()).send(any(Message.class), any(CompletionListener.class));
+            verify(messageProducer, timeout(2_000).times(2)).send(any(Message.class), any(CompletionListener.class));
+        }};
+    }
+
+    @Test
+    public void queueOfBatchesIsLimitedByNumberOfMessages() throws Exception {
+        // max-queue-size = 2 and parallelism = 2 in test.conf
+        startActorSystemWithPublisherBatch(2, Duration.ofMinutes(1L));
+
+        new TestKit(actorSystem) {{
+            final TestProbe probe = new TestProbe(actorSystem);
+            setupMocks(probe);
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            publisherCreated(this, publisherActor);
+
+            // GIVEN: 2 batches are being sent and are never completed
+            for (int i = 0; i < 4; i++) {
+                publisherActor.tell(newIndexedSignalWithAutoAck(i, "please-verify", getRef()), getRef());
+            }
+            verify(messageProducer, timeout(2_000).times(4)).send(any(Message.class), any(CompletionListener.class));
+
+            // WHEN: 2 more batches are published
+            for (int i = 4; i < 8; i++) {
+                publisherActor.tell(newIndexedSignalWithAutoAck(i, "please-verify", getRef()), getRef());
+            }
+
+            // THEN: the 1st batch fills the queue of 2 messages and the messages of the 2nd batch are dropped
+            final Map<String, Acknowledgements> acks = expectIndexedAcknowledgements(this, 2);
+            assertThat(acks).containsOnlyKeys(getIndexedCorrelationId(6), getIndexedCorrelationId(7));
+            assertThat(acks.values()).allSatisfy(acknowledgements ->
+                    assertThat(acknowledgements.getFailedAcknowledgements()).isNotEmpty());
+            expectNoMessage();
+        }};
+    }
+
+    private static Map<String, Acknowledgements> expectIndexedAcknowledgements(final TestKit testKit,
+            final int count) {
+
+        final Map<String, Acknowledgements> acksByCorrelationId = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            final Acknowledgements acks = testKit.expectMsgClass(Acknowledgements.class);
+            acksByCorrelationId.put(acks.getDittoHeaders().getCorrelationId().orElseThrow(), acks);
+        }
+        return acksByCorrelationId;
+    }
+
+    private static String getText(final Message message) {
+        try {
+            return ((TextMessage) message).getText();
+        } catch (final JMSException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     protected Props getPublisherActorProps() {
         return AmqpPublisherActor.props(TestConstants.createConnection(), session, loadConnectionConfig(), "clientId");
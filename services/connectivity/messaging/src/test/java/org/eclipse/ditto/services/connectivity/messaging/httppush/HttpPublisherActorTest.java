@@ -14,13 +14,17 @@ package org.eclipse.ditto.services.connectivity.messaging.httppush;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -34,6 +38,7 @@ import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.base.common.DittoConstants;
 import org.eclipse.ditto.model.base.common.HttpStatus;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.connectivity.Topic;
@@ -646,6 +651,108 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
         }};
     }
 
+    @Test
+    public void fullBatchIsSentAsOneRequestAndAcknowledgedPerMessage() throws Exception {
+        startActorSystemWithPublisherBatch(3, Duration.ofMinutes(1L));
+
+        new TestKit(actorSystem) {{
+            httpPushFactory = mockHttpPushFactory("text/plain", HttpStatus.OK, "hello!");
+            final ActorRef publisherActor = childActorOf(getBatchingPublisherActorProps("json-array"));
+
+            // WHEN: as many messages as fit into a batch are published
+            for (int i = 0; i < 3; i++) {
+                publisherActor.tell(newIndexedSignalWithAutoAck(i, "please-verify", getRef()), getRef());
+            }
+
+            // THEN: one request containing the payloads in order is sent without waiting for the linger duration
+            final HttpRequest request = received.take();
+            assertThat(getBody(request)).isEqualTo(
+                    "[" + getIndexedPayload(0) + "," + getIndexedPayload(1) + "," + getIndexedPayload(2) + "]");
+            assertThat(request.entity().getContentType().toString()).isEqualTo("application/json");
+
+            // THEN: each message is acknowledged by the response of the request
+            final Set<String> acknowledgedCorrelationIds = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                final Acknowledgements acks = expectMsgClass(Acknowledgements.class);
+                assertThat(acks.getFailedAcknowledgements()).isEmpty();
+                assertThat(acks.getHttpStatus()).isEqualTo(HttpStatus.OK);
+                acknowledgedCorrelationIds.add(acks.getDittoHeaders().getCorrelationId().orElseThrow());
+            }
+            assertThat(acknowledgedCorrelationIds).containsExactlyInAnyOrder(getIndexedCorrelationId(0),
+                    getIndexedCorrelationId(1), getIndexedCorrelationId(2));
+            assertThat(received).isEmpty();
+        }};
+    }
+
+    @Test
+    public void incompleteBatchIsSentAfterLinger() throws Exception {
+        startActorSystemWithPublisherBatch(10, Duration.ofSeconds(1L));
+
+        new TestKit(actorSystem) {{
+            httpPushFactory = mockHttpPushFactory("text/plain", HttpStatus.OK, "hello!");
+            final ActorRef publisherActor = childActorOf(getBatchingPublisherActorProps("ndjson"));
+
+            publisherActor.tell(newIndexedSignalWithAutoAck(0, "please-verify", getRef()), getRef());
+            publisherActor.tell(newIndexedSignalWithAutoAck(1, "please-verify", getRef()), getRef());
+
+            assertThat(received.poll(500L, TimeUnit.MILLISECONDS)).isNull();
+            final HttpRequest request = received.poll(5L, TimeUnit.SECONDS);
+            assertThat(request).isNotNull();
+            assertThat(getBody(request)).isEqualTo(getIndexedPayload(0) + "\n" + getIndexedPayload(1) + "\n");
+            assertThat(request.entity().getContentType().toString()).isEqualTo("application/x-ndjson");
+            expectMsgClass(Acknowledgements.class);
+            expectMsgClass(Acknowledgements.class);
+        }};
+    }
+
+    @Test
+    public void pendingBatchIsSentBeforeMessageWhichCannotBeBatched() throws Exception {
+        startActorSystemWithPublisherBatch(10, Duration.ofMinutes(1L));
+
+        new TestKit(actorSystem) {{
+            httpPushFactory = mockHttpPushFactory("text/plain", HttpStatus.OK, "hello!");
+            final ActorRef publisherActor = childActorOf(getBatchingPublisherActorProps("json-array"));
+
+            // WHEN: a binary message is published after 2 messages in a pending batch
+            publisherActor.tell(newIndexedSignalWithAutoAck(0, "please-verify", getRef()), getRef());
+            publisherActor.tell(newIndexedSignalWithAutoAck(1, "please-verify", getRef()), getRef());
+            publisherActor.tell(newBinarySignal(getRef()), getRef());
+
+            // THEN: the pending batch is sent first to keep the order of messages
+            assertThat(getBody(received.take()))
+                    .isEqualTo("[" + getIndexedPayload(0) + "," + getIndexedPayload(1) + "]");
+            assertThat(getBody(received.take())).isEqualTo("binary");
+            expectMsgClass(Acknowledgements.class);
+            expectMsgClass(Acknowledgements.class);
+        }};
+    }
+
+    private Props getBatchingPublisherActorProps(final String batchFormat) {
+        final Connection connection = TestConstants.createConnection()
+                .toBuilder()
+                .specificConfig(Map.of(HttpPushFactory.BATCH_FORMAT, batchFormat))
+                .build();
+        return HttpPublisherActor.props(connection, httpPushFactory, "clientId");
+    }
+
+    private OutboundSignal.MultiMapped newBinarySignal(final ActorRef sender) {
+        final OutboundSignal.Mapped mapped = getMockOutboundSignal();
+        final ExternalMessage binaryMessage = ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap())
+                .withBytes("binary".getBytes(StandardCharsets.UTF_8))
+                .build();
+        return OutboundSignalFactory.newMultiMappedOutboundSignal(List.of(
+                OutboundSignalFactory.newMappedOutboundSignal(mapped, mapped.getAdaptable(), binaryMessage)), sender);
+    }
+
+    private String getBody(final HttpRequest request) {
+        return request.entity()
+                .toStrict(60_000L, SystemMaterializer.get(actorSystem).materializer())
+                .toCompletableFuture()
+                .join()
+                .getData()
+                .utf8String();
+    }
+
     @Override
     protected void verifyPublishedMessageToReplyTarget() throws Exception {
         final HttpRequest request = received.take();
@@ -107,6 +107,19 @@ public final class HttpPushValidatorTest {
         verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithTarget("DELETE:/bar"));
     }
 
+    @Test
+    public void testBatchFormat() {
+        final Connection connection = getConnectionWithTarget("POST:events");
+        final Map<String, String> specificConfig = new HashMap<>(defaultSpecificConfig);
+        specificConfig.put(HttpPushFactory.BATCH_FORMAT, "ndjson");
+        underTest.validate(connection.toBuilder().specificConfig(specificConfig).build(), DittoHeaders.empty(),
+                actorSystem);
+
+        specificConfig.put(HttpPushFactory.BATCH_FORMAT, "xml");
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                connection.toBuilder().specificConfig(specificConfig).build());
+    }
+
     private static Connection getConnectionWithTarget(final String target) {
         return getConnectionWithHostAndTarget("8.8.4.4", target);
     }
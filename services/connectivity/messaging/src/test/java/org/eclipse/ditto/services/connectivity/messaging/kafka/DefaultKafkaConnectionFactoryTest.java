@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DefaultKafkaConnectionFactory}.
+ */
+public final class DefaultKafkaConnectionFactoryTest {
+
+    private static final String CLIENT_ID = "client";
+
+    @Test
+    public void consumersHaveDistinctClientIds() {
+        final Connection connection = ConnectivityModelFactory.newConnectionBuilder(
+                TestConstants.createRandomConnectionId(), ConnectionType.KAFKA, ConnectivityStatus.OPEN,
+                "tcp://localhost:9092")
+                .build();
+        final DefaultKafkaConnectionFactory underTest = DefaultKafkaConnectionFactory.getInstance(connection,
+                TestConstants.CONNECTION_CONFIG.getKafkaConfig(), CLIENT_ID);
+
+        try (final Consumer<String, String> first = underTest.newConsumer("kafkaConsumer-events-0");
+                final Consumer<String, String> second = underTest.newConsumer("kafkaConsumer-events-1")) {
+
+            assertThat(getClientIds(first)).containsExactly(CLIENT_ID + "-kafkaConsumer-events-0");
+            assertThat(getClientIds(second)).containsExactly(CLIENT_ID + "-kafkaConsumer-events-1");
+        }
+    }
+
+    private static Set<String> getClientIds(final Consumer<?, ?> consumer) {
+        return consumer.metrics()
+                .keySet()
+                .stream()
+                .map(metricName -> metricName.tags().get("client-id"))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+}
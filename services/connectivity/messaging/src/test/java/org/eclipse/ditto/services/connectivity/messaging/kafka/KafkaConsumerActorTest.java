@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.config.DefaultKafkaConsumerConfig;
+import org.eclipse.ditto.services.connectivity.config.KafkaConsumerConfig;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link KafkaConsumerActor} against a {@link MockConsumer}.
+ */
+public final class KafkaConsumerActorTest {
+
+    private static final String TOPIC = "source";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
+    private static ActorSystem actorSystem;
+
+    private MockConsumer<String, String> mockConsumer;
+    private KafkaConnectionFactory connectionFactory;
+    private Connection connection;
+    private Source source;
+
+    @BeforeClass
+    public static void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                false);
+    }
+
+    @Before
+    public void init() {
+        mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        mockConsumer.updateBeginningOffsets(Map.of(PARTITION_0, 0L, PARTITION_1, 0L));
+        connectionFactory = mock(KafkaConnectionFactory.class);
+        when(connectionFactory.newConsumer(any())).thenReturn(mockConsumer);
+        source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, TOPIC);
+        connection = ConnectivityModelFactory.newConnectionBuilder(TestConstants.createRandomConnectionId(),
+                ConnectionType.KAFKA, ConnectivityStatus.OPEN, "tcp://localhost:9092")
+                .sources(List.of(source))
+                .build();
+    }
+
+    @Test
+    public void forwardsRecordsAndCommitsOffsetsOfSettledRecords() {
+        new TestKit(actorSystem) {{
+            final TestProbe mappingProcessor = TestProbe.apply(actorSystem);
+            final ActorRef underTest = childActorOf(props(mappingProcessor.ref(), consumerConfig(10)));
+            expectMsgClass(Status.Success.class);
+            assignPartitions(PARTITION_0);
+
+            mockConsumer.addRecord(record(PARTITION_0, 0L, "first"));
+            mockConsumer.addRecord(record(PARTITION_0, 1L, "second"));
+
+            final ExternalMessage first = mappingProcessor.expectMsgClass(ExternalMessage.class);
+            final ActorRef firstCollector = mappingProcessor.lastSender();
+            final ExternalMessage second = mappingProcessor.expectMsgClass(ExternalMessage.class);
+            final ActorRef secondCollector = mappingProcessor.lastSender();
+            assertThat(first.getTextPayload()).contains("first");
+            assertThat(first.getHeaders()).containsEntry(KafkaConsumerActor.KAFKA_TOPIC_HEADER, TOPIC)
+                    .containsEntry(KafkaConsumerActor.KAFKA_KEY_HEADER, "key");
+            assertThat(second.getTextPayload()).contains("second");
+
+            // settling the second record must not commit the unsettled first one
+            secondCollector.tell(TestConstants.setResponseCollectorCount(0), ActorRef.noSender());
+            mappingProcessor.expectNoMessage(Duration.ofMillis(500L));
+            assertThat(committedOffset(PARTITION_0)).isNull();
+
+            firstCollector.tell(TestConstants.setResponseCollectorCount(0), ActorRef.noSender());
+            Awaitility.await().untilAsserted(() -> assertThat(committedOffset(PARTITION_0)).isEqualTo(2L));
+
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            expectTerminated(underTest);
+            assertThat(mockConsumer.closed()).isTrue();
+        }};
+    }
+
+    @Test
+    public void pausesPartitionWithTooManyUnsettledRecords() {
+        new TestKit(actorSystem) {{
+            final TestProbe mappingProcessor = TestProbe.apply(actorSystem);
+            childActorOf(props(mappingProcessor.ref(), consumerConfig(1)));
+            expectMsgClass(Status.Success.class);
+            assignPartitions(PARTITION_0, PARTITION_1);
+
+            mockConsumer.addRecord(record(PARTITION_0, 0L, "p0-first"));
+            mockConsumer.addRecord(record(PARTITION_0, 1L, "p0-second"));
+            mockConsumer.addRecord(record(PARTITION_1, 0L, "p1-first"));
+
+            // one record of each partition is in flight; the blocked partition does not delay the other one
+            final ExternalMessage message1 = mappingProcessor.expectMsgClass(ExternalMessage.class);
+            final ActorRef collector1 = mappingProcessor.lastSender();
+            final ExternalMessage message2 = mappingProcessor.expectMsgClass(ExternalMessage.class);
+            final ActorRef collector2 = mappingProcessor.lastSender();
+            mappingProcessor.expectNoMessage(Duration.ofMillis(500L));
+            assertThat(List.of(message1.getTextPayload().orElseThrow(), message2.getTextPayload().orElseThrow()))
+                    .containsExactlyInAnyOrder("p0-first", "p1-first");
+            Awaitility.await().untilAsserted(() -> assertThat(mockConsumer.paused()).contains(PARTITION_0));
+
+            final ActorRef partition0Collector =
+                    message1.getTextPayload().orElseThrow().equals("p0-first") ? collector1 : collector2;
+            partition0Collector.tell(TestConstants.setResponseCollectorCount(0), ActorRef.noSender());
+
+            final ExternalMessage message3 = mappingProcessor.expectMsgClass(ExternalMessage.class);
+            assertThat(message3.getTextPayload()).contains("p0-second");
+            Awaitility.await().untilAsserted(() -> assertThat(committedOffset(PARTITION_0)).isEqualTo(1L));
+        }};
+    }
+
+    @Test
+    public void seeksToRejectedRecordForRedelivery() {
+        new TestKit(actorSystem) {{
+            final TestProbe mappingProcessor = TestProbe.apply(actorSystem);
+            childActorOf(props(mappingProcessor.ref(), consumerConfig(10)));
+            expectMsgClass(Status.Success.class);
+            assignPartitions(PARTITION_0);
+
+            mockConsumer.addRecord(record(PARTITION_0, 0L, "first"));
+            mockConsumer.addRecord(record(PARTITION_0, 1L, "second"));
+            mappingProcessor.expectMsgClass(ExternalMessage.class);
+            final ActorRef firstCollector = mappingProcessor.lastSender();
+            mappingProcessor.expectMsgClass(ExternalMessage.class);
+            Awaitility.await().untilAsserted(() -> assertThat(mockConsumer.position(PARTITION_0)).isEqualTo(2L));
+
+            firstCollector.tell(TestConstants.setResponseCollectorCount(0), ActorRef.noSender());
+            firstCollector.tell(ThingUnavailableException.newBuilder(TestConstants.Things.THING_ID).build(),
+                    ActorRef.noSender());
+
+            Awaitility.await().untilAsserted(() -> assertThat(mockConsumer.position(PARTITION_0)).isZero());
+            assertThat(committedOffset(PARTITION_0)).isNull();
+        }};
+    }
+
+    private Props props(final ActorRef mappingProcessor, final KafkaConsumerConfig consumerConfig) {
+        return KafkaConsumerActor.props(connection, connectionFactory, TOPIC, mappingProcessor, source,
+                consumerConfig);
+    }
+
+    private void assignPartitions(final TopicPartition... partitions) {
+        Awaitility.await().until(() -> !mockConsumer.subscription().isEmpty());
+        mockConsumer.rebalance(List.of(partitions));
+    }
+
+    private Long committedOffset(final TopicPartition partition) {
+        final OffsetAndMetadata offsetAndMetadata = mockConsumer.committed(Set.of(partition)).get(partition);
+        return offsetAndMetadata != null ? offsetAndMetadata.offset() : null;
+    }
+
+    private static KafkaConsumerConfig consumerConfig(final int maxInFlightPerPartition) {
+        return DefaultKafkaConsumerConfig.of(ConfigFactory.parseString(
+                "consumer { poll-timeout = 10ms, max-in-flight-per-partition = " + maxInFlightPerPartition + " }"));
+    }
+
+    private static ConsumerRecord<String, String> record(final TopicPartition partition, final long offset,
+            final String value) {
+
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key", value);
+    }
+
+}
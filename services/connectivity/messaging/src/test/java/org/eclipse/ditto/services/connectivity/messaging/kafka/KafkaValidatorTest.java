@@ -77,11 +77,21 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events");
 
+        underTest.validateSource(source, DittoHeaders.empty(), () -> "");
+    }
+
+    @Test
+    public void testInvalidSourceAddress() {
+        final Source invalidTopicSource = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events/");
+        final Source placeholderSource = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "{{thing:id}}");
+
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(invalidTopicSource, DittoHeaders.empty(), () -> ""));
         assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
-                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+                .isThrownBy(() -> underTest.validateSource(placeholderSource, DittoHeaders.empty(), () -> ""));
     }
 
     @Test
@@ -172,7 +172,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 .build();
     }
 
-    private static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
+    static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
         return HttpResponse.create().withStatus(httpStatus.getCode());
     }
 
@@ -455,7 +455,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         completeWithResult(response);
     }
 
-    private static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
+    static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
             final DittoRuntimeException exception) {
 
         final var httpStatus = exception.getHttpStatus();
@@ -478,7 +478,14 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         }
 
         logger.debug("Enhancing response with external headers <{}>.", externalHeaders);
-        final List<HttpHeader> externalHttpHeaders = externalHeaders
+        final List<HttpHeader> externalHttpHeaders = toHttpHeaders(externalHeaders);
+        logger.discardCorrelationId();
+
+        return response.withHeaders(externalHttpHeaders);
+    }
+
+    static List<HttpHeader> toHttpHeaders(final Map<String, String> externalHeaders) {
+        return externalHeaders
                 .entrySet()
                 .stream()
                 /*
@@ -488,9 +495,6 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 .filter(entry -> !entry.getKey().equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey()))
                 .map(entry -> RawHeader.create(entry.getKey(), entry.getValue()))
                 .collect(Collectors.toList());
-        logger.discardCorrelationId();
-
-        return response.withHeaders(externalHttpHeaders);
     }
 
     private void completeWithResult(final HttpResponse response) {
@@ -518,7 +522,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         getContext().stop(getSelf());
     }
 
-    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
+    static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
             final ContentType contentType) {
 
         final ByteString byteString;
@@ -532,7 +536,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
     }
 
-    private static ContentType getContentType(final DittoHeaders dittoHeaders) {
+    static ContentType getContentType(final DittoHeaders dittoHeaders) {
         return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
     }
 
@@ -547,7 +551,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         return addBodyIfEntityExists.apply(addHeaders.apply(createHttpResponse(httpStatus)));
     }
 
-    private static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
+    static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
             final WithOptionalEntity withOptionalEntity) {
 
         return response -> {
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.model.base.common.HttpStatus;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.services.utils.cluster.JsonValueSourceRef;
+import org.eclipse.ditto.signals.base.WithOptionalEntity;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.ErrorResponse;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayCommandTimeoutException;
+import org.eclipse.ditto.signals.commands.things.query.ThingQueryCommand;
+
+import akka.actor.ActorRef;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpResponse;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+
+/**
+ * Handles HTTP requests of commands which retrieve twin data without starting an {@link AbstractHttpRequestActor} per
+ * request. The command is sent to the proxy actor via {@link Patterns#ask(ActorRef, Object, Duration)} and its single
+ * response is rendered into an HTTP response the same way the request actor would render it.
+ * <p>
+ * Only commands which are {@link #isApplicable(Command) applicable} may be handled this way; commands requesting
+ * acknowledgements, live commands and conditional requests still need a request actor.
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class DirectRetrieveHandler {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(DirectRetrieveHandler.class);
+
+    private final ActorRef proxyActor;
+    private final HeaderTranslator headerTranslator;
+    private final CommandConfig commandConfig;
+
+    private DirectRetrieveHandler(final ActorRef proxyActor, final HeaderTranslator headerTranslator,
+            final CommandConfig commandConfig) {
+
+        this.proxyActor = checkNotNull(proxyActor, "proxyActor");
+        this.headerTranslator = checkNotNull(headerTranslator, "headerTranslator");
+        this.commandConfig = checkNotNull(commandConfig, "commandConfig");
+    }
+
+    /**
+     * Returns a new instance of {@code DirectRetrieveHandler}.
+     *
+     * @param proxyActor the actor to send the commands to.
+     * @param headerTranslator translates the headers of the responses to external headers.
+     * @param commandConfig provides the default timeout of commands.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static DirectRetrieveHandler of(final ActorRef proxyActor, final HeaderTranslator headerTranslator,
+            final CommandConfig commandConfig) {
+
+        return new DirectRetrieveHandler(proxyActor, headerTranslator, commandConfig);
+    }
+
+    /**
+     * Indicates whether the given command can be handled without a request actor, i. e. whether it is a twin query
+     * command which requires a response, does not request acknowledgements and has no conditional headers.
+     *
+     * @param command the command.
+     * @return {@code true} if the command can be handled by this handler.
+     */
+    public static boolean isApplicable(final Command<?> command) {
+        if (!(command instanceof ThingQueryCommand)) {
+            return false;
+        }
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final JsonSchemaVersion schemaVersion =
+                dittoHeaders.getSchemaVersion().orElse(command.getImplementedSchemaVersion());
+        return command.implementsSchemaVersion(schemaVersion) &&
+                dittoHeaders.isResponseRequired() &&
+                dittoHeaders.getAcknowledgementRequests().isEmpty() &&
+                dittoHeaders.getChannel().filter(TopicPath.Channel.LIVE.getName()::equals).isEmpty() &&
+                dittoHeaders.getIfMatch().isEmpty() &&
+                dittoHeaders.getIfNoneMatch().isEmpty();
+    }
+
+    /**
+     * Sends the given command to the proxy actor and renders its response into an HTTP response.
+     *
+     * @param command the applicable command.
+     * @return the HTTP response; never completes exceptionally.
+     */
+    public CompletionStage<HttpResponse> handle(final Command<?> command) {
+        final Duration timeout = command.getDittoHeaders().getTimeout()
+                // if no specific timeout was configured, use the default command timeout
+                .orElse(commandConfig.getDefaultTimeout());
+        return Patterns.ask(proxyActor, command, timeout)
+                .handle((response, error) -> {
+                    if (null != error) {
+                        return handleError(command, timeout, error);
+                    }
+                    return handleResponse(command, response);
+                });
+    }
+
+    private HttpResponse handleResponse(final Command<?> command, final Object response) {
+        if (response instanceof ErrorResponse) {
+            return handleDittoRuntimeException(((ErrorResponse<?>) response).getDittoRuntimeException());
+        } else if (response instanceof DittoRuntimeException) {
+            return handleDittoRuntimeException((DittoRuntimeException) response);
+        } else if (response instanceof CommandResponse && response instanceof WithEntity) {
+            return handleResponseWithEntity((CommandResponse<?>) response);
+        } else if (response instanceof CommandResponse && response instanceof WithOptionalEntity) {
+            final CommandResponse<?> commandResponse = (CommandResponse<?>) response;
+            final DittoHeaders dittoHeaders = commandResponse.getDittoHeaders();
+            final HttpResponse responseWithHeaders = addExternalHeaders(
+                    AbstractHttpRequestActor.createHttpResponse(commandResponse.getHttpStatus()), dittoHeaders);
+            return AbstractHttpRequestActor.createBodyAddingResponseMapper(dittoHeaders,
+                    (WithOptionalEntity) commandResponse).apply(responseWithHeaders);
+        } else if (response instanceof JsonValueSourceRef) {
+            return JsonValueSourceToHttpResponse.getInstance().apply(((JsonValueSourceRef) response).getSource());
+        } else {
+            LOGGER.withCorrelationId(command)
+                    .error("Got unknown message when a response to <{}> was expected: <{}>!", command.getType(),
+                            response);
+            return AbstractHttpRequestActor.createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private HttpResponse handleResponseWithEntity(final CommandResponse<?> commandResponse) {
+        final DittoHeaders dittoHeaders = commandResponse.getDittoHeaders();
+        final WithEntity<?> withEntity = (WithEntity<?>) commandResponse;
+        final HttpResponse responseWithoutBody = addExternalHeaders(
+                AbstractHttpRequestActor.createHttpResponse(commandResponse.getHttpStatus()), dittoHeaders);
+        final String entityPlainString = withEntity.getEntityPlainString()
+                .orElseGet(() -> withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString());
+        return AbstractHttpRequestActor.addEntityAccordingToContentType(responseWithoutBody, entityPlainString,
+                AbstractHttpRequestActor.getContentType(dittoHeaders));
+    }
+
+    private HttpResponse handleError(final Command<?> command, final Duration timeout, final Throwable error) {
+        final Throwable cause = error instanceof CompletionException && null != error.getCause()
+                ? error.getCause()
+                : error;
+        if (cause instanceof AskTimeoutException) {
+            LOGGER.withCorrelationId(command)
+                    .info("Got no response to <{}> within timeout <{}>.", command.getType(), timeout);
+            return handleDittoRuntimeException(GatewayCommandTimeoutException.newBuilder(timeout)
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build());
+        } else if (cause instanceof JsonRuntimeException) {
+            return handleDittoRuntimeException(new DittoJsonException((JsonRuntimeException) cause));
+        } else if (cause instanceof DittoRuntimeException) {
+            return handleDittoRuntimeException((DittoRuntimeException) cause);
+        } else {
+            LOGGER.withCorrelationId(command)
+                    .error("Got <{}> when a response to <{}> was expected: <{}>!", cause.getClass().getSimpleName(),
+                            command.getType(), cause.getMessage(), cause);
+            return AbstractHttpRequestActor.createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private HttpResponse handleDittoRuntimeException(final DittoRuntimeException exception) {
+        LOGGER.withCorrelationId(exception)
+                .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
+        return addExternalHeaders(
+                AbstractHttpRequestActor.buildResponseWithoutHeadersFromDittoRuntimeException(exception),
+                exception.getDittoHeaders());
+    }
+
+    private HttpResponse addExternalHeaders(final HttpResponse response, final DittoHeaders dittoHeaders) {
+        final Map<String, String> externalHeaders = headerTranslator.toExternalAndRetainKnownHeaders(dittoHeaders);
+        if (externalHeaders.isEmpty()) {
+            return response;
+        }
+        final List<HttpHeader> externalHttpHeaders = AbstractHttpRequestActor.toHttpHeaders(externalHeaders);
+        return response.withHeaders(externalHttpHeaders);
+    }
+
+}
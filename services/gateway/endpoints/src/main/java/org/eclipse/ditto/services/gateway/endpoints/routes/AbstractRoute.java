@@ -39,6 +39,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.base.config.ThrottlingConfig;
 import org.eclipse.ditto.services.gateway.endpoints.actors.AbstractHttpRequestActor;
+import org.eclipse.ditto.services.gateway.endpoints.actors.DirectRetrieveHandler;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActorPropsFactory;
 import org.eclipse.ditto.services.gateway.endpoints.directives.ContentTypeValidationDirective;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
@@ -98,6 +99,7 @@ public abstract class AbstractRoute extends AllDirectives {
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
     private final Attributes supervisionStrategy;
     private final Set<String> mediaTypeJsonWithFallbacks;
+    @Nullable private final DirectRetrieveHandler directRetrieveHandler;
 
     /**
      * Constructs the abstract route builder.
@@ -132,6 +134,9 @@ public abstract class AbstractRoute extends AllDirectives {
                         httpConfig.getActorPropsFactoryFullQualifiedClassname());
 
         supervisionStrategy = createSupervisionStrategy();
+        directRetrieveHandler = httpConfig.isDirectRetrieveEnabled()
+                ? DirectRetrieveHandler.of(proxyActor, headerTranslator, commandConfig)
+                : null;
     }
 
     private Attributes createSupervisionStrategy() {
@@ -176,12 +181,18 @@ public abstract class AbstractRoute extends AllDirectives {
     }
 
     protected Route handlePerRequest(final RequestContext ctx, final Command command) {
+        if (isDirectlyRetrievable(command)) {
+            return handleDirectly(ctx, command, null);
+        }
         return handlePerRequest(ctx, command.getDittoHeaders(), Source.empty(), emptyRequestBody -> command);
     }
 
     protected Route handlePerRequest(final RequestContext ctx, final Command command,
             final Function<JsonValue, JsonValue> responseTransformFunction) {
 
+        if (isDirectlyRetrievable(command)) {
+            return handleDirectly(ctx, command, responseTransformFunction);
+        }
         return handlePerRequest(ctx, command.getDittoHeaders(), Source.empty(),
                 emptyRequestBody -> command, responseTransformFunction);
     }
@@ -200,6 +211,15 @@ public abstract class AbstractRoute extends AllDirectives {
             final Function<String, Command> requestJsonToCommandFunction,
             @Nullable final Function<JsonValue, JsonValue> responseTransformFunction) {
 
+        return withRequestTimeout(ctx, dittoHeaders,
+                headersWithTimeout -> doHandlePerRequest(ctx, headersWithTimeout, payloadSource,
+                        requestJsonToCommandFunction, responseTransformFunction));
+    }
+
+    private Route withRequestTimeout(final RequestContext ctx,
+            final DittoHeaders dittoHeaders,
+            final java.util.function.Function<DittoHeaders, Route> inner) {
+
         // check if Akka HTTP timeout was overwritten by our code (e.g. for claim messages)
         final boolean increasedAkkaHttpTimeout = ctx.getRequest().getHeader(TimeoutAccess.class)
                 .map(TimeoutAccess::timeoutAccess)
@@ -209,17 +229,33 @@ public abstract class AbstractRoute extends AllDirectives {
                 .isPresent();
 
         if (increasedAkkaHttpTimeout) {
-            return doHandlePerRequest(ctx, dittoHeaders, payloadSource, requestJsonToCommandFunction,
-                    responseTransformFunction);
+            return inner.apply(dittoHeaders);
         } else {
             return withCustomRequestTimeout(dittoHeaders.getTimeout().orElse(null),
                     this::validateCommandTimeout,
                     null, // don't set default timeout in order to use the configured akka-http default
-                    timeout -> doHandlePerRequest(ctx, dittoHeaders.toBuilder().timeout(timeout).build(), payloadSource,
-                            requestJsonToCommandFunction, responseTransformFunction));
+                    timeout -> inner.apply(dittoHeaders.toBuilder().timeout(timeout).build()));
         }
     }
 
+    private boolean isDirectlyRetrievable(final Command<?> command) {
+        return null != directRetrieveHandler && DirectRetrieveHandler.isApplicable(command);
+    }
+
+    /**
+     * Handles a retrieve command without an HTTP request actor. Like for commands handled by a request actor, the
+     * timeout of the command is validated and applied to the HTTP request.
+     */
+    @SuppressWarnings("ConstantConditions")
+    private Route handleDirectly(final RequestContext ctx, final Command<?> command,
+            @Nullable final Function<JsonValue, JsonValue> responseTransformFunction) {
+
+        return withRequestTimeout(ctx, command.getDittoHeaders(),
+                headersWithTimeout -> completeWithResponse(
+                        directRetrieveHandler.handle(command.setDittoHeaders(headersWithTimeout)),
+                        responseTransformFunction));
+    }
+
     protected <M> M runWithSupervisionStrategy(final RunnableGraph<M> graph) {
         return graph.withAttributes(supervisionStrategy).run(actorSystem);
     }
@@ -253,9 +289,15 @@ public abstract class AbstractRoute extends AllDirectives {
                         AbstractHttpRequestActor.COMPLETE_MESSAGE))
         );
 
+        return completeWithResponse(httpResponseFuture, responseTransformFunction);
+    }
+
+    private Route completeWithResponse(final CompletionStage<HttpResponse> httpResponseFuture,
+            @Nullable final Function<JsonValue, JsonValue> responseTransformFunction) {
+
         // optional step: transform the response entity:
         if (responseTransformFunction != null) {
-            final CompletableFuture<HttpResponse> transformedResponse = httpResponseFuture.thenApply(response -> {
+            final CompletionStage<HttpResponse> transformedResponse = httpResponseFuture.thenApply(response -> {
                 final boolean isSuccessfulResponse = response.status().isSuccess();
                 // we have to check if response is empty, because otherwise we'll get an IOException when trying to
                 // read it
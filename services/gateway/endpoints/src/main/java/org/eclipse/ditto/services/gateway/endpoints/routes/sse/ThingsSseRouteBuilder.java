@@ -371,7 +371,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                         .map(session -> jsonifiable.retrieveExtraFields(facade)
                                 .thenApply(extra ->
                                         Optional.of(session.mergeThingWithExtra(event, extra))
-                                                .filter(session::matchesFilter)
+                                                .filter(thing -> session.matchesFilter(event, thing))
                                                 .map(thing -> toNonemptyThingJson(thing, event, fields))
                                                 .orElseGet(Collections::emptyList)
                                 )
@@ -607,7 +607,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
         final JsonifiableAdaptable jsonifiableAdaptable = wrapJsonRuntimeException(cmdString,
                 DittoHeaders.empty(), // unused
-                (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(s)));
+                (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObjectLazily(s)));
 
         final Signal<?> signal;
         try {
@@ -743,7 +743,8 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 .filter(session -> jsonifiable instanceof Signal)
                 .map(session ->
                         // evaluate to false if filter is present but does not match or has insufficient info to match
-                        session.matchesFilter(session.mergeThingWithExtra((Signal<?>) jsonifiable, extra))
+                        session.matchesFilter((Signal<?>) jsonifiable,
+                                session.mergeThingWithExtra((Signal<?>) jsonifiable, extra))
                 )
                 .orElse(true);
     }
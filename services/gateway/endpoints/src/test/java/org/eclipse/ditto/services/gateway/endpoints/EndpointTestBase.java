@@ -102,6 +102,7 @@ public abstract class EndpointTestBase extends JUnitRouteTest {
     protected static MessageConfig claimMessageConfig;
     protected static AuthenticationConfig authConfig;
     protected static CacheConfig cacheConfig;
+    protected static CacheConfig jwtCacheConfig;
     protected static StreamingConfig streamingConfig;
     protected static PublicHealthConfig publicHealthConfig;
     protected static ProtocolConfig protocolConfig;
@@ -122,6 +123,7 @@ public abstract class EndpointTestBase extends JUnitRouteTest {
         claimMessageConfig = DefaultClaimMessageConfig.of(gatewayScopedConfig);
         authConfig = DefaultAuthenticationConfig.of(gatewayScopedConfig);
         cacheConfig = DefaultCacheConfig.of(gatewayScopedConfig, "cache.publickeys");
+        jwtCacheConfig = DefaultCacheConfig.of(gatewayScopedConfig, "cache.jwt");
         streamingConfig = DefaultStreamingConfig.of(gatewayScopedConfig);
         publicHealthConfig = DefaultPublicHealthConfig.of(gatewayScopedConfig);
         protocolConfig = DefaultProtocolConfig.of(dittoScopedConfig);
@@ -131,7 +133,7 @@ public abstract class EndpointTestBase extends JUnitRouteTest {
                         DefaultHttpProxyConfig.ofProxy(DefaultScopedConfig.empty("/")));
         authorizationSubjectsProviderFactory = DittoJwtAuthorizationSubjectsProvider::of;
         jwtAuthenticationFactory = JwtAuthenticationFactory.newInstance(authConfig.getOAuthConfig(), cacheConfig,
-                httpClientFacade, authorizationSubjectsProviderFactory);
+                jwtCacheConfig, httpClientFacade, authorizationSubjectsProviderFactory);
     }
 
     @Override
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.exceptions.AttributeNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributeResponse;
+import org.junit.Test;
+
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+import akka.stream.SystemMaterializer;
+import akka.testkit.TestProbe;
+
+/**
+ * Unit test for {@link DirectRetrieveHandler}.
+ */
+public final class DirectRetrieveHandlerTest extends AbstractHttpRequestActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "direct-retrieve");
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("foo");
+
+    @Test
+    public void twinRetrieveCommandIsApplicable() {
+        assertThat(DirectRetrieveHandler.isApplicable(retrieveAttribute(headers().build()))).isTrue();
+    }
+
+    @Test
+    public void modifyCommandIsNotApplicable() {
+        final ModifyAttribute modifyAttribute =
+                ModifyAttribute.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of("bar"), headers().build());
+
+        assertThat(DirectRetrieveHandler.isApplicable(modifyAttribute)).isFalse();
+    }
+
+    @Test
+    public void retrieveCommandsNeedingARequestActorAreNotApplicable() {
+        assertThat(DirectRetrieveHandler.isApplicable(retrieveAttribute(headers().channel("live").build())))
+                .isFalse();
+        assertThat(DirectRetrieveHandler.isApplicable(retrieveAttribute(headers()
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .build())))
+                .isFalse();
+        assertThat(DirectRetrieveHandler.isApplicable(retrieveAttribute(headers()
+                .ifNoneMatch(EntityTagMatchers.fromCommaSeparatedString("\"rev:1\""))
+                .build())))
+                .isFalse();
+        assertThat(DirectRetrieveHandler.isApplicable(retrieveAttribute(headers().responseRequired(false).build())))
+                .isFalse();
+    }
+
+    @Test
+    public void rendersResponseWithEntity() {
+        final TestProbe proxyActorProbe = TestProbe.apply(system);
+        final DirectRetrieveHandler underTest = createHandler(proxyActorProbe);
+        final RetrieveAttribute command = retrieveAttribute(headers().build());
+
+        final CompletionStage<HttpResponse> responseFuture = underTest.handle(command);
+        proxyActorProbe.expectMsg(command);
+        proxyActorProbe.reply(RetrieveAttributeResponse.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of("bar"),
+                command.getDittoHeaders()));
+
+        final HttpResponse response = responseFuture.toCompletableFuture().join();
+        assertThat(response.status()).isEqualTo(StatusCodes.OK);
+        assertThat(response.getHeader("correlation-id").map(HttpHeader::value))
+                .contains("direct-retrieve");
+        assertThat(getBody(response)).isEqualTo("\"bar\"");
+    }
+
+    @Test
+    public void rendersDittoRuntimeException() {
+        final TestProbe proxyActorProbe = TestProbe.apply(system);
+        final DirectRetrieveHandler underTest = createHandler(proxyActorProbe);
+        final RetrieveAttribute command = retrieveAttribute(headers().build());
+
+        final CompletionStage<HttpResponse> responseFuture = underTest.handle(command);
+        proxyActorProbe.expectMsg(command);
+        proxyActorProbe.reply(AttributeNotAccessibleException.newBuilder(THING_ID, ATTRIBUTE_POINTER)
+                .dittoHeaders(command.getDittoHeaders())
+                .build());
+
+        final HttpResponse response = responseFuture.toCompletableFuture().join();
+        assertThat(response.status()).isEqualTo(StatusCodes.NOT_FOUND);
+        assertThat(JsonObject.of(getBody(response)).getValue("error"))
+                .contains(JsonValue.of(AttributeNotAccessibleException.ERROR_CODE));
+    }
+
+    @Test
+    public void rendersTimeoutIfNoResponseArrives() {
+        final TestProbe proxyActorProbe = TestProbe.apply(system);
+        final DirectRetrieveHandler underTest = createHandler(proxyActorProbe);
+        final RetrieveAttribute command = retrieveAttribute(headers().timeout(Duration.ofMillis(200L)).build());
+
+        final HttpResponse response = underTest.handle(command).toCompletableFuture().join();
+
+        assertThat(response.status()).isEqualTo(StatusCodes.REQUEST_TIMEOUT);
+    }
+
+    private static DirectRetrieveHandler createHandler(final TestProbe proxyActorProbe) {
+        return DirectRetrieveHandler.of(proxyActorProbe.ref(), HEADER_TRANSLATOR, gatewayConfig.getCommandConfig());
+    }
+
+    private static RetrieveAttribute retrieveAttribute(final DittoHeaders dittoHeaders) {
+        return RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, dittoHeaders);
+    }
+
+    private DittoHeadersBuilder<?, ?> headers() {
+        return createAuthorizedHeaders().toBuilder()
+                .correlationId("direct-retrieve")
+                .responseRequired(true);
+    }
+
+    private static String getBody(final HttpResponse response) {
+        return response.entity()
+                .toStrict(1000L, SystemMaterializer.get(system).materializer())
+                .toCompletableFuture()
+                .join()
+                .getData()
+                .utf8String();
+    }
+
+}
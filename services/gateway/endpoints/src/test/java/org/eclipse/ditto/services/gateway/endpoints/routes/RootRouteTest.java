@@ -135,8 +135,8 @@ public final class RootRouteTest extends EndpointTestBase {
         final HeaderTranslator headerTranslator = protocolAdapterProvider.getHttpHeaderTranslator();
         doAnswer(invocation -> system()).when(httpClientFacade).getActorSystem();
         final JwtAuthenticationFactory jwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(authConfig.getOAuthConfig(), cacheConfig, httpClientFacade,
-                        authorizationSubjectsProviderFactory);
+                JwtAuthenticationFactory.newInstance(authConfig.getOAuthConfig(), cacheConfig, jwtCacheConfig,
+                        httpClientFacade, authorizationSubjectsProviderFactory);
         final GatewayAuthenticationDirectiveFactory authenticationDirectiveFactory =
                 new DittoGatewayAuthenticationDirectiveFactory(authConfig, jwtAuthenticationFactory, messageDispatcher);
 
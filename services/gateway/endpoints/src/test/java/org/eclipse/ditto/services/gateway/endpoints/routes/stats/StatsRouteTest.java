@@ -57,8 +57,8 @@ public final class StatsRouteTest extends EndpointTestBase {
         final ActorSystem actorSystem = system();
         final ProtocolAdapterProvider adapterProvider = ProtocolAdapterProvider.load(protocolConfig, actorSystem);
         final JwtAuthenticationFactory devopsJwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(devOpsConfig.getOAuthConfig(), cacheConfig, httpClientFacade,
-                        authorizationSubjectsProviderFactory);
+                JwtAuthenticationFactory.newInstance(devOpsConfig.getOAuthConfig(), cacheConfig, jwtCacheConfig,
+                        httpClientFacade, authorizationSubjectsProviderFactory);
         final JwtAuthenticationProvider jwtAuthenticationProvider = JwtAuthenticationProvider.newInstance(
                 devopsJwtAuthenticationFactory.newJwtAuthenticationResultProvider(),
                 devopsJwtAuthenticationFactory.getJwtValidator());
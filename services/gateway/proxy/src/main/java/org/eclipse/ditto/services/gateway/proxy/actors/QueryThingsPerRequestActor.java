@@ -12,10 +12,14 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import static org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse.UNPROJECTED_THING_IDS_HEADER;
+
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.ditto.json.JsonArray;
@@ -24,6 +28,7 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
@@ -53,6 +58,10 @@ import akka.actor.ReceiveTimeout;
  * This is needed in gateway so that we can maintain the max. cluster-message size in Ditto while still being able to
  * respond to searches with max. 200 search results.
  * </p>
+ * <p>
+ * If "things-search" projected the found things from its search index, only those things which could not be projected
+ * are retrieved.
+ * </p>
  */
 final class QueryThingsPerRequestActor extends AbstractActor {
 
@@ -65,6 +74,7 @@ final class QueryThingsPerRequestActor extends AbstractActor {
 
     private QueryThingsResponse queryThingsResponse;
     private List<ThingId> queryThingsResponseThingIds;
+    private boolean projected;
 
     @SuppressWarnings("unused")
     private QueryThingsPerRequestActor(final QueryThings queryThings,
@@ -112,20 +122,32 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                     log.withCorrelationId(qtr)
                             .debug("Received QueryThingsResponse: {}", qtr);
 
-                    queryThingsResponseThingIds = qtr.getSearchResult()
+                    // set by "things-search" if it projected the found things from its search index
+                    final Optional<List<ThingId>> unprojectedThingIds = parseUnprojectedThingIds(qtr);
+                    projected = unprojectedThingIds.isPresent();
+                    queryThingsResponseThingIds = unprojectedThingIds.orElseGet(() -> qtr.getSearchResult()
                             .stream()
                             .map(val -> val.asObject().getValue(Thing.JsonFields.ID).orElse(null))
                             .map(ThingId::of)
-                            .collect(Collectors.toList());
+                            .collect(Collectors.toList()));
 
-                    if (queryThingsResponseThingIds.isEmpty()) {
+                    if (queryThingsResponseThingIds.isEmpty() && !projected) {
                         // shortcut - for no search results we don't have to lookup the things
                         originatingSender.tell(qtr, getSelf());
                         stopMyself();
+                    } else if (queryThingsResponseThingIds.isEmpty()) {
+                        // shortcut - all search results were projected by "things-search"
+                        originatingSender.tell(toQueryThingsResponse(JsonArray.empty(), qtr.getDittoHeaders()),
+                                getSelf());
+                        stopMyself();
                     } else {
                         final Optional<JsonFieldSelector> selectedFieldsWithThingId = getSelectedFieldsWithThingId();
                         final RetrieveThings retrieveThings = RetrieveThings.getBuilder(queryThingsResponseThingIds)
-                                .dittoHeaders(qtr.getDittoHeaders().toBuilder().responseRequired(true).build())
+                                .dittoHeaders(qtr.getDittoHeaders()
+                                        .toBuilder()
+                                        .removeHeader(UNPROJECTED_THING_IDS_HEADER)
+                                        .responseRequired(true)
+                                        .build())
                                 .selectedFields(selectedFieldsWithThingId)
                                 .build();
                         // delegate to the ThingsAggregatorProxyActor which receives the results via a cluster stream:
@@ -138,15 +160,7 @@ final class QueryThingsPerRequestActor extends AbstractActor {
 
                     if (queryThingsResponse != null) {
                         final JsonArray rtrEntity = rtr.getEntity(rtr.getImplementedSchemaVersion()).asArray();
-                        final JsonArray retrievedEntitiesWithFieldSelection = getEntitiesWithSelectedFields(rtrEntity);
-                        final SearchResult resultWithRetrievedItems = SearchModelFactory.newSearchResultBuilder()
-                                .addAll(retrievedEntitiesWithFieldSelection)
-                                .nextPageOffset(queryThingsResponse.getSearchResult().getNextPageOffset().orElse(null))
-                                .cursor(queryThingsResponse.getSearchResult().getCursor().orElse(null))
-                                .build();
-                        final QueryThingsResponse theQueryThingsResponse =
-                                QueryThingsResponse.of(resultWithRetrievedItems, rtr.getDittoHeaders());
-                        originatingSender.tell(theQueryThingsResponse, getSelf());
+                        originatingSender.tell(toQueryThingsResponse(rtrEntity, rtr.getDittoHeaders()), getSelf());
                         notifyOutOfSyncThings(rtrEntity);
                     } else {
                         log.warning("Did not receive a QueryThingsResponse when a RetrieveThingsResponse occurred: {}",
@@ -163,6 +177,78 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .build();
     }
 
+    /**
+     * Parses the IDs of the things which "things-search" could not project from its search index.
+     * If the header is absent or invalid, all found things are retrieved.
+     *
+     * @param qtr the response of "things-search".
+     * @return the IDs of the unprojected things or an empty Optional if all found things have to be retrieved.
+     */
+    private Optional<List<ThingId>> parseUnprojectedThingIds(final QueryThingsResponse qtr) {
+        final String unprojectedThingIds = qtr.getDittoHeaders().get(UNPROJECTED_THING_IDS_HEADER);
+        if (null == unprojectedThingIds) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonArray.of(unprojectedThingIds)
+                    .stream()
+                    .map(JsonValue::asString)
+                    .map(ThingId::of)
+                    .collect(Collectors.toList()));
+        } catch (final RuntimeException e) {
+            log.withCorrelationId(qtr)
+                    .warning("Ignoring invalid header <{}>: {}", UNPROJECTED_THING_IDS_HEADER, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Combines the search result of {@link #queryThingsResponse} with the retrieved entities.
+     *
+     * @param retrievedEntities the retrieved entities.
+     * @param dittoHeaders the headers of the response.
+     * @return the response to the originating sender.
+     */
+    private QueryThingsResponse toQueryThingsResponse(final JsonArray retrievedEntities,
+            final DittoHeaders dittoHeaders) {
+
+        final JsonArray items = projected ? mergeWithProjectedEntities(retrievedEntities) : retrievedEntities;
+        final SearchResult resultWithRetrievedItems = SearchModelFactory.newSearchResultBuilder()
+                .addAll(getEntitiesWithSelectedFields(items))
+                .nextPageOffset(queryThingsResponse.getSearchResult().getNextPageOffset().orElse(null))
+                .cursor(queryThingsResponse.getSearchResult().getCursor().orElse(null))
+                .build();
+        return QueryThingsResponse.of(resultWithRetrievedItems,
+                dittoHeaders.toBuilder().removeHeader(UNPROJECTED_THING_IDS_HEADER).build());
+    }
+
+    /**
+     * Replaces the unprojected items of the search result by the retrieved entities in the order of the search result.
+     *
+     * @param retrievedEntities the retrieved entities of the unprojected items.
+     * @return the projected and retrieved entities.
+     */
+    private JsonArray mergeWithProjectedEntities(final JsonArray retrievedEntities) {
+        final Map<JsonValue, JsonValue> retrievedEntitiesById = retrievedEntities.stream()
+                .filter(JsonValue::isObject)
+                .filter(item -> item.asObject().contains(Thing.JsonFields.ID.getPointer()))
+                .collect(Collectors.toMap(item -> item.asObject().getValue(Thing.JsonFields.ID.getPointer()).get(),
+                        Function.identity(), (item1, item2) -> item1));
+        final Set<JsonValue> unprojectedThingIds = queryThingsResponseThingIds.stream()
+                .map(thingId -> JsonValue.of(thingId.toString()))
+                .collect(Collectors.toSet());
+
+        return queryThingsResponse.getSearchResult()
+                .stream()
+                .map(item -> item.asObject()
+                        .getValue(Thing.JsonFields.ID.getPointer())
+                        .filter(unprojectedThingIds::contains)
+                        .map(thingId -> Optional.ofNullable(retrievedEntitiesById.get(thingId)))
+                        .orElseGet(() -> Optional.of(item)))
+                .flatMap(Optional::stream)
+                .collect(JsonCollectors.valuesToArray());
+    }
+
     /**
      * Extracts selected fields from {@link #queryThings} and ensures that the Thing ID is one of those fields.
      * If no fields are selected, this means that all fields should be returned.
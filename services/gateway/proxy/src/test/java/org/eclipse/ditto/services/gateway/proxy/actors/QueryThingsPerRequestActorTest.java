@@ -19,6 +19,7 @@ import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
@@ -184,6 +185,84 @@ public final class QueryThingsPerRequestActorTest {
         );
     }
 
+    @Test
+    public void sendNoRetrieveThingsIfAllThingsAreProjected() {
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final JsonObject definition = JsonObject.newBuilder().set("definition", "vacuum:cleaner:1548").build();
+        final SearchResult searchResult = SearchResult.newBuilder()
+                .addAll(asArrayWithExtra(definition, thingId1, thingId2))
+                .build();
+
+        // WHEN: all items of QueryThingsResponse were projected by the search service
+        underTest.tell(QueryThingsResponse.of(searchResult, withUnprojectedThingIds(responseHeaders)),
+                ActorRef.noSender());
+
+        // THEN: the projected items are sent without asking the aggregator
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(searchResult, responseHeaders));
+        aggregatorProbe.expectNoMessage();
+    }
+
+    @Test
+    public void retrieveOnlyUnprojectedThings() {
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final ThingId thingId3 = ThingId.of("thing:3");
+        final JsonObject definition = JsonObject.newBuilder().set("definition", "vacuum:cleaner:1548").build();
+        final SearchResult searchResult = SearchResult.newBuilder()
+                .add(idItem(thingId1))
+                .addAll(asArrayWithExtra(definition, thingId2))
+                .add(idItem(thingId3))
+                .build();
+
+        // WHEN: QueryThingsResponse has unprojected items
+        underTest.tell(QueryThingsResponse.of(searchResult, withUnprojectedThingIds(responseHeaders, thingId1,
+                thingId3)), ActorRef.noSender());
+
+        // THEN: aggregator is asked to retrieve the unprojected things only
+        aggregatorProbe.expectMsg(RetrieveThings.getBuilder(thingId1, thingId3)
+                .dittoHeaders(dittoHeaders)
+                .build());
+        aggregatorProbe.reply(RetrieveThingsResponse.of(asArrayWithExtra(definition, thingId3), "thing",
+                responseHeaders));
+
+        // THEN: final response contains projected and retrieved items in the order of the search result
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(SearchResult.newBuilder()
+                .addAll(asArrayWithExtra(definition, thingId2, thingId3))
+                .build(), responseHeaders));
+
+        // THEN: the unprojected thing which could not be retrieved is reported
+        pubSubMediatorProbe.expectMsg(
+                DistPubSubAccess.publishViaGroup(
+                        ThingsOutOfSync.TYPE,
+                        ThingsOutOfSync.of(List.of(thingId1), dittoHeaders)
+                )
+        );
+    }
+
+    @Test
+    public void retrieveAllThingsIfUnprojectedThingIdsAreInvalid() {
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final SearchResult searchResult = forIdItems(thingId1, thingId2);
+        final DittoHeaders invalidHeaders = responseHeaders.toBuilder()
+                .putHeader(QueryThingsResponse.UNPROJECTED_THING_IDS_HEADER, "[42]")
+                .build();
+
+        // WHEN: the unprojected thing IDs of QueryThingsResponse are no thing IDs
+        underTest.tell(QueryThingsResponse.of(searchResult, invalidHeaders), ActorRef.noSender());
+
+        // THEN: the header is ignored and all found things are retrieved
+        aggregatorProbe.expectMsg(RetrieveThings.getBuilder(thingId1, thingId2)
+                .dittoHeaders(dittoHeaders)
+                .build());
+        aggregatorProbe.reply(RetrieveThingsResponse.of(asArray(thingId1, thingId2), "thing", responseHeaders));
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(searchResult, responseHeaders));
+    }
+
     private ActorRef createQueryThingsPerRequestActor(final QueryThings queryThings) {
         final Props props = QueryThingsPerRequestActor.props(
                 queryThings,
@@ -194,6 +273,15 @@ public final class QueryThingsPerRequestActorTest {
         return actorSystem.actorOf(props);
     }
 
+    private static DittoHeaders withUnprojectedThingIds(final DittoHeaders headers, final ThingId... thingIds) {
+        final JsonArray unprojectedThingIds = Arrays.stream(thingIds)
+                .map(thingId -> JsonValue.of(thingId.toString()))
+                .collect(JsonCollectors.valuesToArray());
+        return headers.toBuilder()
+                .putHeader(QueryThingsResponse.UNPROJECTED_THING_IDS_HEADER, unprojectedThingIds.toString())
+                .build();
+    }
+
     private static SearchResult forIdItems(final ThingId... thingIds) {
         return SearchResult.newBuilder().addAll(asArray(thingIds)).build();
     }
@@ -15,25 +15,34 @@ package org.eclipse.ditto.services.gateway.security.authentication.jwt;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.util.List;
+import java.util.Optional;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 
 /**
  * Default implementation of {@link JwtAuthenticationResultProvider}.
+ * If created with a cache config, the authorization context of a token is computed only once until the token expires.
  */
 @Immutable
 public final class DefaultJwtAuthenticationResultProvider implements JwtAuthenticationResultProvider {
 
     private final JwtAuthorizationSubjectsProvider authSubjectsProvider;
+    @Nullable private final JwtCache<AuthorizationContext> authorizationContextCache;
+
+    private DefaultJwtAuthenticationResultProvider(final JwtAuthorizationSubjectsProvider authSubjectsProvider,
+            @Nullable final JwtCache<AuthorizationContext> authorizationContextCache) {
 
-    private DefaultJwtAuthenticationResultProvider(final JwtAuthorizationSubjectsProvider authSubjectsProvider) {
         this.authSubjectsProvider = authSubjectsProvider;
+        this.authorizationContextCache = authorizationContextCache;
     }
 
     /**
@@ -48,15 +57,52 @@ public final class DefaultJwtAuthenticationResultProvider implements JwtAuthenti
             final JwtAuthorizationSubjectsProvider authorizationSubjectsProvider) {
 
         return new DefaultJwtAuthenticationResultProvider(
-                checkNotNull(authorizationSubjectsProvider, "authorizationSubjectsProvider"));
+                checkNotNull(authorizationSubjectsProvider, "authorizationSubjectsProvider"), null);
+    }
+
+    /**
+     * Creates a new instance of the default JWT context provider which caches the authorization context of each
+     * {@link JsonWebToken JWT} until the token expires.
+     *
+     * @param authorizationSubjectsProvider used to extract authorization subjects from each {@link JsonWebToken JWT}
+     * passed to {@link #getAuthenticationResult(JsonWebToken, DittoHeaders)}.
+     * @param authorizationContextCacheConfig the config of the cache of authorization contexts.
+     * @param cacheName the name of the cache of authorization contexts.
+     * @return the created instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.0.0
+     */
+    public static DefaultJwtAuthenticationResultProvider of(
+            final JwtAuthorizationSubjectsProvider authorizationSubjectsProvider,
+            final CacheConfig authorizationContextCacheConfig,
+            final String cacheName) {
+
+        return new DefaultJwtAuthenticationResultProvider(
+                checkNotNull(authorizationSubjectsProvider, "authorizationSubjectsProvider"),
+                JwtCache.of(authorizationContextCacheConfig, cacheName));
     }
 
     @Override
     public JwtAuthenticationResult getAuthenticationResult(final JsonWebToken jwt, final DittoHeaders dittoHeaders) {
+        return JwtAuthenticationResult.successful(dittoHeaders, getAuthorizationContext(jwt), jwt);
+    }
+
+    private AuthorizationContext getAuthorizationContext(final JsonWebToken jwt) {
+        if (null == authorizationContextCache) {
+            return computeAuthorizationContext(jwt);
+        }
+        final Optional<AuthorizationContext> cachedAuthorizationContext = authorizationContextCache.get(jwt);
+        if (cachedAuthorizationContext.isPresent()) {
+            return cachedAuthorizationContext.get();
+        }
+        final AuthorizationContext authorizationContext = computeAuthorizationContext(jwt);
+        authorizationContextCache.put(jwt, authorizationContext);
+        return authorizationContext;
+    }
+
+    private AuthorizationContext computeAuthorizationContext(final JsonWebToken jwt) {
         final List<AuthorizationSubject> authSubjects = authSubjectsProvider.getAuthorizationSubjects(jwt);
-        return JwtAuthenticationResult.successful(dittoHeaders,
-                AuthorizationModelFactory.newAuthContext(DittoAuthorizationContextType.JWT, authSubjects),
-                jwt);
+        return AuthorizationModelFactory.newAuthContext(DittoAuthorizationContextType.JWT, authSubjects);
     }
 
 }
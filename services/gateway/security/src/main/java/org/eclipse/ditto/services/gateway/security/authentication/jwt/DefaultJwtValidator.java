@@ -14,12 +14,15 @@ package org.eclipse.ditto.services.gateway.security.authentication.jwt;
 
 import java.security.Key;
 import java.text.MessageFormat;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.model.base.common.BinaryValidationResult;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.jwt.JjwtDeserializer;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayAuthenticationFailedException;
 import org.slf4j.Logger;
@@ -30,6 +33,10 @@ import io.jsonwebtoken.Jwts;
 
 /**
  * Default implementation of {@link org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtValidator}.
+ * <p>
+ * If created with a cache config, successfully validated tokens are remembered together with the public key which
+ * verified their signature until they expire. Subsequent validations of such a token skip the signature verification
+ * as long as the public key provider still returns the same key; a rotated key invalidates the cached token.
  */
 @ThreadSafe
 public final class DefaultJwtValidator implements JwtValidator {
@@ -37,9 +44,13 @@ public final class DefaultJwtValidator implements JwtValidator {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultJwtValidator.class);
 
     private final PublicKeyProvider publicKeyProvider;
+    @Nullable private final JwtCache<Key> validatedJwtCache;
+
+    private DefaultJwtValidator(final PublicKeyProvider publicKeyProvider,
+            @Nullable final JwtCache<Key> validatedJwtCache) {
 
-    private DefaultJwtValidator(final PublicKeyProvider publicKeyProvider) {
         this.publicKeyProvider = publicKeyProvider;
+        this.validatedJwtCache = validatedJwtCache;
     }
 
     /**
@@ -49,7 +60,24 @@ public final class DefaultJwtValidator implements JwtValidator {
      * @return the instance.
      */
     public static JwtValidator of(final PublicKeyProvider publicKeyProvider) {
-        return new DefaultJwtValidator(publicKeyProvider);
+        return new DefaultJwtValidator(publicKeyProvider, null);
+    }
+
+    /**
+     * Creates a new {@code JwtValidator} instance which caches successfully validated tokens.
+     *
+     * @param publicKeyProvider provider for public keys of jwt issuers.
+     * @param validatedJwtCacheConfig the config of the cache of validated tokens.
+     * @param cacheName the name of the cache of validated tokens.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.0.0
+     */
+    public static JwtValidator of(final PublicKeyProvider publicKeyProvider,
+            final CacheConfig validatedJwtCacheConfig,
+            final String cacheName) {
+
+        return new DefaultJwtValidator(publicKeyProvider, JwtCache.of(validatedJwtCacheConfig, cacheName));
     }
 
     @Override
@@ -68,6 +96,27 @@ public final class DefaultJwtValidator implements JwtValidator {
     }
 
     private BinaryValidationResult tryToValidateWithPublicKey(final JsonWebToken jsonWebToken, final Key publicKey) {
+        if (null == validatedJwtCache) {
+            return tryToVerifySignature(jsonWebToken, publicKey);
+        }
+        final Optional<Key> verifyingKey = validatedJwtCache.get(jsonWebToken);
+        if (verifyingKey.isPresent()) {
+            if (verifyingKey.get().equals(publicKey)) {
+                return BinaryValidationResult.valid();
+            }
+            // the key of the issuer was rotated since the token was validated
+            validatedJwtCache.invalidate(jsonWebToken);
+        }
+        final BinaryValidationResult result = tryToVerifySignature(jsonWebToken, publicKey);
+        if (result.isValid()) {
+            validatedJwtCache.put(jsonWebToken, publicKey);
+        }
+        return result;
+    }
+
+    private static BinaryValidationResult tryToVerifySignature(final JsonWebToken jsonWebToken,
+            final Key publicKey) {
+
         try {
             return validateWithPublicKey(jsonWebToken, publicKey);
         } catch (final Exception e) {
@@ -77,7 +126,7 @@ public final class DefaultJwtValidator implements JwtValidator {
     }
 
     @SuppressWarnings("unchecked")
-    private BinaryValidationResult validateWithPublicKey(final JsonWebToken jsonWebToken, final Key publicKey) {
+    private static BinaryValidationResult validateWithPublicKey(final JsonWebToken jsonWebToken, final Key publicKey) {
         final JwtParserBuilder jwtParserBuilder = Jwts.parserBuilder();
         jwtParserBuilder.deserializeJsonWith(JjwtDeserializer.getInstance())
                 .setSigningKey(publicKey)
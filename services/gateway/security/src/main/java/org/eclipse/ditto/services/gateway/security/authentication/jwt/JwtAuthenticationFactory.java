@@ -26,9 +26,12 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 public final class JwtAuthenticationFactory {
 
     private static final String PUBLIC_KEY_CACHE_NAME = "ditto_authorization_jwt_publicKeys_cache";
+    private static final String VALIDATED_JWT_CACHE_NAME = "ditto_authorization_jwt_validated_cache";
+    private static final String AUTHORIZATION_CONTEXT_CACHE_NAME = "ditto_authorization_jwt_authContexts_cache";
 
     private final OAuthConfig oAuthConfig;
     private final CacheConfig publicKeyCacheConfig;
+    private final CacheConfig jwtCacheConfig;
     private final HttpClientFacade httpClientFacade;
     private final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory;
 
@@ -38,11 +41,13 @@ public final class JwtAuthenticationFactory {
 
     private JwtAuthenticationFactory(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            final CacheConfig jwtCacheConfig,
             final HttpClientFacade httpClientFacade,
             final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory) {
 
         this.oAuthConfig = checkNotNull(oAuthConfig, "authenticationConfig");
         this.publicKeyCacheConfig = checkNotNull(publicKeyCacheConfig, "publicKeyCacheConfig");
+        this.jwtCacheConfig = checkNotNull(jwtCacheConfig, "jwtCacheConfig");
         this.httpClientFacade = checkNotNull(httpClientFacade, "httpClientFacade");
         this.jwtAuthorizationSubjectsProviderFactory =
                 checkNotNull(jwtAuthorizationSubjectsProviderFactory, "jwtAuthorizationSubjectsProviderFactory");
@@ -53,22 +58,24 @@ public final class JwtAuthenticationFactory {
      *
      * @param oAuthConfig the OAuth configuration.
      * @param publicKeyCacheConfig the public key cache configuration.
+     * @param jwtCacheConfig the configuration of the caches of validated JWTs and their authorization contexts.
      * @param httpClientFacade the client facade of the HTTP client.
      * @param jwtAuthorizationSubjectsProviderFactory used to instantiate a new auth subjects provider.
      * @return the new created instance.
      */
     public static JwtAuthenticationFactory newInstance(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            final CacheConfig jwtCacheConfig,
             final HttpClientFacade httpClientFacade,
             final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory) {
 
-        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, httpClientFacade,
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, jwtCacheConfig, httpClientFacade,
                 jwtAuthorizationSubjectsProviderFactory);
     }
 
     public JwtValidator getJwtValidator() {
         if (null == jwtValidator) {
-            jwtValidator = DefaultJwtValidator.of(getPublicKeyProvider());
+            jwtValidator = DefaultJwtValidator.of(getPublicKeyProvider(), jwtCacheConfig, VALIDATED_JWT_CACHE_NAME);
         }
         return jwtValidator;
     }
@@ -96,7 +103,8 @@ public final class JwtAuthenticationFactory {
         final JwtAuthorizationSubjectsProvider authorizationSubjectsProvider =
                jwtAuthorizationSubjectsProviderFactory.newProvider(getJwtSubjectIssuersConfig());
 
-        return DefaultJwtAuthenticationResultProvider.of(authorizationSubjectsProvider);
+        return DefaultJwtAuthenticationResultProvider.of(authorizationSubjectsProvider, jwtCacheConfig,
+                AUTHORIZATION_CONTEXT_CACHE_NAME);
     }
 
 }
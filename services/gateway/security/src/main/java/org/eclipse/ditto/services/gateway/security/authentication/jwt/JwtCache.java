@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.argumentNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Cache of values derived from {@link JsonWebToken}s, keyed by the SHA-256 hash of the token.
+ * An entry expires at the expiration time of its token at the latest, or after the configured
+ * {@code expire-after-write} duration if that is earlier or the token does not expire.
+ *
+ * @param <V> the type of the cached values.
+ */
+@ThreadSafe
+final class JwtCache<V> {
+
+    private final Cache<String, Entry<V>> cache;
+
+    private JwtCache(final CacheConfig cacheConfig, final String cacheName) {
+        final Caffeine<String, Entry<V>> caffeine = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfter(new TokenExpiry<V>(cacheConfig.getExpireAfterWrite()));
+        cache = CaffeineCache.of(caffeine, cacheName);
+    }
+
+    /**
+     * Returns a new {@code JwtCache} for the given parameters.
+     *
+     * @param cacheConfig the config of the cache.
+     * @param cacheName the name of the cache used for its hit and miss metrics.
+     * @param <V> the type of the cached values.
+     * @return the cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static <V> JwtCache<V> of(final CacheConfig cacheConfig, final String cacheName) {
+        argumentNotNull(cacheConfig, "cacheConfig");
+        argumentNotNull(cacheName, "cacheName");
+        return new JwtCache<>(cacheConfig, cacheName);
+    }
+
+    /**
+     * Returns the value cached for the given token.
+     *
+     * @param jsonWebToken the token.
+     * @return the cached value or an empty Optional.
+     */
+    Optional<V> get(final JsonWebToken jsonWebToken) {
+        // the cache is populated manually, hence the future is always completed
+        return cache.getIfPresent(hash(jsonWebToken)).join().map(entry -> entry.value);
+    }
+
+    /**
+     * Caches a value for the given token until the token expires.
+     *
+     * @param jsonWebToken the token.
+     * @param value the value.
+     */
+    void put(final JsonWebToken jsonWebToken, final V value) {
+        cache.put(hash(jsonWebToken), new Entry<>(value, getExpirationTime(jsonWebToken)));
+    }
+
+    /**
+     * Removes the value cached for the given token.
+     *
+     * @param jsonWebToken the token.
+     */
+    void invalidate(final JsonWebToken jsonWebToken) {
+        cache.invalidate(hash(jsonWebToken));
+    }
+
+    private static String hash(final JsonWebToken jsonWebToken) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] tokenHash = digest.digest(jsonWebToken.getToken().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(tokenHash);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Instant getExpirationTime(final JsonWebToken jsonWebToken) {
+        return jsonWebToken.getBody()
+                .getValue(JsonWebToken.JsonFields.EXP)
+                .map(Instant::ofEpochSecond)
+                .orElse(Instant.MAX);
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final Instant expirationTime;
+
+        private Entry(final V value, final Instant expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+    }
+
+    private static final class TokenExpiry<V> implements Expiry<String, Entry<V>> {
+
+        private final long maxDurationNanos;
+
+        private TokenExpiry(final Duration maxDuration) {
+            maxDurationNanos = maxDuration.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final String key, final Entry<V> entry, final long currentTime) {
+            final Instant now = Instant.now();
+            if (!now.isBefore(entry.expirationTime)) {
+                return 0L;
+            }
+            final Duration untilExpiration = Duration.between(now, entry.expirationTime);
+            // Duration.toNanos overflows for tokens expiring in more than ~292 years
+            if (untilExpiration.compareTo(Duration.ofNanos(maxDurationNanos)) >= 0) {
+                return maxDurationNanos;
+            }
+            return untilExpiration.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Entry<V> entry, final long currentTime,
+                final long currentDuration) {
+
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Entry<V> entry, final long currentTime,
+                final long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
+}
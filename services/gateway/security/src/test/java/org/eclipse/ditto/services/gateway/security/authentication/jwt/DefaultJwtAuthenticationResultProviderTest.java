@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.gateway.security.authentication.jwt;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
@@ -23,13 +25,17 @@ import java.util.Collections;
 
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
 import org.eclipse.ditto.services.gateway.security.authentication.AuthenticationResult;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * Unit test for {@link DefaultJwtAuthenticationResultProvider}.
  */
@@ -43,7 +49,7 @@ public final class DefaultJwtAuthenticationResultProviderTest {
     public void assertImmutability() {
         assertInstancesOf(DefaultJwtAuthenticationResultProvider.class,
                 areImmutable(),
-                provided(JwtAuthorizationSubjectsProvider.class).isAlsoImmutable());
+                provided(JwtAuthorizationSubjectsProvider.class, JwtCache.class).isAlsoImmutable());
     }
 
     @Test
@@ -61,4 +67,23 @@ public final class DefaultJwtAuthenticationResultProviderTest {
                 .containsExactly(myTestSubj);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void computesAuthorizationContextOnlyOnceWithCache() {
+        final DefaultJwtAuthenticationResultProvider underTest =
+                DefaultJwtAuthenticationResultProvider.of(authorizationSubjectsProvider,
+                        DefaultCacheConfig.of(ConfigFactory.empty(), "jwt"), "test_authContexts_cache");
+        final JsonWebToken jsonWebToken = ImmutableJsonWebToken.fromToken(JwtTestConstants.VALID_JWT_TOKEN);
+        final AuthorizationSubject myTestSubj = AuthorizationSubject.newInstance("myTestSubj");
+        when(authorizationSubjectsProvider.getAuthorizationSubjects(jsonWebToken)).thenReturn(
+                Collections.singletonList(myTestSubj));
+
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("second").build();
+        underTest.getAuthenticationResult(jsonWebToken, DittoHeaders.empty());
+        final AuthenticationResult secondResult = underTest.getAuthenticationResult(jsonWebToken, dittoHeaders);
+
+        assertThat(secondResult.getAuthorizationContext().getAuthorizationSubjects()).containsExactly(myTestSubj);
+        assertThat(secondResult.getDittoHeaders().getCorrelationId()).contains("second");
+        verify(authorizationSubjectsProvider, times(1)).getAuthorizationSubjects(jsonWebToken);
+    }
+
+}
@@ -22,12 +22,16 @@ import java.util.concurrent.ExecutionException;
 import org.eclipse.ditto.model.base.common.BinaryValidationResult;
 import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.typesafe.config.ConfigFactory;
+
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
 
 /**
  * Unit test for {@link DefaultJwtValidator}.
@@ -69,4 +73,34 @@ public final class JwtValidatorTest {
         assertThat(jwtValidationResult.getReasonForInvalidity()).isInstanceOf(ExpiredJwtException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void validateWithCacheRevalidatesAfterKeyRotation() throws ExecutionException, InterruptedException {
+        when(publicKeyProvider.getPublicKey(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(JwtTestConstants.PUBLIC_KEY)))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(JwtTestConstants.PUBLIC_KEY)))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(JwtTestConstants.PUBLIC_KEY_2)));
+
+        final JwtValidator underTest = DefaultJwtValidator.of(publicKeyProvider,
+                DefaultCacheConfig.of(ConfigFactory.empty(), "jwt"), "test_validated_jwt_cache");
+
+        assertThat(underTest.validate(VALID_JSON_WEB_TOKEN).get().isValid()).isTrue();
+        assertThat(underTest.validate(VALID_JSON_WEB_TOKEN).get().isValid()).isTrue();
+
+        final BinaryValidationResult afterKeyRotation = underTest.validate(VALID_JSON_WEB_TOKEN).get();
+        assertThat(afterKeyRotation.isValid()).isFalse();
+        assertThat(afterKeyRotation.getReasonForInvalidity()).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    public void validateWithCacheDoesNotCacheInvalidTokens() throws ExecutionException, InterruptedException {
+        when(publicKeyProvider.getPublicKey(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(JwtTestConstants.PUBLIC_KEY)));
+
+        final JwtValidator underTest = DefaultJwtValidator.of(publicKeyProvider,
+                DefaultCacheConfig.of(ConfigFactory.empty(), "jwt"), "test_validated_jwt_cache");
+
+        assertThat(underTest.validate(INVALID_JSON_WEB_TOKEN).get().isValid()).isFalse();
+        assertThat(underTest.validate(INVALID_JSON_WEB_TOKEN).get().isValid()).isFalse();
+    }
+
+}
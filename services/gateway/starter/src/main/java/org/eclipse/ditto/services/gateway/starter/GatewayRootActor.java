@@ -134,16 +134,17 @@ final class GatewayRootActor extends DittoRootActor {
                 DefaultHttpClientFacade.getInstance(actorSystem, authenticationConfig.getHttpProxyConfig());
 
         final CacheConfig publicKeysConfig = gatewayConfig.getCachesConfig().getPublicKeysConfig();
+        final CacheConfig jwtConfig = gatewayConfig.getCachesConfig().getJwtConfig();
         final OAuthConfig oAuthConfig = authenticationConfig.getOAuthConfig();
         final JwtAuthorizationSubjectsProviderFactory authorizationSubjectsProviderFactory =
                 DittoJwtAuthorizationSubjectsProvider::of;
         final JwtAuthenticationFactory jwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(oAuthConfig, publicKeysConfig, httpClient,
+                JwtAuthenticationFactory.newInstance(oAuthConfig, publicKeysConfig, jwtConfig, httpClient,
                         authorizationSubjectsProviderFactory);
 
         final OAuthConfig devopsOauthConfig = authenticationConfig.getDevOpsConfig().getOAuthConfig();
         final JwtAuthenticationFactory devopsJwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(devopsOauthConfig, publicKeysConfig, httpClient,
+                JwtAuthenticationFactory.newInstance(devopsOauthConfig, publicKeysConfig, jwtConfig, httpClient,
                         authorizationSubjectsProviderFactory);
         final DevopsAuthenticationDirectiveFactory devopsAuthenticationDirectiveFactory =
                 DevopsAuthenticationDirectiveFactory.newInstance(devopsJwtAuthenticationFactory,
@@ -69,13 +69,11 @@ public interface SessionedJsonifiable {
      * Create a sessioned Jsonifiable for a signal.
      *
      * @param signal the signal.
-     * @param sessionHeaders headers of the request that created the streaming session.
      * @param session session information for the signal's streaming type.
      * @return the sessioned Jsonifiable.
      */
-    static SessionedJsonifiable signal(final Signal<?> signal, final DittoHeaders sessionHeaders,
-            final StreamingSession session) {
-        return new SessionedSignal(signal, sessionHeaders, session);
+    static SessionedJsonifiable signal(final Signal<?> signal, final StreamingSession session) {
+        return new SessionedSignal(signal, session);
     }
 
     /**
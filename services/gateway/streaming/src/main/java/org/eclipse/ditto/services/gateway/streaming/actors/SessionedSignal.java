@@ -13,20 +13,15 @@
 package org.eclipse.ditto.services.gateway.streaming.actors;
 
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonField;
-import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.model.base.entity.id.EntityId;
-import org.eclipse.ditto.model.base.exceptions.SignalEnrichmentFailedException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
-import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
 import org.eclipse.ditto.signals.base.Signal;
 
@@ -37,12 +32,10 @@ import org.eclipse.ditto.signals.base.Signal;
 final class SessionedSignal implements SessionedJsonifiable {
 
     private final Signal<?> signal;
-    private final DittoHeaders sessionHeaders;
     private final StreamingSession session;
 
-    SessionedSignal(final Signal<?> signal, final DittoHeaders sessionHeaders, final StreamingSession session) {
+    SessionedSignal(final Signal<?> signal, final StreamingSession session) {
         this.signal = signal;
-        this.sessionHeaders = sessionHeaders;
         this.session = session;
     }
 
@@ -58,19 +51,7 @@ final class SessionedSignal implements SessionedJsonifiable {
 
     @Override
     public CompletionStage<JsonObject> retrieveExtraFields(@Nullable final SignalEnrichmentFacade facade) {
-        final EntityId entityId = signal.getEntityId();
-        final Optional<JsonFieldSelector> extraFields = session.getExtraFields();
-        if (extraFields.isPresent() && (facade == null || !(entityId instanceof ThingId))) {
-            final CompletableFuture<JsonObject> future = new CompletableFuture<>();
-            future.completeExceptionally(SignalEnrichmentFailedException.newBuilder()
-                    .dittoHeaders(signal.getDittoHeaders())
-                    .build());
-            return future;
-        } else if (extraFields.isPresent()) {
-            return facade.retrievePartialThing((ThingId) entityId, extraFields.get(), sessionHeaders, signal);
-        } else {
-            return CompletableFuture.completedFuture(JsonObject.empty());
-        }
+        return session.retrieveExtraFields(signal, facade);
     }
 
     @Override
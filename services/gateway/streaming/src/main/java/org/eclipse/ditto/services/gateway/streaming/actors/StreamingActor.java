@@ -61,6 +61,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final Props subscriptionManagerProps;
+    private final StreamingSessionGroups sessionGroups;
     private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
     private final HeaderTranslator headerTranslator;
     private int childCounter = -1;
@@ -93,6 +94,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
         this.streamingConfig = streamingConfig;
         this.headerTranslator = headerTranslator;
         streamingSessionsCounter = DittoMetrics.gauge("streaming_sessions_count");
+        sessionGroups = StreamingSessionGroups.newInstance();
         final ActorSelection conciergeForwarderSelection = ActorSelection.apply(conciergeForwarder, "");
         subscriptionManagerProps =
                 SubscriptionManager.props(streamingConfig.getSearchIdleTimeout(), pubSubMediator,
@@ -144,7 +146,8 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
                     final ActorRef streamingSessionActor = getContext().actorOf(
                             StreamingSessionActor.props(connect, dittoProtocolSub,
                                     commandRouter, streamingConfig.getAcknowledgementConfig(), headerTranslator,
-                                    subscriptionManagerProps, jwtValidator, jwtAuthenticationResultProvider),
+                                    subscriptionManagerProps, jwtValidator, jwtAuthenticationResultProvider,
+                                    sessionGroups),
                             sessionActorName);
                     getSender().tell(streamingSessionActor, ActorRef.noSender());
                 })
@@ -185,6 +188,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
         if (getContext() != null) {
             streamingSessionsCounter.set(
                     StreamSupport.stream(getContext().getChildren().spliterator(), false).count());
+            sessionGroups.updateGroupsCounter();
         }
     }
 
@@ -194,7 +198,8 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
     public enum Control {
 
         /**
-         * Tell streaming actor to set the stream counter to its current number of child actors.
+         * Tell streaming actor to set the stream counter to its current number of child actors and the groups
+         * counter to the current number of streaming session groups.
          */
         SCRAPE_STREAM_COUNTER,
 
@@ -14,58 +14,49 @@ package org.eclipse.ditto.services.gateway.streaming.actors;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
 import org.eclipse.ditto.signals.base.Signal;
-import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
 import akka.actor.ActorRef;
 
 /**
  * Store of the needed information about a streaming session of a single streaming type.
+ * Filtering and enrichment are delegated to the {@link StreamingSessionGroup} shared by all sessions with the same
+ * subscription parameters.
  */
 public final class StreamingSession {
 
-    private final List<String> namespaces;
-    private final Predicate<Thing> thingPredicate;
-    @Nullable private final JsonFieldSelector extraFields;
+    private final StreamingSessionGroup group;
     private final ActorRef streamingSessionActor;
 
-    private StreamingSession(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
-            @Nullable final JsonFieldSelector extraFields, final ActorRef streamingSessionActor) {
-        this.namespaces = namespaces;
-        thingPredicate = eventFilterCriteria == null
-                ? thing -> true
-                : ThingPredicateVisitor.apply(eventFilterCriteria);
-        this.extraFields = extraFields;
+    private StreamingSession(final StreamingSessionGroup group, final ActorRef streamingSessionActor) {
+        this.group = group;
         this.streamingSessionActor = streamingSessionActor;
     }
 
-    static StreamingSession of(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
-            @Nullable final JsonFieldSelector extraFields, final ActorRef streamingSessionActor) {
-
-        return new StreamingSession(namespaces, eventFilterCriteria, extraFields, streamingSessionActor);
+    static StreamingSession of(final StreamingSessionGroup group, final ActorRef streamingSessionActor) {
+        return new StreamingSession(group, streamingSessionActor);
     }
 
     /**
      * @return namespaces of the session.
      */
     public List<String> getNamespaces() {
-        return namespaces;
+        return group.getNamespaces();
     }
 
     /**
      * @return extra fields of the session if any is given.
      */
     public Optional<JsonFieldSelector> getExtraFields() {
-        return Optional.ofNullable(extraFields);
+        return group.getExtraFields();
     }
 
     /**
@@ -77,22 +68,36 @@ public final class StreamingSession {
      * @return the merged thing if thing information exists in any of the 2 sources, or an empty thing otherwise.
      */
     public Thing mergeThingWithExtra(final Signal<?> signal, final JsonObject extra) {
-        return ThingEventToThingConverter.mergeThingWithExtraFields(signal, extraFields, extra)
-                .orElseGet(() -> Thing.newBuilder().build());
+        return group.mergeThingWithExtra(signal, extra);
     }
 
     /**
-     * Test whether a thing matches the filter defined in this session.
+     * Test whether a signal matches the filter defined in this session.
      *
-     * @param thing the thing.
+     * @param signal the signal.
+     * @param thing the thing information of the signal merged with its extra fields.
      * @return whether the thing passes the filter.
      */
-    public boolean matchesFilter(final Thing thing) {
-        return thingPredicate.test(thing);
+    public boolean matchesFilter(final Signal<?> signal, final Thing thing) {
+        return group.matchesFilter(signal, thing);
     }
 
     public ActorRef getStreamingSessionActor() {
         return streamingSessionActor;
     }
 
+    StreamingSessionGroup getGroup() {
+        return group;
+    }
+
+    boolean isAllowedToReceive(final Signal<?> signal) {
+        return group.isAllowedToReceive(signal);
+    }
+
+    CompletionStage<JsonObject> retrieveExtraFields(final Signal<?> signal,
+            @Nullable final SignalEnrichmentFacade facade) {
+
+        return group.retrieveExtraFields(signal, facade);
+    }
+
 }
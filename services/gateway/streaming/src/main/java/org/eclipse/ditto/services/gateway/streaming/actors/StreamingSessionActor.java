@@ -37,13 +37,6 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
-import org.eclipse.ditto.model.namespaces.NamespaceReader;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.TopicPath;
@@ -67,7 +60,6 @@ import org.eclipse.ditto.services.utils.pubsub.StreamingType;
 import org.eclipse.ditto.services.utils.search.SubscriptionManager;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
-import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
@@ -114,6 +106,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final Map<StreamingType, StreamingSession> streamingSessions;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
+    private final StreamingSessionGroups sessionGroups;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
     private final Set<AcknowledgementLabel> declaredAcks;
     private final ThreadSafeDittoLoggingAdapter logger;
@@ -128,7 +121,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final HeaderTranslator headerTranslator,
             final Props subscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final StreamingSessionGroups sessionGroups) {
 
         jsonSchemaVersion = connect.getJsonSchemaVersion();
         connectionCorrelationId = connect.getConnectionCorrelationId();
@@ -139,6 +133,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         this.acknowledgementConfig = acknowledgementConfig;
         this.jwtValidator = jwtValidator;
         this.jwtAuthenticationResultProvider = jwtAuthenticationResultProvider;
+        this.sessionGroups = sessionGroups;
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = connect.getConnectionAuthContext();
         streamingSessions = new EnumMap<>(StreamingType.class);
@@ -166,6 +161,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
      * @param subscriptionManagerProps Props of the subscription manager for search protocol.
      * @param jwtValidator validator of JWT tokens.
      * @param jwtAuthenticationResultProvider provider of JWT authentication results.
+     * @param sessionGroups the groups of streaming sessions with equal subscriptions of this gateway.
      * @return the Akka configuration Props object.
      */
     static Props props(final Connect connect,
@@ -175,11 +171,12 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final HeaderTranslator headerTranslator,
             final Props subscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final StreamingSessionGroups sessionGroups) {
 
         return Props.create(StreamingSessionActor.class, connect, dittoProtocolSub,
                 commandRouter, acknowledgementConfig, headerTranslator, subscriptionManagerProps, jwtValidator,
-                jwtAuthenticationResultProvider);
+                jwtAuthenticationResultProvider, sessionGroups);
     }
 
     @Override
@@ -193,6 +190,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     public void postStop() {
         logger.info("Closing <{}> streaming session.", type);
         cancelSessionTimeout();
+        streamingSessions.values().forEach(session -> sessionGroups.leave(session.getGroup()));
+        streamingSessions.clear();
         eventAndResponsePublisher.complete();
     }
 
@@ -249,16 +248,11 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                 .match(Signal.class, signal -> {
                     // check if this session is "allowed" to receive the Signal
                     @Nullable final StreamingSession session = streamingSessions.get(determineStreamingType(signal));
-                    if (null != session && isSessionAllowedToReceiveSignal(signal, session)) {
+                    if (null != session && session.isAllowedToReceive(signal)) {
                         logger.withCorrelationId(signal)
                                 .debug("Got Signal in <{}> session, publishing: {}", type, signal);
 
-                        final DittoHeaders sessionHeaders = DittoHeaders.newBuilder()
-                                .authorizationContext(authorizationContext)
-                                .schemaVersion(jsonSchemaVersion)
-                                .build();
-                        final SessionedJsonifiable sessionedJsonifiable =
-                                SessionedJsonifiable.signal(signal, sessionHeaders, session);
+                        final SessionedJsonifiable sessionedJsonifiable = SessionedJsonifiable.signal(signal, session);
                         eventAndResponsePublisher.offer(sessionedJsonifiable);
                     }
                 })
@@ -272,23 +266,30 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return ReceiveBuilder.create()
                 .match(StartStreaming.class, startStreaming -> {
                     authorizationContext = startStreaming.getAuthorizationContext();
-                    Criteria criteria;
+                    final StreamingSessionGroup.Key groupKey = new StreamingSessionGroup.Key(
+                            startStreaming.getStreamingType(),
+                            startStreaming.getFilter().orElse(null),
+                            startStreaming.getNamespaces(),
+                            startStreaming.getExtraFields().orElse(null),
+                            authorizationContext,
+                            jsonSchemaVersion);
+                    final StreamingSessionGroup group;
                     try {
-                        criteria = startStreaming.getFilter()
-                                .map(f -> parseCriteria(f, DittoHeaders.newBuilder()
-                                        .correlationId(startStreaming.getCorrelationId()
-                                                .orElse(startStreaming.getConnectionCorrelationId()))
-                                        .build()))
-                                .orElse(null);
+                        group = sessionGroups.join(groupKey, DittoHeaders.newBuilder()
+                                .correlationId(startStreaming.getCorrelationId()
+                                        .orElse(startStreaming.getConnectionCorrelationId()))
+                                .build());
                     } catch (final DittoRuntimeException e) {
                         logger.info("Got 'DittoRuntimeException' <{}> session during 'StartStreaming' processing:" +
                                 " {}: <{}>", type, e.getClass().getSimpleName(), e.getMessage());
                         eventAndResponsePublisher.offer(SessionedJsonifiable.error(e));
                         return;
                     }
-                    final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
-                            startStreaming.getExtraFields().orElse(null), self());
-                    streamingSessions.put(startStreaming.getStreamingType(), session);
+                    @Nullable final StreamingSession previousSession = streamingSessions.put(
+                            startStreaming.getStreamingType(), StreamingSession.of(group, self()));
+                    if (null != previousSession) {
+                        sessionGroups.leave(previousSession.getGroup());
+                    }
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
                             type, startStreaming.getStreamingType().name());
@@ -325,7 +326,11 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
                             type, stopStreaming.getStreamingType().name());
 
-                    streamingSessions.remove(stopStreaming.getStreamingType());
+                    @Nullable final StreamingSession removedSession =
+                            streamingSessions.remove(stopStreaming.getStreamingType());
+                    if (null != removedSession) {
+                        sessionGroups.leave(removedSession.getGroup());
+                    }
 
                     // In Cluster: Unsubscribe
                     final ConfirmUnsubscription unsubscribeConfirmation =
@@ -499,14 +504,6 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         subscriptionManager.tell(searchCommand, getSelf());
     }
 
-    private boolean isSessionAllowedToReceiveSignal(final Signal<?> signal, final StreamingSession session) {
-        final DittoHeaders headers = signal.getDittoHeaders();
-        final boolean isAuthorizedToRead = authorizationContext.isAuthorized(headers.getReadGrantedSubjects(),
-                headers.getReadRevokedSubjects());
-        final boolean matchesNamespace = matchesNamespaces(signal, session);
-        return isAuthorizedToRead && matchesNamespace;
-    }
-
     private void startSessionTimeout(final Instant sessionExpirationTime) {
         final Duration sessionTimeout = Duration.between(Instant.now(), sessionExpirationTime);
         if (sessionTimeout.isNegative() || sessionTimeout.isZero()) {
@@ -553,15 +550,6 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         }
     }
 
-    private boolean matchesNamespaces(final Signal<?> signal, final StreamingSession session) {
-        final List<String> namespaces = session.getNamespaces();
-        final boolean result = namespaces.isEmpty() || namespaces.contains(namespaceFromId(signal));
-        if (!result) {
-            logger.withCorrelationId(signal).debug("Signal does not match namespaces.");
-        }
-        return result;
-    }
-
     private void refreshWebSocketSession(final Jwt jwt) {
         final String jwtConnectionCorrelationId = jwt.getConnectionCorrelationId();
         final JsonWebToken jsonWebToken = ImmutableJsonWebToken.fromToken(jwt.toString());
@@ -637,21 +625,6 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return streamingType;
     }
 
-    @Nullable
-    private static String namespaceFromId(final WithId withId) {
-        return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
-    }
-
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
-        final ThingsFieldExpressionFactory fieldExpressionFactory =
-                new ModelBasedThingsFieldExpressionFactory();
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
-
-        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
-    }
-
     private void confirmSubscription(final StreamingType streamingType) {
         if (outstandingSubscriptionAcks.contains(streamingType)) {
             outstandingSubscriptionAcks.remove(streamingType);
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.exceptions.SignalEnrichmentFailedException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.namespaces.NamespaceReader;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.services.utils.pubsub.StreamingType;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
+
+/**
+ * The subscription shared by all streaming sessions of a gateway with the same streaming type, filter, namespaces,
+ * extra fields, authorization context and schema version.
+ * <p>
+ * The filter is compiled once per group. The read permission and namespace check, the signal enrichment and the
+ * evaluation of the filter are done once per signal and group; the results are remembered for the most recent
+ * signals so that all member sessions receiving the same signal instance reuse them.
+ */
+@ThreadSafe
+final class StreamingSessionGroup {
+
+    /**
+     * How many signals the evaluations are remembered for. Member sessions process the same signals at slightly
+     * different times; the evaluation of a signal is recomputed if a member is more than this many signals behind.
+     */
+    static final int REMEMBERED_SIGNALS = 256;
+
+    private static final String TYPE_TAG = "type";
+
+    private final Key key;
+    private final Predicate<Thing> thingPredicate;
+    private final DittoHeaders sessionHeaders;
+    private final AtomicInteger memberCount;
+    private final Histogram fanOut;
+    private final PreparedTimer evaluationTimer;
+
+    @GuardedBy("evaluations")
+    private final Map<IdentityKey, Evaluation> evaluations;
+
+    private StreamingSessionGroup(final Key key, final Predicate<Thing> thingPredicate) {
+        this.key = key;
+        this.thingPredicate = thingPredicate;
+        sessionHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(key.authorizationContext)
+                .schemaVersion(key.jsonSchemaVersion)
+                .build();
+        memberCount = new AtomicInteger();
+        fanOut = DittoMetrics.histogram("streaming_session_group_fan_out")
+                .tag(TYPE_TAG, key.streamingType.name());
+        evaluationTimer = DittoMetrics.timer("streaming_session_group_evaluation")
+                .tag(TYPE_TAG, key.streamingType.name());
+        evaluations = new LinkedHashMap<>() {
+
+            private static final long serialVersionUID = 8244981622447542113L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<IdentityKey, Evaluation> eldest) {
+                final boolean remove = size() > REMEMBERED_SIGNALS;
+                if (remove) {
+                    // the number of member sessions which shared the evaluation of the signal
+                    fanOut.record((long) eldest.getValue().receivers);
+                }
+                return remove;
+            }
+        };
+    }
+
+    /**
+     * Creates a group without members.
+     *
+     * @param key the subscription parameters shared by all members.
+     * @param thingPredicate the compiled filter of the key.
+     * @return the group.
+     */
+    static StreamingSessionGroup of(final Key key, final Predicate<Thing> thingPredicate) {
+        return new StreamingSessionGroup(key, thingPredicate);
+    }
+
+    Key getKey() {
+        return key;
+    }
+
+    List<String> getNamespaces() {
+        return key.namespaces;
+    }
+
+    Optional<JsonFieldSelector> getExtraFields() {
+        return Optional.ofNullable(key.extraFields);
+    }
+
+    int getMemberCount() {
+        return memberCount.get();
+    }
+
+    int join() {
+        return memberCount.incrementAndGet();
+    }
+
+    int leave() {
+        return memberCount.decrementAndGet();
+    }
+
+    /**
+     * Tests whether the members of this group may receive a signal, i. e. whether they are allowed to read it and
+     * whether it is in one of the subscribed namespaces.
+     *
+     * @param signal the signal.
+     * @return whether the members may receive the signal.
+     */
+    boolean isAllowedToReceive(final Signal<?> signal) {
+        final Evaluation evaluation = getEvaluation(signal);
+        synchronized (evaluation) {
+            // each member session asks exactly once per signal
+            evaluation.receivers++;
+            if (null == evaluation.allowed) {
+                evaluation.allowed = isAuthorizedToRead(signal) && matchesNamespaces(signal);
+            }
+            return evaluation.allowed;
+        }
+    }
+
+    /**
+     * Retrieves the extra fields of this group for a signal.
+     *
+     * @param signal the signal.
+     * @param facade the facade to retrieve the extra fields with.
+     * @return future of the extra fields, or of an empty object if the group has no extra fields.
+     */
+    CompletionStage<JsonObject> retrieveExtraFields(final Signal<?> signal,
+            @Nullable final SignalEnrichmentFacade facade) {
+
+        final Evaluation evaluation = getEvaluation(signal);
+        synchronized (evaluation) {
+            if (null == evaluation.extra) {
+                evaluation.extra = doRetrieveExtraFields(signal, facade);
+            }
+            return evaluation.extra;
+        }
+    }
+
+    /**
+     * Merges any thing information in a signal with the extra fields retrieved for it.
+     *
+     * @param signal the signal.
+     * @param extra the extra fields retrieved for the signal.
+     * @return the merged thing if any thing information exists, or an empty thing otherwise.
+     */
+    Thing mergeThingWithExtra(final Signal<?> signal, final JsonObject extra) {
+        final Evaluation evaluation = getEvaluation(signal);
+        synchronized (evaluation) {
+            if (null == evaluation.thing) {
+                evaluation.thing = ThingEventToThingConverter.mergeThingWithExtraFields(signal, key.extraFields, extra)
+                        .orElseGet(() -> Thing.newBuilder().build());
+            }
+            return evaluation.thing;
+        }
+    }
+
+    /**
+     * Tests whether a signal matches the filter of this group.
+     *
+     * @param signal the signal.
+     * @param thing the thing information of the signal merged with its extra fields.
+     * @return whether the signal passes the filter.
+     */
+    boolean matchesFilter(final Signal<?> signal, final Thing thing) {
+        final Evaluation evaluation = getEvaluation(signal);
+        synchronized (evaluation) {
+            if (null == evaluation.matches) {
+                final long startNanos = System.nanoTime();
+                evaluation.matches = thingPredicate.test(thing);
+                evaluationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+            return evaluation.matches;
+        }
+    }
+
+    private Evaluation getEvaluation(final Signal<?> signal) {
+        if (memberCount.get() <= 1) {
+            // nothing to share
+            return new Evaluation();
+        }
+        synchronized (evaluations) {
+            // all sessions of a gateway receive the same signal instance from the local pub-sub subscriber
+            return evaluations.computeIfAbsent(new IdentityKey(signal), k -> new Evaluation());
+        }
+    }
+
+    private boolean isAuthorizedToRead(final Signal<?> signal) {
+        final DittoHeaders headers = signal.getDittoHeaders();
+        return key.authorizationContext.isAuthorized(headers.getReadGrantedSubjects(),
+                headers.getReadRevokedSubjects());
+    }
+
+    private boolean matchesNamespaces(final Signal<?> signal) {
+        return key.namespaces.isEmpty() ||
+                key.namespaces.contains(NamespaceReader.fromEntityId(signal.getEntityId()).orElse(null));
+    }
+
+    private CompletionStage<JsonObject> doRetrieveExtraFields(final Signal<?> signal,
+            @Nullable final SignalEnrichmentFacade facade) {
+
+        final EntityId entityId = signal.getEntityId();
+        if (null != key.extraFields && (null == facade || !(entityId instanceof ThingId))) {
+            final CompletableFuture<JsonObject> future = new CompletableFuture<>();
+            future.completeExceptionally(SignalEnrichmentFailedException.newBuilder()
+                    .dittoHeaders(signal.getDittoHeaders())
+                    .build());
+            return future;
+        } else if (null != key.extraFields) {
+            return facade.retrievePartialThing((ThingId) entityId, key.extraFields, sessionHeaders, signal);
+        } else {
+            return CompletableFuture.completedFuture(JsonObject.empty());
+        }
+    }
+
+    /**
+     * Lazily computed results for one signal. All fields are guarded by the evaluation itself.
+     */
+    private static final class Evaluation {
+
+        private int receivers;
+        @Nullable private Boolean allowed;
+        @Nullable private CompletionStage<JsonObject> extra;
+        @Nullable private Thing thing;
+        @Nullable private Boolean matches;
+
+    }
+
+    /**
+     * Wraps a signal to compare it by identity.
+     */
+    @Immutable
+    private static final class IdentityKey {
+
+        private final Signal<?> signal;
+
+        private IdentityKey(final Signal<?> signal) {
+            this.signal = signal;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).signal == signal;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(signal);
+        }
+
+    }
+
+    /**
+     * The subscription parameters which have to be equal for sessions to share a group.
+     */
+    @Immutable
+    static final class Key {
+
+        private final StreamingType streamingType;
+        @Nullable private final String filter;
+        private final List<String> namespaces;
+        @Nullable private final JsonFieldSelector extraFields;
+        private final AuthorizationContext authorizationContext;
+        private final JsonSchemaVersion jsonSchemaVersion;
+
+        Key(final StreamingType streamingType,
+                @Nullable final String filter,
+                final List<String> namespaces,
+                @Nullable final JsonFieldSelector extraFields,
+                final AuthorizationContext authorizationContext,
+                final JsonSchemaVersion jsonSchemaVersion) {
+
+            this.streamingType = streamingType;
+            this.filter = filter;
+            this.namespaces = List.copyOf(namespaces);
+            this.extraFields = extraFields;
+            this.authorizationContext = authorizationContext;
+            this.jsonSchemaVersion = jsonSchemaVersion;
+        }
+
+        Optional<String> getFilter() {
+            return Optional.ofNullable(filter);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return streamingType == that.streamingType &&
+                    Objects.equals(filter, that.filter) &&
+                    Objects.equals(namespaces, that.namespaces) &&
+                    Objects.equals(extraFields, that.extraFields) &&
+                    Objects.equals(authorizationContext, that.authorizationContext) &&
+                    jsonSchemaVersion == that.jsonSchemaVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(streamingType, filter, namespaces, extraFields, authorizationContext,
+                    jsonSchemaVersion);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "streamingType=" + streamingType +
+                    ", filter=" + filter +
+                    ", namespaces=" + namespaces +
+                    ", extraFields=" + extraFields +
+                    ", authorizationContext=" + authorizationContext +
+                    ", jsonSchemaVersion=" + jsonSchemaVersion +
+                    "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.things.ThingPredicateCache;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+/**
+ * Registry of the {@link StreamingSessionGroup}s of all streaming sessions of a gateway instance.
+ * Sessions with equal subscription parameters join the same group; a group is removed when its last member leaves.
+ */
+@ThreadSafe
+final class StreamingSessionGroups {
+
+    /**
+     * Groups with different authorization contexts or namespaces may still share the compiled filter.
+     */
+    private static final int MAX_COMPILED_FILTERS = 1000;
+
+    private final ThingPredicateCache thingPredicateCache;
+    private final Map<StreamingSessionGroup.Key, StreamingSessionGroup> groups;
+    private final Gauge groupsCounter;
+
+    private StreamingSessionGroups() {
+        thingPredicateCache = ThingPredicateCache.newInstance(MAX_COMPILED_FILTERS);
+        groups = new ConcurrentHashMap<>();
+        groupsCounter = DittoMetrics.gauge("streaming_session_groups_count");
+    }
+
+    /**
+     * Returns a new empty registry.
+     *
+     * @return the registry.
+     */
+    static StreamingSessionGroups newInstance() {
+        return new StreamingSessionGroups();
+    }
+
+    /**
+     * Joins the group of the given subscription parameters, creating the group if it does not exist.
+     *
+     * @param key the subscription parameters.
+     * @param dittoHeaders the headers to report an invalid filter with.
+     * @return the joined group.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if the filter of a new group is invalid.
+     */
+    StreamingSessionGroup join(final StreamingSessionGroup.Key key, final DittoHeaders dittoHeaders) {
+        return groups.compute(key, (k, existingGroup) -> {
+            final StreamingSessionGroup group;
+            if (null == existingGroup) {
+                final Predicate<Thing> thingPredicate = k.getFilter()
+                        .map(filter -> thingPredicateCache.getPredicate(filter, dittoHeaders))
+                        .orElse(thing -> true);
+                group = StreamingSessionGroup.of(k, thingPredicate);
+            } else {
+                group = existingGroup;
+            }
+            group.join();
+            return group;
+        });
+    }
+
+    /**
+     * Leaves a group and removes it if it has no members any more.
+     *
+     * @param group the group to leave.
+     */
+    void leave(final StreamingSessionGroup group) {
+        groups.computeIfPresent(group.getKey(), (k, existingGroup) -> {
+            if (existingGroup == group && group.leave() <= 0) {
+                return null;
+            }
+            return existingGroup;
+        });
+    }
+
+    /**
+     * Sets the gauge of the number of groups to the current number of groups.
+     */
+    void updateGroupsCounter() {
+        groupsCounter.set((long) groups.size());
+    }
+
+    /**
+     * @return the current number of groups.
+     */
+    int size() {
+        return groups.size();
+    }
+
+}
@@ -355,7 +355,8 @@ public final class StreamingSessionActorTest {
         final HeaderTranslator headerTranslator = HeaderTranslator.empty();
         final Props mockProps = Props.create(Actor.class, () -> new TestActor(new LinkedBlockingDeque<>()));
         return StreamingSessionActor.props(connect, mockSub, commandRouterProbe.ref(), acknowledgementConfig,
-                headerTranslator, mockProps, mockValidator, mockAuthenticationResultProvider);
+                headerTranslator, mockProps, mockValidator, mockAuthenticationResultProvider,
+                StreamingSessionGroups.newInstance());
     }
 
     private void onDeclareAckLabels(final CompletionStage<Void> answer) {
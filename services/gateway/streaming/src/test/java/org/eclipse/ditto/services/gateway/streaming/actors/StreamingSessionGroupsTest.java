@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
+import org.eclipse.ditto.services.utils.pubsub.StreamingType;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.Test;
+
+/**
+ * Tests {@link StreamingSessionGroups} and {@link StreamingSessionGroup}.
+ */
+public final class StreamingSessionGroupsTest {
+
+    private static final AuthorizationSubject SUBJECT = AuthorizationSubject.newInstance("integration:subject");
+    private static final AuthorizationContext AUTH_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, SUBJECT);
+    private static final JsonFieldSelector EXTRA_FIELDS = JsonFieldSelector.newInstance("attributes");
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+
+    @Test
+    public void sessionsWithEqualSubscriptionsShareOneGroup() {
+        final StreamingSessionGroups underTest = StreamingSessionGroups.newInstance();
+
+        final StreamingSessionGroup first = underTest.join(key("eq(attributes/foo,1)", List.of("ns")), HEADERS);
+        final StreamingSessionGroup second = underTest.join(key("eq(attributes/foo,1)", List.of("ns")), HEADERS);
+        final StreamingSessionGroup other = underTest.join(key("eq(attributes/foo,2)", List.of("ns")), HEADERS);
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(first.getMemberCount()).isEqualTo(2);
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void joiningWithInvalidFilterFails() {
+        final StreamingSessionGroups underTest = StreamingSessionGroups.newInstance();
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> underTest.join(key("eq(attributes/foo", List.of()), HEADERS));
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void groupIsRemovedWhenLastMemberLeaves() {
+        final StreamingSessionGroups underTest = StreamingSessionGroups.newInstance();
+        final StreamingSessionGroup first = underTest.join(key(null, List.of()), HEADERS);
+        final StreamingSessionGroup second = underTest.join(key(null, List.of()), HEADERS);
+
+        underTest.leave(first);
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(second.getMemberCount()).isEqualTo(1);
+
+        underTest.leave(second);
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.join(key(null, List.of()), HEADERS)).isNotSameAs(first);
+    }
+
+    @Test
+    public void evaluationsAreSharedByMembers() {
+        final StreamingSessionGroups underTest = StreamingSessionGroups.newInstance();
+        final StreamingSessionGroup group = underTest.join(key(null, List.of("ns")), HEADERS);
+        underTest.join(key(null, List.of("ns")), HEADERS);
+
+        final SignalEnrichmentFacade facade = mock(SignalEnrichmentFacade.class);
+        when(facade.retrievePartialThing(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(JsonObject.empty()));
+        final Signal<?> signal = thingDeleted("ns");
+
+        assertThat(group.isAllowedToReceive(signal)).isTrue();
+        assertThat(group.isAllowedToReceive(signal)).isTrue();
+        assertThat(group.retrieveExtraFields(signal, facade))
+                .isSameAs(group.retrieveExtraFields(signal, facade));
+        final Thing thing = group.mergeThingWithExtra(signal, JsonObject.empty());
+        assertThat(group.mergeThingWithExtra(signal, JsonObject.empty())).isSameAs(thing);
+        assertThat(group.matchesFilter(signal, thing)).isTrue();
+
+        verify(facade, times(1)).retrievePartialThing(any(), any(), any(), any());
+    }
+
+    @Test
+    public void signalsOfOtherNamespacesOrWithoutReadPermissionAreNotReceived() {
+        final StreamingSessionGroup group =
+                StreamingSessionGroups.newInstance().join(key(null, List.of("ns")), HEADERS);
+
+        assertThat(group.isAllowedToReceive(thingDeleted("other"))).isFalse();
+        assertThat(group.isAllowedToReceive(ThingDeleted.of(ThingId.of("ns", "thing"), 1L, DittoHeaders.empty())))
+                .isFalse();
+    }
+
+    private static StreamingSessionGroup.Key key(@Nullable final String filter, final List<String> namespaces) {
+        return new StreamingSessionGroup.Key(StreamingType.EVENTS, filter, namespaces, EXTRA_FIELDS, AUTH_CONTEXT,
+                JsonSchemaVersion.V_2);
+    }
+
+    private static Signal<?> thingDeleted(final String namespace) {
+        return ThingDeleted.of(ThingId.of(namespace, "thing"), 1L, DittoHeaders.newBuilder()
+                .readGrantedSubjects(List.of(SUBJECT))
+                .build());
+    }
+
+}
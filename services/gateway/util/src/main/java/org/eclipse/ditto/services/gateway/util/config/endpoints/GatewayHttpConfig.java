@@ -53,6 +53,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final String actorPropsFactoryFullQualifiedClassname;
     private final Set<HeaderDefinition> queryParamsAsHeaders;
     private final Set<String> additionalAcceptedMediaTypes;
+    private final boolean directRetrieveEnabled;
     private final Duration coordinatedShutdownTimeout;
 
     private GatewayHttpConfig(final DefaultHttpConfig basicHttpConfig, final ScopedConfig scopedConfig) {
@@ -71,6 +72,8 @@ public final class GatewayHttpConfig implements HttpConfig {
         additionalAcceptedMediaTypes =
                 Set.of(scopedConfig.getString(GatewayHttpConfigValue.ADDITIONAL_ACCEPTED_MEDIA_TYPES.getConfigPath())
                         .split(","));
+        directRetrieveEnabled =
+                scopedConfig.getBoolean(GatewayHttpConfigValue.DIRECT_RETRIEVE_ENABLED.getConfigPath());
     }
 
     private static Set<JsonSchemaVersion> getJsonSchemaVersions(final Config httpScopedConfig) {
@@ -209,6 +212,11 @@ public final class GatewayHttpConfig implements HttpConfig {
         return additionalAcceptedMediaTypes;
     }
 
+    @Override
+    public boolean isDirectRetrieveEnabled() {
+        return directRetrieveEnabled;
+    }
+
     @SuppressWarnings("OverlyComplexMethod")
     @Override
     public boolean equals(final Object o) {
@@ -224,6 +232,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 forceHttps == that.forceHttps &&
                 redirectToHttps == that.redirectToHttps &&
                 enableCors == that.enableCors &&
+                directRetrieveEnabled == that.directRetrieveEnabled &&
                 hostname.equals(that.hostname) &&
                 schemaVersions.equals(that.schemaVersions) &&
                 redirectToHttpsBlocklistPattern.equals(that.redirectToHttpsBlocklistPattern) &&
@@ -237,7 +246,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     public int hashCode() {
         return Objects.hash(hostname, port, coordinatedShutdownTimeout, schemaVersions, forceHttps, redirectToHttps,
                 redirectToHttpsBlocklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname,
-                queryParamsAsHeaders, additionalAcceptedMediaTypes);
+                queryParamsAsHeaders, additionalAcceptedMediaTypes, directRetrieveEnabled);
     }
 
     @Override
@@ -255,6 +264,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", actorPropsFactoryFullQualifiedClassname=" + actorPropsFactoryFullQualifiedClassname +
                 ", queryParamsAsHeaders=" + queryParamsAsHeaders +
                 ", additionalAcceptedMediaTypes=" + additionalAcceptedMediaTypes +
+                ", directRetrieveEnabled=" + directRetrieveEnabled +
                 "]";
     }
 
@@ -103,6 +103,17 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
      */
     Set<String> getAdditionalAcceptedMediaTypes();
 
+    /**
+     * Indicates whether simple retrieve commands should be answered without creating an HTTP request actor per
+     * request. Has to be disabled if the actors created by the configured
+     * {@link #getActorPropsFactoryFullQualifiedClassname() HttpRequestActorPropsFactory} alter the responses to
+     * retrieve commands.
+     *
+     * @return {@code true} if simple retrieve commands are handled without request actor, {@code false} else.
+     * @since 2.0.0
+     */
+    boolean isDirectRetrieveEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpConfig}.
@@ -168,7 +179,14 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
          *
          * @since 1.1.0
          */
-        ADDITIONAL_ACCEPTED_MEDIA_TYPES("additional-accepted-media-types", MediaTypes.APPLICATION_OCTET_STREAM.toString());
+        ADDITIONAL_ACCEPTED_MEDIA_TYPES("additional-accepted-media-types", MediaTypes.APPLICATION_OCTET_STREAM.toString()),
+
+        /**
+         * Determines whether simple retrieve commands are handled without an HTTP request actor per request.
+         *
+         * @since 2.0.0
+         */
+        DIRECT_RETRIEVE_ENABLED("direct-retrieve-enabled", true);
 
         private final String path;
         private final Object defaultValue;
@@ -29,4 +29,12 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Returns the configuration settings of the cache of validated JSON Web Tokens and their authorization contexts.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    CacheConfig getJwtConfig();
+
 }
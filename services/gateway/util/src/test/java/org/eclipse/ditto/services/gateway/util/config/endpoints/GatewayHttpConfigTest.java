@@ -176,6 +176,18 @@ public final class GatewayHttpConfigTest {
         softly.assertThat(underTest.getAdditionalAcceptedMediaTypes())
                 .as(HttpConfig.GatewayHttpConfigValue.ADDITIONAL_ACCEPTED_MEDIA_TYPES.getConfigPath())
                 .contains(MediaTypes.APPLICATION_OCTET_STREAM.toString());
+        softly.assertThat(underTest.isDirectRetrieveEnabled())
+                .as(HttpConfig.GatewayHttpConfigValue.DIRECT_RETRIEVE_ENABLED.getConfigPath())
+                .isEqualTo(HttpConfig.GatewayHttpConfigValue.DIRECT_RETRIEVE_ENABLED.getDefaultValue());
+    }
+
+    @Test
+    public void getConfiguredDirectRetrieveEnabled() {
+        final GatewayHttpConfig underTest = GatewayHttpConfig.of(gatewayHttpTestConfig);
+
+        softly.assertThat(underTest.isDirectRetrieveEnabled())
+                .as(HttpConfig.GatewayHttpConfigValue.DIRECT_RETRIEVE_ENABLED.getConfigPath())
+                .isFalse();
     }
 
     @Test
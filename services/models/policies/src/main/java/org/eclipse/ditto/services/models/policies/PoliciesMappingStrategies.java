@@ -67,6 +67,7 @@ public final class PoliciesMappingStrategies extends MappingStrategies {
                 .add(BatchedEntityIdWithRevisions.typeOf(PolicyTag.class),
                         BatchedEntityIdWithRevisions.deserializer(jsonObject -> PolicyTag.fromJson(jsonObject)))
                 .add(PolicyReferenceTag.class, jsonObject -> PolicyReferenceTag.fromJson(jsonObject))
+                .add(PolicyUpdate.class, jsonObject -> PolicyUpdate.fromJson(jsonObject))
                 .putAll(GlobalMappingStrategies.getInstance())
                 .build();
     }
@@ -33,6 +33,13 @@ public final class PoliciesMessagingConstants {
      */
     public static final String POLICIES_STREAM_PROVIDER_ACTOR_PATH = ROOT_ACTOR_PATH + "/persistenceStreamingActor";
 
+    /**
+     * Path of the proxy to the subject-expiry-index singleton actor.
+     *
+     * @since 2.0.0
+     */
+    public static final String SUBJECT_EXPIRY_INDEX_PROXY_ACTOR_PATH = ROOT_ACTOR_PATH + "/subjectExpiryIndexProxy";
+
     /**
      * Name of the shard region for Policy entities.
      */
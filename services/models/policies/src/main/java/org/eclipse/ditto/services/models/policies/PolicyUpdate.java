@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.policies;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.PolicyRevision;
+
+/**
+ * Contains a new revision of a Policy. It is published whenever a Policy was modified, so that the policy enforcer
+ * caches can replace their entry of the Policy in place instead of loading it again.
+ * <p>
+ * A {@link PolicyTag} is published on {@link PolicyTag#PUB_SUB_TOPIC_INVALIDATE_ENFORCERS} in addition; subscribers of
+ * both topics should ignore PolicyTags whose revision is not newer than the revision they already know.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class PolicyUpdate implements Jsonifiable<JsonObject> {
+
+    /**
+     * Defines a Publish/Subscribe topic on which PolicyUpdate messages are published whenever a Policy was modified.
+     */
+    public static final String PUB_SUB_TOPIC_UPDATE_ENFORCERS = "policy-update-enforcers";
+
+    private final Policy policy;
+    private final PolicyId policyId;
+    private final long revision;
+
+    private PolicyUpdate(final Policy policy, final PolicyId policyId, final long revision) {
+        this.policy = policy;
+        this.policyId = policyId;
+        this.revision = revision;
+    }
+
+    /**
+     * Returns a new {@code PolicyUpdate}.
+     *
+     * @param policy the modified Policy.
+     * @return the PolicyUpdate.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @throws IllegalArgumentException if {@code policy} has no ID or no revision.
+     */
+    public static PolicyUpdate of(final Policy policy) {
+        checkNotNull(policy, "policy");
+        checkArgument(policy, p -> p.getEntityId().isPresent() && p.getRevision().isPresent(),
+                () -> "The policy must have an ID and a revision!");
+        return new PolicyUpdate(policy, policy.getEntityId().orElseThrow(),
+                policy.getRevision().map(PolicyRevision::toLong).orElseThrow());
+    }
+
+    /**
+     * Creates a new {@code PolicyUpdate} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which a new PolicyUpdate is to be created.
+     * @return the PolicyUpdate which was created from the given JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the
+     * expected format.
+     * @throws IllegalArgumentException if the contained policy has no ID or no revision.
+     */
+    public static PolicyUpdate fromJson(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object");
+        return of(PoliciesModelFactory.newPolicy(jsonObject.getValueOrThrow(JsonFields.POLICY)));
+    }
+
+    /**
+     * Returns the modified Policy.
+     *
+     * @return the Policy.
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the ID of the modified Policy.
+     *
+     * @return the Policy ID.
+     */
+    public PolicyId getPolicyId() {
+        return policyId;
+    }
+
+    /**
+     * Returns the revision of the modified Policy.
+     *
+     * @return the revision.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return JsonFactory.newObjectBuilder()
+                .set(JsonFields.POLICY, policy.toJson(JsonSchemaVersion.LATEST, FieldType.regularOrSpecial()))
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PolicyUpdate that = (PolicyUpdate) o;
+        return revision == that.revision &&
+                Objects.equals(policy, that.policy) &&
+                Objects.equals(policyId, that.policyId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(policy, policyId, revision);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "policyId=" + policyId +
+                ", revision=" + revision +
+                "]";
+    }
+
+    /**
+     * An enumeration of the known {@link org.eclipse.ditto.json.JsonField}s of a PolicyUpdate.
+     */
+    @Immutable
+    public static final class JsonFields {
+
+        /**
+         * JSON field containing the Policy.
+         */
+        public static final JsonFieldDefinition<JsonObject> POLICY = JsonFactory.newJsonObjectFieldDefinition("policy");
+
+        private JsonFields() {
+            throw new AssertionError();
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.policies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link PolicyUpdate}.
+ */
+public final class PolicyUpdateTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(PolicyUpdate.class, areImmutable(),
+                provided(Policy.class, PolicyId.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(PolicyUpdate.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void createInstanceFromPolicy() {
+        final PolicyUpdate underTest = PolicyUpdate.of(TestConstants.Policy.POLICY);
+
+        assertThat((CharSequence) underTest.getPolicyId()).isEqualTo(TestConstants.Policy.POLICY_ID);
+        assertThat(underTest.getRevision()).isEqualTo(TestConstants.Policy.REVISION_NUMBER);
+    }
+
+    @Test
+    public void toJsonAndFromJsonAreInverse() {
+        final PolicyUpdate underTest = PolicyUpdate.of(TestConstants.Policy.POLICY);
+
+        assertThat(PolicyUpdate.fromJson(underTest.toJson())).isEqualTo(underTest);
+    }
+
+    @Test
+    public void policyWithoutRevisionIsRejected() {
+        final Policy policyWithoutRevision = PoliciesModelFactory.newPolicyBuilder(TestConstants.Policy.POLICY_ID)
+                .set(TestConstants.Policy.POLICY_ENTRY)
+                .build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> PolicyUpdate.of(policyWithoutRevision));
+    }
+
+}
@@ -41,6 +41,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     private final SnapshotConfig snapshotConfig;
     private final Duration policySubjectExpiryGranularity;
     private final String subjectIdResolver;
+    private final SubjectExpiryIndexConfig subjectExpiryIndexConfig;
 
     private DefaultPolicyConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
@@ -49,6 +50,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         policySubjectExpiryGranularity = scopedConfig.getDuration(
                 PolicyConfigValue.SUBJECT_EXPIRY_GRANULARITY.getConfigPath());
         subjectIdResolver = scopedConfig.getString(PolicyConfigValue.SUBJECT_ID_RESOLVER.getConfigPath());
+        subjectExpiryIndexConfig = DefaultSubjectExpiryIndexConfig.of(scopedConfig);
     }
 
     /**
@@ -89,6 +91,11 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         return subjectIdResolver;
     }
 
+    @Override
+    public SubjectExpiryIndexConfig getSubjectExpiryIndexConfig() {
+        return subjectExpiryIndexConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -102,13 +109,14 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
                 Objects.equals(policySubjectExpiryGranularity, that.policySubjectExpiryGranularity) &&
-                Objects.equals(subjectIdResolver, that.subjectIdResolver);
+                Objects.equals(subjectIdResolver, that.subjectIdResolver) &&
+                Objects.equals(subjectExpiryIndexConfig, that.subjectExpiryIndexConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, policySubjectExpiryGranularity,
-                subjectIdResolver);
+                subjectIdResolver, subjectExpiryIndexConfig);
     }
 
     @Override
@@ -119,6 +127,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 ", snapshotConfig=" + snapshotConfig +
                 ", policySubjectExpiryGranularity=" + policySubjectExpiryGranularity +
                 ", subjectIdResolver=" + subjectIdResolver +
+                ", subjectExpiryIndexConfig=" + subjectExpiryIndexConfig +
                 "]";
     }
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the subject expiry index config.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DefaultSubjectExpiryIndexConfig implements SubjectExpiryIndexConfig {
+
+    private static final String CONFIG_PATH = "subject-expiry-index";
+
+    private final boolean enabled;
+    private final Duration wakeUpLeadTime;
+    private final Duration tickDuration;
+    private final int wheelSize;
+    private final Duration loadInterval;
+    private final Duration loadHorizon;
+
+    private DefaultSubjectExpiryIndexConfig(final ScopedConfig scopedConfig) {
+        enabled = scopedConfig.getBoolean(SubjectExpiryIndexConfigValue.ENABLED.getConfigPath());
+        wakeUpLeadTime = scopedConfig.getDuration(SubjectExpiryIndexConfigValue.WAKE_UP_LEAD_TIME.getConfigPath());
+        tickDuration = scopedConfig.getDuration(SubjectExpiryIndexConfigValue.TICK_DURATION.getConfigPath());
+        wheelSize = scopedConfig.getInt(SubjectExpiryIndexConfigValue.WHEEL_SIZE.getConfigPath());
+        loadInterval = scopedConfig.getDuration(SubjectExpiryIndexConfigValue.LOAD_INTERVAL.getConfigPath());
+        loadHorizon = scopedConfig.getDuration(SubjectExpiryIndexConfigValue.LOAD_HORIZON.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of the subject expiry index config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the subject expiry index config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultSubjectExpiryIndexConfig of(final Config config) {
+        return new DefaultSubjectExpiryIndexConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, SubjectExpiryIndexConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getWakeUpLeadTime() {
+        return wakeUpLeadTime;
+    }
+
+    @Override
+    public Duration getTickDuration() {
+        return tickDuration;
+    }
+
+    @Override
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    @Override
+    public Duration getLoadInterval() {
+        return loadInterval;
+    }
+
+    @Override
+    public Duration getLoadHorizon() {
+        return loadHorizon;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultSubjectExpiryIndexConfig that = (DefaultSubjectExpiryIndexConfig) o;
+        return enabled == that.enabled &&
+                wheelSize == that.wheelSize &&
+                Objects.equals(wakeUpLeadTime, that.wakeUpLeadTime) &&
+                Objects.equals(tickDuration, that.tickDuration) &&
+                Objects.equals(loadInterval, that.loadInterval) &&
+                Objects.equals(loadHorizon, that.loadHorizon);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, wakeUpLeadTime, tickDuration, wheelSize, loadInterval, loadHorizon);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", wakeUpLeadTime=" + wakeUpLeadTime +
+                ", tickDuration=" + tickDuration +
+                ", wheelSize=" + wheelSize +
+                ", loadInterval=" + loadInterval +
+                ", loadHorizon=" + loadHorizon +
+                "]";
+    }
+
+}
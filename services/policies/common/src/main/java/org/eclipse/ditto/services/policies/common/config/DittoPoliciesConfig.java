@@ -25,6 +25,8 @@ import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.health.config.DefaultHealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.metrics.config.MetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryPayloadConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryPayloadConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultTagsConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
@@ -46,6 +48,7 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
     private final HealthCheckConfig healthCheckConfig;
     private final PolicyConfig policyConfig;
     private final TagsConfig tagsConfig;
+    private final BinaryPayloadConfig binaryPayloadConfig;
 
     private DittoPoliciesConfig(final ScopedConfig dittoScopedConfig) {
         serviceSpecificConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -54,6 +57,7 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
         healthCheckConfig = DefaultHealthCheckConfig.of(dittoScopedConfig);
         policyConfig = DefaultPolicyConfig.of(serviceSpecificConfig);
         tagsConfig = DefaultTagsConfig.of(serviceSpecificConfig);
+        binaryPayloadConfig = DefaultBinaryPayloadConfig.of(dittoScopedConfig);
     }
 
     /**
@@ -113,6 +117,11 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
         return tagsConfig;
     }
 
+    @Override
+    public BinaryPayloadConfig getBinaryPayloadConfig() {
+        return binaryPayloadConfig;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -127,13 +136,14 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(policyConfig, that.policyConfig) &&
-                Objects.equals(tagsConfig, that.tagsConfig);
+                Objects.equals(tagsConfig, that.tagsConfig) &&
+                Objects.equals(binaryPayloadConfig, that.binaryPayloadConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(serviceSpecificConfig, persistenceOperationsConfig, mongoDbConfig, healthCheckConfig,
-                policyConfig, tagsConfig);
+                policyConfig, tagsConfig, binaryPayloadConfig);
     }
 
     @Override
@@ -145,6 +155,7 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", policyConfig=" + policyConfig +
                 ", tagsConfig=" + tagsConfig +
+                ", binaryPayloadConfig=" + binaryPayloadConfig +
                 "]";
     }
 
@@ -16,6 +16,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.ServiceSpecificConfig;
 import org.eclipse.ditto.services.utils.health.config.WithHealthCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithBinaryPayloadConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithTagsConfig;
 import org.eclipse.ditto.services.utils.persistence.operations.WithPersistenceOperationsConfig;
@@ -25,7 +26,7 @@ import org.eclipse.ditto.services.utils.persistence.operations.WithPersistenceOp
  */
 @Immutable
 public interface PoliciesConfig extends ServiceSpecificConfig, WithHealthCheckConfig, WithPersistenceOperationsConfig,
-        WithMongoDbConfig, WithTagsConfig {
+        WithMongoDbConfig, WithTagsConfig, WithBinaryPayloadConfig {
 
     /**
      * Returns the configuration settings for policy entities.
@@ -51,6 +51,14 @@ public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckCon
      */
     String getSubjectIdResolver();
 
+    /**
+     * Returns the configuration settings of the index of policy subject expiries.
+     *
+     * @return the subject expiry index config.
+     * @since 2.0.0
+     */
+    SubjectExpiryIndexConfig getSubjectExpiryIndexConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for {@code PolicyConfig}.
      */
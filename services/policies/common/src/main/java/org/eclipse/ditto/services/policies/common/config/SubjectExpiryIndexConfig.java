@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the service-level index of policy subject expiries which wakes up policies
+ * shortly before their subjects expire.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface SubjectExpiryIndexConfig {
+
+    /**
+     * Indicates whether policies rely on the subject expiry index to be woken up before their subjects expire.
+     * If disabled, each policy with an expiring subject schedules the deletion of the subject itself.
+     *
+     * @return {@code true} if the subject expiry index is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how long before the earliest expiry of its subjects a policy is woken up.
+     * A policy which is in memory only schedules the deletion of its expired subjects itself if the earliest expiry
+     * is at most this duration ahead.
+     *
+     * @return the lead time of waking up policies.
+     */
+    Duration getWakeUpLeadTime();
+
+    /**
+     * Returns the duration of one tick of the lowest level of the timing wheel.
+     *
+     * @return the tick duration.
+     */
+    Duration getTickDuration();
+
+    /**
+     * Returns the number of buckets of each level of the timing wheel.
+     *
+     * @return the wheel size.
+     */
+    int getWheelSize();
+
+    /**
+     * Returns the interval in which expiries are loaded from the index into the timing wheel.
+     *
+     * @return the load interval.
+     */
+    Duration getLoadInterval();
+
+    /**
+     * Returns how far ahead of the current time expiries are loaded from the index into the timing wheel.
+     *
+     * @return the load horizon.
+     */
+    Duration getLoadHorizon();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code SubjectExpiryIndexConfig}.
+     */
+    enum SubjectExpiryIndexConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the subject expiry index is enabled.
+         */
+        ENABLED("enabled", true),
+
+        /**
+         * How long before the earliest expiry of its subjects a policy is woken up.
+         */
+        WAKE_UP_LEAD_TIME("wake-up-lead-time", Duration.ofMinutes(2L)),
+
+        /**
+         * The duration of one tick of the lowest level of the timing wheel.
+         */
+        TICK_DURATION("tick-duration", Duration.ofSeconds(1L)),
+
+        /**
+         * The number of buckets of each level of the timing wheel.
+         */
+        WHEEL_SIZE("wheel-size", 64),
+
+        /**
+         * The interval in which expiries are loaded from the index into the timing wheel.
+         */
+        LOAD_INTERVAL("load-interval", Duration.ofMinutes(1L)),
+
+        /**
+         * How far ahead of the current time expiries are loaded from the index into the timing wheel.
+         */
+        LOAD_HORIZON("load-horizon", Duration.ofMinutes(15L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        SubjectExpiryIndexConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -47,7 +47,7 @@ public final class DefaultPolicyConfigTest {
     @Test
     public void assertImmutability() {
         assertInstancesOf(DefaultPolicyConfig.class, areImmutable(),
-                provided(DefaultSupervisorConfig.class)
+                provided(DefaultSupervisorConfig.class, SubjectExpiryIndexConfig.class)
                         .areAlsoImmutable());
     }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultSubjectExpiryIndexConfig}.
+ */
+public final class DefaultSubjectExpiryIndexConfigTest {
+
+    private static Config policyTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        policyTestConfig = ConfigFactory.load("policy-test").getConfig("policy");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultSubjectExpiryIndexConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultSubjectExpiryIndexConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultSubjectExpiryIndexConfig underTest = DefaultSubjectExpiryIndexConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getWakeUpLeadTime())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.WAKE_UP_LEAD_TIME.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(2L));
+        softly.assertThat(underTest.getTickDuration())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.TICK_DURATION.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(1L));
+        softly.assertThat(underTest.getWheelSize())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.WHEEL_SIZE.getConfigPath())
+                .isEqualTo(64);
+        softly.assertThat(underTest.getLoadInterval())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.LOAD_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(1L));
+        softly.assertThat(underTest.getLoadHorizon())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.LOAD_HORIZON.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(15L));
+    }
+
+    @Test
+    public void underTestReturnsValuesOfBaseConfig() {
+        final DefaultSubjectExpiryIndexConfig underTest = DefaultSubjectExpiryIndexConfig.of(policyTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getWakeUpLeadTime())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.WAKE_UP_LEAD_TIME.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(30L));
+        softly.assertThat(underTest.getTickDuration())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.TICK_DURATION.getConfigPath())
+                .isEqualTo(Duration.ofMillis(100L));
+        softly.assertThat(underTest.getWheelSize())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.WHEEL_SIZE.getConfigPath())
+                .isEqualTo(16);
+        softly.assertThat(underTest.getLoadInterval())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.LOAD_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(10L));
+        softly.assertThat(underTest.getLoadHorizon())
+                .as(SubjectExpiryIndexConfig.SubjectExpiryIndexConfigValue.LOAD_HORIZON.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(5L));
+    }
+
+}
@@ -14,9 +14,15 @@ package org.eclipse.ditto.services.policies.persistence.actors;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -31,12 +37,19 @@ import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyEntry;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.PolicyLifecycle;
+import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.model.policies.Subject;
 import org.eclipse.ditto.model.policies.SubjectExpiry;
+import org.eclipse.ditto.model.policies.SubjectId;
 import org.eclipse.ditto.model.policies.Subjects;
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.PolicyUpdate;
 import org.eclipse.ditto.services.policies.common.config.DittoPoliciesConfig;
 import org.eclipse.ditto.services.policies.common.config.PolicyConfig;
+import org.eclipse.ditto.services.policies.common.config.SubjectExpiryIndexConfig;
+import org.eclipse.ditto.services.policies.persistence.actors.expiry.UpdateSubjectExpiry;
+import org.eclipse.ditto.services.policies.persistence.actors.expiry.WakeUpForSubjectExpiry;
 import org.eclipse.ditto.services.policies.persistence.actors.strategies.commands.PolicyCommandStrategies;
 import org.eclipse.ditto.services.policies.persistence.actors.strategies.events.PolicyEventStrategies;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
@@ -51,7 +64,7 @@ import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibleException;
 import org.eclipse.ditto.signals.events.policies.PolicyEvent;
-import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectsDeletedPartially;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -81,10 +94,16 @@ public final class PolicyPersistenceActor
     static final String SNAPSHOT_PLUGIN_ID = "akka-contrib-mongodb-persistence-policies-snapshots";
 
     private static final String NEXT_SUBJECT_EXPIRY_TIMER = "next-subject-expiry-timer";
+    private static final String SUBJECT_EXPIRY_REPORT_TIMER = "subject-expiry-report-timer";
+    private static final Duration SUBJECT_EXPIRY_REPORT_RETRY_INTERVAL = Duration.ofSeconds(10);
 
     private final ActorRef pubSubMediator;
     private final PolicyConfig policyConfig;
 
+    @Nullable private Instant reportedSubjectExpiry;
+    @Nullable private UpdateSubjectExpiry pendingSubjectExpiryReport;
+    private boolean subjectExpiryReportRequired;
+
     PolicyPersistenceActor(final PolicyId policyId,
             final SnapshotAdapter<Policy> snapshotAdapter,
             final ActorRef pubSubMediator) {
@@ -175,6 +194,12 @@ public final class PolicyPersistenceActor
     protected void publishEvent(final PolicyEvent<?> event) {
         pubSubMediator.tell(DistPubSubAccess.publishViaGroup(PolicyEvent.TYPE_PREFIX, event), getSender());
 
+        // push the modified policy to the enforcer caches; with group commit, the entity may be ahead of the event
+        if (isEntityAtRevisionOf(event)) {
+            pubSubMediator.tell(DistPubSubAccess.publish(PolicyUpdate.PUB_SUB_TOPIC_UPDATE_ENFORCERS,
+                    PolicyUpdate.of(entity)), getSender());
+        }
+
         final boolean policyEnforcerInvalidatedPreemptively = Boolean.parseBoolean(event.getDittoHeaders()
                 .getOrDefault(DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
                         Boolean.FALSE.toString()));
@@ -185,6 +210,11 @@ public final class PolicyPersistenceActor
         }
     }
 
+    private boolean isEntityAtRevisionOf(final PolicyEvent<?> event) {
+        return null != entity && !entity.hasLifecycle(PolicyLifecycle.DELETED) &&
+                entity.getRevision().map(PolicyRevision::toLong).filter(rev -> rev == event.getRevision()).isPresent();
+    }
+
     @Override
     protected JsonSchemaVersion getEntitySchemaVersion(final Policy entity) {
         return entity.getImplementedSchemaVersion();
@@ -193,11 +223,28 @@ public final class PolicyPersistenceActor
     @Override
     protected Receive matchAnyAfterInitialization() {
         return ReceiveBuilder.create()
-                .matchEquals(DeleteOldestExpiredSubject.INSTANCE, d -> handleDeleteExpiredSubjects())
+                .matchEquals(DeleteExpiredSubjects.INSTANCE, d -> handleDeleteExpiredSubjects())
+                .match(WakeUpForSubjectExpiry.class, this::handleWakeUpForSubjectExpiry)
+                .match(UpdateSubjectExpiry.class, this::subjectExpiryReportAcknowledged)
+                .matchEquals(RetrySubjectExpiryReport.INSTANCE, r -> retrySubjectExpiryReport())
                 .matchAny(message -> log.warning("Unknown message: {}", message))
                 .build();
     }
 
+    @Override
+    protected Receive matchAnyWhenDeleted() {
+        return ReceiveBuilder.create()
+                .match(WakeUpForSubjectExpiry.class, wakeUp -> {
+                    // the index keeps the entry of a deleted policy until the policy reports that it has no expiry
+                    subjectExpiryReportRequired = true;
+                    scheduleNextSubjectExpiryCheck();
+                })
+                .match(UpdateSubjectExpiry.class, this::subjectExpiryReportAcknowledged)
+                .matchEquals(RetrySubjectExpiryReport.INSTANCE, r -> retrySubjectExpiryReport())
+                .build()
+                .orElse(super.matchAnyWhenDeleted());
+    }
+
     @Override
     protected void recoveryCompleted(final RecoveryCompleted event) {
         if (entity != null) {
@@ -213,57 +260,118 @@ public final class PolicyPersistenceActor
         scheduleNextSubjectExpiryCheck();
     }
 
+    private void handleWakeUpForSubjectExpiry(final WakeUpForSubjectExpiry wakeUp) {
+        log.debug("Woken up for subject expiry.");
+        // the index keeps this policy until it reports its next expiry, even if that did not change
+        subjectExpiryReportRequired = true;
+        handleDeleteExpiredSubjects();
+    }
+
     private void scheduleNextSubjectExpiryCheck() {
-        findEarliestSubjectExpiryTimestamp(entity).ifPresent(earliestSubjectExpiryTimestamp -> {
+        final Optional<Instant> earliestSubjectExpiry = findEarliestSubjectExpiry();
+        reportSubjectExpiry(earliestSubjectExpiry.orElse(null));
+        earliestSubjectExpiry.ifPresent(earliestExpiry -> {
             timers().cancel(NEXT_SUBJECT_EXPIRY_TIMER);
-            final Instant earliestExpiry = earliestSubjectExpiryTimestamp.getTimestamp();
             final Duration durationBetweenNowAndEarliestExpiry = Duration.between(Instant.now(), earliestExpiry);
             if (durationBetweenNowAndEarliestExpiry.isNegative()) {
-                // there are currently expired subjects, so delete the oldest right away:
-                getSelf().tell(DeleteOldestExpiredSubject.INSTANCE, getSelf());
+                // there are currently expired subjects, so delete them right away:
+                getSelf().tell(DeleteExpiredSubjects.INSTANCE, getSelf());
             } else {
+                // the subject expiry index wakes up this policy if it is passivated; while it is in memory, the
+                // expiry is also checked locally at least once a day in case a report or wake-up is lost
                 final Duration oneDay = Duration.ofDays(1);
                 final Duration scheduleTimeout = durationBetweenNowAndEarliestExpiry.compareTo(oneDay) < 0 ?
                         durationBetweenNowAndEarliestExpiry : oneDay;
-                log.info("Scheduling message for deleting next expired subject in: <{}> - " +
-                        "earliest expiry is at: <{}>", scheduleTimeout, earliestExpiry);
-                timers().startSingleTimer(NEXT_SUBJECT_EXPIRY_TIMER, DeleteOldestExpiredSubject.INSTANCE,
-                        scheduleTimeout);
+                scheduleDeleteExpiredSubjects(scheduleTimeout, earliestExpiry);
             }
         });
     }
 
+    private void scheduleDeleteExpiredSubjects(final Duration scheduleTimeout, final Instant earliestExpiry) {
+        log.info("Scheduling message for deleting next expired subjects in: <{}> - " +
+                "earliest expiry is at: <{}>", scheduleTimeout, earliestExpiry);
+        timers().startSingleTimer(NEXT_SUBJECT_EXPIRY_TIMER, DeleteExpiredSubjects.INSTANCE, scheduleTimeout);
+    }
+
+    private void reportSubjectExpiry(@Nullable final Instant earliestSubjectExpiry) {
+        final SubjectExpiryIndexConfig subjectExpiryIndexConfig = policyConfig.getSubjectExpiryIndexConfig();
+        // expiries within the wake-up lead time are scheduled by this policy, the index would wake it up right away
+        @Nullable final Instant indexedSubjectExpiry = null != earliestSubjectExpiry &&
+                earliestSubjectExpiry.isAfter(Instant.now().plus(subjectExpiryIndexConfig.getWakeUpLeadTime()))
+                ? earliestSubjectExpiry
+                : null;
+        @Nullable final Instant expectedSubjectExpiry = null != pendingSubjectExpiryReport
+                ? pendingSubjectExpiryReport.getEarliestExpiry().orElse(null)
+                : reportedSubjectExpiry;
+        // the state during recovery is transient, the final state is reported when recovery completed
+        if (subjectExpiryIndexConfig.isEnabled() && !recoveryRunning() &&
+                (subjectExpiryReportRequired || !Objects.equals(expectedSubjectExpiry, indexedSubjectExpiry))) {
+            subjectExpiryReportRequired = false;
+            pendingSubjectExpiryReport = UpdateSubjectExpiry.of(entityId, indexedSubjectExpiry);
+            sendSubjectExpiryReport(pendingSubjectExpiryReport);
+            timers().startTimerWithFixedDelay(SUBJECT_EXPIRY_REPORT_TIMER, RetrySubjectExpiryReport.INSTANCE,
+                    SUBJECT_EXPIRY_REPORT_RETRY_INTERVAL);
+        }
+    }
+
+    private void sendSubjectExpiryReport(final UpdateSubjectExpiry report) {
+        getContext().actorSelection(PoliciesMessagingConstants.SUBJECT_EXPIRY_INDEX_PROXY_ACTOR_PATH)
+                .tell(report, getSelf());
+    }
+
+    private void retrySubjectExpiryReport() {
+        if (null != pendingSubjectExpiryReport) {
+            log.debug("Reporting <{}> again as the subject expiry index did not acknowledge it.",
+                    pendingSubjectExpiryReport);
+            sendSubjectExpiryReport(pendingSubjectExpiryReport);
+        } else {
+            timers().cancel(SUBJECT_EXPIRY_REPORT_TIMER);
+        }
+    }
+
+    private void subjectExpiryReportAcknowledged(final UpdateSubjectExpiry acknowledgedReport) {
+        // acknowledgements of superseded reports are ignored, the latest report is retried until it is acknowledged
+        if (acknowledgedReport.equals(pendingSubjectExpiryReport)) {
+            reportedSubjectExpiry = acknowledgedReport.getEarliestExpiry().orElse(null);
+            pendingSubjectExpiryReport = null;
+            timers().cancel(SUBJECT_EXPIRY_REPORT_TIMER);
+        }
+    }
+
     private void handleDeleteExpiredSubjects() {
         log.debug("Calculating whether subjects did expire and need to be deleted..");
-        calculateSubjectDeletedEventOfOldestExpiredSubject(entityId, entity)
-                .ifPresentOrElse(subjectDeleted ->
-                                persistAndApplyEvent(subjectDeleted, (persistedEvent, resultingEntity) ->
+        calculateSubjectsDeletedEventOfExpiredSubjects(entityId, entity)
+                .ifPresentOrElse(subjectsDeleted ->
+                                persistAndApplyEvent(subjectsDeleted, (persistedEvent, resultingEntity) ->
                                         log.withCorrelationId(persistedEvent)
-                                                .info("Deleted expired subject <{}> of label <{}>",
-                                                        subjectDeleted.getSubjectId(), subjectDeleted.getLabel())
+                                                .info("Deleted expired subjects <{}>",
+                                                        subjectsDeleted.getDeletedSubjectIds())
                                 ),
                         this::scheduleNextSubjectExpiryCheck
                 );
     }
 
-    private Optional<SubjectDeleted> calculateSubjectDeletedEventOfOldestExpiredSubject(final PolicyId policyId,
-            @Nullable final Iterable<PolicyEntry> policyEntries) {
+    private Optional<SubjectsDeletedPartially> calculateSubjectsDeletedEventOfExpiredSubjects(
+            final PolicyId policyId, @Nullable final Iterable<PolicyEntry> policyEntries) {
 
-        return determineAlreadyExpiredSubjects(policyEntries)
-                .min(Comparator.comparing(pair -> pair.second().getExpiry().orElseThrow()))
-                .map(pair -> {
-                    final Instant eventTimestamp = Instant.now();
-                    final DittoHeaders eventDittoHeaders = DittoHeaders.newBuilder()
-                            .correlationId(UUID.randomUUID().toString())
-                            .build();
-                    return SubjectDeleted.of(policyId,
-                            pair.first(),
-                            pair.second().getId(),
-                            getRevisionNumber() + 1L,
-                            eventTimestamp,
-                            eventDittoHeaders
-                    );
-                });
+        final Map<Label, Collection<SubjectId>> expiredSubjectIds = determineAlreadyExpiredSubjects(policyEntries)
+                .collect(Collectors.groupingBy(Pair::first, LinkedHashMap::new,
+                        Collectors.mapping(pair -> pair.second().getId(), Collectors.toCollection(ArrayList::new))));
+        if (expiredSubjectIds.isEmpty()) {
+            return Optional.empty();
+        }
+        final DittoHeaders eventDittoHeaders = DittoHeaders.newBuilder()
+                .correlationId(UUID.randomUUID().toString())
+                .build();
+        return Optional.of(SubjectsDeletedPartially.of(policyId, expiredSubjectIds, getRevisionNumber() + 1L,
+                Instant.now(), eventDittoHeaders));
+    }
+
+    private Optional<Instant> findEarliestSubjectExpiry() {
+        if (null == entity || entity.hasLifecycle(PolicyLifecycle.DELETED)) {
+            return Optional.empty();
+        }
+        return findEarliestSubjectExpiryTimestamp(entity).map(SubjectExpiry::getTimestamp);
     }
 
     private static Stream<Pair<Label, Subject>> determineAlreadyExpiredSubjects(
@@ -304,8 +412,13 @@ public final class PolicyPersistenceActor
                 .min(Comparator.comparing(SubjectExpiry::getTimestamp));
     }
 
-    private static final class DeleteOldestExpiredSubject {
+    private static final class DeleteExpiredSubjects {
+
+        private static final DeleteExpiredSubjects INSTANCE = new DeleteExpiredSubjects();
+    }
+
+    private static final class RetrySubjectExpiryReport {
 
-        private static final DeleteOldestExpiredSubject INSTANCE = new DeleteOldestExpiredSubject();
+        private static final RetrySubjectExpiryReport INSTANCE = new RetrySubjectExpiryReport();
     }
 }
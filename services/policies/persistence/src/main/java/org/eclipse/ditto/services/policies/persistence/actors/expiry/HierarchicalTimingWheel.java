@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors.expiry;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A hierarchical timing wheel which schedules elements at deadlines with a resolution of one tick.
+ * <p>
+ * Level {@code n} of the wheel consists of {@code wheelSize} buckets each spanning {@code wheelSize^n} ticks. An
+ * element is put into the lowest level whose current rotation contains its deadline and is moved down to the next
+ * lower level when the time reaches the bucket it is in. Thereby scheduling and cancelling are constant time
+ * operations and advancing the wheel only touches the buckets whose time has come.
+ * Deadlines beyond the range of the highest level are kept aside and re-scheduled whenever the highest level
+ * completed a rotation.
+ * </p>
+ * <p>
+ * Each element is scheduled at most once; scheduling an element again replaces its deadline.
+ * </p>
+ *
+ * @param <T> the type of the scheduled elements.
+ */
+@NotThreadSafe
+final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] ticksPerBucket;
+    private final List<Map<T, Long>[]> levels;
+    private final Map<T, Long> overflow;
+    private final Map<T, Long> deadlines;
+    private final Map<T, Long> due;
+    private long currentTick;
+
+    private HierarchicalTimingWheel(final Duration tickDuration, final int wheelSize, final int numberOfLevels,
+            final Instant now) {
+
+        tickMillis = tickDuration.toMillis();
+        this.wheelSize = wheelSize;
+        ticksPerBucket = new long[numberOfLevels + 1];
+        levels = new ArrayList<>(numberOfLevels);
+        long ticks = 1L;
+        for (int level = 0; level < numberOfLevels; level++) {
+            ticksPerBucket[level] = ticks;
+            levels.add(newBuckets(wheelSize));
+            ticks = Math.multiplyExact(ticks, wheelSize);
+        }
+        ticksPerBucket[numberOfLevels] = ticks;
+        overflow = new HashMap<>();
+        deadlines = new HashMap<>();
+        due = new HashMap<>();
+        currentTick = toTick(now);
+    }
+
+    /**
+     * Returns a new timing wheel with as many levels as needed to cover the given range without overflow.
+     *
+     * @param tickDuration the duration of one tick of the lowest level.
+     * @param wheelSize the number of buckets of each level.
+     * @param range the range of deadlines ahead of the current time which should be covered by the levels.
+     * @param now the current time.
+     * @param <T> the type of the scheduled elements.
+     * @return the timing wheel.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code tickDuration} is not at least one millisecond or if
+     * {@code wheelSize} is less than 2.
+     */
+    static <T> HierarchicalTimingWheel<T> newInstance(final Duration tickDuration, final int wheelSize,
+            final Duration range, final Instant now) {
+
+        checkNotNull(tickDuration, "tickDuration");
+        checkNotNull(range, "range");
+        checkNotNull(now, "now");
+        checkArgument(tickDuration, d -> d.toMillis() > 0, () -> "The tick duration must be at least 1ms!");
+        checkArgument(wheelSize, size -> size > 1, () -> "The wheel size must be at least 2!");
+
+        final long rangeTicks = Math.max(1L, range.toMillis() / tickDuration.toMillis());
+        int numberOfLevels = 1;
+        long coveredTicks = wheelSize;
+        while (coveredTicks < rangeTicks && coveredTicks <= Long.MAX_VALUE / wheelSize) {
+            coveredTicks *= wheelSize;
+            numberOfLevels++;
+        }
+        return new HierarchicalTimingWheel<>(tickDuration, wheelSize, numberOfLevels, now);
+    }
+
+    /**
+     * Schedules an element at a deadline. If the element is already scheduled, its deadline is replaced.
+     * An element whose deadline is not after the current tick is due with the next call to {@link #advanceTo}.
+     *
+     * @param element the element.
+     * @param deadline the deadline of the element.
+     */
+    void schedule(final T element, final Instant deadline) {
+        final long deadlineTick = toTickRoundedUp(deadline);
+        deadlines.put(element, deadlineTick);
+        place(element, deadlineTick);
+    }
+
+    /**
+     * Cancels an element if it is scheduled.
+     *
+     * @param element the element.
+     */
+    void cancel(final T element) {
+        // buckets are cleaned up lazily when their time has come
+        deadlines.remove(element);
+    }
+
+    /**
+     * Returns the number of scheduled elements.
+     *
+     * @return the number of scheduled elements.
+     */
+    int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Advances the wheel to the given time and returns all elements whose deadline has been reached. The returned
+     * elements are no longer scheduled.
+     *
+     * @param now the current time.
+     * @return the elements which became due.
+     */
+    List<T> advanceTo(final Instant now) {
+        final long targetTick = toTick(now);
+        while (currentTick < targetTick && !deadlines.isEmpty()) {
+            currentTick++;
+            cascade();
+            drain(levels.get(0)[bucketIndex(currentTick, 0)], this::markDue);
+        }
+        if (deadlines.isEmpty()) {
+            // nothing scheduled, so the empty buckets can be skipped
+            currentTick = Math.max(currentTick, targetTick);
+        }
+        final List<T> result = new ArrayList<>(due.size());
+        drain(due, (element, deadlineTick) -> {
+            deadlines.remove(element);
+            result.add(element);
+        });
+        return result;
+    }
+
+    private void cascade() {
+        final int numberOfLevels = levels.size();
+        if (currentTick % ticksPerBucket[numberOfLevels] == 0) {
+            drain(overflow, this::place);
+        }
+        for (int level = numberOfLevels - 1; level > 0; level--) {
+            if (currentTick % ticksPerBucket[level] == 0) {
+                drain(levels.get(level)[bucketIndex(currentTick, level)], this::place);
+            }
+        }
+    }
+
+    private void drain(final Map<T, Long> bucket, final BucketEntryConsumer<T> consumer) {
+        if (!bucket.isEmpty()) {
+            final List<Map.Entry<T, Long>> entries = new ArrayList<>(bucket.entrySet());
+            bucket.clear();
+            for (final Map.Entry<T, Long> entry : entries) {
+                final T element = entry.getKey();
+                final long deadlineTick = entry.getValue();
+                // skip cancelled elements and elements which were re-scheduled to another deadline
+                if (Long.valueOf(deadlineTick).equals(deadlines.get(element))) {
+                    consumer.accept(element, deadlineTick);
+                }
+            }
+        }
+    }
+
+    private void place(final T element, final long deadlineTick) {
+        if (deadlineTick <= currentTick) {
+            markDue(element, deadlineTick);
+        } else {
+            final int numberOfLevels = levels.size();
+            int level = 0;
+            while (level < numberOfLevels &&
+                    deadlineTick / ticksPerBucket[level + 1] != currentTick / ticksPerBucket[level + 1]) {
+                level++;
+            }
+            if (level < numberOfLevels) {
+                levels.get(level)[bucketIndex(deadlineTick, level)].put(element, deadlineTick);
+            } else {
+                overflow.put(element, deadlineTick);
+            }
+        }
+    }
+
+    private void markDue(final T element, final long deadlineTick) {
+        due.put(element, deadlineTick);
+    }
+
+    private int bucketIndex(final long tick, final int level) {
+        return (int) ((tick / ticksPerBucket[level]) % wheelSize);
+    }
+
+    private long toTick(final Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), tickMillis);
+    }
+
+    private long toTickRoundedUp(final Instant instant) {
+        return -Math.floorDiv(-instant.toEpochMilli(), tickMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Map<T, Long>[] newBuckets(final int wheelSize) {
+        final Map<T, Long>[] buckets = new Map[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new HashMap<>();
+        }
+        return buckets;
+    }
+
+    @FunctionalInterface
+    private interface BucketEntryConsumer<T> {
+
+        void accept(T element, long deadlineTick);
+
+    }
+
+}
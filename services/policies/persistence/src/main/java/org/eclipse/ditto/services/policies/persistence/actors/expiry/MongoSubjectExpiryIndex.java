@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors.expiry;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.bson.Document;
+import org.eclipse.ditto.model.policies.PolicyId;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.stream.javadsl.Source;
+
+/**
+ * MongoDB collection holding the earliest subject expiry of each policy with expiring subjects.
+ */
+final class MongoSubjectExpiryIndex {
+
+    /**
+     * Name of the collection of the index.
+     */
+    static final String COLLECTION_NAME = "policies_subject_expiry";
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_EXPIRY = "expiry";
+
+    private final MongoCollection<Document> collection;
+
+    private MongoSubjectExpiryIndex(final MongoCollection<Document> collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Returns the subject expiry index in the given database.
+     *
+     * @param database the database.
+     * @return the index.
+     */
+    static MongoSubjectExpiryIndex of(final MongoDatabase database) {
+        return new MongoSubjectExpiryIndex(database.getCollection(COLLECTION_NAME));
+    }
+
+    /**
+     * Creates the MongoDB index on the expiry field if it does not exist yet.
+     *
+     * @return source of a single element once the index exists.
+     */
+    Source<Done, NotUsed> initialize() {
+        return Source.fromPublisher(collection.createIndex(Indexes.ascending(FIELD_EXPIRY)))
+                .map(indexName -> Done.done());
+    }
+
+    /**
+     * Sets the earliest subject expiry of a policy.
+     *
+     * @param policyId the ID of the policy.
+     * @param earliestExpiry the earliest expiry of the policy's subjects.
+     * @return source of a single element once the expiry is written.
+     */
+    Source<Done, NotUsed> put(final PolicyId policyId, final Instant earliestExpiry) {
+        final Document document = new Document()
+                .append(FIELD_ID, policyId.toString())
+                .append(FIELD_EXPIRY, Date.from(earliestExpiry));
+        return Source.fromPublisher(collection.replaceOne(Filters.eq(FIELD_ID, policyId.toString()), document,
+                new ReplaceOptions().upsert(true)))
+                .map(result -> Done.done());
+    }
+
+    /**
+     * Removes a policy from the index.
+     *
+     * @param policyId the ID of the policy.
+     * @return source of a single element once the policy is removed.
+     */
+    Source<Done, NotUsed> remove(final PolicyId policyId) {
+        return Source.fromPublisher(collection.deleteOne(Filters.eq(FIELD_ID, policyId.toString())))
+                .map(result -> Done.done());
+    }
+
+    /**
+     * Finds all policies whose earliest subject expiry is before the given instant.
+     *
+     * @param instant the upper bound of the expiries to find.
+     * @return source of the IDs of the found policies paired with their earliest subject expiry, ordered by expiry.
+     */
+    Source<Pair<PolicyId, Instant>, NotUsed> findExpiringBefore(final Instant instant) {
+        return Source.fromPublisher(collection.find(Filters.lt(FIELD_EXPIRY, Date.from(instant)))
+                .sort(Sorts.ascending(FIELD_EXPIRY)))
+                .map(document -> Pair.create(PolicyId.of(document.getString(FIELD_ID)),
+                        document.getDate(FIELD_EXPIRY).toInstant()));
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors.expiry;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.policies.common.config.SubjectExpiryIndexConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Cluster singleton which keeps the index of the earliest subject expiry of each policy and wakes up policies shortly
+ * before their subjects expire, so that policies with expiring subjects do not have to stay in memory until then.
+ * <p>
+ * The index is stored in MongoDB. Periodically, all policies whose wake-up time is within the configured load horizon
+ * are loaded into a {@link HierarchicalTimingWheel}. When the wake-up time of a policy is reached, a
+ * {@link WakeUpForSubjectExpiry} is sent to it via the policies shard region. The woken up policy deletes its expired
+ * subjects and reports its new earliest subject expiry with an {@link UpdateSubjectExpiry}, which replaces or removes
+ * its entry in the index. Until then, the entry stays in the index, so that a lost wake-up is sent again after the
+ * next load.
+ * </p>
+ * <p>
+ * Each {@link UpdateSubjectExpiry} is acknowledged by sending it back to the reporting policy once it is written to
+ * the index, so that policies can report again until their report arrived.
+ * </p>
+ */
+public final class SubjectExpiryIndexActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this actor.
+     */
+    public static final String ACTOR_NAME = "subjectExpiryIndex";
+
+    private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+
+    private final DittoMongoClient mongoClient;
+    private final MongoSubjectExpiryIndex index;
+    private final ActorRef policiesShardRegion;
+    private final SubjectExpiryIndexConfig config;
+    private final Materializer materializer;
+    private final HierarchicalTimingWheel<PolicyId> wheel;
+
+    @Nullable private Instant loadedUntil;
+    private boolean loading;
+
+    @SuppressWarnings("unused")
+    private SubjectExpiryIndexActor(final MongoDbConfig mongoDbConfig,
+            final ActorRef policiesShardRegion,
+            final SubjectExpiryIndexConfig config) {
+
+        mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
+        index = MongoSubjectExpiryIndex.of(mongoClient.getDefaultDatabase());
+        this.policiesShardRegion = policiesShardRegion;
+        this.config = config;
+        materializer = Materializer.createMaterializer(getContext());
+        wheel = HierarchicalTimingWheel.newInstance(config.getTickDuration(), config.getWheelSize(),
+                config.getLoadHorizon().plus(config.getLoadInterval()), Instant.now());
+        loadedUntil = null;
+        loading = false;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor.
+     *
+     * @param mongoDbConfig the MongoDB configuration settings.
+     * @param policiesShardRegion the shard region of policies.
+     * @param config the configuration settings of the subject expiry index.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final MongoDbConfig mongoDbConfig,
+            final ActorRef policiesShardRegion,
+            final SubjectExpiryIndexConfig config) {
+
+        return Props.create(SubjectExpiryIndexActor.class, mongoDbConfig, policiesShardRegion, config);
+    }
+
+    @Override
+    public void preStart() {
+        index.initialize()
+                .runWith(Sink.ignore(), materializer)
+                .whenComplete((done, error) -> {
+                    if (null != error) {
+                        log.error(error, "Failed to create index on the subject expiry collection.");
+                    }
+                });
+        getSelf().tell(Control.LOAD, getSelf());
+        getTimers().startTimerWithFixedDelay(Control.LOAD, Control.LOAD, config.getLoadInterval());
+        getTimers().startTimerWithFixedDelay(Control.TICK, Control.TICK, config.getTickDuration());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        mongoClient.close();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(UpdateSubjectExpiry.class, this::updateSubjectExpiry)
+                .matchEquals(Control.LOAD, load -> load())
+                .match(Loaded.class, this::loaded)
+                .match(Status.Failure.class, this::loadFailed)
+                .matchEquals(Control.TICK, tick -> tick())
+                .matchAny(message -> log.debug("Ignoring message: <{}>", message))
+                .build();
+    }
+
+    private void updateSubjectExpiry(final UpdateSubjectExpiry update) {
+        final ActorRef sender = getSender();
+        final PolicyId policyId = update.getPolicyId();
+        final Source<Done, NotUsed> write = update.getEarliestExpiry()
+                .filter(earliestExpiry -> earliestExpiry.minus(config.getWakeUpLeadTime()).isAfter(Instant.now()))
+                .map(earliestExpiry -> {
+                    final Instant wakeUpTime = earliestExpiry.minus(config.getWakeUpLeadTime());
+                    if (null != loadedUntil && wakeUpTime.isBefore(loadedUntil)) {
+                        wheel.schedule(policyId, wakeUpTime);
+                    } else {
+                        // the policy will be scheduled when its wake-up time is within the load horizon
+                        wheel.cancel(policyId);
+                    }
+                    return index.put(policyId, earliestExpiry);
+                })
+                .orElseGet(() -> {
+                    // a due wake-up is not indexed: the reporting policy is awake and deletes its expired subjects
+                    // itself, waking it up right away would make it report the same expiry again
+                    wheel.cancel(policyId);
+                    return index.remove(policyId);
+                });
+        write.runWith(Sink.ignore(), materializer)
+                .whenComplete((done, error) -> {
+                    if (null != error) {
+                        log.warning("Failed to write <{}> to the subject expiry index: {}", update, error);
+                    } else {
+                        sender.tell(update, ActorRef.noSender());
+                    }
+                });
+    }
+
+    private void load() {
+        if (loading) {
+            log.debug("Still loading the subject expiry index, skipping load.");
+        } else {
+            loading = true;
+            final Instant until = Instant.now().plus(config.getLoadHorizon());
+            final CompletionStage<Loaded> loaded =
+                    index.findExpiringBefore(until.plus(config.getWakeUpLeadTime()))
+                            .runWith(Sink.seq(), materializer)
+                            .thenApply(entries -> new Loaded(entries, until));
+            Patterns.pipe(loaded, getContext().dispatcher()).to(getSelf());
+        }
+    }
+
+    private void loaded(final Loaded loaded) {
+        loading = false;
+        // a concurrently removed entry may be scheduled again here; waking up its policy is harmless
+        loaded.entries.forEach(entry ->
+                wheel.schedule(entry.first(), entry.second().minus(config.getWakeUpLeadTime())));
+        loadedUntil = loaded.until;
+        log.debug("Loaded <{}> subject expiries until <{}>, <{}> policies are scheduled for wake-up.",
+                loaded.entries.size(), loaded.until, wheel.size());
+    }
+
+    private void loadFailed(final Status.Failure failure) {
+        loading = false;
+        log.error(failure.cause(), "Failed to load the subject expiry index.");
+    }
+
+    private void tick() {
+        final List<PolicyId> dueForWakeUp = wheel.advanceTo(Instant.now());
+        if (!dueForWakeUp.isEmpty()) {
+            log.info("Waking up <{}> policies for subject expiry.", dueForWakeUp.size());
+            // the entries stay in the index until the woken up policies report their next expiry
+            dueForWakeUp.forEach(policyId ->
+                    policiesShardRegion.tell(WakeUpForSubjectExpiry.of(policyId), getSelf()));
+        }
+    }
+
+    private enum Control {
+        LOAD,
+        TICK
+    }
+
+    private static final class Loaded {
+
+        private final List<Pair<PolicyId, Instant>> entries;
+        private final Instant until;
+
+        private Loaded(final List<Pair<PolicyId, Instant>> entries, final Instant until) {
+            this.entries = entries;
+            this.until = until;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "entries=" + entries.size() +
+                    ", until=" + until +
+                    "]";
+        }
+
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors.expiry;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.utils.cluster.AkkaJacksonCborSerializable;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Message from a policy to the {@link SubjectExpiryIndexActor} reporting the earliest expiry of the policy's subjects
+ * or that the policy has no expiring subjects (anymore).
+ * The index acknowledges the report by sending it back to the policy as soon as it is written.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+        getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+public final class UpdateSubjectExpiry implements AkkaJacksonCborSerializable {
+
+    private final String policyId;
+    @Nullable private final Instant earliestExpiry;
+
+    @JsonCreator
+    private UpdateSubjectExpiry(@JsonProperty("policyId") final String policyId,
+            @JsonProperty("earliestExpiry") @Nullable final Instant earliestExpiry) {
+
+        this.policyId = policyId;
+        this.earliestExpiry = earliestExpiry;
+    }
+
+    /**
+     * Returns a new {@code UpdateSubjectExpiry} message.
+     *
+     * @param policyId the ID of the policy.
+     * @param earliestExpiry the earliest expiry of the policy's subjects or {@code null} if the policy has no
+     * expiring subjects.
+     * @return the message.
+     * @throws NullPointerException if {@code policyId} is {@code null}.
+     */
+    public static UpdateSubjectExpiry of(final PolicyId policyId, @Nullable final Instant earliestExpiry) {
+        return new UpdateSubjectExpiry(checkNotNull(policyId, "policyId").toString(), earliestExpiry);
+    }
+
+    /**
+     * Returns the ID of the policy.
+     *
+     * @return the policy ID.
+     */
+    public PolicyId getPolicyId() {
+        return PolicyId.of(policyId);
+    }
+
+    /**
+     * Returns the earliest expiry of the policy's subjects.
+     *
+     * @return the earliest expiry or an empty Optional if the policy has no expiring subjects.
+     */
+    public Optional<Instant> getEarliestExpiry() {
+        return Optional.ofNullable(earliestExpiry);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final UpdateSubjectExpiry that = (UpdateSubjectExpiry) o;
+        return policyId.equals(that.policyId) && Objects.equals(earliestExpiry, that.earliestExpiry);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(policyId, earliestExpiry);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "policyId=" + policyId +
+                ", earliestExpiry=" + earliestExpiry +
+                "]";
+    }
+
+}
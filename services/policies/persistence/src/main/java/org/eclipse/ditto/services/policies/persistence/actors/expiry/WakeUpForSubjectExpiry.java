@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors.expiry;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.utils.cluster.AkkaJacksonCborSerializable;
+import org.eclipse.ditto.signals.base.WithId;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Message sent by the {@link SubjectExpiryIndexActor} via the policies shard region to wake up a policy shortly before
+ * the earliest expiry of its subjects.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+        getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+public final class WakeUpForSubjectExpiry implements WithId, AkkaJacksonCborSerializable {
+
+    private final String policyId;
+
+    @JsonCreator
+    private WakeUpForSubjectExpiry(@JsonProperty("policyId") final String policyId) {
+        this.policyId = policyId;
+    }
+
+    /**
+     * Returns a new {@code WakeUpForSubjectExpiry} message.
+     *
+     * @param policyId the ID of the policy to wake up.
+     * @return the message.
+     * @throws NullPointerException if {@code policyId} is {@code null}.
+     */
+    public static WakeUpForSubjectExpiry of(final PolicyId policyId) {
+        return new WakeUpForSubjectExpiry(checkNotNull(policyId, "policyId").toString());
+    }
+
+    @Override
+    public PolicyId getEntityId() {
+        return PolicyId.of(policyId);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return policyId.equals(((WakeUpForSubjectExpiry) o).policyId);
+    }
+
+    @Override
+    public int hashCode() {
+        return policyId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "policyId=" + policyId +
+                "]";
+    }
+
+}
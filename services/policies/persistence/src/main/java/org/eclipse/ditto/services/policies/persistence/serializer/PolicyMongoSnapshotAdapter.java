@@ -18,6 +18,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryPayloadConfig;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -34,6 +35,15 @@ public final class PolicyMongoSnapshotAdapter extends AbstractMongoSnapshotAdapt
         super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class));
     }
 
+    /**
+     * Constructs a new {@code PolicyMongoSnapshotAdapter}.
+     *
+     * @param binaryPayloadConfig determines whether snapshots are written with a CBOR encoded binary payload.
+     */
+    public PolicyMongoSnapshotAdapter(final BinaryPayloadConfig binaryPayloadConfig) {
+        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class), binaryPayloadConfig);
+    }
+
     @Override
     protected Policy createJsonifiableFrom(final JsonObject jsonObject) {
         return PoliciesModelFactory.newPolicy(jsonObject);
@@ -43,6 +43,7 @@ import org.eclipse.ditto.model.policies.SubjectId;
 import org.eclipse.ditto.model.policies.SubjectIssuer;
 import org.eclipse.ditto.model.policies.Subjects;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.policies.PolicyUpdate;
 import org.eclipse.ditto.services.policies.common.config.DefaultPolicyConfig;
 import org.eclipse.ditto.services.policies.common.config.PolicyConfig;
 import org.eclipse.ditto.services.policies.persistence.TestConstants;
@@ -54,6 +55,8 @@ import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.japi.pf.PFBuilder;
 import akka.stream.Attributes;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -155,6 +158,10 @@ public abstract class PersistenceActorTestBase {
     private void init(final Config config) {
         actorSystem = ActorSystem.create("AkkaTestSystem", config);
         pubSubMediatorTestProbe = new TestProbe(actorSystem, "mock-pubSub-mediator");
+        // modified policies are published in addition to events; tests expecting them have to stop ignoring them
+        pubSubMediatorTestProbe.ignoreMsg(new PFBuilder<Object, Object>()
+                .match(DistributedPubSubMediator.Publish.class, publish -> publish.msg() instanceof PolicyUpdate)
+                .build());
         pubSubMediator = pubSubMediatorTestProbe.ref();
         dittoHeadersV2 = createDittoHeaders(JsonSchemaVersion.V_2, AUTH_SUBJECT);
     }
@@ -28,6 +28,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
 
@@ -60,9 +61,12 @@ import org.eclipse.ditto.model.policies.Subjects;
 import org.eclipse.ditto.model.policies.assertions.DittoPolicyAssertions;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.PolicyUpdate;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.policies.persistence.TestConstants;
+import org.eclipse.ditto.services.policies.persistence.actors.expiry.UpdateSubjectExpiry;
+import org.eclipse.ditto.services.policies.persistence.actors.expiry.WakeUpForSubjectExpiry;
 import org.eclipse.ditto.services.policies.persistence.serializer.PolicyMongoSnapshotAdapter;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
@@ -91,6 +95,7 @@ import org.eclipse.ditto.signals.commands.policies.modify.ModifyPolicy;
 import org.eclipse.ditto.signals.commands.policies.modify.ModifyPolicyEntry;
 import org.eclipse.ditto.signals.commands.policies.modify.ModifyResource;
 import org.eclipse.ditto.signals.commands.policies.modify.ModifySubject;
+import org.eclipse.ditto.signals.commands.policies.modify.ModifySubjectResponse;
 import org.eclipse.ditto.signals.commands.policies.modify.ModifySubjects;
 import org.eclipse.ditto.signals.commands.policies.query.PolicyQueryCommandResponse;
 import org.eclipse.ditto.signals.commands.policies.query.RetrievePolicy;
@@ -102,10 +107,12 @@ import org.eclipse.ditto.signals.commands.policies.query.RetrieveSubjectResponse
 import org.eclipse.ditto.signals.events.policies.PolicyCreated;
 import org.eclipse.ditto.signals.events.policies.PolicyEntryCreated;
 import org.eclipse.ditto.signals.events.policies.SubjectCreated;
-import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectsDeletedPartially;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.AbstractActor;
 import akka.actor.Actor;
 import akka.actor.ActorRef;
@@ -119,6 +126,7 @@ import akka.cluster.sharding.ClusterSharding;
 import akka.cluster.sharding.ClusterShardingSettings;
 import akka.japi.pf.DeciderBuilder;
 import akka.japi.pf.ReceiveBuilder;
+import akka.testkit.TestActors;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
 import scala.concurrent.duration.FiniteDuration;
@@ -778,7 +786,7 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
                 underTest.tell(retrieveSubject, getRef());
                 expectMsgEquals(expectedResponse);
 
-                // THEN: waiting until the expiry interval should emit a SubjectDeleted event
+                // THEN: waiting until the expiry interval should emit a SubjectsDeletedPartially event
                 final Duration between =
                         Duration.between(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant(),
                                 expectedRoundedExpiryInstant);
@@ -788,9 +796,9 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
                                 FiniteDuration.apply(secondsToWaitForSubjectDeletedEvent, TimeUnit.SECONDS),
                                 DistributedPubSubMediator.Publish.class);
                 final Object subjectDeletedMsg = policySubjectDeleted.msg();
-                assertThat(subjectDeletedMsg).isInstanceOf(SubjectDeleted.class);
-                assertThat(((SubjectDeleted) subjectDeletedMsg).getSubjectId())
-                        .isEqualTo(expectedAdjustedSubjectToAdd.getId());
+                assertThat(subjectDeletedMsg).isInstanceOf(SubjectsDeletedPartially.class);
+                assertThat(((SubjectsDeletedPartially) subjectDeletedMsg).getDeletedSubjectIds().values())
+                        .containsExactly(List.of(expectedAdjustedSubjectToAdd.getId()));
 
                 // THEN: a PolicyTag should be emitted via pub/sub indicating that the policy enforcer caches should be invalidated
                 final DistributedPubSubMediator.Publish policyTagForCacheInvalidation =
@@ -841,30 +849,27 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
             assertThat(policyCreatedPublish.msg()).isInstanceOf(PolicyCreated.class);
             assertThat(((PolicyCreated) policyCreatedPublish.msg()).getRevision()).isEqualTo(1L);
 
-            // THEN: subject1 is deleted after expiry
+            // THEN: subject1 and subject2 are deleted together after expiry
             final long secondsToAdd = 10 - (expiryInstant.getEpochSecond() % 10);
             final Instant expectedRoundedExpiryInstant = expiryInstant.plusSeconds(secondsToAdd);
             final Duration between =
                     Duration.between(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant(),
                             expectedRoundedExpiryInstant);
             final long secondsToWaitForSubjectDeletedEvent = between.getSeconds() + 2;
-            final DistributedPubSubMediator.Publish subject1Deleted =
+            final DistributedPubSubMediator.Publish subjectsDeleted =
                     pubSubMediatorTestProbe.expectMsgClass(
                             FiniteDuration.apply(secondsToWaitForSubjectDeletedEvent, TimeUnit.SECONDS),
                             DistributedPubSubMediator.Publish.class);
-            assertThat(subject1Deleted.msg()).isInstanceOf(SubjectDeleted.class);
-            assertThat(((SubjectDeleted) subject1Deleted.msg()).getSubjectId()).isEqualTo(subject1.getId());
-            assertThat(((SubjectDeleted) subject1Deleted.msg()).getRevision()).isEqualTo(2L);
+            assertThat(subjectsDeleted.msg()).isInstanceOf(SubjectsDeletedPartially.class);
+            final SubjectsDeletedPartially subjectsDeletedPartially = (SubjectsDeletedPartially) subjectsDeleted.msg();
+            assertThat(subjectsDeletedPartially.getDeletedSubjectIds())
+                    .containsOnlyKeys(POLICY_LABEL);
+            assertThat(subjectsDeletedPartially.getDeletedSubjectIds().get(POLICY_LABEL))
+                    .containsExactlyInAnyOrder(subject1.getId(), subject2.getId());
+            assertThat(subjectsDeletedPartially.getRevision()).isEqualTo(2L);
             assertThat(pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Publish.class).msg())
                     .isInstanceOf(PolicyTag.class);
 
-            // THEN: subject2 is deleted immediately
-            final DistributedPubSubMediator.Publish subject2Deleted =
-                    pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Publish.class);
-            assertThat(subject2Deleted.msg()).isInstanceOf(SubjectDeleted.class);
-            assertThat(((SubjectDeleted) subject2Deleted.msg()).getSubjectId()).isEqualTo(subject2.getId());
-            assertThat(((SubjectDeleted) subject2Deleted.msg()).getRevision()).isEqualTo(3L);
-
             // THEN: the policy has only subject3 left.
             underTest.tell(RetrievePolicy.of(policy.getEntityId().orElseThrow(), DittoHeaders.empty()), getRef());
             final RetrievePolicyResponse response = expectMsgClass(RetrievePolicyResponse.class);
@@ -942,6 +947,33 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
         }};
     }
 
+    @Test
+    public void modifiedPolicyIsPublishedForEnforcerCaches() {
+        new TestKit(actorSystem) {{
+            pubSubMediatorTestProbe.ignoreNoMsg();
+            final Policy policy = createPolicyWithRandomId();
+            final ActorRef underTest = createPersistenceActorFor(this, policy);
+
+            // WHEN: a Policy is created
+            underTest.tell(CreatePolicy.of(policy, dittoHeadersV2), getRef());
+            expectMsgClass(CreatePolicyResponse.class);
+
+            // THEN: the PolicyCreated event is published
+            final DistributedPubSubMediator.Publish policyCreatedPublish =
+                    pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Publish.class);
+            assertThat(policyCreatedPublish.msg()).isInstanceOf(PolicyCreated.class);
+
+            // THEN: the created Policy is published with its revision
+            final DistributedPubSubMediator.Publish policyUpdatePublish =
+                    pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Publish.class);
+            assertThat(policyUpdatePublish.topic()).isEqualTo(PolicyUpdate.PUB_SUB_TOPIC_UPDATE_ENFORCERS);
+            assertThat(policyUpdatePublish.msg()).isInstanceOf(PolicyUpdate.class);
+            final PolicyUpdate policyUpdate = (PolicyUpdate) policyUpdatePublish.msg();
+            assertThat((CharSequence) policyUpdate.getPolicyId()).isEqualTo(policy.getEntityId().orElseThrow());
+            assertThat(policyUpdate.getRevision()).isEqualTo(1L);
+        }};
+    }
+
     @Test
     public void recoverPolicyCreated() {
         new TestKit(actorSystem) {
@@ -1161,7 +1193,7 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
                 });
                 assertThat(getLastSender()).isEqualTo(underTestRecovered);
 
-                // THEN: waiting until the expiry interval should emit a SubjectDeleted event
+                // THEN: waiting until the expiry interval should emit a SubjectsDeletedPartially event
                 final Duration between =
                         Duration.between(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant(),
                                 expectedRoundedExpiryInstant);
@@ -1171,9 +1203,9 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
                                 FiniteDuration.apply(secondsToWaitForSubjectDeletedEvent, TimeUnit.SECONDS),
                                 DistributedPubSubMediator.Publish.class);
                 final Object subjectDeletedMsg = policySubjectDeleted.msg();
-                assertThat(subjectDeletedMsg).isInstanceOf(SubjectDeleted.class);
-                assertThat(((SubjectDeleted) subjectDeletedMsg).getSubjectId())
-                        .isEqualTo(expectedAdjustedSubjectToAdd.getId());
+                assertThat(subjectDeletedMsg).isInstanceOf(SubjectsDeletedPartially.class);
+                assertThat(((SubjectsDeletedPartially) subjectDeletedMsg).getDeletedSubjectIds().values())
+                        .containsExactly(List.of(expectedAdjustedSubjectToAdd.getId()));
 
                 // THEN: a PolicyTag should be emitted via pub/sub indicating that the policy enforcer caches should be invalidated
                 final DistributedPubSubMediator.Publish policyTagForCacheInvalidation =
@@ -1274,13 +1306,13 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
                 assertThat(sudoRetrievePolicyResponse.getPolicy().getEntriesSet())
                         .isEqualTo(expectedPolicyWithoutExpiredSubject.getEntriesSet());
 
-                // THEN: waiting until the expiry interval should emit a SubjectDeleted event
+                // THEN: waiting until the expiry interval should emit a SubjectsDeletedPartially event
                 final DistributedPubSubMediator.Publish policySubjectDeleted =
                         pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Publish.class);
                 final Object subjectDeletedMsg = policySubjectDeleted.msg();
-                assertThat(subjectDeletedMsg).isInstanceOf(SubjectDeleted.class);
-                assertThat(((SubjectDeleted) subjectDeletedMsg).getSubjectId())
-                        .isEqualTo(expectedAdjustedSubjectToAdd.getId());
+                assertThat(subjectDeletedMsg).isInstanceOf(SubjectsDeletedPartially.class);
+                assertThat(((SubjectsDeletedPartially) subjectDeletedMsg).getDeletedSubjectIds().values())
+                        .containsExactly(List.of(expectedAdjustedSubjectToAdd.getId()));
 
                 // THEN: a PolicyTag should be emitted via pub/sub indicating that the policy enforcer caches should be invalidated
                 final DistributedPubSubMediator.Publish policyTagForCacheInvalidation =
@@ -1425,6 +1457,132 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
         }};
     }
 
+    @Test
+    public void subjectExpiryIsReportedToTheIndexUnlessWithinWakeUpLeadTime() {
+        tearDownBase();
+        setup(ConfigFactory.parseString("ditto.policies.policy.subject-expiry-index.enabled = true"));
+
+        new TestKit(actorSystem) {
+            {
+                // GIVEN: the subject expiry index proxy forwards all messages to a probe
+                final TestProbe subjectExpiryIndexProbe = TestProbe.apply(actorSystem);
+                startSubjectExpiryIndexProxy(subjectExpiryIndexProbe);
+
+                final Policy policy = createPolicyWithRandomId();
+                final PolicyId policyId = policy.getEntityId().orElseThrow();
+                final ActorRef underTest = createPersistenceActorFor(this, policy);
+
+                // WHEN: a policy is created with a subject expiring after the wake-up lead time of 30s
+                final Instant expiryInstant = Instant.now().truncatedTo(ChronoUnit.SECONDS).plus(Duration.ofHours(1));
+                final Subject expiringSubject =
+                        Subject.newInstance(SubjectId.newInstance(SubjectIssuer.GOOGLE, "expires-in-an-hour"),
+                                SubjectType.GENERATED, SubjectExpiry.newInstance(expiryInstant));
+                underTest.tell(CreatePolicy.of(policy.toBuilder()
+                        .setSubjectFor(POLICY_LABEL, expiringSubject)
+                        .build(), dittoHeadersV2), getRef());
+                expectMsgClass(CreatePolicyResponse.class);
+
+                // THEN: the rounded up expiry is reported to the index
+                final Instant expectedRoundedExpiryInstant =
+                        expiryInstant.plusSeconds(10 - (expiryInstant.getEpochSecond() % 10));
+                expectReportAndAcknowledge(subjectExpiryIndexProbe,
+                        UpdateSubjectExpiry.of(policyId, expectedRoundedExpiryInstant));
+
+                // WHEN: the index wakes up the policy, which it keeps in the index until the policy reports again
+                underTest.tell(WakeUpForSubjectExpiry.of(policyId), getRef());
+
+                // THEN: the unchanged expiry is reported again
+                expectReportAndAcknowledge(subjectExpiryIndexProbe,
+                        UpdateSubjectExpiry.of(policyId, expectedRoundedExpiryInstant));
+
+                // WHEN: a subject expiring within the wake-up lead time is added
+                final Subject soonExpiringSubject =
+                        Subject.newInstance(SubjectId.newInstance(SubjectIssuer.GOOGLE, "expires-soon"),
+                                SubjectType.GENERATED, SubjectExpiry.newInstance(Instant.now().plusSeconds(20)));
+                underTest.tell(ModifySubject.of(policyId, POLICY_LABEL, soonExpiringSubject, dittoHeadersV2),
+                        getRef());
+                expectMsgClass(ModifySubjectResponse.class);
+
+                // THEN: the policy schedules the expiry itself and removes itself from the index
+                expectReportAndAcknowledge(subjectExpiryIndexProbe, UpdateSubjectExpiry.of(policyId, null));
+
+                // WHEN: the policy is woken up for the expiry within the wake-up lead time
+                underTest.tell(WakeUpForSubjectExpiry.of(policyId), getRef());
+
+                // THEN: the policy does not put the expiry back into the index, which would wake it up right away
+                expectReportAndAcknowledge(subjectExpiryIndexProbe, UpdateSubjectExpiry.of(policyId, null));
+
+                // WHEN: the policy is deleted and woken up afterwards
+                underTest.tell(DeletePolicy.of(policyId, dittoHeadersV2), getRef());
+                expectMsgClass(DeletePolicyResponse.class);
+                underTest.tell(WakeUpForSubjectExpiry.of(policyId), getRef());
+
+                // THEN: the deleted policy removes itself from the index
+                expectReportAndAcknowledge(subjectExpiryIndexProbe, UpdateSubjectExpiry.of(policyId, null));
+                subjectExpiryIndexProbe.expectNoMessage();
+            }
+        };
+    }
+
+    @Test
+    public void unacknowledgedSubjectExpiryReportIsRetried() {
+        tearDownBase();
+        setup(ConfigFactory.parseString("ditto.policies.policy.subject-expiry-index.enabled = true"));
+
+        new TestKit(actorSystem) {
+            {
+                // GIVEN: the subject expiry index proxy forwards all messages to a probe
+                final TestProbe subjectExpiryIndexProbe = TestProbe.apply(actorSystem);
+                startSubjectExpiryIndexProxy(subjectExpiryIndexProbe);
+
+                final Policy policy = createPolicyWithRandomId();
+                final PolicyId policyId = policy.getEntityId().orElseThrow();
+                final ActorRef underTest = createPersistenceActorFor(this, policy);
+
+                // WHEN: the expiry reported for a new policy is not acknowledged
+                final Instant expiryInstant = Instant.now().truncatedTo(ChronoUnit.HOURS).plus(Duration.ofHours(2));
+                final Subject expiringSubject =
+                        Subject.newInstance(SubjectId.newInstance(SubjectIssuer.GOOGLE, "expires-in-two-hours"),
+                                SubjectType.GENERATED, SubjectExpiry.newInstance(expiryInstant));
+                underTest.tell(CreatePolicy.of(policy.toBuilder()
+                        .setSubjectFor(POLICY_LABEL, expiringSubject)
+                        .build(), dittoHeadersV2), getRef());
+                expectMsgClass(CreatePolicyResponse.class);
+                final UpdateSubjectExpiry report = UpdateSubjectExpiry.of(policyId, expiryInstant);
+                subjectExpiryIndexProbe.expectMsg(report);
+
+                // THEN: the report is sent again until it is acknowledged
+                subjectExpiryIndexProbe.expectMsg(FiniteDuration.apply(15, TimeUnit.SECONDS), report);
+                subjectExpiryIndexProbe.reply(report);
+                subjectExpiryIndexProbe.expectNoMessage(FiniteDuration.apply(12, TimeUnit.SECONDS));
+            }
+        };
+    }
+
+    private void startSubjectExpiryIndexProxy(final TestProbe subjectExpiryIndexProbe) {
+        final Props rootProps = Props.create(Actor.class, () -> new AbstractActor() {
+
+            @Override
+            public void preStart() {
+                getContext().actorOf(TestActors.forwardActorProps(subjectExpiryIndexProbe.ref()),
+                        "subjectExpiryIndexProxy");
+            }
+
+            @Override
+            public Receive createReceive() {
+                return ReceiveBuilder.create().build();
+            }
+        });
+        actorSystem.actorOf(rootProps, "policiesRoot");
+    }
+
+    private static void expectReportAndAcknowledge(final TestProbe subjectExpiryIndexProbe,
+            final UpdateSubjectExpiry report) {
+
+        subjectExpiryIndexProbe.expectMsg(report);
+        subjectExpiryIndexProbe.reply(report);
+    }
+
     @Test
     public void checkForActivityOfNonexistentPolicy() {
         new TestKit(actorSystem) {
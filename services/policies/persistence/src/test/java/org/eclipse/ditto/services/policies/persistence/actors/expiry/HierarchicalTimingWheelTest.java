@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link HierarchicalTimingWheel}.
+ */
+public final class HierarchicalTimingWheelTest {
+
+    private static final Instant START = Instant.ofEpochSecond(1_000_000L);
+
+    @Test
+    public void elementIsDueAtItsDeadline() {
+        final HierarchicalTimingWheel<String> underTest = newWheel(Duration.ofHours(1L));
+        underTest.schedule("a", START.plusSeconds(10L));
+
+        assertThat(underTest.advanceTo(START.plusSeconds(9L))).isEmpty();
+        assertThat(underTest.advanceTo(START.plusSeconds(10L))).containsExactly("a");
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void deadlineIsRoundedUpToTheNextTick() {
+        final HierarchicalTimingWheel<String> underTest = newWheel(Duration.ofHours(1L));
+        underTest.schedule("a", START.plusMillis(10_001L));
+
+        assertThat(underTest.advanceTo(START.plusMillis(10_999L))).isEmpty();
+        assertThat(underTest.advanceTo(START.plusSeconds(11L))).containsExactly("a");
+    }
+
+    @Test
+    public void elementWithPastDeadlineIsDueImmediately() {
+        final HierarchicalTimingWheel<String> underTest = newWheel(Duration.ofHours(1L));
+        underTest.schedule("a", START.minusSeconds(10L));
+
+        assertThat(underTest.advanceTo(START)).containsExactly("a");
+    }
+
+    @Test
+    public void elementsOnAllLevelsAreDueExactlyAtTheirDeadlines() {
+        final HierarchicalTimingWheel<Integer> underTest = newWheel(Duration.ofHours(1L));
+        final Random random = new Random(42L);
+        final Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            final long deadlineSeconds = 1L + random.nextInt(3_600);
+            underTest.schedule(i, START.plusSeconds(deadlineSeconds));
+            expected.put(i, deadlineSeconds);
+        }
+
+        assertThat(collectDueSeconds(underTest, 3_600L)).isEqualTo(expected);
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void elementsBeyondTheRangeOfTheWheelAreDueAtTheirDeadlines() {
+        final HierarchicalTimingWheel<String> underTest = newWheel(Duration.ofSeconds(10L));
+        underTest.schedule("near", START.plusSeconds(5L));
+        underTest.schedule("far", START.plusSeconds(1_000L));
+
+        assertThat(collectDueSeconds(underTest, 1_500L))
+                .containsOnly(Map.entry("near", 5L), Map.entry("far", 1_000L));
+    }
+
+    @Test
+    public void reschedulingReplacesTheDeadline() {
+        final HierarchicalTimingWheel<String> underTest = newWheel(Duration.ofHours(1L));
+        underTest.schedule("earlier", START.plusSeconds(1_000L));
+        underTest.schedule("earlier", START.plusSeconds(20L));
+        underTest.schedule("later", START.plusSeconds(20L));
+        underTest.schedule("later", START.plusSeconds(1_000L));
+
+        assertThat(collectDueSeconds(underTest, 2_000L))
+                .containsOnly(Map.entry("earlier", 20L), Map.entry("later", 1_000L));
+    }
+
+    @Test
+    public void cancelledElementIsNotDue() {
+        final HierarchicalTimingWheel<String> underTest = newWheel(Duration.ofHours(1L));
+        underTest.schedule("a", START.plusSeconds(100L));
+        underTest.schedule("b", START.plusSeconds(100L));
+        underTest.cancel("a");
+
+        assertThat(underTest.size()).isOne();
+        assertThat(collectDueSeconds(underTest, 200L)).containsOnly(Map.entry("b", 100L));
+    }
+
+    @Test
+    public void advancingWithoutScheduledElementsSkipsTheTime() {
+        final HierarchicalTimingWheel<String> underTest = newWheel(Duration.ofHours(1L));
+        assertThat(underTest.advanceTo(START.plus(Duration.ofDays(365L)))).isEmpty();
+
+        underTest.schedule("a", START.plus(Duration.ofDays(365L)).plusSeconds(3L));
+        assertThat(underTest.advanceTo(START.plus(Duration.ofDays(365L)).plusSeconds(2L))).isEmpty();
+        assertThat(underTest.advanceTo(START.plus(Duration.ofDays(365L)).plusSeconds(3L))).containsExactly("a");
+    }
+
+    private static <T> HierarchicalTimingWheel<T> newWheel(final Duration range) {
+        return HierarchicalTimingWheel.newInstance(Duration.ofSeconds(1L), 4, range, START);
+    }
+
+    private static <T> Map<T, Long> collectDueSeconds(final HierarchicalTimingWheel<T> underTest,
+            final long untilSeconds) {
+
+        final Map<T, Long> dueSeconds = new HashMap<>();
+        for (long second = 1L; second <= untilSeconds; second++) {
+            final long currentSecond = second;
+            underTest.advanceTo(START.plusSeconds(second))
+                    .forEach(element -> assertThat(dueSeconds.put(element, currentSecond)).isNull());
+        }
+        return dueSeconds;
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.policies.common.config.DefaultSubjectExpiryIndexConfig;
+import org.eclipse.ditto.services.policies.common.config.SubjectExpiryIndexConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Tests {@link SubjectExpiryIndexActor} against {@link MongoSubjectExpiryIndex}.
+ */
+public final class SubjectExpiryIndexActorIT {
+
+    @ClassRule
+    public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
+
+    private static final Duration WAKE_UP_LEAD_TIME = Duration.ofSeconds(1);
+    private static final FiniteDuration WAKE_UP_TIMEOUT = FiniteDuration.apply(10, TimeUnit.SECONDS);
+    private static final FiniteDuration NO_WAKE_UP_DURATION = FiniteDuration.apply(3, TimeUnit.SECONDS);
+
+    private static MongoDbConfig mongoDbConfig;
+    private static SubjectExpiryIndexConfig subjectExpiryIndexConfig;
+    private static DittoMongoClient mongoClient;
+
+    private ActorSystem actorSystem;
+    private Materializer materializer;
+    private MongoSubjectExpiryIndex index;
+    private TestProbe policiesShardRegionProbe;
+    private PolicyId policyId;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        final String mongoDbUri = String.format("mongodb://%s:%s/subjectExpiryIndexActorIT",
+                MONGO_RESOURCE.getBindIp(), MONGO_RESOURCE.getPort());
+        mongoDbConfig = DefaultMongoDbConfig.of(ConfigFactory.parseMap(Map.of("mongodb.uri", mongoDbUri)));
+        subjectExpiryIndexConfig = DefaultSubjectExpiryIndexConfig.of(ConfigFactory.parseMap(Map.of(
+                "subject-expiry-index.enabled", true,
+                "subject-expiry-index.wake-up-lead-time", WAKE_UP_LEAD_TIME.toMillis() + "ms",
+                "subject-expiry-index.tick-duration", "100ms",
+                "subject-expiry-index.wheel-size", 16,
+                "subject-expiry-index.load-interval", "1s",
+                "subject-expiry-index.load-horizon", "1m"
+        )));
+        mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        try {
+            if (null != mongoClient) {
+                mongoClient.close();
+            }
+        } catch (final IllegalStateException e) {
+            System.err.println("IllegalStateException during shutdown of MongoDB: " + e.getMessage());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+        index = MongoSubjectExpiryIndex.of(mongoClient.getDefaultDatabase());
+        policiesShardRegionProbe = new TestProbe(actorSystem, "policiesShardRegion");
+        policyId = PolicyId.of("org.eclipse.ditto", "policy-" + UUID.randomUUID());
+    }
+
+    @After
+    public void tearDown() {
+        if (null != mongoClient) {
+            runBlocking(Source.fromPublisher(
+                    mongoClient.getCollection(MongoSubjectExpiryIndex.COLLECTION_NAME).drop()));
+        }
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void reportedExpiryIsUpsertedAndRemovedFromTheIndex() {
+        final ActorRef underTest = startSubjectExpiryIndexActor();
+        final Instant expiry = inOneHour();
+        final Instant laterExpiry = expiry.plus(Duration.ofHours(1));
+
+        underTest.tell(UpdateSubjectExpiry.of(policyId, expiry), ActorRef.noSender());
+        awaitIndexedExpiries(List.of(Pair.create(policyId, expiry)));
+
+        underTest.tell(UpdateSubjectExpiry.of(policyId, laterExpiry), ActorRef.noSender());
+        awaitIndexedExpiries(List.of(Pair.create(policyId, laterExpiry)));
+
+        underTest.tell(UpdateSubjectExpiry.of(policyId, null), ActorRef.noSender());
+        awaitIndexedExpiries(List.of());
+    }
+
+    @Test
+    public void reportIsAcknowledgedOnceWritten() {
+        final ActorRef underTest = startSubjectExpiryIndexActor();
+        final Instant expiry = inOneHour();
+
+        reportAndExpectAcknowledgement(underTest, UpdateSubjectExpiry.of(policyId, expiry));
+
+        assertThat(runBlocking(index.findExpiringBefore(inOneDay()))).containsExactly(Pair.create(policyId, expiry));
+    }
+
+    @Test
+    public void policyIsWokenUpBeforeReportedExpiry() {
+        final ActorRef underTest = startSubjectExpiryIndexActor();
+        final Instant expiry = now().plus(WAKE_UP_LEAD_TIME).plusSeconds(2);
+
+        underTest.tell(UpdateSubjectExpiry.of(policyId, expiry), ActorRef.noSender());
+
+        policiesShardRegionProbe.expectMsg(WAKE_UP_TIMEOUT, WakeUpForSubjectExpiry.of(policyId));
+        assertThat(now()).isAfterOrEqualTo(expiry.minus(WAKE_UP_LEAD_TIME)).isBefore(expiry);
+
+        // the entry is kept until the woken up policy reports its next expiry
+        assertThat(runBlocking(index.findExpiringBefore(inOneDay()))).containsExactly(Pair.create(policyId, expiry));
+        reportAndExpectAcknowledgement(underTest, UpdateSubjectExpiry.of(policyId, null));
+        awaitIndexedExpiries(List.of());
+    }
+
+    @Test
+    public void indexedExpiryIsLoadedOnStart() {
+        final Instant expiry = now().plus(WAKE_UP_LEAD_TIME).plusSeconds(2);
+        runBlocking(index.put(policyId, expiry));
+
+        startSubjectExpiryIndexActor();
+
+        policiesShardRegionProbe.expectMsg(WAKE_UP_TIMEOUT, WakeUpForSubjectExpiry.of(policyId));
+    }
+
+    @Test
+    public void policyIsWokenUpAgainUntilItReports() {
+        final ActorRef underTest = startSubjectExpiryIndexActor();
+        underTest.tell(UpdateSubjectExpiry.of(policyId, now().plus(WAKE_UP_LEAD_TIME).plusSeconds(2)),
+                ActorRef.noSender());
+        policiesShardRegionProbe.expectMsg(WAKE_UP_TIMEOUT, WakeUpForSubjectExpiry.of(policyId));
+
+        // the wake-up is lost: the policy does not report, so the entry is loaded and the policy woken up again
+        policiesShardRegionProbe.expectMsg(WAKE_UP_TIMEOUT, WakeUpForSubjectExpiry.of(policyId));
+
+        reportAndExpectAcknowledgement(underTest, UpdateSubjectExpiry.of(policyId, null));
+        awaitIndexedExpiries(List.of());
+    }
+
+    @Test
+    public void expiryWithinWakeUpLeadTimeIsNotIndexed() {
+        final ActorRef underTest = startSubjectExpiryIndexActor();
+        final Instant expiry = inOneHour();
+        underTest.tell(UpdateSubjectExpiry.of(policyId, expiry), ActorRef.noSender());
+        awaitIndexedExpiries(List.of(Pair.create(policyId, expiry)));
+
+        underTest.tell(UpdateSubjectExpiry.of(policyId, now().plus(WAKE_UP_LEAD_TIME.dividedBy(2))),
+                ActorRef.noSender());
+
+        awaitIndexedExpiries(List.of());
+        policiesShardRegionProbe.expectNoMessage(NO_WAKE_UP_DURATION);
+    }
+
+    @Test
+    public void wokenUpPolicyIsWokenUpAgainForItsNextReportedExpiry() {
+        final ActorRef underTest = startSubjectExpiryIndexActor();
+        underTest.tell(UpdateSubjectExpiry.of(policyId, now().plus(WAKE_UP_LEAD_TIME).plusSeconds(2)),
+                ActorRef.noSender());
+        policiesShardRegionProbe.expectMsg(WAKE_UP_TIMEOUT, WakeUpForSubjectExpiry.of(policyId));
+
+        // the woken up policy reports its next expiry after deleting its expired subjects
+        final Instant nextExpiry = now().plus(WAKE_UP_LEAD_TIME).plusSeconds(2);
+        reportAndExpectAcknowledgement(underTest, UpdateSubjectExpiry.of(policyId, nextExpiry));
+        awaitIndexedExpiries(List.of(Pair.create(policyId, nextExpiry)));
+
+        policiesShardRegionProbe.expectMsg(WAKE_UP_TIMEOUT, WakeUpForSubjectExpiry.of(policyId));
+        assertThat(now()).isAfterOrEqualTo(nextExpiry.minus(WAKE_UP_LEAD_TIME));
+    }
+
+    private ActorRef startSubjectExpiryIndexActor() {
+        return actorSystem.actorOf(SubjectExpiryIndexActor.props(mongoDbConfig, policiesShardRegionProbe.ref(),
+                subjectExpiryIndexConfig), SubjectExpiryIndexActor.ACTOR_NAME);
+    }
+
+    private void reportAndExpectAcknowledgement(final ActorRef underTest, final UpdateSubjectExpiry report) {
+        // a separate probe as policy, as wake-ups may be repeated until the policy reports
+        final TestProbe policyProbe = new TestProbe(actorSystem, "policy");
+        underTest.tell(report, policyProbe.ref());
+        policyProbe.expectMsg(report);
+    }
+
+    private void awaitIndexedExpiries(final List<Pair<PolicyId, Instant>> expected) {
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(runBlocking(index.findExpiringBefore(inOneDay()))).isEqualTo(expected));
+    }
+
+    private <T> List<T> runBlocking(final Source<T, ?> source) {
+        return source.runWith(Sink.seq(), materializer).toCompletableFuture().join();
+    }
+
+    private static Instant now() {
+        // MongoDB stores dates with millisecond precision
+        return Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private static Instant inOneHour() {
+        return now().truncatedTo(ChronoUnit.SECONDS).plus(Duration.ofHours(1));
+    }
+
+    private static Instant inOneDay() {
+        return now().plus(Duration.ofDays(1));
+    }
+
+}
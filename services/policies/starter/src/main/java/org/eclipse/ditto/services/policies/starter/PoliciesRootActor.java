@@ -18,10 +18,13 @@ import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.policies.common.config.PoliciesConfig;
+import org.eclipse.ditto.services.policies.common.config.SubjectExpiryIndexConfig;
 import org.eclipse.ditto.services.policies.persistence.actors.PoliciesPersistenceStreamingActorCreator;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicyPersistenceOperationsActor;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicySupervisorActor;
+import org.eclipse.ditto.services.policies.persistence.actors.expiry.SubjectExpiryIndexActor;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
@@ -81,6 +84,12 @@ public final class PoliciesRootActor extends DittoRootActor {
                 .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
                         ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
 
+        final SubjectExpiryIndexConfig subjectExpiryIndexConfig =
+                policiesConfig.getPolicyConfig().getSubjectExpiryIndexConfig();
+        if (subjectExpiryIndexConfig.isEnabled()) {
+            startSubjectExpiryIndex(policiesConfig, policiesShardRegion, subjectExpiryIndexConfig);
+        }
+
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), policiesConfig.getPersistenceOperationsConfig()));
@@ -122,6 +131,18 @@ public final class PoliciesRootActor extends DittoRootActor {
         return Props.create(PoliciesRootActor.class, policiesConfig, snapshotAdapter, pubSubMediator);
     }
 
+    private void startSubjectExpiryIndex(final PoliciesConfig policiesConfig, final ActorRef policiesShardRegion,
+            final SubjectExpiryIndexConfig subjectExpiryIndexConfig) {
+
+        final Props subjectExpiryIndexProps = SubjectExpiryIndexActor.props(policiesConfig.getMongoDbConfig(),
+                policiesShardRegion, subjectExpiryIndexConfig);
+        final ActorRef subjectExpiryIndex = ClusterUtil.startSingleton(getContext(), CLUSTER_ROLE,
+                SubjectExpiryIndexActor.ACTOR_NAME, subjectExpiryIndexProps);
+        // policies report their subject expiries to the proxy at
+        // PoliciesMessagingConstants.SUBJECT_EXPIRY_INDEX_PROXY_ACTOR_PATH
+        ClusterUtil.startSingletonProxy(getContext(), CLUSTER_ROLE, subjectExpiryIndex);
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -25,6 +25,8 @@ import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.health.config.DefaultHealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.metrics.config.MetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryPayloadConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryPayloadConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultTagsConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
@@ -47,6 +49,7 @@ public final class DittoThingsConfig implements ThingsConfig {
     private final HealthCheckConfig healthCheckConfig;
     private final TagsConfig tagsConfig;
     private final ThingConfig thingConfig;
+    private final BinaryPayloadConfig binaryPayloadConfig;
 
     private DittoThingsConfig(final ScopedConfig dittoScopedConfig) {
         serviceSpecificConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -56,6 +59,7 @@ public final class DittoThingsConfig implements ThingsConfig {
         healthCheckConfig = DefaultHealthCheckConfig.of(dittoScopedConfig);
         tagsConfig = DefaultTagsConfig.of(serviceSpecificConfig);
         thingConfig = DefaultThingConfig.of(serviceSpecificConfig);
+        binaryPayloadConfig = DefaultBinaryPayloadConfig.of(dittoScopedConfig);
     }
 
     /**
@@ -120,6 +124,11 @@ public final class DittoThingsConfig implements ThingsConfig {
         return thingConfig;
     }
 
+    @Override
+    public BinaryPayloadConfig getBinaryPayloadConfig() {
+        return binaryPayloadConfig;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -135,13 +144,14 @@ public final class DittoThingsConfig implements ThingsConfig {
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(tagsConfig, that.tagsConfig) &&
-                Objects.equals(thingConfig, that.thingConfig);
+                Objects.equals(thingConfig, that.thingConfig) &&
+                Objects.equals(binaryPayloadConfig, that.binaryPayloadConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(serviceSpecificConfig, logIncomingMessages, persistenceOperationsConfig, mongoDbConfig,
-                healthCheckConfig, tagsConfig, thingConfig);
+                healthCheckConfig, tagsConfig, thingConfig, binaryPayloadConfig);
     }
 
     @Override
@@ -154,6 +164,7 @@ public final class DittoThingsConfig implements ThingsConfig {
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", tagsConfig=" + tagsConfig +
                 ", thingConfig=" + thingConfig +
+                ", binaryPayloadConfig=" + binaryPayloadConfig +
                 "]";
     }
 
@@ -35,7 +35,9 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonCbor;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryPayloadConfig;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
 import org.eclipse.ditto.signals.events.things.AclEntryCreated;
@@ -60,7 +62,8 @@ import akka.persistence.journal.EventSeq;
 
 /**
  * EventAdapter for {@link Event}s persisted into akka-persistence event-journal. Converts Event to MongoDB
- * BSON objects and vice versa.
+ * BSON objects and vice versa. Events are written with a CBOR encoded binary payload if this is enabled in the config
+ * of the actor system.
  */
 public final class ThingMongoEventAdapter implements EventAdapter {
 
@@ -91,10 +94,13 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     private final Map<String, Function<JsonObject, JsonObject>> migrationMappings;
     private final ExtendedActorSystem system;
     private final GlobalEventRegistry eventRegistry;
+    private final boolean binaryPayload;
 
     public ThingMongoEventAdapter(@Nullable final ExtendedActorSystem system) {
         this.system = system;
         eventRegistry = GlobalEventRegistry.getInstance();
+        binaryPayload = null != system &&
+                DefaultBinaryPayloadConfig.fromRootConfig(system.settings().config()).isEnabled();
 
         migrationMappings = new HashMap<>();
         migrationMappings.put(FeatureModified.NAME,
@@ -144,8 +150,9 @@ public final class ThingMongoEventAdapter implements EventAdapter {
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial())) //
                             // remove the policy entries from thing event payload
                             .remove(POLICY_IN_THING_EVENT_PAYLOAD);
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return binaryPayload
+                    ? DittoBsonCbor.getInstance().parse(jsonObject)
+                    : DittoBsonJson.getInstance().parse(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -154,7 +161,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryToCreateEventFrom(DittoBsonCbor.getInstance().serialize((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
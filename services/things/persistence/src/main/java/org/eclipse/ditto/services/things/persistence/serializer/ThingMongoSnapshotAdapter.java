@@ -24,6 +24,7 @@ import org.eclipse.ditto.services.models.things.DittoThingSnapshotTaken;
 import org.eclipse.ditto.services.models.things.ThingSnapshotTaken;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryPayloadConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +52,17 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
         this.pubSubMediator = pubSubMediator;
     }
 
+    /**
+     * Constructs a new {@code ThingMongoSnapshotAdapter}.
+     *
+     * @param pubSubMediator Akka pubsub mediator with which to publish snapshot events.
+     * @param binaryPayloadConfig determines whether snapshots are written with a CBOR encoded binary payload.
+     */
+    public ThingMongoSnapshotAdapter(final ActorRef pubSubMediator, final BinaryPayloadConfig binaryPayloadConfig) {
+        super(LOGGER, binaryPayloadConfig);
+        this.pubSubMediator = pubSubMediator;
+    }
+
     @Override
     protected Thing createJsonifiableFrom(final JsonObject jsonObject) {
         return ThingsModelFactory.newThing(jsonObject);
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import akka.persistence.journal.japi.AsyncWriteJournal;
+import scala.concurrent.Future;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.jdk.javaapi.FutureConverters;
+
+/**
+ * In-memory journal which completes writes with a delay and rejects every atomic write containing an event whose
+ * journal representation contains {@link #REJECTION_MARKER}.
+ */
+final class RejectingInMemoryJournal extends AsyncWriteJournal {
+
+    /**
+     * Events containing this string are rejected together with all other events of their atomic write.
+     */
+    static final String REJECTION_MARKER = "reject-me";
+
+    /**
+     * How long each write takes. Commands arriving meanwhile are written in the next batch.
+     */
+    static final long WRITE_DELAY_MILLIS = 300L;
+
+    private static final Map<String, List<PersistentRepr>> JOURNAL = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the sequence numbers of the events written for a persistence ID.
+     *
+     * @param persistenceId the persistence ID.
+     * @return the sequence numbers.
+     */
+    static List<Long> getWrittenSequenceNumbers(final String persistenceId) {
+        final List<PersistentRepr> events = getEvents(persistenceId);
+        synchronized (events) {
+            return events.stream().map(PersistentRepr::sequenceNr).collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+
+        final List<PersistentRepr> events = getEvents(persistenceId);
+        synchronized (events) {
+            events.stream()
+                    .filter(event -> event.sequenceNr() >= fromSequenceNr && event.sequenceNr() <= toSequenceNr)
+                    .limit(max)
+                    .forEach(replayCallback);
+        }
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        final List<PersistentRepr> events = getEvents(persistenceId);
+        synchronized (events) {
+            return Future.successful(events.stream().mapToLong(PersistentRepr::sequenceNr).max().orElse(0L));
+        }
+    }
+
+    @Override
+    public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+        final List<Optional<Exception>> results = new ArrayList<>();
+        for (final AtomicWrite atomicWrite : messages) {
+            final List<PersistentRepr> payload = CollectionConverters.asJava(atomicWrite.payload());
+            if (payload.stream().anyMatch(event -> String.valueOf(event.payload()).contains(REJECTION_MARKER))) {
+                results.add(Optional.of(new IllegalArgumentException("Rejected events of " +
+                        atomicWrite.persistenceId())));
+            } else {
+                final List<PersistentRepr> events = getEvents(atomicWrite.persistenceId());
+                synchronized (events) {
+                    events.addAll(payload);
+                }
+                results.add(Optional.empty());
+            }
+        }
+        final CompletableFuture<Iterable<Optional<Exception>>> delayedResults = CompletableFuture.supplyAsync(
+                () -> results, CompletableFuture.delayedExecutor(WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+        return FutureConverters.asScala(delayedResults);
+    }
+
+    @Override
+    public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+        final List<PersistentRepr> events = getEvents(persistenceId);
+        synchronized (events) {
+            events.removeIf(event -> event.sequenceNr() <= toSequenceNr);
+        }
+        return Future.successful(null);
+    }
+
+    private static List<PersistentRepr> getEvents(final String persistenceId) {
+        return JOURNAL.computeIfAbsent(persistenceId, id -> new ArrayList<>());
+    }
+
+}
@@ -12,24 +12,36 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 
+import org.awaitility.Awaitility;
+import org.bson.BsonDocument;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.common.HttpStatus;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
 import org.eclipse.ditto.services.utils.test.Retry;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.eclipse.ditto.signals.commands.things.assertions.ThingCommandAssertions;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
 import org.eclipse.ditto.signals.commands.things.modify.DeleteThing;
 import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
@@ -42,11 +54,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValueFactory;
 
 import akka.actor.ActorRef;
 import akka.actor.PoisonPill;
+import akka.persistence.DeleteMessagesSuccess;
+import akka.persistence.DeleteSnapshotsSuccess;
+import akka.persistence.JournalProtocol;
+import akka.persistence.Persistence;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotProtocol;
+import akka.persistence.SnapshotSelectionCriteria;
+import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
+import scala.Option;
 
 /**
  * Unit test for the snapshotting functionality of {@link ThingPersistenceActor}.
@@ -55,6 +77,18 @@ public final class ThingPersistenceActorSnapshottingTest extends PersistenceActo
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ThingPersistenceActorSnapshottingTest.class);
 
+    private static final String JOURNAL_PLUGIN_ID = "akka-contrib-mongodb-persistence-things-journal";
+    private static final String SNAPSHOT_PLUGIN_ID = "akka-contrib-mongodb-persistence-things-snapshots";
+    private static final String SNAPSHOT_DELTA_RATIO = "ditto.things.thing.snapshot.delta-ratio";
+
+    /**
+     * With the default test snapshot threshold, the full snapshot is taken at revision 2 and the delta snapshot based
+     * on it at revision 4; revision 5 is only in the journal.
+     */
+    private static final long BASE_SNAPSHOT_REVISION = 2L;
+    private static final long DELTA_SNAPSHOT_REVISION = 4L;
+    private static final long DELTA_TEST_REVISION = 5L;
+
 
     private static final JsonFieldSelector FIELD_SELECTOR = JsonFactory.newFieldSelector(Thing.JsonFields.ATTRIBUTES,
             Thing.JsonFields.FEATURES, Thing.JsonFields.ID, Thing.JsonFields.MODIFIED, Thing.JsonFields.REVISION,
@@ -223,6 +257,221 @@ public final class ThingPersistenceActorSnapshottingTest extends PersistenceActo
         };
     }
 
+    @Test
+    public void deltaSnapshotIsRecoveredOnItsBase() {
+        setup(createDeltaSnapshotTestConfig());
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                ActorRef underTest = createPersistenceActorFor(thingId);
+                final Thing expectedThing = modifyUntilDeltaSnapshot(this, underTest, thing);
+
+                underTest = restart(this, underTest, thingId);
+
+                // the event after the delta snapshot is applied once the base snapshot is loaded; the retrieval
+                // sent meanwhile is stashed
+                underTest.tell(retrieveThing(thingId), getRef());
+                assertThingInResponse(expectMsgClass(RetrieveThingResponse.class).getThing(), expectedThing,
+                        DELTA_TEST_REVISION);
+            }
+        };
+    }
+
+    @Test
+    public void commandsReceivedWhileBaseSnapshotIsLoadedAreProcessedAfterwards() {
+        setup(createDeltaSnapshotTestConfig());
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                ActorRef underTest = createPersistenceActorFor(thingId);
+                final Thing modifiedThing = modifyUntilDeltaSnapshot(this, underTest, thing);
+
+                underTest = restart(this, underTest, thingId);
+
+                // sent right after the restart, i.e. while the base of the delta snapshot is still being loaded
+                final JsonPointer attributeKey = JsonPointer.of("afterRecovery");
+                final JsonValue attributeValue = JsonValue.of(true);
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, attributeValue, dittoHeadersV2), getRef());
+                underTest.tell(retrieveThing(thingId), getRef());
+
+                expectMsgClass(ModifyAttributeResponse.class);
+                assertThingInResponse(expectMsgClass(RetrieveThingResponse.class).getThing(),
+                        modifiedThing.setAttribute(attributeKey, attributeValue), DELTA_TEST_REVISION + 1);
+            }
+        };
+    }
+
+    @Test
+    public void missingBaseSnapshotFallsBackToReplayingAllEvents() {
+        setup(createDeltaSnapshotTestConfig());
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                ActorRef underTest = createPersistenceActorFor(thingId);
+                final Thing expectedThing = modifyUntilDeltaSnapshot(this, underTest, thing);
+
+                getSnapshotStore().tell(new SnapshotProtocol.DeleteSnapshots(toPersistenceId(thingId),
+                        SnapshotSelectionCriteria.create(BASE_SNAPSHOT_REVISION, Long.MAX_VALUE,
+                                BASE_SNAPSHOT_REVISION, 0L)), getRef());
+                expectMsgClass(DeleteSnapshotsSuccess.class);
+
+                underTest = restart(this, underTest, thingId);
+
+                underTest.tell(retrieveThing(thingId), getRef());
+                assertThingInResponse(expectMsgClass(RetrieveThingResponse.class).getThing(), expectedThing,
+                        DELTA_TEST_REVISION);
+
+                // a full snapshot is taken so that the next recovery does not need to replay all events again
+                Awaitility.await().untilAsserted(() -> {
+                    final SelectedSnapshot latestSnapshot = loadSnapshot(thingId, 0L, Long.MAX_VALUE);
+                    assertThat(latestSnapshot.metadata().sequenceNr()).isEqualTo(DELTA_TEST_REVISION);
+                    assertThat(isDeltaSnapshot(latestSnapshot)).isFalse();
+                });
+            }
+        };
+    }
+
+    @Test
+    public void missingBaseSnapshotAndDeletedEventsStopRecoveryWithoutTakingSnapshot() {
+        setup(createDeltaSnapshotTestConfig());
+
+        disableLogging();
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                ActorRef underTest = createPersistenceActorFor(thingId);
+                modifyUntilDeltaSnapshot(this, underTest, thing);
+
+                getSnapshotStore().tell(new SnapshotProtocol.DeleteSnapshots(toPersistenceId(thingId),
+                        SnapshotSelectionCriteria.create(BASE_SNAPSHOT_REVISION, Long.MAX_VALUE,
+                                BASE_SNAPSHOT_REVISION, 0L)), getRef());
+                expectMsgClass(DeleteSnapshotsSuccess.class);
+                getJournal().tell(new JournalProtocol.DeleteMessagesTo(toPersistenceId(thingId),
+                        BASE_SNAPSHOT_REVISION, getRef()), getRef());
+                expectMsgClass(DeleteMessagesSuccess.class);
+
+                underTest = restart(this, underTest, thingId);
+                watch(underTest);
+                underTest.tell(retrieveThing(thingId), getRef());
+                expectTerminated(underTest);
+
+                // the events after the deleted base snapshot must not be persisted as full snapshot
+                final SelectedSnapshot latestSnapshot = loadSnapshot(thingId, 0L, Long.MAX_VALUE);
+                assertThat(latestSnapshot.metadata().sequenceNr()).isEqualTo(DELTA_SNAPSHOT_REVISION);
+                assertThat(isDeltaSnapshot(latestSnapshot)).isTrue();
+            }
+        };
+    }
+
+    @Test
+    public void cleanupKeepsBaseSnapshotOfLatestDeltaSnapshot() {
+        setup(createDeltaSnapshotTestConfig());
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                ActorRef underTest = createPersistenceActorFor(thingId);
+                final Thing expectedThing = modifyUntilDeltaSnapshot(this, underTest, thing);
+
+                underTest.tell(CleanupPersistence.of(thingId, DittoHeaders.empty()), getRef());
+                expectMsgEquals(CleanupPersistenceResponse.success(
+                        DefaultEntityId.of(toPersistenceId(thingId)), DittoHeaders.empty()));
+
+                final SelectedSnapshot baseSnapshot =
+                        loadSnapshot(thingId, BASE_SNAPSHOT_REVISION, BASE_SNAPSHOT_REVISION);
+                assertThat(isDeltaSnapshot(baseSnapshot)).isFalse();
+
+                underTest = restart(this, underTest, thingId);
+                underTest.tell(retrieveThing(thingId), getRef());
+                assertThingInResponse(expectMsgClass(RetrieveThingResponse.class).getThing(), expectedThing,
+                        DELTA_TEST_REVISION);
+            }
+        };
+    }
+
+    private Config createDeltaSnapshotTestConfig() {
+        return createNewDefaultTestConfig().withValue(SNAPSHOT_DELTA_RATIO, ConfigValueFactory.fromAnyRef(1.0));
+    }
+
+    /**
+     * Creates the thing and modifies it so that there is a full snapshot at revision {@value BASE_SNAPSHOT_REVISION},
+     * a delta snapshot based on it at revision {@value DELTA_SNAPSHOT_REVISION} and one event after the delta
+     * snapshot.
+     */
+    private Thing modifyUntilDeltaSnapshot(final TestKit testKit, final ActorRef underTest, final Thing thing) {
+        final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+        underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), testKit.getRef());
+        testKit.expectMsgClass(CreateThingResponse.class);
+
+        Thing expectedThing = thing;
+        for (long revision = 2L; revision <= DELTA_TEST_REVISION; revision++) {
+            final JsonPointer attributeKey = JsonPointer.of("delta" + revision);
+            final JsonValue attributeValue = JsonValue.of(revision);
+            underTest.tell(ModifyAttribute.of(thingId, attributeKey, attributeValue, dittoHeadersV2),
+                    testKit.getRef());
+            testKit.expectMsgClass(ModifyAttributeResponse.class);
+            expectedThing = expectedThing.setAttribute(attributeKey, attributeValue);
+
+            if (BASE_SNAPSHOT_REVISION == revision) {
+                // delta snapshots are only taken against confirmed full snapshots
+                Awaitility.await().untilAsserted(() -> assertThat(isDeltaSnapshot(
+                        loadSnapshot(thingId, BASE_SNAPSHOT_REVISION, BASE_SNAPSHOT_REVISION))).isFalse());
+            }
+        }
+        Awaitility.await().untilAsserted(() -> assertThat(isDeltaSnapshot(
+                loadSnapshot(thingId, DELTA_SNAPSHOT_REVISION, DELTA_SNAPSHOT_REVISION))).isTrue());
+        return expectedThing;
+    }
+
+    private ActorRef restart(final TestKit testKit, final ActorRef underTest, final ThingId thingId) {
+        testKit.watch(underTest);
+        underTest.tell(PoisonPill.getInstance(), testKit.getRef());
+        testKit.expectTerminated(underTest);
+        return Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+    }
+
+    private RetrieveThing retrieveThing(final ThingId thingId) {
+        return RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                .withSelectedFields(FIELD_SELECTOR)
+                .build();
+    }
+
+    private SelectedSnapshot loadSnapshot(final ThingId thingId, final long minSequenceNumber,
+            final long maxSequenceNumber) {
+        final TestProbe probe = TestProbe.apply(actorSystem);
+        getSnapshotStore().tell(new SnapshotProtocol.LoadSnapshot(toPersistenceId(thingId),
+                SnapshotSelectionCriteria.create(maxSequenceNumber, Long.MAX_VALUE, minSequenceNumber, 0L),
+                maxSequenceNumber), probe.ref());
+        final Option<SelectedSnapshot> snapshot =
+                probe.expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class).snapshot();
+        assertThat(snapshot.isDefined()).describedAs("snapshot of <%s> exists", thingId).isTrue();
+        return snapshot.get();
+    }
+
+    private ActorRef getJournal() {
+        return Persistence.get(actorSystem).journalFor(JOURNAL_PLUGIN_ID, ConfigFactory.empty());
+    }
+
+    private ActorRef getSnapshotStore() {
+        return Persistence.get(actorSystem).snapshotStoreFor(SNAPSHOT_PLUGIN_ID, ConfigFactory.empty());
+    }
+
+    private static boolean isDeltaSnapshot(final SelectedSnapshot snapshot) {
+        return ((BsonDocument) snapshot.snapshot()).containsKey(AbstractMongoSnapshotAdapter.DELTA_BASE_FIELD);
+    }
+
+    private static String toPersistenceId(final ThingId thingId) {
+        return ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId;
+    }
+
     @Test
     public void actorCannotBeStartedWithNegativeSnapshotThreshold() {
         final Config customConfig = createNewDefaultTestConfig().withValue(SNAPSHOT_THRESHOLD,
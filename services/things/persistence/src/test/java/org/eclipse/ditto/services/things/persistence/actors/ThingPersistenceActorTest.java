@@ -27,6 +27,7 @@ import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveFeaturesResponse;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveThingResponse;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
@@ -41,6 +42,8 @@ import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseOptions;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
@@ -89,6 +92,7 @@ import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAcl;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAclEntry;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributes;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatures;
@@ -1127,6 +1131,167 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void ensureSequenceNumberCorrectnessWithGroupCommit() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit { enabled = true, max-batch-size = 3 }"));
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // send modifications without waiting for responses so that they are written in batches
+                final JsonPointer attributeKey = JsonPointer.of("attrKey");
+                final int modifications = 10;
+                for (int i = 0; i < modifications; ++i) {
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                }
+                for (int i = 0; i < modifications; ++i) {
+                    expectMsgEquals(modifyAttributeResponse(thingId, attributeKey, JsonValue.of(i), dittoHeadersV2,
+                            false));
+                }
+
+                // restart actor to verify that all events were written to the journal
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+                final JsonFieldSelector versionFieldSelector =
+                        JsonFactory.newFieldSelector(Thing.JsonFields.REVISION.toString(), JSON_PARSE_OPTIONS);
+                final Thing thingExpected = ThingsModelFactory.newThingBuilder(thing)
+                        .setAttribute(attributeKey, JsonValue.of(modifications - 1))
+                        .setRevision(1L + modifications)
+                        .build();
+                final RetrieveThing retrieveThing = RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(versionFieldSelector)
+                        .build();
+
+                Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> {
+                    underTestAfterRestart.tell(retrieveThing, getRef());
+                    expectMsgEquals(retrieveThingResponse(thingExpected, thingExpected.toJson(versionFieldSelector),
+                            dittoHeadersV2));
+                });
+            }
+        };
+    }
+
+    @Test
+    public void rejectedGroupCommitRespondsWithErrorsAndRollsBackState() {
+        setupGroupCommitWithRejectingJournal();
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the second and third modification are written in one batch which is rejected
+                final JsonPointer attributeKey = JsonPointer.of("attrKey");
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(1), dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey,
+                        JsonValue.of(RejectingInMemoryJournal.REJECTION_MARKER), dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(3), dittoHeadersV2), getRef());
+
+                expectMsgEquals(modifyAttributeResponse(thingId, attributeKey, JsonValue.of(1), dittoHeadersV2,
+                        false));
+                expectMsgClass(ThingUnavailableException.class);
+                expectMsgClass(ThingUnavailableException.class);
+
+                underTest.tell(RetrieveAttribute.of(thingId, attributeKey, dittoHeadersV2), getRef());
+                assertThat(expectMsgClass(RetrieveAttributeResponse.class).getAttributeValue())
+                        .isEqualTo(JsonValue.of(1));
+
+                // the actor keeps working and its journal stays consistent
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(4), dittoHeadersV2), getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+                underTestAfterRestart.tell(RetrieveAttribute.of(thingId, attributeKey, dittoHeadersV2), getRef());
+                assertThat(expectMsgClass(RetrieveAttributeResponse.class).getAttributeValue())
+                        .isEqualTo(JsonValue.of(4));
+            }
+        };
+    }
+
+    @Test
+    public void groupCommitAcknowledgesEachCommandAfterItsBatchIsPersisted() {
+        setupGroupCommitWithRejectingJournal();
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+                final String persistenceId = ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId;
+
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                final JsonPointer attributeKey = JsonPointer.of("attrKey");
+                final int modifications = 5;
+                for (int i = 0; i < modifications; ++i) {
+                    final DittoHeaders headers = dittoHeadersV2.toBuilder()
+                            .correlationId("modification-" + i)
+                            .responseRequired(false)
+                            .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                            .build();
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), headers), getRef());
+                }
+
+                expectNoMessage(Duration.ofMillis(RejectingInMemoryJournal.WRITE_DELAY_MILLIS / 2));
+                for (int i = 0; i < modifications; ++i) {
+                    final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                    assertThat(response.getDittoHeaders().getCorrelationId()).contains("modification-" + i);
+                    // the thing was created with sequence number 1
+                    assertThat(RejectingInMemoryJournal.getWrittenSequenceNumbers(persistenceId))
+                            .contains(2L + i);
+                }
+            }
+        };
+    }
+
+    @Test
+    public void groupCommitDefersQueriesUntilTheBatchIsPersisted() {
+        setupGroupCommitWithRejectingJournal();
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                final JsonPointer attributeKey = JsonPointer.of("attrKey");
+                final JsonValue modifiedValue = JsonValue.of("modified");
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, modifiedValue, dittoHeadersV2), getRef());
+                underTest.tell(RetrieveAttribute.of(thingId, attributeKey, dittoHeadersV2), getRef());
+
+                expectMsgClass(ModifyAttributeResponse.class);
+                assertThat(expectMsgClass(RetrieveAttributeResponse.class).getAttributeValue())
+                        .isEqualTo(modifiedValue);
+            }
+        };
+    }
+
+    private void setupGroupCommitWithRejectingJournal() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit { enabled = true, max-batch-size = 3 }\n" +
+                "akka-contrib-mongodb-persistence-things-journal.class = \"" +
+                RejectingInMemoryJournal.class.getName() + "\""));
+    }
+
     @Test
     public void createThingInV1AndRetrieveWithV1() {
         final ThingId thingIdOfActor = ThingId.of("test.ns.v1", "createThingInV1AndRetrieveWithV1");
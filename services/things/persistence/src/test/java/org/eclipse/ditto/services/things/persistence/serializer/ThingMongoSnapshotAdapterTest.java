@@ -14,7 +14,11 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Optional;
+
 import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.models.things.DittoThingSnapshotTaken;
@@ -68,6 +72,35 @@ public final class ThingMongoSnapshotAdapterTest {
         expectSnapshotPublished();
     }
 
+    @Test
+    public void toDeltaSnapshotStoreApplyDeltaSnapshotRoundtripReturnsExpected() {
+        final Thing base = TestConstants.Thing.THING_V2;
+        final Thing thing = base.setAttribute(JsonPointer.of("delta"), JsonValue.of(42))
+                .removeAttribute(JsonPointer.of("location"));
+
+        final Optional<Object> rawDeltaSnapshot = underTest.toDeltaSnapshotStore(base, 5L, thing, 1.0);
+
+        assertThat(rawDeltaSnapshot).containsInstanceOf(BsonDocument.class);
+        assertThat(underTest.getDeltaBaseSequenceNumber(rawDeltaSnapshot.get())).hasValue(5L);
+        assertThat(underTest.applyDeltaSnapshot(base, rawDeltaSnapshot.get())).contains(thing);
+        expectSnapshotPublished();
+    }
+
+    @Test
+    public void toDeltaSnapshotStoreReturnsEmptyIfDeltaExceedsRatio() {
+        final Thing base = TestConstants.Thing.THING_V2;
+        final Thing thing = base.setAttribute(JsonPointer.of("delta"), JsonValue.of(42));
+
+        assertThat(underTest.toDeltaSnapshotStore(base, 5L, thing, 0.001)).isEmpty();
+    }
+
+    @Test
+    public void fullSnapshotHasNoDeltaBaseSequenceNumber() {
+        final Object rawSnapshotEntity = underTest.toSnapshotStore(TestConstants.Thing.THING_V2);
+
+        assertThat(underTest.getDeltaBaseSequenceNumber(rawSnapshotEntity)).isEmpty();
+    }
+
     private void expectSnapshotPublished() {
         pubSubProbe.expectMsg(DistPubSubAccess.publishViaGroup(
                 ThingSnapshotTaken.PUBSUB_TOPIC,
@@ -19,6 +19,8 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryPayloadConfig;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
@@ -32,25 +34,33 @@ import akka.actor.Props;
 final class DefaultThingPersistenceActorPropsFactory implements ThingPersistenceActorPropsFactory {
 
     private final ActorRef pubSubMediator;
+    private final BinaryPayloadConfig binaryPayloadConfig;
+
+    private DefaultThingPersistenceActorPropsFactory(final ActorRef pubSubMediator,
+            final BinaryPayloadConfig binaryPayloadConfig) {
 
-    private DefaultThingPersistenceActorPropsFactory(final ActorRef pubSubMediator) {
         this.pubSubMediator = pubSubMediator;
+        this.binaryPayloadConfig = binaryPayloadConfig;
     }
 
     /**
      * Returns an instance of {@code ThingPersistenceActorPropsFactory}.
      *
      * @param pubSubMediator the Akka pub-sub mediator with which to
+     * @param binaryPayloadConfig the config of the storage format of snapshots.
      * @return the instance.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    static DefaultThingPersistenceActorPropsFactory of(final ActorRef pubSubMediator) {
-        return new DefaultThingPersistenceActorPropsFactory(pubSubMediator);
+    static DefaultThingPersistenceActorPropsFactory of(final ActorRef pubSubMediator,
+            final BinaryPayloadConfig binaryPayloadConfig) {
+
+        return new DefaultThingPersistenceActorPropsFactory(pubSubMediator, binaryPayloadConfig);
     }
 
     @Override
     public Props props(final ThingId thingId, final DistributedPub<ThingEvent<?>> distributedPub) {
         argumentNotEmpty(thingId);
-        return ThingPersistenceActor.props(thingId, distributedPub, pubSubMediator);
+        return ThingPersistenceActor.props(thingId, distributedPub,
+                new ThingMongoSnapshotAdapter(pubSubMediator, binaryPayloadConfig));
     }
 }
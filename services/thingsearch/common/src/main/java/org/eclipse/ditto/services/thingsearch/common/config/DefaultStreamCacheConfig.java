@@ -87,6 +87,16 @@ public final class DefaultStreamCacheConfig implements StreamCacheConfig {
         return genericCacheConfig.getExpireAfterCreate();
     }
 
+    @Override
+    public Duration getRefreshAfterWrite() {
+        return genericCacheConfig.getRefreshAfterWrite();
+    }
+
+    @Override
+    public boolean isServeStaleOnReloadFailure() {
+        return genericCacheConfig.isServeStaleOnReloadFailure();
+    }
+
     @Override
     public Config render() {
             return ConfigFactory.empty()
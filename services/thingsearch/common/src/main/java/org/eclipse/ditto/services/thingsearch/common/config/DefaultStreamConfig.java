@@ -32,6 +32,8 @@ public final class DefaultStreamConfig implements StreamConfig {
 
     private final int maxArraySize;
     private final Duration writeInterval;
+    private final int hotThingThreshold;
+    private final Duration maxStaleness;
     private final Duration askTimeout;
     private final DefaultStreamStageConfig retrievalConfig;
     private final DefaultPersistenceStreamConfig persistenceStreamConfig;
@@ -40,6 +42,8 @@ public final class DefaultStreamConfig implements StreamConfig {
     private DefaultStreamConfig(final ConfigWithFallback streamScopedConfig) {
         maxArraySize = streamScopedConfig.getInt(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath());
         writeInterval = streamScopedConfig.getDuration(StreamConfigValue.WRITE_INTERVAL.getConfigPath());
+        hotThingThreshold = streamScopedConfig.getInt(StreamConfigValue.HOT_THING_THRESHOLD.getConfigPath());
+        maxStaleness = streamScopedConfig.getDuration(StreamConfigValue.MAX_STALENESS.getConfigPath());
         askTimeout = streamScopedConfig.getDuration(StreamConfigValue.ASK_TIMEOUT.getConfigPath());
         retrievalConfig = DefaultStreamStageConfig.getInstance(streamScopedConfig, RETRIEVAL_CONFIG_PATH);
         persistenceStreamConfig = DefaultPersistenceStreamConfig.of(streamScopedConfig);
@@ -67,6 +71,16 @@ public final class DefaultStreamConfig implements StreamConfig {
         return writeInterval;
     }
 
+    @Override
+    public int getHotThingThreshold() {
+        return hotThingThreshold;
+    }
+
+    @Override
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
     @Override
     public Duration getAskTimeout() {
         return askTimeout;
@@ -98,6 +112,8 @@ public final class DefaultStreamConfig implements StreamConfig {
         final DefaultStreamConfig that = (DefaultStreamConfig) o;
         return maxArraySize == that.maxArraySize &&
                 writeInterval.equals(that.writeInterval) &&
+                hotThingThreshold == that.hotThingThreshold &&
+                maxStaleness.equals(that.maxStaleness) &&
                 askTimeout.equals(that.askTimeout) &&
                 retrievalConfig.equals(that.retrievalConfig) &&
                 persistenceStreamConfig.equals(that.persistenceStreamConfig) &&
@@ -106,8 +122,8 @@ public final class DefaultStreamConfig implements StreamConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxArraySize, writeInterval, askTimeout, retrievalConfig, persistenceStreamConfig,
-                streamCacheConfig);
+        return Objects.hash(maxArraySize, writeInterval, hotThingThreshold, maxStaleness, askTimeout, retrievalConfig,
+                persistenceStreamConfig, streamCacheConfig);
     }
 
     @Override
@@ -115,6 +131,8 @@ public final class DefaultStreamConfig implements StreamConfig {
         return getClass().getSimpleName() + " [" +
                 "maxArraySize=" + maxArraySize +
                 ", writeInterval=" + writeInterval +
+                ", hotThingThreshold=" + hotThingThreshold +
+                ", maxStaleness=" + maxStaleness +
                 ", askTimeout=" + askTimeout +
                 ", retrievalConfig=" + retrievalConfig +
                 ", persistenceStreamConfig=" + persistenceStreamConfig +
@@ -46,6 +46,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     private final DittoServiceConfig dittoServiceConfig;
     @Nullable private final String mongoHintsByNamespace;
     private final String queryCriteriaValidator;
+    private final boolean queryProjectionEnabled;
     private final UpdaterConfig updaterConfig;
     private final HealthCheckConfig healthCheckConfig;
     private final IndexInitializationConfig indexInitializationConfig;
@@ -62,6 +63,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ConfigWithFallback.newInstance(dittoScopedConfig, CONFIG_PATH, SearchConfigValue.values());
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
         queryCriteriaValidator = configWithFallback.getStringOrNull(SearchConfigValue.QUERY_CRITERIA_VALIDATOR);
+        queryProjectionEnabled =
+                configWithFallback.getBoolean(SearchConfigValue.QUERY_PROJECTION_ENABLED.getConfigPath());
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
     }
@@ -88,6 +91,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return queryCriteriaValidator;
     }
 
+    @Override
+    public boolean isQueryProjectionEnabled() {
+        return queryProjectionEnabled;
+    }
+
     @Override
     public UpdaterConfig getUpdaterConfig() {
         return updaterConfig;
@@ -145,6 +153,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         final DittoSearchConfig that = (DittoSearchConfig) o;
         return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
                 Objects.equals(queryCriteriaValidator, that.queryCriteriaValidator) &&
+                queryProjectionEnabled == that.queryProjectionEnabled &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
                 Objects.equals(dittoServiceConfig, that.dittoServiceConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
@@ -155,7 +164,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, queryCriteriaValidator, updaterConfig,
+        return Objects.hash(mongoHintsByNamespace, queryCriteriaValidator, queryProjectionEnabled, updaterConfig,
                 dittoServiceConfig, healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig,
                 mongoDbConfig);
     }
@@ -165,6 +174,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return getClass().getSimpleName() + " [" +
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
                 ", queryCriteriaValidator=" + queryCriteriaValidator +
+                ", queryProjectionEnabled=" + queryProjectionEnabled +
                 ", updaterConfig=" + updaterConfig +
                 ", dittoServiceConfig=" + dittoServiceConfig +
                 ", healthCheckConfig=" + healthCheckConfig +
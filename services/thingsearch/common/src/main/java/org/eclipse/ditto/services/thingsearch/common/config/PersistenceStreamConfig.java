@@ -48,6 +48,14 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     WriteConcern getWithAcknowledgementsWriteConcern();
 
+    /**
+     * Returns how many last written search index documents to remember in order to send only the changed fields
+     * on the next update of the same Thing. Zero disables incremental updates.
+     *
+     * @return the maximum number of remembered search index documents.
+     */
+    int getIncrementalUpdateCacheSize();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -69,7 +77,12 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
          * The write concern used for search index updates requiring acknowledgements.
          * See {@link com.mongodb.WriteConcern} for available options.
          */
-        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled");
+        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled"),
+
+        /**
+         * How many last written search index documents to remember for incremental updates; 0 disables them.
+         */
+        INCREMENTAL_UPDATE_CACHE_SIZE("incremental-update-cache-size", 0);
 
         private final String configPath;
         private final Object defaultValue;
@@ -41,6 +41,15 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     String getQueryValidatorImplementation();
 
+    /**
+     * Indicates whether the fields of search results are projected from the search index instead of being retrieved
+     * from the things service.
+     *
+     * @return whether the query projection is enabled.
+     * @since 2.0.0
+     */
+    boolean isQueryProjectionEnabled();
+
     /**
      * Returns the configuration settings for the search updating functionality.
      *
@@ -65,7 +74,14 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
          * @since 1.6.0
          */
         QUERY_CRITERIA_VALIDATOR("query-criteria-validator.implementation",
-                "org.eclipse.ditto.services.thingsearch.persistence.query.validation.DefaultQueryCriteriaValidator");
+                "org.eclipse.ditto.services.thingsearch.persistence.query.validation.DefaultQueryCriteriaValidator"),
+
+        /**
+         * Whether the fields of search results are projected from the search index.
+         *
+         * @since 2.0.0
+         */
+        QUERY_PROJECTION_ENABLED("query-projection.enabled", false);
 
         private final String path;
         private final Object defaultValue;
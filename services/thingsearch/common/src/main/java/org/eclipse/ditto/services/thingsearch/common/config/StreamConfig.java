@@ -38,6 +38,23 @@ public interface StreamConfig {
      */
     Duration getWriteInterval();
 
+    /**
+     * Returns the minimum number of changes of a Thing between two event dumps for the Thing to be considered hot.
+     * Search index updates of hot Things without requested acknowledgement are deferred until the Thing cools down
+     * or its oldest pending change reaches the maximum staleness. A threshold of {@code 0}, the default, disables
+     * the deferral.
+     *
+     * @return the threshold.
+     */
+    int getHotThingThreshold();
+
+    /**
+     * Returns the maximum time the search index update of a hot Thing may be deferred.
+     *
+     * @return the maximum staleness.
+     */
+    Duration getMaxStaleness();
+
     /**
      * Returns the timeout for messages to Things shard.
      *
@@ -81,6 +98,16 @@ public interface StreamConfig {
          */
         WRITE_INTERVAL("write-interval", Duration.ofSeconds(1L)),
 
+        /**
+         * The minimum number of changes of a Thing between two event dumps for the Thing to be considered hot.
+         */
+        HOT_THING_THRESHOLD("hot-thing-threshold", 0),
+
+        /**
+         * The maximum time the search index update of a hot Thing may be deferred.
+         */
+        MAX_STALENESS("max-staleness", Duration.ofSeconds(10L)),
+
         /**
          * The timeout for messages to Things shard.
          */
@@ -26,6 +26,8 @@ public final class KeyEscapeUtil {
 
     public static final String FAKE_DOT = "~2";
 
+    private static final String ESCAPED_CHARS = "~$.";
+
     private KeyEscapeUtil() {
     }
 
@@ -41,4 +43,32 @@ public final class KeyEscapeUtil {
                 .replace("$", FAKE_DOLLAR)
                 .replace(".", FAKE_DOT);
     }
+
+    /**
+     * Reverts {@link #escape(String)}.
+     *
+     * @param str the escaped String
+     * @return the original String
+     */
+    public static String unescape(final String str) {
+        requireNonNull(str);
+        final int firstTilda = str.indexOf('~');
+        if (firstTilda < 0) {
+            return str;
+        }
+        final StringBuilder builder = new StringBuilder(str.length());
+        builder.append(str, 0, firstTilda);
+        for (int i = firstTilda; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            final char next = i + 1 < str.length() ? str.charAt(i + 1) : c;
+            if (c == '~' && next >= '0' && next <= '2') {
+                builder.append(ESCAPED_CHARS.charAt(next - '0'));
+                i++;
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
 }
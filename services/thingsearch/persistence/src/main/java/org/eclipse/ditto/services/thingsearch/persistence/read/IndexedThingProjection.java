@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_FEATURES;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+
+/**
+ * Projects things from their documents in the search index without retrieving them from the things service.
+ * <p>
+ * The field {@value PersistenceConstants#FIELD_SORTING} of a search index document contains the thing with large
+ * arrays truncated, the field {@value PersistenceConstants#FIELD_INTERNAL} contains the flattened values of the thing
+ * together with the subjects granted and revoked READ permission on them. A thing is projected by keeping those
+ * values of the former which are readable by the authorization subjects according to the latter. If both fields do not
+ * contain the same values, e.g. because an array was truncated or a value was too long to be indexed, the thing
+ * cannot be projected.
+ * </p>
+ */
+@Immutable
+final class IndexedThingProjection {
+
+    private static final JsonKey FEATURES_KEY = JsonKey.of(FIELD_FEATURES);
+    private static final JsonPointer WILDCARD_FEATURE_POINTER = JsonFactory.newPointer(FEATURES_KEY, JsonKey.of("*"));
+
+    private final Set<String> authorizationSubjectIds;
+    @Nullable private final JsonFieldSelector fieldSelector;
+    private final int maxArraySize;
+
+    private IndexedThingProjection(final Set<String> authorizationSubjectIds,
+            @Nullable final JsonFieldSelector fieldSelector,
+            final int maxArraySize) {
+
+        this.authorizationSubjectIds = authorizationSubjectIds;
+        this.fieldSelector = fieldSelector;
+        this.maxArraySize = maxArraySize;
+    }
+
+    /**
+     * Create a projection of search index documents.
+     *
+     * @param authorizationSubjectIds the authorization subjects reading the things.
+     * @param fields the selected fields, or null to project all regular fields. The thing ID is always projected if
+     * it is readable.
+     * @param maxArraySize the maximum size of arrays in the search index, or a negative number if arrays are not
+     * truncated.
+     * @return the projection.
+     */
+    static IndexedThingProjection of(final Collection<String> authorizationSubjectIds,
+            @Nullable final JsonFieldSelector fields,
+            final int maxArraySize) {
+
+        final JsonFieldSelector fieldsWithThingId = fields == null || fields.getPointers()
+                .contains(Thing.JsonFields.ID.getPointer())
+                ? fields
+                : JsonFieldSelector.newInstance(Thing.JsonFields.ID.getPointer(),
+                fields.getPointers().toArray(new JsonPointer[0]));
+        return new IndexedThingProjection(new HashSet<>(authorizationSubjectIds), fieldsWithThingId, maxArraySize);
+    }
+
+    /**
+     * Get the fields of search index documents required for projection.
+     *
+     * @return the fields.
+     */
+    static Document getRequiredFields() {
+        return new Document().append(FIELD_ID, true)
+                .append(FIELD_SORTING, true)
+                .append(FIELD_INTERNAL + "." + FIELD_INTERNAL_KEY, true)
+                .append(FIELD_INTERNAL + "." + FIELD_GRANTED, true)
+                .append(FIELD_INTERNAL + "." + FIELD_REVOKED, true);
+    }
+
+    /**
+     * Project the thing of a search index document.
+     *
+     * @param document the search index document containing the fields of {@link #getRequiredFields()}.
+     * @return the readable selected fields of the thing, which are empty if the authorization subjects may read
+     * nothing, or an empty optional if the thing cannot be projected from the document.
+     */
+    Optional<JsonObject> project(final Document document) {
+        final Object thing = document.get(FIELD_SORTING);
+        final Object flattenedValues = document.get(FIELD_INTERNAL);
+        if (!(thing instanceof Map) || !(flattenedValues instanceof List)) {
+            return Optional.empty();
+        }
+        final Projector projector = new Projector(readIndexedValues((List<?>) flattenedValues));
+        final JsonValue projectedThing = projector.project(JsonPointer.empty(), thing);
+        if (!projector.isComplete()) {
+            return Optional.empty();
+        }
+        final JsonObject thingJson = null != projectedThing ? projectedThing.asObject() : JsonObject.empty();
+        return Optional.of(selectFields(thingJson));
+    }
+
+    private JsonObject selectFields(final JsonObject thingJson) {
+        if (null != fieldSelector) {
+            return thingJson.get(fieldSelector);
+        } else {
+            // without field selector only regular fields are retrieved, special fields start with an underscore
+            return thingJson.stream()
+                    .filter(field -> !field.getKeyName().startsWith("_"))
+                    .collect(JsonCollectors.fieldsToObject());
+        }
+    }
+
+    private Map<String, IndexedValues> readIndexedValues(final List<?> flattenedValues) {
+        final Map<String, IndexedValues> result = new HashMap<>();
+        for (final Object flattenedValue : flattenedValues) {
+            if (flattenedValue instanceof Document) {
+                final Document valueDocument = (Document) flattenedValue;
+                final String key = valueDocument.getString(FIELD_INTERNAL_KEY);
+                final boolean readable = containsAny(valueDocument.get(FIELD_GRANTED)) &&
+                        !containsAny(valueDocument.get(FIELD_REVOKED));
+                result.computeIfAbsent(key, k -> new IndexedValues()).add(readable);
+            }
+        }
+        return result;
+    }
+
+    private boolean containsAny(@Nullable final Object subjects) {
+        if (subjects instanceof List) {
+            for (final Object subject : (List<?>) subjects) {
+                if (authorizationSubjectIds.contains(subject)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Optional<JsonPointer> replaceFeatureIdByWildcard(final JsonPointer key) {
+        return key.getRoot()
+                .filter(FEATURES_KEY::equals)
+                .flatMap(features -> key.getSubPointer(2)) // skip 'features' and <featureId>
+                .map(WILDCARD_FEATURE_POINTER::append);
+    }
+
+    /**
+     * Number and readability of the flattened values indexed under one key.
+     */
+    private static final class IndexedValues {
+
+        private int count = 0;
+        private boolean readable = true;
+
+        private void add(final boolean isReadable) {
+            count++;
+            readable &= isReadable;
+        }
+
+        private boolean take() {
+            if (count <= 0) {
+                return false;
+            }
+            count--;
+            return true;
+        }
+    }
+
+    /**
+     * Traverses a thing in the same way as the flattener of the search index and consumes the indexed value of each
+     * visited leaf.
+     */
+    private final class Projector {
+
+        private final Map<String, IndexedValues> indexedValues;
+        private boolean complete;
+
+        private Projector(final Map<String, IndexedValues> indexedValues) {
+            this.indexedValues = indexedValues;
+            complete = true;
+        }
+
+        private boolean isComplete() {
+            return complete && indexedValues.values().stream().allMatch(values -> values.count == 0);
+        }
+
+        @Nullable
+        private JsonValue project(final JsonPointer key, @Nullable final Object value) {
+            if (!complete) {
+                return null;
+            } else if (value instanceof Map) {
+                return projectObject(key, (Map<?, ?>) value);
+            } else if (value instanceof List) {
+                return projectArray(key, (List<?>) value);
+            } else {
+                return projectLeaf(key, toJsonValue(value));
+            }
+        }
+
+        @Nullable
+        private JsonValue projectObject(final JsonPointer key, final Map<?, ?> object) {
+            if (object.isEmpty()) {
+                return projectLeaf(key, JsonObject.empty());
+            }
+            final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+            for (final Map.Entry<?, ?> entry : object.entrySet()) {
+                final JsonKey childKey = JsonKey.of(KeyEscapeUtil.unescape(String.valueOf(entry.getKey())));
+                final JsonValue projectedChild = project(key.addLeaf(childKey), entry.getValue());
+                if (null != projectedChild) {
+                    builder.set(childKey, projectedChild);
+                }
+            }
+            return builder.isEmpty() ? null : builder.build();
+        }
+
+        @Nullable
+        private JsonValue projectArray(final JsonPointer key, final List<?> array) {
+            if (array.isEmpty()) {
+                return projectLeaf(key, JsonFactory.newArray());
+            } else if (maxArraySize >= 0 && array.size() >= maxArraySize) {
+                // the array may be truncated
+                complete = false;
+                return null;
+            }
+            final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+            for (final Object element : array) {
+                final JsonValue projectedElement = project(key, element);
+                if (null != projectedElement) {
+                    builder.add(projectedElement);
+                }
+            }
+            return builder.isEmpty() ? null : builder.build();
+        }
+
+        @Nullable
+        private JsonValue projectLeaf(final JsonPointer key, final JsonValue value) {
+            final IndexedValues values = indexedValues.get(key.toString());
+            if (null == values || !values.take()) {
+                complete = false;
+                return null;
+            }
+            replaceFeatureIdByWildcard(key).ifPresent(wildcardKey -> {
+                final IndexedValues wildcardValues = indexedValues.get(wildcardKey.toString());
+                if (null == wildcardValues || !wildcardValues.take()) {
+                    complete = false;
+                }
+            });
+            return values.readable ? value : null;
+        }
+
+        private JsonValue toJsonValue(@Nullable final Object value) {
+            if (value instanceof String) {
+                return JsonValue.of((String) value);
+            } else if (value instanceof Boolean) {
+                return JsonValue.of(((Boolean) value).booleanValue());
+            } else if (value instanceof Integer) {
+                return JsonValue.of(((Integer) value).intValue());
+            } else if (value instanceof Long) {
+                return JsonValue.of(((Long) value).longValue());
+            } else if (value instanceof Number) {
+                return JsonValue.of(((Number) value).doubleValue());
+            } else if (null == value) {
+                return JsonValue.nullLiteral();
+            } else {
+                // not written by the search updater
+                complete = false;
+                return JsonValue.of(String.valueOf(value));
+            }
+        }
+    }
+
+}
@@ -26,7 +26,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -39,6 +41,8 @@ import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
@@ -74,6 +78,7 @@ import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Source;
@@ -90,6 +95,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final int maxArraySize;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -105,6 +111,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         indexInitializer = IndexInitializer.of(database, SystemMaterializer.get(actorSystem).materializer());
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        maxArraySize = -1;
     }
 
     private MongoThingsSearchPersistence(
@@ -112,13 +119,15 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final int maxArraySize) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.maxArraySize = maxArraySize;
     }
 
     /**
@@ -129,7 +138,18 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, maxArraySize);
+    }
+
+    /**
+     * Create a copy of this object with the maximum size of arrays in the search index, which is required to detect
+     * truncated arrays when projecting things from the search index.
+     *
+     * @param maxArraySize the maximum array size the search updater is configured with.
+     * @return copy of this object with the maximum array size configured.
+     */
+    public MongoThingsSearchPersistence withMaxArraySize(final int maxArraySize) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, maxArraySize);
     }
 
     @Override
@@ -200,7 +220,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final int limit = query.getLimit();
         final int limitPlusOne = limit + 1;
 
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime,
+                GetSortBsonVisitor.projections(query.getSortOptions()))
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
                 .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
@@ -208,12 +229,36 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .log("findAll");
     }
 
+    @Override
+    public Source<Pair<ResultList<ThingId>, Map<ThingId, JsonObject>>, NotUsed> findAllProjected(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fields) {
+
+        final int skip = query.getSkip();
+        final int limit = query.getLimit();
+        final int limitPlusOne = limit + 1;
+        final IndexedThingProjection projection =
+                IndexedThingProjection.of(authorizationSubjectIds, fields, maxArraySize);
+
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime,
+                getProjectedFields(query.getSortOptions()))
+                .grouped(limitPlusOne)
+                .orElse(Source.single(Collections.emptyList()))
+                .map(resultsPlus0ne -> Pair.create(
+                        toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()),
+                        project(resultsPlus0ne, projection)))
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("findAllProjected");
+    }
+
     @Override
     public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null,
+                GetSortBsonVisitor.projections(query.getSortOptions()))
                 .map(MongoThingsSearchPersistence::toId)
                 .idleTimeout(maxQueryTime);
     }
@@ -221,7 +266,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
-            @Nullable final Duration maxQueryTime) {
+            @Nullable final Duration maxQueryTime,
+            final Bson projection) {
 
         checkNotNull(query, "query");
 
@@ -233,7 +279,6 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Bson sortOptions = getMongoSort(query);
 
         final int skip = query.getSkip();
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
@@ -288,6 +333,24 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return pagedResultList;
     }
 
+    private static Map<ThingId, JsonObject> project(final List<Document> docs,
+            final IndexedThingProjection projection) {
+
+        final Map<ThingId, JsonObject> result = new HashMap<>();
+        for (final Document doc : docs) {
+            projection.project(doc).ifPresent(thing -> result.put(toId(doc), thing));
+        }
+        return result;
+    }
+
+    private static Document getProjectedFields(final List<SortOption> sortOptions) {
+        // sort keys are contained in the projected field for sorting
+        final Document projectedFields = GetSortBsonVisitor.projections(sortOptions);
+        projectedFields.keySet().removeIf(path -> path.startsWith(FIELD_SORTING + "."));
+        projectedFields.putAll(IndexedThingProjection.getRequiredFields());
+        return projectedFields;
+    }
+
     private static List<ThingId> toIds(final List<Document> docs) {
         return docs.stream()
                 .map(MongoThingsSearchPersistence::toId)
@@ -12,12 +12,16 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.read;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
@@ -26,6 +30,7 @@ import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 
 import akka.NotUsed;
+import akka.japi.Pair;
 import akka.stream.javadsl.Source;
 
 /**
@@ -79,6 +84,28 @@ public interface ThingsSearchPersistence {
     Source<ResultList<ThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the IDs for all found documents together with the things projected from the search index. Things which
+     * cannot be projected from the search index have to be retrieved from the things service.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param fields the selected fields of the things, or null to project all regular fields.
+     * @return an {@link Source} which emits the IDs and the projected things by ID. A projected thing is empty if none
+     * of its selected fields is readable by the authorization subjects.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    default Source<Pair<ResultList<ThingId>, Map<ThingId, JsonObject>>, NotUsed> findAllProjected(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fields) {
+
+        return findAll(query, authorizationSubjectIds, namespaces)
+                .map(thingIds -> Pair.create(thingIds, Collections.<ThingId, JsonObject>emptyMap()));
+    }
+
     /**
      * Stream the IDs for all found documents without result size limit.
      *
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * Difference between two search index documents expressed as {@code $set} and {@code $unset} operations.
+ * Nested documents are compared field by field and arrays of equal or growing length element by element;
+ * arrays that shrink are set as a whole because MongoDB cannot remove array elements by index.
+ */
+@NotThreadSafe
+final class BsonDiff {
+
+    /**
+     * MongoDB operator for removing a field.
+     */
+    static final String UNSET = "$unset";
+
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+    private static final String DOT = ".";
+
+    private final BsonDocument set;
+    private final BsonDocument unset;
+
+    private BsonDiff() {
+        set = new BsonDocument();
+        unset = new BsonDocument();
+    }
+
+    /**
+     * Compute the difference between two documents.
+     *
+     * @param previous the document currently in the persistence.
+     * @param next the document that should be in the persistence.
+     * @return the difference turning {@code previous} into {@code next}.
+     */
+    static BsonDiff minimalDiff(final BsonDocument previous, final BsonDocument next) {
+        final BsonDiff diff = new BsonDiff();
+        diff.diffDocuments("", previous, next);
+        return diff;
+    }
+
+    /**
+     * Compute the size of a BSON document in bytes.
+     *
+     * @param document the document.
+     * @return its encoded size.
+     */
+    static int sizeInBytes(final BsonDocument document) {
+        return new RawBsonDocument(document, BSON_DOCUMENT_CODEC).getByteBuffer().remaining();
+    }
+
+    /**
+     * @return whether both compared documents are equal.
+     */
+    boolean isEmpty() {
+        return set.isEmpty() && unset.isEmpty();
+    }
+
+    /**
+     * Convert this difference into a MongoDB update document.
+     *
+     * @return the update document containing only non-empty update operators.
+     */
+    BsonDocument toBsonUpdate() {
+        final BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.append(AbstractWriteModel.SET, set);
+        }
+        if (!unset.isEmpty()) {
+            update.append(UNSET, unset);
+        }
+        return update;
+    }
+
+    private void diffDocuments(final String prefix, final BsonDocument previous, final BsonDocument next) {
+        for (final Map.Entry<String, BsonValue> entry : next.entrySet()) {
+            final String path = prefix + entry.getKey();
+            final BsonValue previousValue = previous.get(entry.getKey());
+            if (previousValue == null) {
+                set.append(path, entry.getValue());
+            } else {
+                diffValues(path, previousValue, entry.getValue());
+            }
+        }
+        for (final String key : previous.keySet()) {
+            if (!next.containsKey(key)) {
+                unset.append(prefix + key, new BsonString(""));
+            }
+        }
+    }
+
+    private void diffArrays(final String path, final BsonArray previous, final BsonArray next) {
+        if (next.size() < previous.size()) {
+            set.append(path, next);
+        } else {
+            final String prefix = path + DOT;
+            for (int i = 0; i < next.size(); ++i) {
+                final String elementPath = prefix + i;
+                if (i < previous.size()) {
+                    diffValues(elementPath, previous.get(i), next.get(i));
+                } else {
+                    set.append(elementPath, next.get(i));
+                }
+            }
+        }
+    }
+
+    private void diffValues(final String path, final BsonValue previous, final BsonValue next) {
+        if (previous.isDocument() && next.isDocument()) {
+            diffDocuments(path + DOT, previous.asDocument(), next.asDocument());
+        } else if (previous.isArray() && next.isArray()) {
+            diffArrays(path, previous.asArray(), next.asArray());
+        } else if (!previous.equals(next)) {
+            set.append(path, next);
+        }
+    }
+
+}
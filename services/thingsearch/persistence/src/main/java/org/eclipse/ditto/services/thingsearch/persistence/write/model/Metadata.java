@@ -22,6 +22,7 @@ import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.base.common.HttpStatus;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -45,6 +46,7 @@ public final class Metadata {
     @Nullable final Instant modified;
     private final List<StartedTimer> timers;
     private final List<ActorRef> senders;
+    @Nullable private final JsonObject thing;
 
     private Metadata(final ThingId thingId,
             final long thingRevision,
@@ -52,7 +54,8 @@ public final class Metadata {
             @Nullable final Long policyRevision,
             @Nullable final Instant modified,
             final Collection<StartedTimer> timers,
-            final Collection<ActorRef> senders) {
+            final Collection<ActorRef> senders,
+            @Nullable final JsonObject thing) {
 
         this.thingId = thingId;
         this.thingRevision = thingRevision;
@@ -61,6 +64,7 @@ public final class Metadata {
         this.modified = modified;
         this.timers = List.copyOf(timers);
         this.senders = List.copyOf(senders);
+        this.thing = thing;
     }
 
     /**
@@ -80,7 +84,7 @@ public final class Metadata {
             @Nullable final StartedTimer timer) {
 
         return new Metadata(thingId, thingRevision, policyId, policyRevision, null,
-                null != timer ? List.of(timer) : List.of(), List.of());
+                null != timer ? List.of(timer) : List.of(), List.of(), null);
     }
 
     /**
@@ -102,7 +106,7 @@ public final class Metadata {
             final ActorRef sender) {
 
         return new Metadata(thingId, thingRevision, policyId, policyRevision, null,
-                null != timer ? List.of(timer) : List.of(), List.of(sender));
+                null != timer ? List.of(timer) : List.of(), List.of(sender), null);
     }
 
     /**
@@ -125,7 +129,7 @@ public final class Metadata {
             final Collection<StartedTimer> timers,
             final Collection<ActorRef> senders) {
 
-        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders);
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, null);
     }
 
     /**
@@ -147,7 +151,7 @@ public final class Metadata {
             @Nullable final StartedTimer timer) {
 
         return new Metadata(thingId, thingRevision, policyId, policyRevision, modified,
-                null != timer ? List.of(timer) : List.of(), List.of());
+                null != timer ? List.of(timer) : List.of(), List.of(), null);
     }
 
     /**
@@ -163,6 +167,17 @@ public final class Metadata {
                 null);
     }
 
+    /**
+     * Create a copy of this object with the complete Thing at {@link #getThingRevision()} as determined by the
+     * Thing event which caused the change, so that the Thing need not be retrieved for updating the search index.
+     *
+     * @param thing the Thing in JSON format including its special fields, or null if it is not known.
+     * @return the copy.
+     */
+    public Metadata withThing(@Nullable final JsonObject thing) {
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, thing);
+    }
+
     /**
      * @return the Thing ID.
      */
@@ -218,6 +233,16 @@ public final class Metadata {
         return Optional.ofNullable(modified);
     }
 
+    /**
+     * Returns the complete Thing at {@link #getThingRevision()} if it is determined by the Thing event which caused
+     * the change.
+     *
+     * @return the optional Thing in JSON format.
+     */
+    public Optional<JsonObject> getThing() {
+        return Optional.ofNullable(thing);
+    }
+
     /**
      * Returns the timers measuring the consistency lag.
      *
@@ -257,7 +282,7 @@ public final class Metadata {
         final List<ActorRef> newSenders =
                 Stream.concat(newMetadata.senders.stream(), senders.stream()).collect(Collectors.toList());
         return new Metadata(newMetadata.thingId, newMetadata.thingRevision, newMetadata.policyId,
-                newMetadata.policyRevision, newMetadata.modified, newTimers, newSenders);
+                newMetadata.policyRevision, newMetadata.modified, newTimers, newSenders, newMetadata.thing);
     }
 
     /**
@@ -300,12 +325,13 @@ public final class Metadata {
                 Objects.equals(policyId, that.policyId) &&
                 Objects.equals(modified, that.modified) &&
                 Objects.equals(timers, that.timers) &&
-                Objects.equals(senders, that.senders);
+                Objects.equals(senders, that.senders) &&
+                Objects.equals(thing, that.thing);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(thingId, thingRevision, policyId, policyRevision, modified, timers, senders);
+        return Objects.hash(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, thing);
     }
 
     @Override
@@ -318,6 +344,7 @@ public final class Metadata {
                 ", modified=" + modified +
                 ", timers=" + timers +
                 ", senders=" + senders +
+                ", thing=" + thing +
                 "]";
     }
 
@@ -12,28 +12,51 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 
 /**
  * Write model for an entire Thing.
+ * If the previously written document of the Thing is known, the write model may be turned into a patch update
+ * which sends only the changed fields to the persistence.
  */
 @NotThreadSafe
 public final class ThingWriteModel extends AbstractWriteModel {
 
     private final Document thingDocument;
+    @Nullable private final BsonDocument patchUpdate;
+    @Nullable private final Long lastWrittenRevision;
+
+    private ThingWriteModel(final Metadata metadata,
+            final Document thingDocument,
+            @Nullable final BsonDocument patchUpdate,
+            @Nullable final Long lastWrittenRevision) {
 
-    private ThingWriteModel(final Metadata metadata, final Document thingDocument) {
         super(metadata);
         this.thingDocument = thingDocument;
+        this.patchUpdate = patchUpdate;
+        this.lastWrittenRevision = lastWrittenRevision;
     }
 
     /**
@@ -44,12 +67,59 @@ public final class ThingWriteModel extends AbstractWriteModel {
      * @return a Thing write model.
      */
     public static ThingWriteModel of(final Metadata metadata, final Document thingDocument) {
-        return new ThingWriteModel(metadata, thingDocument);
+        return new ThingWriteModel(metadata, thingDocument, null, null);
+    }
+
+    /**
+     * Create a patch update of this write model against the last document written for the same Thing.
+     * The patch update applies only if the persisted document still has the revision of the last written document
+     * and is not marked as deleted.
+     *
+     * @param lastWrittenDocument the last document successfully written into the search index for this Thing.
+     * @return the patch update, or an empty optional if the patch would not be smaller than the entire document.
+     */
+    public Optional<ThingWriteModel> toPatchUpdate(final BsonDocument lastWrittenDocument) {
+        final BsonDocument nextDocument = toBsonDocument();
+        final BsonDiff diff = BsonDiff.minimalDiff(lastWrittenDocument, nextDocument);
+        final BsonValue lastRevision = lastWrittenDocument.get(FIELD_REVISION);
+        if (diff.isEmpty() || lastRevision == null || !lastRevision.isNumber()) {
+            return Optional.empty();
+        }
+        final BsonDocument update = diff.toBsonUpdate();
+        if (BsonDiff.sizeInBytes(update) >= BsonDiff.sizeInBytes(nextDocument)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ThingWriteModel(getMetadata(), thingDocument, update,
+                lastRevision.asNumber().longValue()));
+    }
+
+    /**
+     * Convert this write model into one which replaces the entire document regardless of its persisted revision.
+     *
+     * @return the write model replacing the entire document.
+     */
+    public ThingWriteModel toReplacement() {
+        return isPatchUpdate() ? of(getMetadata(), thingDocument) : this;
+    }
+
+    /**
+     * @return whether this write model updates only the changed fields of the last written document.
+     */
+    public boolean isPatchUpdate() {
+        return patchUpdate != null;
     }
 
     @Override
     public WriteModel<Document> toMongo() {
-        return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
+        if (patchUpdate != null) {
+            final Bson filter = Filters.and(
+                    Filters.eq(FIELD_ID, new BsonString(getMetadata().getThingId().toString())),
+                    Filters.eq(FIELD_REVISION, new BsonInt64(Objects.requireNonNull(lastWrittenRevision))),
+                    Filters.exists(FIELD_DELETE_AT, false));
+            return new UpdateOneModel<>(filter, patchUpdate);
+        } else {
+            return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
+        }
     }
 
     /**
@@ -59,6 +129,20 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return thingDocument;
     }
 
+    /**
+     * @return the Thing document to be written in the persistence as BSON document.
+     */
+    public BsonDocument toBsonDocument() {
+        return thingDocument.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    /**
+     * @return the patch update document if this is a patch update.
+     */
+    public Optional<BsonDocument> getPatchUpdate() {
+        return Optional.ofNullable(patchUpdate);
+    }
+
     private static ReplaceOptions upsert() {
         return new ReplaceOptions().upsert(true);
     }
@@ -75,12 +159,14 @@ public final class ThingWriteModel extends AbstractWriteModel {
             return false;
         }
         final ThingWriteModel that = (ThingWriteModel) o;
-        return thingDocument.equals(that.thingDocument);
+        return thingDocument.equals(that.thingDocument) &&
+                Objects.equals(patchUpdate, that.patchUpdate) &&
+                Objects.equals(lastWrittenRevision, that.lastWrittenRevision);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), thingDocument);
+        return Objects.hash(super.hashCode(), thingDocument, patchUpdate, lastWrittenRevision);
     }
 
 }
@@ -13,10 +13,12 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 
 import akka.NotUsed;
@@ -34,6 +36,11 @@ import akka.stream.javadsl.Source;
 
 /**
  * Collects changes from ThingUpdaters and forward them downstream on demand.
+ * <p>
+ * Changes of hot Things, i. e., Things changed at least {@code hot-thing-threshold} times between two dumps, are
+ * coalesced further by deferring them to later dumps until the Thing cools down or its oldest pending change is
+ * {@code max-staleness} old. Changes which should be acknowledged are never deferred.
+ * </p>
  */
 public final class ChangeQueueActor extends AbstractActor
         implements RequiresMessageQueue<UnboundedControlAwareMessageQueueSemantics> {
@@ -53,15 +60,31 @@ public final class ChangeQueueActor extends AbstractActor
     private Map<ThingId, Metadata> cache = new HashMap<>();
     private Map<ThingId, Metadata> cacheShouldAcknowledge = new HashMap<>();
 
-    private ChangeQueueActor() {
-        // prevent instantiation elsewhere
+    /**
+     * Number of changes per Thing in {@code cache} since the last dump.
+     */
+    private Map<ThingId, Integer> changesSinceLastDump = new HashMap<>();
+
+    /**
+     * Time of the oldest change per Thing in {@code cache}.
+     */
+    private final Map<ThingId, Instant> pendingSince = new HashMap<>();
+
+    private final int hotThingThreshold;
+    private final Duration maxStaleness;
+
+    @SuppressWarnings("unused")
+    private ChangeQueueActor(final StreamConfig streamConfig) {
+        hotThingThreshold = streamConfig.getHotThingThreshold();
+        maxStaleness = streamConfig.getMaxStaleness();
     }
 
     /**
+     * @param streamConfig configuration of the updater stream containing the coalescing settings.
      * @return Props of a ChangeQueueActor.
      */
-    public static Props props() {
-        return Props.create(ChangeQueueActor.class)
+    public static Props props(final StreamConfig streamConfig) {
+        return Props.create(ChangeQueueActor.class, streamConfig)
                 .withMailbox("akka.actor.mailbox.unbounded-control-aware-queue-based");
     }
 
@@ -82,6 +105,10 @@ public final class ChangeQueueActor extends AbstractActor
         if (metadata.getSenders().isEmpty()) {
             ConsistencyLag.startS1InChangeQueue(metadata);
             cache.merge(metadata.getThingId(), metadata, Metadata::prependTimersAndSenders);
+            if (hotThingThreshold > 0) {
+                changesSinceLastDump.merge(metadata.getThingId(), 1, Integer::sum);
+                pendingSince.computeIfAbsent(metadata.getThingId(), thingId -> Instant.now());
+            }
         } else {
             ConsistencyLag.startS1InChangeQueue(metadata);
             cacheShouldAcknowledge.merge(metadata.getThingId(), metadata, Metadata::prependTimersAndSenders);
@@ -116,9 +143,9 @@ public final class ChangeQueueActor extends AbstractActor
 
     private void dump(final Control dump) {
         if (dump == Control.DUMP) {
-            cache.values().forEach(ConsistencyLag::startS2WaitForDemand);
-            getSender().tell(cache, getSelf());
-            cache = new HashMap<>();
+            final Map<ThingId, Metadata> dueChanges = removeDueChanges();
+            dueChanges.values().forEach(ConsistencyLag::startS2WaitForDemand);
+            getSender().tell(dueChanges, getSelf());
         } else if (dump == Control.DUMP_SHOULD_ACKNOWLEDGE) {
             cacheShouldAcknowledge.values().forEach(ConsistencyLag::startS2WaitForDemand);
             getSender().tell(cacheShouldAcknowledge, getSelf());
@@ -128,6 +155,35 @@ public final class ChangeQueueActor extends AbstractActor
         }
     }
 
+    /**
+     * Remove the changes from the cache which should not be deferred any longer.
+     *
+     * @return the removed changes.
+     */
+    private Map<ThingId, Metadata> removeDueChanges() {
+        final Map<ThingId, Metadata> dueChanges;
+        if (hotThingThreshold > 0) {
+            final Instant staleBefore = Instant.now().minus(maxStaleness);
+            final Map<ThingId, Metadata> deferredChanges = new HashMap<>();
+            dueChanges = new HashMap<>();
+            cache.forEach((thingId, metadata) -> {
+                final boolean isHot = changesSinceLastDump.getOrDefault(thingId, 0) >= hotThingThreshold;
+                if (isHot && pendingSince.get(thingId).isAfter(staleBefore)) {
+                    deferredChanges.put(thingId, metadata);
+                } else {
+                    dueChanges.put(thingId, metadata);
+                    pendingSince.remove(thingId);
+                }
+            });
+            cache = deferredChanges;
+            changesSinceLastDump = new HashMap<>();
+        } else {
+            dueChanges = cache;
+            cache = new HashMap<>();
+        }
+        return dueChanges;
+    }
+
     @SuppressWarnings("unchecked")
     private static Function<Control, Source<Map<ThingId, Metadata>, NotUsed>> askSelf(final ActorRef self) {
         return message -> Source.completionStageSource(
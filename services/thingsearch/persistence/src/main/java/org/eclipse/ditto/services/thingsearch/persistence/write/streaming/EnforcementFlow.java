@@ -62,6 +62,7 @@ import akka.stream.javadsl.Source;
 
 /**
  * Converts Thing changes into write models by retrieving data and applying enforcement via an enforcer cache.
+ * Things determined by the events which caused the changes are not retrieved.
  */
 final class EnforcementFlow {
 
@@ -166,10 +167,10 @@ final class EnforcementFlow {
                 .map(changeMap -> {
                     log.info("Updating search index with <shouldAcknowledge={}> of <{}> things", shouldAcknowledge,
                             changeMap.size());
-                    return sudoRetrieveThingJsons(parallelism, changeMap).flatMapConcat(responseMap ->
+                    return sudoRetrieveThingJsons(parallelism, changeMap).flatMapConcat(thingMap ->
                             Source.fromIterator(changeMap.values()::iterator)
                                     .flatMapMerge(parallelism, metadataRef ->
-                                            computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId()))
+                                            computeWriteModel(metadataRef, thingMap.get(metadataRef.getThingId()))
                                     )
                                     .withAttributes(Attributes.inputBuffer(parallelism, parallelism))
                     );
@@ -178,18 +179,24 @@ final class EnforcementFlow {
 
     }
 
-    private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
+    private Source<Map<ThingId, JsonObject>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Map<ThingId, Metadata> changeMap) {
 
+        final Map<ThingId, JsonObject> thingsFromEvents = new HashMap<>();
+        changeMap.forEach((thingId, metadata) ->
+                metadata.getThing().ifPresent(thing -> thingsFromEvents.put(thingId, thing)));
+
         return Source.fromIterator(changeMap.entrySet()::iterator)
+                .filter(entry -> !thingsFromEvents.containsKey(entry.getKey()))
                 .flatMapMerge(parallelism, this::sudoRetrieveThing)
                 .withAttributes(Attributes.inputBuffer(parallelism, parallelism))
-                .<Map<ThingId, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
-                    map.put(getThingId(response), response);
+                .<Map<ThingId, JsonObject>>fold(new HashMap<>(thingsFromEvents), (map, response) -> {
+                    map.put(getThingId(response), response.getEntity().asObject());
                     return map;
                 })
                 .map(result -> {
-                    log.info("Got SudoRetrieveThingResponse <{}> times", result.size());
+                    log.info("Got SudoRetrieveThingResponse <{}> times and <{}> things from events",
+                            result.size() - thingsFromEvents.size(), thingsFromEvents.size());
                     return result;
                 });
     }
@@ -220,14 +227,12 @@ final class EnforcementFlow {
     }
 
     private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
-            @Nullable final SudoRetrieveThingResponse sudoRetrieveThingResponse) {
+            @Nullable final JsonObject thing) {
 
         ConsistencyLag.startS4GetEnforcer(metadata);
-        if (sudoRetrieveThingResponse == null) {
+        if (thing == null) {
             return Source.single(ThingDeleteModel.of(metadata));
         } else {
-            final JsonObject thing = sudoRetrieveThingResponse.getEntity().asObject();
-
             return getEnforcer(metadata, thing)
                     .map(entry -> {
                         if (entry.exists()) {
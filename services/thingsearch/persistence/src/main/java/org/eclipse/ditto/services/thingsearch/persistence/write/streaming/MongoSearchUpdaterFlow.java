@@ -14,17 +14,32 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
@@ -46,21 +61,35 @@ import akka.stream.javadsl.Zip;
 
 /**
  * Flow mapping write models to write results via the search persistence.
+ * If incremental updates are enabled, the last written document of each Thing is remembered and Thing write models
+ * are sent as patch updates of the changed fields. Patch updates are written in their own bulks; if any of them
+ * does not match the remembered revision, the whole bulk is written again as replacements of entire documents.
  */
 final class MongoSearchUpdaterFlow {
 
     private static final String TRACE_THING_BULK_UPDATE = "things_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
+    private static final String DOCUMENT_BYTES_PER_BULK = "things_search_thing_bulkUpdate_document_bytes_per_bulk";
+    private static final String WRITTEN_BYTES_PER_BULK = "things_search_thing_bulkUpdate_written_bytes_per_bulk";
+    private static final String PATCH_UPDATE_FALLBACKS = "things_search_thing_bulkUpdate_patch_fallbacks";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
 
     private final MongoCollection<Document> collection;
     private final MongoCollection<Document> collectionWithAcknowledgements;
+    @Nullable private final Cache<ThingId, RawBsonDocument> lastWrittenDocuments;
+    private final Counter patchUpdateFallbacks;
 
     private MongoSearchUpdaterFlow(final MongoCollection<Document> collection,
             final PersistenceStreamConfig persistenceConfig) {
         this.collection = collection;
         this.collectionWithAcknowledgements = collection.withWriteConcern(
                 persistenceConfig.getWithAcknowledgementsWriteConcern());
+        final int incrementalUpdateCacheSize = persistenceConfig.getIncrementalUpdateCacheSize();
+        lastWrittenDocuments = incrementalUpdateCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(incrementalUpdateCacheSize).build()
+                : null;
+        patchUpdateFallbacks = DittoMetrics.counter(PATCH_UPDATE_FALLBACKS);
     }
 
     /**
@@ -93,7 +122,8 @@ final class MongoSearchUpdaterFlow {
 
         final Flow<Source<AbstractWriteModel, NotUsed>, List<AbstractWriteModel>, NotUsed> batchFlow =
                 Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.grouped(maxBulkSize));
+                        .flatMapConcat(source -> source.grouped(maxBulkSize))
+                        .mapConcat(this::separatePatchUpdates);
 
         final Flow<List<AbstractWriteModel>, WriteResultAndErrors, NotUsed> writeFlow =
                 Flow.<List<AbstractWriteModel>>create()
@@ -104,14 +134,49 @@ final class MongoSearchUpdaterFlow {
         return Flow.fromGraph(assembleFlows(batchFlow, writeFlow, createStartTimerFlow(), createStopTimerFlow()));
     }
 
+    /**
+     * Turn Thing write models into patch updates where the last written document is known and separate them from
+     * the other write models, so that each resulting bulk consists either of patch updates only or of none at all.
+     *
+     * @param writeModels the write models of one bulk.
+     * @return one or two bulks of write models.
+     */
+    private List<List<AbstractWriteModel>> separatePatchUpdates(final List<AbstractWriteModel> writeModels) {
+        if (lastWrittenDocuments == null) {
+            return List.of(writeModels);
+        }
+        final List<AbstractWriteModel> patchUpdates = new ArrayList<>(writeModels.size());
+        final List<AbstractWriteModel> otherWriteModels = new ArrayList<>(writeModels.size());
+        for (final AbstractWriteModel writeModel : writeModels) {
+            final Optional<ThingWriteModel> patchUpdate = toPatchUpdate(writeModel);
+            if (patchUpdate.isPresent()) {
+                patchUpdates.add(patchUpdate.get());
+            } else {
+                otherWriteModels.add(writeModel);
+            }
+        }
+        if (patchUpdates.isEmpty()) {
+            return List.of(otherWriteModels);
+        } else if (otherWriteModels.isEmpty()) {
+            return List.of(patchUpdates);
+        } else {
+            return List.of(patchUpdates, otherWriteModels);
+        }
+    }
+
+    private Optional<ThingWriteModel> toPatchUpdate(final AbstractWriteModel writeModel) {
+        if (lastWrittenDocuments != null && writeModel instanceof ThingWriteModel) {
+            final RawBsonDocument lastWrittenDocument =
+                    lastWrittenDocuments.getIfPresent(writeModel.getMetadata().getThingId());
+            if (lastWrittenDocument != null) {
+                return ((ThingWriteModel) writeModel).toPatchUpdate(lastWrittenDocument);
+            }
+        }
+        return Optional.empty();
+    }
+
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(final boolean shouldAcknowledge,
             final List<AbstractWriteModel> abstractWriteModels) {
-        final List<WriteModel<Document>> writeModels = abstractWriteModels.stream()
-                .map(writeModel -> {
-                    ConsistencyLag.startS5MongoBulkWrite(writeModel.getMetadata());
-                    return writeModel.toMongo();
-                })
-                .collect(Collectors.toList());
 
         final MongoCollection<Document> theCollection;
         if (shouldAcknowledge) {
@@ -120,6 +185,48 @@ final class MongoSearchUpdaterFlow {
             theCollection = this.collectionWithAcknowledgements;
         }
 
+        if (isPatchUpdateBulk(abstractWriteModels)) {
+            return executePatchUpdateBulkWrite(theCollection, abstractWriteModels);
+        } else {
+            return executeBulkWrite(theCollection, abstractWriteModels);
+        }
+    }
+
+    /**
+     * Execute a bulk of patch updates. If the persistence did not match all of them, the revision of some search
+     * index documents differs from the last written documents, and all write models are written again as
+     * replacements of the entire documents.
+     *
+     * @param theCollection the collection to write into.
+     * @param patchUpdates the patch updates.
+     * @return source of the write result.
+     */
+    private Source<WriteResultAndErrors, NotUsed> executePatchUpdateBulkWrite(
+            final MongoCollection<Document> theCollection, final List<AbstractWriteModel> patchUpdates) {
+
+        final List<WriteModel<Document>> writeModels = toMongoWriteModels(patchUpdates);
+        return Source.fromPublisher(theCollection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
+                .map(Optional::of)
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<Optional<BulkWriteResult>, NotUsed>>()
+                        .matchAny(error -> Source.single(Optional.empty()))
+                        .build())
+                .flatMapConcat(optionalResult -> {
+                    final Optional<BulkWriteResult> completeResult = optionalResult.filter(result ->
+                            result.wasAcknowledged() && result.getMatchedCount() == patchUpdates.size());
+                    if (completeResult.isPresent()) {
+                        return Source.single(WriteResultAndErrors.success(patchUpdates, completeResult.get()))
+                                .map(this::onBulkWriteResult);
+                    } else {
+                        patchUpdateFallbacks.increment();
+                        return executeBulkWrite(theCollection, toReplacements(patchUpdates));
+                    }
+                });
+    }
+
+    private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(final MongoCollection<Document> theCollection,
+            final List<AbstractWriteModel> abstractWriteModels) {
+
+        final List<WriteModel<Document>> writeModels = toMongoWriteModels(abstractWriteModels);
         return Source.fromPublisher(theCollection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
                 .map(bulkWriteResult -> WriteResultAndErrors.success(abstractWriteModels, bulkWriteResult))
                 .recoverWithRetries(1, new PFBuilder<Throwable, Source<WriteResultAndErrors, NotUsed>>()
@@ -131,11 +238,81 @@ final class MongoSearchUpdaterFlow {
                         )
                         .build()
                 )
-                .map(resultAndErrors -> {
-                    abstractWriteModels.forEach(writeModel ->
-                            ConsistencyLag.startS6Acknowledge(writeModel.getMetadata()));
-                    return resultAndErrors;
-                });
+                .map(this::onBulkWriteResult);
+    }
+
+    private WriteResultAndErrors onBulkWriteResult(final WriteResultAndErrors resultAndErrors) {
+        rememberWrittenDocuments(resultAndErrors);
+        resultAndErrors.getWriteModels()
+                .forEach(writeModel -> ConsistencyLag.startS6Acknowledge(writeModel.getMetadata()));
+        return resultAndErrors;
+    }
+
+    private static List<WriteModel<Document>> toMongoWriteModels(final List<AbstractWriteModel> abstractWriteModels) {
+        return abstractWriteModels.stream()
+                .map(writeModel -> {
+                    ConsistencyLag.startS5MongoBulkWrite(writeModel.getMetadata());
+                    return writeModel.toMongo();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static List<AbstractWriteModel> toReplacements(final List<AbstractWriteModel> patchUpdates) {
+        return patchUpdates.stream()
+                .<AbstractWriteModel>map(patchUpdate -> ((ThingWriteModel) patchUpdate).toReplacement())
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isPatchUpdateBulk(final List<AbstractWriteModel> writeModels) {
+        return !writeModels.isEmpty() && writeModels.get(0) instanceof ThingWriteModel &&
+                ((ThingWriteModel) writeModels.get(0)).isPatchUpdate();
+    }
+
+    /**
+     * Remember the documents written successfully for the next incremental update and forget those whose state in
+     * the persistence is unknown. Record how many bytes were written compared to replacing entire documents.
+     *
+     * @param resultAndErrors the write models together with the result of writing them.
+     */
+    private void rememberWrittenDocuments(final WriteResultAndErrors resultAndErrors) {
+        if (lastWrittenDocuments == null) {
+            return;
+        }
+        final List<AbstractWriteModel> writeModels = resultAndErrors.getWriteModels();
+        final boolean allFailed = resultAndErrors.getUnexpectedError().isPresent() ||
+                !resultAndErrors.getBulkWriteResult().wasAcknowledged();
+        final BitSet failedIndices = new BitSet(writeModels.size());
+        resultAndErrors.getBulkWriteErrors().stream().mapToInt(BulkWriteError::getIndex).forEach(failedIndices::set);
+        long documentBytes = 0L;
+        long writtenBytes = 0L;
+        for (int i = 0; i < writeModels.size(); ++i) {
+            final AbstractWriteModel writeModel = writeModels.get(i);
+            final ThingId thingId = writeModel.getMetadata().getThingId();
+            if (!allFailed && !failedIndices.get(i) && writeModel instanceof ThingWriteModel) {
+                final ThingWriteModel thingWriteModel = (ThingWriteModel) writeModel;
+                final RawBsonDocument document =
+                        new RawBsonDocument(thingWriteModel.toBsonDocument(), BSON_DOCUMENT_CODEC);
+                final int documentSize = sizeInBytes(document);
+                documentBytes += documentSize;
+                writtenBytes += thingWriteModel.getPatchUpdate()
+                        .map(MongoSearchUpdaterFlow::sizeInBytes)
+                        .orElse(documentSize);
+                lastWrittenDocuments.put(thingId, document);
+            } else {
+                lastWrittenDocuments.invalidate(thingId);
+            }
+        }
+        if (documentBytes > 0L) {
+            DittoMetrics.histogram(DOCUMENT_BYTES_PER_BULK).record(documentBytes);
+            DittoMetrics.histogram(WRITTEN_BYTES_PER_BULK).record(writtenBytes);
+        }
+    }
+
+    private static int sizeInBytes(final BsonDocument document) {
+        final RawBsonDocument rawDocument = document instanceof RawBsonDocument
+                ? (RawBsonDocument) document
+                : new RawBsonDocument(document, BSON_DOCUMENT_CODEC);
+        return rawDocument.getByteBuffer().remaining();
     }
 
     private static <T> Flow<List<T>, StartedTimer, NotUsed> createStartTimerFlow() {
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.junit.Test;
+
+/**
+ * Tests {@link IndexedThingProjection}.
+ */
+public final class IndexedThingProjectionTest {
+
+    private static final JsonObject THING = JsonFactory.newObject("{\n" +
+            "  \"thingId\": \"hello:world\",\n" +
+            "  \"_namespace\": \"hello\",\n" +
+            "  \"_revision\": 1024,\n" +
+            "  \"policyId\": \"hello:world\",\n" +
+            "  \"features\": {\n" +
+            "    \"hi\": {\n" +
+            "      \"definition\": [ \"earth:v0:1\", \"mars:v0:2\" ],\n" +
+            "      \"properties\": { \"there\": true, \"secret\": 42 }\n" +
+            "    }\n" +
+            "  },\n" +
+            "  \"attributes\": { \"hello.world\": \"$~\", \"empty\": {} }\n" +
+            "}");
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .forLabel("grant-feature")
+                    .setSubject("g:1", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/features/hi", Permission.READ)
+                    .setRevokedPermissions(THING, "/features/hi/properties/secret", Permission.READ)
+                    .build());
+
+    @Test
+    public void projectAllRegularFields() {
+        final IndexedThingProjection underTest = IndexedThingProjection.of(List.of("g:0"), null, 25);
+
+        assertThat(underTest.project(indexDocument(25))).contains(JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"policyId\": \"hello:world\",\n" +
+                "  \"features\": {\n" +
+                "    \"hi\": {\n" +
+                "      \"definition\": [ \"earth:v0:1\", \"mars:v0:2\" ],\n" +
+                "      \"properties\": { \"there\": true, \"secret\": 42 }\n" +
+                "    }\n" +
+                "  },\n" +
+                "  \"attributes\": { \"hello.world\": \"$~\", \"empty\": {} }\n" +
+                "}"));
+    }
+
+    @Test
+    public void projectOnlyReadableFields() {
+        final IndexedThingProjection underTest = IndexedThingProjection.of(List.of("g:1"), null, 25);
+
+        assertThat(underTest.project(indexDocument(25))).contains(JsonFactory.newObject("{\n" +
+                "  \"features\": {\n" +
+                "    \"hi\": {\n" +
+                "      \"definition\": [ \"earth:v0:1\", \"mars:v0:2\" ],\n" +
+                "      \"properties\": { \"there\": true }\n" +
+                "    }\n" +
+                "  }\n" +
+                "}"));
+    }
+
+    @Test
+    public void projectSelectedFieldsWithThingId() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("_revision", "features/hi/properties");
+        final IndexedThingProjection underTest = IndexedThingProjection.of(List.of("g:0"), fields, 25);
+
+        assertThat(underTest.project(indexDocument(25))).contains(JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"_revision\": 1024,\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true, \"secret\": 42 } } }\n" +
+                "}"));
+    }
+
+    @Test
+    public void doNotProjectThingWithPossiblyTruncatedArray() {
+        final IndexedThingProjection underTest = IndexedThingProjection.of(List.of("g:0"), null, 2);
+
+        assertThat(underTest.project(indexDocument(2))).isEmpty();
+    }
+
+    @Test
+    public void doNotProjectThingWithoutIndexedValue() {
+        final IndexedThingProjection underTest = IndexedThingProjection.of(List.of("g:0"), null, 25);
+        final Document indexDocument = indexDocument(25);
+        indexDocument.getList("d", Document.class).remove(0);
+
+        assertThat(underTest.project(indexDocument)).isEmpty();
+    }
+
+    private static Document indexDocument(final int maxArraySize) {
+        final Document thingDocument =
+                EnforcedThingMapper.toWriteModel(THING, ENFORCER, 1L, maxArraySize, null).getThingDocument();
+        // decode the document like the MongoDB driver does
+        return Document.parse(thingDocument.toJson());
+    }
+
+}
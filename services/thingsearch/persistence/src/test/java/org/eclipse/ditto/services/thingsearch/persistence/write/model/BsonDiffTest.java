@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.junit.Test;
+
+/**
+ * Tests {@link BsonDiff}.
+ */
+public final class BsonDiffTest {
+
+    @Test
+    public void equalDocumentsHaveEmptyDiff() {
+        final BsonDocument document = BsonDocument.parse("{\"a\":{\"b\":[1,2,{\"c\":3}]},\"d\":\"e\"}");
+
+        final BsonDiff underTest = BsonDiff.minimalDiff(document, document.clone());
+
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.toBsonUpdate()).isEmpty();
+    }
+
+    @Test
+    public void changedNestedFieldsAreSetAndRemovedFieldsAreUnset() {
+        final BsonDocument previous = BsonDocument.parse("{\"_revision\":1,\"s\":{\"a\":1,\"b\":{\"c\":2,\"d\":3}}}");
+        final BsonDocument next = BsonDocument.parse("{\"_revision\":2,\"s\":{\"a\":1,\"b\":{\"c\":4},\"e\":5}}");
+
+        final BsonDocument update = BsonDiff.minimalDiff(previous, next).toBsonUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse("{" +
+                "\"$set\":{\"_revision\":2,\"s.b.c\":4,\"s.e\":5}," +
+                "\"$unset\":{\"s.b.d\":\"\"}" +
+                "}"));
+    }
+
+    @Test
+    public void arraysOfEqualOrGrowingLengthAreComparedByElement() {
+        final BsonDocument previous = BsonDocument.parse("{\"d\":[{\"k\":\"a\",\"v\":1},{\"k\":\"b\",\"v\":2}]}");
+        final BsonDocument next =
+                BsonDocument.parse("{\"d\":[{\"k\":\"a\",\"v\":1},{\"k\":\"b\",\"v\":3},{\"k\":\"c\",\"v\":4}]}");
+
+        final BsonDocument update = BsonDiff.minimalDiff(previous, next).toBsonUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse(
+                "{\"$set\":{\"d.1.v\":3,\"d.2\":{\"k\":\"c\",\"v\":4}}}"));
+    }
+
+    @Test
+    public void shrinkingArraysAreSetAsAWhole() {
+        final BsonDocument previous = BsonDocument.parse("{\"d\":[1,2,3]}");
+        final BsonDocument next = BsonDocument.parse("{\"d\":[1,2]}");
+
+        final BsonDocument update = BsonDiff.minimalDiff(previous, next).toBsonUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse("{\"$set\":{\"d\":[1,2]}}"));
+    }
+
+    @Test
+    public void changedValueTypesAreSet() {
+        final BsonDocument previous = BsonDocument.parse("{\"a\":{\"b\":1},\"c\":[1]}");
+        final BsonDocument next = BsonDocument.parse("{\"a\":\"b\",\"c\":{\"0\":1}}");
+
+        final BsonDocument update = BsonDiff.minimalDiff(previous, next).toBsonUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse("{\"$set\":{\"a\":\"b\",\"c\":{\"0\":1}}}"));
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
 import org.junit.Test;
 
 import akka.actor.ActorRef;
@@ -32,6 +34,8 @@ public final class MetadataTest extends AbstractWithActorSystemTest {
         EqualsVerifier.forClass(Metadata.class)
                 .usingGetClass()
                 .withPrefabValues(ActorRef.class, probe1.ref(), probe2.ref())
+                .withPrefabValues(JsonObject.class, JsonFactory.newObject("{\"thingId\":\"a:b\"}"),
+                        JsonFactory.newObject())
                 .verify();
     }
 
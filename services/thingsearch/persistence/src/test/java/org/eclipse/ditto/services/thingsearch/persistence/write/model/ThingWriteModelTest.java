@@ -12,8 +12,17 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
 import org.junit.Test;
 
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.testkit.TestProbe;
@@ -35,4 +44,35 @@ public final class ThingWriteModelTest extends AbstractWithActorSystemTest {
                 .verify();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void patchUpdateContainsOnlyChangedFieldsAndRequiresLastWrittenRevision() {
+        final ThingId thingId = ThingId.of("namespace:name");
+        final Document document = Document.parse("{\"_id\":\"namespace:name\",\"_revision\":2," +
+                "\"s\":{\"attributes\":{\"a\":\"unchanged value of considerable length\",\"b\":2}}}");
+        final BsonDocument lastWrittenDocument = BsonDocument.parse("{\"_id\":\"namespace:name\",\"_revision\":1," +
+                "\"s\":{\"attributes\":{\"a\":\"unchanged value of considerable length\",\"b\":1}}}");
+        final ThingWriteModel underTest = ThingWriteModel.of(Metadata.of(thingId, 2L, null, null, null), document);
+
+        final ThingWriteModel patchUpdate = underTest.toPatchUpdate(lastWrittenDocument).orElseThrow();
+        final WriteModel<Document> mongoWriteModel = patchUpdate.toMongo();
+
+        assertThat(patchUpdate.isPatchUpdate()).isTrue();
+        assertThat(patchUpdate.getPatchUpdate()).contains(
+                BsonDocument.parse("{\"$set\":{\"_revision\":2,\"s.attributes.b\":2}}"));
+        assertThat(mongoWriteModel).isInstanceOfSatisfying(UpdateOneModel.class, updateOneModel ->
+                assertThat(updateOneModel.getFilter().toString()).contains("_revision"));
+        assertThat(patchUpdate.toReplacement().toMongo()).isInstanceOf(ReplaceOneModel.class);
+    }
+
+    @Test
+    public void noPatchUpdateForUnchangedDocument() {
+        final ThingId thingId = ThingId.of("namespace:name");
+        final Document document = Document.parse("{\"_id\":\"namespace:name\",\"_revision\":1}");
+        final BsonDocument lastWrittenDocument = BsonDocument.parse("{\"_id\":\"namespace:name\",\"_revision\":1}");
+        final ThingWriteModel underTest = ThingWriteModel.of(Metadata.of(thingId, 1L, null, null, null), document);
+
+        assertThat(underTest.toPatchUpdate(lastWrittenDocument)).isEmpty();
+        assertThat(underTest.toMongo()).isInstanceOf(ReplaceOneModel.class);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultStreamConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Sink;
+import akka.testkit.CallingThreadDispatcher;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor}.
+ */
+public final class ChangeQueueActorTest {
+
+    private static final ThingId HOT_THING_ID = ThingId.of("x:hot");
+    private static final ThingId COLD_THING_ID = ThingId.of("x:cold");
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void deferChangesOfHotThingUntilItCoolsDown() {
+        final ActorRef underTest = createChangeQueueActor(2, "1h");
+
+        underTest.tell(Metadata.of(HOT_THING_ID, 1L, null, null, null), ActorRef.noSender());
+        underTest.tell(Metadata.of(HOT_THING_ID, 2L, null, null, null), ActorRef.noSender());
+        underTest.tell(Metadata.of(COLD_THING_ID, 1L, null, null, null), ActorRef.noSender());
+
+        assertThat(dump(underTest, false)).containsOnlyKeys(COLD_THING_ID);
+        assertThat(dump(underTest, false)).containsOnlyKeys(HOT_THING_ID)
+                .containsValue(Metadata.of(HOT_THING_ID, 2L, null, null, null));
+    }
+
+    @Test
+    public void doNotDeferChangesOfHotThingOlderThanMaxStaleness() {
+        final ActorRef underTest = createChangeQueueActor(2, "0s");
+
+        underTest.tell(Metadata.of(HOT_THING_ID, 1L, null, null, null), ActorRef.noSender());
+        underTest.tell(Metadata.of(HOT_THING_ID, 2L, null, null, null), ActorRef.noSender());
+        underTest.tell(Metadata.of(COLD_THING_ID, 1L, null, null, null), ActorRef.noSender());
+
+        assertThat(dump(underTest, false)).containsOnlyKeys(HOT_THING_ID, COLD_THING_ID);
+    }
+
+    @Test
+    public void doNotDeferChangesToAcknowledge() {
+        final ActorRef underTest = createChangeQueueActor(1, "1h");
+        final ActorRef sender = TestProbe.apply(actorSystem).ref();
+
+        underTest.tell(Metadata.of(HOT_THING_ID, 1L, null, null, null, sender), ActorRef.noSender());
+
+        assertThat(dump(underTest, true)).containsOnlyKeys(HOT_THING_ID);
+    }
+
+    private static ActorRef createChangeQueueActor(final int hotThingThreshold, final String maxStaleness) {
+        final StreamConfig streamConfig = DefaultStreamConfig.of(ConfigFactory.parseString(
+                "stream { hot-thing-threshold = " + hotThingThreshold + ", max-staleness = " + maxStaleness + " }"));
+        // process changes synchronously so that they are not overtaken by the dump control messages
+        return actorSystem.actorOf(ChangeQueueActor.props(streamConfig)
+                .withDispatcher(CallingThreadDispatcher.Id()));
+    }
+
+    private static Map<ThingId, Metadata> dump(final ActorRef changeQueueActor, final boolean shouldAcknowledge) {
+        return ChangeQueueActor.createSource(changeQueueActor, shouldAcknowledge, Duration.ZERO)
+                .runWith(Sink.head(), actorSystem)
+                .toCompletableFuture()
+                .join();
+    }
+
+}
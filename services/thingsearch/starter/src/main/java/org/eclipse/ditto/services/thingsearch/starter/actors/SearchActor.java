@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.thingsearch.starter.actors;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -20,7 +21,9 @@ import java.util.function.Function;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
 import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -55,6 +58,7 @@ import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
@@ -81,6 +85,10 @@ import akka.stream.javadsl.StreamRefs;
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
  * things have to be retrieved from Things Service via distributed pub/sub.
+ * <p>
+ * If the query projection is enabled, the found things are projected from the search index instead, and only things
+ * which cannot be projected have to be retrieved. Their IDs are listed in the header
+ * {@link QueryThingsResponse#UNPROJECTED_THING_IDS_HEADER} of the response.
  */
 public final class SearchActor extends AbstractActor {
 
@@ -101,14 +109,17 @@ public final class SearchActor extends AbstractActor {
 
     private final QueryParser queryParser;
     private final ThingsSearchPersistence searchPersistence;
+    private final boolean queryProjectionEnabled;
 
     @SuppressWarnings("unused")
     private SearchActor(
             final QueryParser queryParser,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final boolean queryProjectionEnabled) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
+        this.queryProjectionEnabled = queryProjectionEnabled;
     }
 
     /**
@@ -122,7 +133,23 @@ public final class SearchActor extends AbstractActor {
             final QueryParser queryFactory,
             final ThingsSearchPersistence searchPersistence) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence)
+        return props(queryFactory, searchPersistence, false);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this SearchActor.
+     *
+     * @param queryFactory factory of query objects.
+     * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param queryProjectionEnabled whether to project the found things from the search index.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(
+            final QueryParser queryFactory,
+            final ThingsSearchPersistence searchPersistence,
+            final boolean queryProjectionEnabled) {
+
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, queryProjectionEnabled)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -258,14 +285,15 @@ public final class SearchActor extends AbstractActor {
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationContext()
                                 .getAuthorizationSubjectIds();
-                        final Source<ResultList<ThingId>, NotUsed> findAllResult =
-                                searchPersistence.findAll(query, subjectIds, namespaces);
+                        final Source<Pair<ResultList<ThingId>, Map<ThingId, JsonObject>>, NotUsed> findAllResult =
+                                findAll(command, query, subjectIds, namespaces);
                         return processSearchPersistenceResult(findAllResult, dittoHeaders)
                                 .via(Flow.fromFunction(result -> {
                                     stopTimer(databaseAccessTimer);
                                     return result;
                                 }))
-                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
+                                .map(result -> toQueryThingsResponse(command, cursor.orElse(null), result.first(),
+                                        result.second()));
                     });
         });
 
@@ -276,6 +304,20 @@ public final class SearchActor extends AbstractActor {
                 .to(sender);
     }
 
+    private Source<Pair<ResultList<ThingId>, Map<ThingId, JsonObject>>, NotUsed> findAll(final QueryThings command,
+            final Query query,
+            final List<String> subjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        if (queryProjectionEnabled) {
+            return searchPersistence.findAllProjected(query, subjectIds, namespaces, command.getFields().orElse(null));
+        } else {
+            // the found things are retrieved by the gateway
+            return searchPersistence.findAll(query, subjectIds, namespaces)
+                    .map(thingIds -> Pair.<ResultList<ThingId>, Map<ThingId, JsonObject>>create(thingIds, null));
+        }
+    }
+
     private ActorSystem getSystem() {
         return getContext().getSystem();
     }
@@ -324,11 +366,18 @@ public final class SearchActor extends AbstractActor {
 
     private QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
             @Nullable ThingsSearchCursor cursor,
-            final ResultList<ThingId> thingIds) {
+            final ResultList<ThingId> thingIds,
+            @Nullable final Map<ThingId, JsonObject> projectedThings) {
 
-        final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
+        // the header is only set by this actor; a value of the command must not reach the gateway
+        final DittoHeaders dittoHeaders = queryThings.getDittoHeaders()
+                .toBuilder()
+                .removeHeader(QueryThingsResponse.UNPROJECTED_THING_IDS_HEADER)
+                .build();
         if (thingIds.isEmpty()) {
             return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
+        } else if (null != projectedThings) {
+            return toProjectedQueryThingsResponse(queryThings, cursor, thingIds, projectedThings);
         } else {
             // only respond with the determined "thingIds", the lookup of the things is done in gateway:
             final JsonArray items = thingIds.stream()
@@ -346,6 +395,35 @@ public final class SearchActor extends AbstractActor {
         }
     }
 
+    private static QueryThingsResponse toProjectedQueryThingsResponse(final QueryThings queryThings,
+            @Nullable ThingsSearchCursor cursor,
+            final ResultList<ThingId> thingIds,
+            final Map<ThingId, JsonObject> projectedThings) {
+
+        final JsonArrayBuilder items = JsonFactory.newArrayBuilder();
+        final JsonArrayBuilder unprojectedThingIds = JsonFactory.newArrayBuilder();
+        for (final ThingId thingId : thingIds) {
+            final JsonObject projectedThing = projectedThings.get(thingId);
+            if (null == projectedThing) {
+                // the gateway retrieves the thing from the things service
+                unprojectedThingIds.add(thingId.toString());
+                items.add(JsonObject.newBuilder().set(Thing.JsonFields.ID, thingId.toString()).build());
+            } else if (!projectedThing.isEmpty()) {
+                items.add(projectedThing);
+            }
+        }
+        final SearchResult searchResults =
+                SearchModelFactory.newSearchResult(items.build(), thingIds.nextPageOffset());
+        final SearchResult processedResults =
+                ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds);
+        final DittoHeaders dittoHeaders = queryThings.getDittoHeaders()
+                .toBuilder()
+                .putHeader(QueryThingsResponse.UNPROJECTED_THING_IDS_HEADER, unprojectedThingIds.build().toString())
+                .build();
+
+        return QueryThingsResponse.of(processedResults, dittoHeaders);
+    }
+
     private static StartedTimer startNewTimer(final JsonSchemaVersion version, final String queryType) {
         return DittoMetrics.timer(TRACING_THINGS_SEARCH)
                 .tag(QUERY_TYPE_TAG, queryType)
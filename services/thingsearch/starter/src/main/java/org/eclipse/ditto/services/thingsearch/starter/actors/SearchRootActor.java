@@ -86,7 +86,8 @@ public final class SearchRootActor extends DittoRootActor {
                 .build();
 
         final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence,
+                searchConfig.isQueryProjectionEnabled());
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final ActorSystem actorSystem = getContext().getSystem();
@@ -121,7 +122,8 @@ public final class SearchRootActor extends DittoRootActor {
 
         final ActorContext context = getContext();
         final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem())
+                        .withMaxArraySize(searchConfig.getUpdaterConfig().getStreamConfig().getMaxArraySize());
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -139,11 +141,13 @@ public final class SearchRootActor extends DittoRootActor {
     }
 
     private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
-            final ThingsSearchPersistence thingsSearchPersistence) {
+            final ThingsSearchPersistence thingsSearchPersistence,
+            final boolean queryProjectionEnabled) {
 
         final QueryParser queryParser = getQueryParser(limitsConfig, getContext().getSystem());
 
-        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
+        return startChildActor(SearchActor.ACTOR_NAME,
+                SearchActor.props(queryParser, thingsSearchPersistence, queryProjectionEnabled));
     }
 
     protected static QueryParser getQueryParser(final LimitsConfig limitsConfig, final ActorSystem actorSystem) {
@@ -102,11 +102,12 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final ShardRegionFactory shardRegionFactory = ShardRegionFactory.getInstance(actorSystem);
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final ActorRef changeQueueActor = startChildActor(ChangeQueueActor.ACTOR_NAME, ChangeQueueActor.props());
+        final UpdaterConfig updaterConfig = searchConfig.getUpdaterConfig();
+        final ActorRef changeQueueActor = startChildActor(ChangeQueueActor.ACTOR_NAME,
+                ChangeQueueActor.props(updaterConfig.getStreamConfig()));
 
         final Props thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActor);
 
-        final UpdaterConfig updaterConfig = searchConfig.getUpdaterConfig();
         if (!updaterConfig.isEventProcessingActive()) {
             log.warning("Event processing is disabled!");
         }
@@ -17,14 +17,19 @@ import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.time.Instant;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
 import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingLifecycle;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
@@ -41,6 +46,7 @@ import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import akka.actor.AbstractActor;
@@ -207,6 +213,7 @@ final class ThingUpdater extends AbstractActor {
                     thingEvent.getRevision(), thingRevision);
         } else {
             l.debug("Applying thing event <{}>.", thingEvent);
+            final boolean isNewerEvent = thingEvent.getRevision() > thingRevision;
             thingRevision = thingEvent.getRevision();
             final StartedTimer timer = DittoMetrics.timer(ConsistencyLag.TIMER_NAME)
                     .tag(ConsistencyLag.TAG_SHOULD_ACK, Boolean.toString(shouldAcknowledge))
@@ -215,10 +222,39 @@ final class ThingUpdater extends AbstractActor {
                             thingEvent))
                     .start();
             ConsistencyLag.startS0InUpdater(timer);
-            enqueueMetadata(exportMetadataWithSender(shouldAcknowledge, getSender(), timer));
+            final Metadata metadata = exportMetadataWithSender(shouldAcknowledge, getSender(), timer);
+            enqueueMetadata(isNewerEvent ? metadata.withThing(getThingIfDetermined(thingEvent)) : metadata);
         }
     }
 
+    /**
+     * Compute the complete Thing after an event if the event alone determines it, in the same way as the Things
+     * persistence does.
+     *
+     * @param thingEvent the event.
+     * @return the Thing in JSON format as retrieved by {@code SudoRetrieveThing}, or null if the event does not
+     * determine the Thing.
+     */
+    @Nullable
+    private JsonObject getThingIfDetermined(final ThingEvent<?> thingEvent) {
+        if (thingEvent instanceof ThingCreated) {
+            final ThingCreated thingCreated = (ThingCreated) thingEvent;
+            final Thing eventThing = thingCreated.getThing();
+            final Instant timestamp = thingCreated.getTimestamp().orElse(null);
+            final Thing thing = eventThing.toBuilder()
+                    .setId(thingId)
+                    .setLifecycle(ThingLifecycle.ACTIVE)
+                    .setRevision(thingCreated.getRevision())
+                    .setModified(null != timestamp ? timestamp : eventThing.getModified().orElse(null))
+                    .setCreated(null != timestamp ? timestamp : eventThing.getCreated().orElse(null))
+                    .setMetadata(thingCreated.getMetadata().orElseGet(() -> eventThing.getMetadata().orElse(null)))
+                    .build();
+            return thing.toJson(thing.getImplementedSchemaVersion(), FieldType.regularOrSpecial());
+        }
+        // other events, including ThingModified, depend on the previous state, e.g. on its creation timestamp
+        return null;
+    }
+
     private ThingId tryToGetThingId() {
         final Charset utf8 = StandardCharsets.UTF_8;
         try {
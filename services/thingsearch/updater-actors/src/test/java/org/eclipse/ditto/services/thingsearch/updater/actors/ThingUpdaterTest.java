@@ -118,6 +118,31 @@ public final class ThingUpdaterTest {
                 Assertions.assertThat(metadata.getThingRevision()).isEqualTo(1L);
                 Assertions.assertThat(metadata.getPolicyId()).isEmpty();
                 Assertions.assertThat(metadata.getPolicyRevision()).contains(-1L);
+                Assertions.assertThat(metadata.getThing()).isPresent();
+                Assertions.assertThat(metadata.getThing().get().getValue(Thing.JsonFields.ID))
+                        .contains(THING_ID.toString());
+                Assertions.assertThat(metadata.getThing().get().getValue(Thing.JsonFields.REVISION)).contains(1L);
+            }
+        };
+    }
+
+    @Test
+    public void thingModifiedDoesNotDetermineThing() {
+        final Thing currentThing = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setRevision(2L)
+                .setPermissions(ACL)
+                .build();
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+
+                underTest.tell(ThingModified.of(currentThing, 2L, DittoHeaders.empty()), ActorRef.noSender());
+
+                final Metadata metadata = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                Assertions.assertThat(metadata.getThingRevision()).isEqualTo(2L);
+                Assertions.assertThat(metadata.getThing()).isEmpty();
             }
         };
     }
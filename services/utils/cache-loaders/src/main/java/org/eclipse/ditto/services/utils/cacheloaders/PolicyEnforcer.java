@@ -13,12 +13,15 @@
 package org.eclipse.ditto.services.utils.cacheloaders;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 
 /**
@@ -56,6 +59,36 @@ public final class PolicyEnforcer {
         return new PolicyEnforcer(null, enforcer);
     }
 
+    /**
+     * Create a cache entry containing the passed policy together with its enforcer at the revision of the policy.
+     *
+     * @param policy the policy.
+     * @return the cache entry.
+     * @throws IllegalArgumentException if {@code policy} has no revision.
+     * @since 2.0.0
+     */
+    public static Entry<PolicyEnforcer> entryOf(final Policy policy) {
+        return entryOf(policy, PolicyEnforcers::defaultEvaluator);
+    }
+
+    /**
+     * Create a cache entry containing the passed policy together with its enforcer at the revision of the policy.
+     *
+     * @param policy the policy.
+     * @param enforcerFactory creates the enforcer of the policy, e.g. one of the evaluators of
+     * {@link PolicyEnforcers}.
+     * @return the cache entry.
+     * @throws IllegalArgumentException if {@code policy} has no revision.
+     * @since 2.0.0
+     */
+    public static Entry<PolicyEnforcer> entryOf(final Policy policy,
+            final Function<Policy, Enforcer> enforcerFactory) {
+        final long revision = policy.getRevision()
+                .map(PolicyRevision::toLong)
+                .orElseThrow(() -> new IllegalArgumentException("Policy has no revision: " + policy.getEntityId()));
+        return Entry.of(revision, new PolicyEnforcer(policy, enforcerFactory.apply(policy)));
+    }
+
     /**
      * Create a cache entry containing an Enforcer extracted from the passed {@code policyEnforcerEntry}.
      *
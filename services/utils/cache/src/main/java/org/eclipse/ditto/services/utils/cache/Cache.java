@@ -63,6 +63,19 @@ public interface Cache<K, V> {
      */
     boolean invalidate(K key);
 
+    /**
+     * Reloads the value associated with the passed key asynchronously if present. Until the reload completed, the
+     * present value is returned to readers instead of blocking them on the reload. Caches without a cache-loader
+     * invalidate the key instead.
+     *
+     * @param key the key to refresh.
+     * @throws NullPointerException if {@code key} is {@code null}.
+     * @since 2.0.0
+     */
+    default void refresh(final K key) {
+        invalidate(key);
+    }
+
     /**
      * Associates the {@code value} with the {@code key} in this cache.
      * <p>
@@ -103,7 +103,7 @@ public final class CacheFactory {
     }
 
     /**
-     * Creates a cache.
+     * Creates a cache. Entries are reloaded asynchronously after the configured refresh duration if it is not zero.
      *
      * @param cacheLoader the cache loader.
      * @param cacheConfig the the cache's configuration.
@@ -121,7 +121,12 @@ public final class CacheFactory {
 
         checkNotNull(cacheLoader, "AsyncCacheLoader");
 
-        return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
+        final Caffeine<Object, Object> caffeine = caffeine(cacheConfig, executor);
+        if (!cacheConfig.getRefreshAfterWrite().isZero()) {
+            // refreshing requires a cache-loader
+            caffeine.refreshAfterWrite(cacheConfig.getRefreshAfterWrite());
+        }
+        return CaffeineCache.of(caffeine, cacheLoader, cacheName, cacheConfig.isServeStaleOnReloadFailure());
     }
 
     private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor) {
@@ -17,20 +17,30 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 
 
 /**
  * A caffeine-backed cache implementation.
+ * <p>
+ * Concurrent requests for a key which is already being loaded share the pending load, also if they are issued via
+ * {@link ProjectedCache} views of this cache. Reloads of a key, either by {@link #refresh(Object)} or by the
+ * {@code refreshAfterWrite} setting of the passed {@link Caffeine} builder, are coalesced as well and do not block
+ * readers, which get the present value until the reload completed. An explicit {@link #refresh(Object)} during a
+ * pending reload restarts the reload, so that the cache does not end at a value loaded before the refresh.
  *
  * @param <K> the type of the key.
  * @param <V> the type of the value.
@@ -38,6 +48,8 @@ import com.github.benmanes.caffeine.cache.Policy;
 public class CaffeineCache<K, V> implements Cache<K, V> {
 
     @Nullable private final MetricsStatsCounter metricStatsCounter;
+    private final boolean serveStaleOnReloadFailure;
+    private final ConcurrentMap<K, Reload> reloadsInFlight;
     private final BiFunction<? super K, Executor, CompletableFuture<V>> asyncLoad;
     private final AsyncCache<K, V> asyncCache;
     private final com.github.benmanes.caffeine.cache.Cache<K, V> synchronousCacheView;
@@ -45,7 +57,8 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
 
     private CaffeineCache(final Caffeine<? super K, ? super V> caffeine,
             @Nullable final AsyncCacheLoader<K, V> loader,
-            @Nullable final String cacheName) {
+            @Nullable final String cacheName,
+            final boolean serveStaleOnReloadFailure) {
 
         if (cacheName != null) {
             this.metricStatsCounter =
@@ -54,8 +67,11 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         } else {
             this.metricStatsCounter = null;
         }
+        this.serveStaleOnReloadFailure = serveStaleOnReloadFailure;
+        reloadsInFlight = new ConcurrentHashMap<>();
         asyncLoad = loader != null ? loader::asyncLoad : (k, e) -> CompletableFuture.completedFuture(null);
-        this.asyncCache = loader != null ? caffeine.buildAsync(loader) : caffeine.buildAsync();
+        this.asyncCache =
+                loader != null ? caffeine.buildAsync(new ReloadingCacheLoader(loader)) : caffeine.buildAsync();
         this.synchronousCacheView = asyncCache.synchronous();
     }
 
@@ -93,7 +109,7 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         requireNonNull(caffeine);
         requireNonNull(asyncLoader);
 
-        return new CaffeineCache<>(caffeine, asyncLoader, null);
+        return new CaffeineCache<>(caffeine, asyncLoader, null, false);
     }
 
     /**
@@ -107,7 +123,7 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
     public static <K, V> CaffeineCache<K, V> of(final Caffeine<? super K, ? super V> caffeine) {
         requireNonNull(caffeine);
 
-        return new CaffeineCache<>(caffeine, null, null);
+        return new CaffeineCache<>(caffeine, null, null, false);
     }
 
     /**
@@ -123,7 +139,7 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
             @Nullable final String cacheName) {
         requireNonNull(caffeine);
 
-        return new CaffeineCache<>(caffeine, null, cacheName);
+        return new CaffeineCache<>(caffeine, null, cacheName, false);
     }
 
     /**
@@ -142,7 +158,30 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         requireNonNull(caffeine);
         requireNonNull(loader);
 
-        return new CaffeineCache<>(caffeine, loader, cacheName);
+        return of(caffeine, loader, cacheName, false);
+    }
+
+    /**
+     * Creates a new instance based on a {@link AsyncCacheLoader} which may report metrics for cache statistics.
+     *
+     * @param caffeine a (pre-configured) caffeine instance.
+     * @param loader the algorithm used for loading values asynchronously.
+     * @param cacheName The name of the cache or {@code null} if metrics should be disabled. Will be used for metrics.
+     * @param serveStaleOnReloadFailure whether to keep the present value of an entry if reloading it fails instead of
+     * removing the entry.
+     * @param <K> the type of the key.
+     * @param <V> the type of the value.
+     * @return the created instance
+     * @since 2.0.0
+     */
+    public static <K, V> CaffeineCache<K, V> of(final Caffeine<? super K, ? super V> caffeine,
+            final AsyncCacheLoader<K, V> loader,
+            @Nullable final String cacheName,
+            final boolean serveStaleOnReloadFailure) {
+        requireNonNull(caffeine);
+        requireNonNull(loader);
+
+        return new CaffeineCache<>(caffeine, loader, cacheName, serveStaleOnReloadFailure);
     }
 
     @Override
@@ -201,6 +240,24 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return currentlyExisting;
     }
 
+    @Override
+    public void refresh(final K key) {
+        requireNonNull(key);
+
+        if (asyncCache instanceof AsyncLoadingCache) {
+            if (asyncCache.asMap().containsKey(key)) {
+                // a pending reload may have read the value before it was modified, so it is restarted instead of
+                // joined; the present value is served until the reload completed
+                final Reload reloadInFlight = reloadsInFlight.get(key);
+                if (null == reloadInFlight || !reloadInFlight.restart()) {
+                    ((AsyncLoadingCache<K, V>) asyncCache).synchronous().refresh(key);
+                }
+            }
+        } else {
+            invalidate(key);
+        }
+    }
+
     // optimized batch invalidation method for caffeine
     @Override
     public void invalidateAll(final Collection<K> keys) {
@@ -222,4 +279,139 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return synchronousCacheView.asMap();
     }
 
+    /**
+     * Wraps a cache loader in order to coalesce concurrent reloads of a key, to record reloads and to handle failed
+     * reloads according to {@code serveStaleOnReloadFailure}.
+     */
+    private final class ReloadingCacheLoader implements AsyncCacheLoader<K, V> {
+
+        private final AsyncCacheLoader<K, V> delegate;
+
+        private ReloadingCacheLoader(final AsyncCacheLoader<K, V> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletableFuture<V> asyncLoad(final K key, final Executor executor) {
+            return delegate.asyncLoad(key, executor);
+        }
+
+        @Override
+        public CompletableFuture<V> asyncReload(final K key, final V oldValue, final Executor executor) {
+            final Reload reload = reloadsInFlight.compute(key, (k, reloadInFlight) ->
+                    null != reloadInFlight && !reloadInFlight.isCompleted()
+                            ? reloadInFlight
+                            : new Reload(() -> startReload(k, oldValue, executor)));
+            // starting and removal must not happen within compute, as the reload may complete right away
+            reload.start();
+            reload.result.whenComplete((value, error) -> reloadsInFlight.remove(key, reload));
+            return reload.result;
+        }
+
+        private CompletableFuture<V> startReload(final K key, final V oldValue, final Executor executor) {
+            if (metricStatsCounter != null) {
+                metricStatsCounter.recordRefresh();
+            }
+            final CompletableFuture<V> reload;
+            try {
+                reload = delegate.asyncReload(key, oldValue, executor);
+            } catch (final Exception e) {
+                return handleReloadFailure(e);
+            }
+            return reload.handle((value, error) -> null == error
+                    ? CompletableFuture.completedFuture(value)
+                    : handleReloadFailure(error))
+                    .thenCompose(Function.identity());
+        }
+
+        private CompletableFuture<V> handleReloadFailure(final Throwable error) {
+            if (metricStatsCounter != null) {
+                metricStatsCounter.recordRefreshFailure();
+            }
+            if (serveStaleOnReloadFailure) {
+                // caffeine keeps the present value if a reload fails
+                return CompletableFuture.failedFuture(error);
+            } else {
+                // caffeine removes the entry if a reload yields null
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+
+    }
+
+    /**
+     * A reload of a key whose result is shared by all coalesced reloads of the key. Only the latest attempt of the
+     * reload completes the result, so that restarting it discards the values of the attempts started before.
+     */
+    private final class Reload {
+
+        private final Supplier<CompletableFuture<V>> attemptStarter;
+        private final CompletableFuture<V> result;
+        @Nullable private CompletableFuture<V> latestAttempt;
+        private boolean completed;
+
+        private Reload(final Supplier<CompletableFuture<V>> attemptStarter) {
+            this.attemptStarter = attemptStarter;
+            result = new CompletableFuture<>();
+            latestAttempt = null;
+            completed = false;
+        }
+
+        private synchronized boolean isCompleted() {
+            return completed;
+        }
+
+        private void start() {
+            final CompletableFuture<V> attempt;
+            synchronized (this) {
+                if (null != latestAttempt) {
+                    return;
+                }
+                attempt = startAttempt();
+            }
+            attempt.whenComplete((value, error) -> attemptCompleted(attempt, value, error));
+        }
+
+        /**
+         * Starts a new attempt of this reload if it is still pending.
+         *
+         * @return whether a new attempt was started.
+         */
+        private boolean restart() {
+            final CompletableFuture<V> attempt;
+            synchronized (this) {
+                if (completed) {
+                    return false;
+                }
+                attempt = startAttempt();
+            }
+            attempt.whenComplete((value, error) -> attemptCompleted(attempt, value, error));
+            return true;
+        }
+
+        private CompletableFuture<V> startAttempt() {
+            final CompletableFuture<V> attempt = attemptStarter.get();
+            latestAttempt = attempt;
+            return attempt;
+        }
+
+        private void attemptCompleted(final CompletableFuture<V> attempt, @Nullable final V value,
+                @Nullable final Throwable error) {
+
+            synchronized (this) {
+                if (attempt != latestAttempt || completed) {
+                    return;
+                }
+                completed = true;
+            }
+            // the result is completed outside of the lock, as this triggers callbacks of caffeine
+            if (null == error) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(error);
+            }
+        }
+
+    }
+
 }
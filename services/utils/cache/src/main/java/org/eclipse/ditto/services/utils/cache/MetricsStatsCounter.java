@@ -19,6 +19,7 @@ import java.util.function.Supplier;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
@@ -56,6 +57,12 @@ public final class MetricsStatsCounter implements StatsCounter {
          * The total load time in nanoseconds.
          */
         TOTAL_LOAD_TIME(CACHE_PREFIX + "_loads"),
+        /**
+         * Distribution of the durations of loads and reloads in milliseconds.
+         *
+         * @since 2.0.0
+         */
+        LOAD_LATENCY(CACHE_PREFIX + "_load-latency-ms"),
         /**
          * Number of successful loads.
          */
@@ -64,6 +71,18 @@ public final class MetricsStatsCounter implements StatsCounter {
          * Number of failed loads.
          */
         LOADS_FAILURE(CACHE_PREFIX + "_loads-failure"),
+        /**
+         * Number of started reloads of present entries, either explicitly or after the refresh duration elapsed.
+         *
+         * @since 2.0.0
+         */
+        REFRESHES(CACHE_PREFIX + "_refreshes"),
+        /**
+         * Number of failed reloads of present entries.
+         *
+         * @since 2.0.0
+         */
+        REFRESHES_FAILURE(CACHE_PREFIX + "_refreshes-failure"),
         /**
          * Number of cache evictions, e.g. when the cache grows to large. Manual cache invalidation is NOT included,
          * it is counted by {@link #ESTIMATED_INVALIDATIONS}.
@@ -121,6 +140,9 @@ public final class MetricsStatsCounter implements StatsCounter {
     private final Counter loadSuccessCount;
     private final Counter loadFailureCount;
     private final PreparedTimer totalLoadTime;
+    private final Histogram loadLatency;
+    private final Counter refreshCount;
+    private final Counter refreshFailureCount;
     private final Counter evictionCount;
     private final Counter evictionWeight;
     private final Gauge estimatedSize;
@@ -135,6 +157,10 @@ public final class MetricsStatsCounter implements StatsCounter {
         hitCount = DittoMetrics.counter(MetricName.HITS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         missCount = DittoMetrics.counter(MetricName.MISSES.getValue()).tag(CACHE_NAME_TAG, cacheName);
         totalLoadTime = DittoMetrics.timer(MetricName.TOTAL_LOAD_TIME.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        loadLatency = DittoMetrics.histogram(MetricName.LOAD_LATENCY.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        refreshCount = DittoMetrics.counter(MetricName.REFRESHES.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        refreshFailureCount =
+                DittoMetrics.counter(MetricName.REFRESHES_FAILURE.getValue()).tag(CACHE_NAME_TAG, cacheName);
         loadSuccessCount = DittoMetrics.counter(MetricName.LOADS_SUCCESS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         loadFailureCount = DittoMetrics.counter(MetricName.LOADS_FAILURE.getValue()).tag(CACHE_NAME_TAG, cacheName);
         evictionCount = DittoMetrics.counter(MetricName.EVICTIONS.getValue()).tag(CACHE_NAME_TAG, cacheName);
@@ -176,6 +202,7 @@ public final class MetricsStatsCounter implements StatsCounter {
     public void recordLoadSuccess(final long loadTimeInNanos) {
         loadSuccessCount.increment();
         totalLoadTime.record(loadTimeInNanos, TimeUnit.NANOSECONDS);
+        loadLatency.record(TimeUnit.NANOSECONDS.toMillis(loadTimeInNanos));
         updateCacheSizeMetrics();
     }
 
@@ -183,6 +210,7 @@ public final class MetricsStatsCounter implements StatsCounter {
     public void recordLoadFailure(final long loadTimeInNanos) {
         loadFailureCount.increment();
         totalLoadTime.record(loadTimeInNanos, TimeUnit.NANOSECONDS);
+        loadLatency.record(TimeUnit.NANOSECONDS.toMillis(loadTimeInNanos));
     }
 
     @Override
@@ -210,6 +238,20 @@ public final class MetricsStatsCounter implements StatsCounter {
         estimatedInvalidationsWithoutItem.increment();
     }
 
+    /**
+     * Records the start of a reload of a present entry.
+     */
+    void recordRefresh() {
+        refreshCount.increment();
+    }
+
+    /**
+     * Records a failed reload of a present entry.
+     */
+    void recordRefreshFailure() {
+        refreshFailureCount.increment();
+    }
+
     @Override
     public CacheStats snapshot() {
         return new CacheStats(
@@ -63,6 +63,11 @@ final class ProjectedCache<K, U, V> implements Cache<K, U> {
         return cache.invalidate(key);
     }
 
+    @Override
+    public void refresh(final K key) {
+        cache.refresh(key);
+    }
+
     @Override
     public void put(final K key, final U value) {
         cache.put(key, embed.apply(value));
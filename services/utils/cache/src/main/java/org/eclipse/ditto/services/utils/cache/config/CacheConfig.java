@@ -55,6 +55,25 @@ public interface CacheConfig {
      */
     Duration getExpireAfterCreate();
 
+    /**
+     * Returns the duration after which a written cache entry is reloaded asynchronously on its next access while its
+     * present value is still returned. Deactivated when {@link Duration#ZERO} is configured. Only applies to caches
+     * with a cache-loader and should be shorter than the expiration durations.
+     *
+     * @return the duration between write and refresh.
+     * @since 2.0.0
+     */
+    Duration getRefreshAfterWrite();
+
+    /**
+     * Indicates whether the present value of a cache entry is kept if reloading it fails. Otherwise the entry is
+     * removed, so that the next access loads it again.
+     *
+     * @return {@code true} if stale values are served after a failed reload.
+     * @since 2.0.0
+     */
+    boolean isServeStaleOnReloadFailure();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -85,7 +104,17 @@ public interface CacheConfig {
         /**
          * Duration after which an accessed cache entry expires.
          */
-        EXPIRE_AFTER_CREATE("expire-after-create", Duration.ZERO);
+        EXPIRE_AFTER_CREATE("expire-after-create", Duration.ZERO),
+
+        /**
+         * Duration after which a written cache entry is reloaded asynchronously on access.
+         */
+        REFRESH_AFTER_WRITE("refresh-after-write", Duration.ZERO),
+
+        /**
+         * Whether the present value of a cache entry is kept if reloading it fails.
+         */
+        SERVE_STALE_ON_RELOAD_FAILURE("serve-stale-on-reload-failure", false);
 
         private final String path;
         private final Object defaultValue;
@@ -33,12 +33,17 @@ public final class DefaultCacheConfig implements CacheConfig {
     private final Duration expireAfterWrite;
     private final Duration expireAfterAccess;
     private final Duration expireAfterCreate;
+    private final Duration refreshAfterWrite;
+    private final boolean serveStaleOnReloadFailure;
 
     private DefaultCacheConfig(final ConfigWithFallback configWithFallback) {
         maximumSize = configWithFallback.getLong(CacheConfigValue.MAXIMUM_SIZE.getConfigPath());
         expireAfterWrite = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath());
         expireAfterAccess = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath());
         expireAfterCreate = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_CREATE.getConfigPath());
+        refreshAfterWrite = configWithFallback.getDuration(CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath());
+        serveStaleOnReloadFailure =
+                configWithFallback.getBoolean(CacheConfigValue.SERVE_STALE_ON_RELOAD_FAILURE.getConfigPath());
     }
 
     /**
@@ -73,13 +78,27 @@ public final class DefaultCacheConfig implements CacheConfig {
         return expireAfterCreate;
     }
 
+    @Override
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    @Override
+    public boolean isServeStaleOnReloadFailure() {
+        return serveStaleOnReloadFailure;
+    }
+
     @Override
     public Config render() {
         return ConfigFactory.empty()
                 .withValue(CacheConfigValue.MAXIMUM_SIZE.getConfigPath(), ConfigValueFactory.fromAnyRef(maximumSize))
                 .withValue(CacheConfigValue.EXPIRE_AFTER_CREATE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterCreate))
                 .withValue(CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterAccess))
-                .withValue(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterWrite));
+                .withValue(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterWrite))
+                .withValue(CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath(),
+                        ConfigValueFactory.fromAnyRef(refreshAfterWrite))
+                .withValue(CacheConfigValue.SERVE_STALE_ON_RELOAD_FAILURE.getConfigPath(),
+                        ConfigValueFactory.fromAnyRef(serveStaleOnReloadFailure));
     }
 
     @Override
@@ -94,12 +113,15 @@ public final class DefaultCacheConfig implements CacheConfig {
         return maximumSize == that.maximumSize &&
                 Objects.equals(expireAfterWrite, that.expireAfterWrite) &&
                 Objects.equals(expireAfterAccess, that.expireAfterAccess)&&
-                Objects.equals(expireAfterCreate, that.expireAfterCreate);
+                Objects.equals(expireAfterCreate, that.expireAfterCreate) &&
+                Objects.equals(refreshAfterWrite, that.refreshAfterWrite) &&
+                serveStaleOnReloadFailure == that.serveStaleOnReloadFailure;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maximumSize, expireAfterWrite, expireAfterAccess, expireAfterCreate);
+        return Objects.hash(maximumSize, expireAfterWrite, expireAfterAccess, expireAfterCreate, refreshAfterWrite,
+                serveStaleOnReloadFailure);
     }
 
     @Override
@@ -109,6 +131,8 @@ public final class DefaultCacheConfig implements CacheConfig {
                 ", expireAfterWrite=" + expireAfterWrite +
                 ", expireAfterAccess=" + expireAfterAccess +
                 ", expireAfterCreate=" + expireAfterCreate +
+                ", refreshAfterWrite=" + refreshAfterWrite +
+                ", serveStaleOnReloadFailure=" + serveStaleOnReloadFailure +
                 "]";
     }
 
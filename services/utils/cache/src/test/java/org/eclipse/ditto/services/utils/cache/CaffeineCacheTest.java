@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Unit test for {@link CaffeineCache}.
+ */
+public final class CaffeineCacheTest {
+
+    private static final String KEY = "key";
+
+    @Test
+    public void concurrentRequestsViaProjectedCacheShareThePendingLoad() {
+        final ControllableLoader loader = new ControllableLoader();
+        final CaffeineCache<String, Integer> underTest = CaffeineCache.of(Caffeine.newBuilder(), loader);
+        final Cache<String, String> projectedCache = underTest.projectValues(String::valueOf, Integer::valueOf);
+
+        final CompletableFuture<Optional<Integer>> first = underTest.get(KEY);
+        final CompletableFuture<Optional<String>> second = projectedCache.get(KEY);
+        loader.complete(1);
+
+        assertThat(first.join()).contains(1);
+        assertThat(second.join()).contains("1");
+        assertThat(loader.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void refreshServesPresentValueUntilReloaded() {
+        final ControllableLoader loader = new ControllableLoader();
+        final CaffeineCache<String, Integer> underTest = CaffeineCache.of(Caffeine.newBuilder(), loader);
+        final CompletableFuture<Optional<Integer>> initialLoad = underTest.get(KEY);
+        loader.complete(1);
+        initialLoad.join();
+
+        underTest.refresh(KEY);
+
+        assertThat(underTest.get(KEY).join()).contains(1);
+        assertThat(loader.reloads.get()).isEqualTo(1);
+
+        loader.complete(2);
+        waitUntilCached(underTest, 2);
+    }
+
+    @Test
+    public void refreshDuringPendingReloadEndsAtValueLoadedAfterwards() {
+        final ControllableLoader loader = new ControllableLoader();
+        final CaffeineCache<String, Integer> underTest = CaffeineCache.of(Caffeine.newBuilder(), loader);
+        final CompletableFuture<Optional<Integer>> initialLoad = underTest.get(KEY);
+        loader.complete(1);
+        initialLoad.join();
+
+        // the first reload reads the source before it is modified, the second one afterwards
+        underTest.refresh(KEY);
+        final CompletableFuture<Integer> reloadBeforeModification = loader.pending;
+        underTest.refresh(KEY);
+        assertThat(loader.reloads.get()).isEqualTo(2);
+
+        reloadBeforeModification.complete(2);
+        assertThat(underTest.getIfPresent(KEY).join()).contains(1);
+
+        loader.complete(3);
+        waitUntilCached(underTest, 3);
+    }
+
+    @Test
+    public void failedReloadRemovesEntryByDefault() {
+        final ControllableLoader loader = new ControllableLoader();
+        final CaffeineCache<String, Integer> underTest = CaffeineCache.of(Caffeine.newBuilder(), loader);
+        final CompletableFuture<Optional<Integer>> initialLoad = underTest.get(KEY);
+        loader.complete(1);
+        initialLoad.join();
+
+        underTest.refresh(KEY);
+        loader.fail();
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(underTest.getIfPresent(KEY).join()).isEmpty());
+    }
+
+    @Test
+    public void failedReloadKeepsPresentValueIfServingStale() {
+        final ControllableLoader loader = new ControllableLoader();
+        final CaffeineCache<String, Integer> underTest =
+                CaffeineCache.of(Caffeine.newBuilder(), loader, null, true);
+        final CompletableFuture<Optional<Integer>> initialLoad = underTest.get(KEY);
+        loader.complete(1);
+        initialLoad.join();
+
+        underTest.refresh(KEY);
+        loader.fail();
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> loader.reloads.get() == 1);
+        assertThat(underTest.getIfPresent(KEY).join()).contains(1);
+    }
+
+    private static void waitUntilCached(final Cache<String, Integer> cache, final int expectedValue) {
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(cache.getIfPresent(KEY).join()).contains(expectedValue));
+    }
+
+    /**
+     * Loader whose loads and reloads are completed by the test.
+     */
+    private static final class ControllableLoader implements AsyncCacheLoader<String, Integer> {
+
+        private final AtomicInteger loads = new AtomicInteger();
+        private final AtomicInteger reloads = new AtomicInteger();
+        private volatile CompletableFuture<Integer> pending = new CompletableFuture<>();
+
+        @Override
+        public CompletableFuture<Integer> asyncLoad(final String key, final Executor executor) {
+            loads.incrementAndGet();
+            return pending;
+        }
+
+        @Override
+        public CompletableFuture<Integer> asyncReload(final String key, final Integer oldValue,
+                final Executor executor) {
+
+            reloads.incrementAndGet();
+            // each reload reads the source anew
+            final CompletableFuture<Integer> reload = new CompletableFuture<>();
+            pending = reload;
+            return reload;
+        }
+
+        private void complete(final int value) {
+            final CompletableFuture<Integer> completed = pending;
+            pending = new CompletableFuture<>();
+            completed.complete(value);
+        }
+
+        private void fail() {
+            final CompletableFuture<Integer> failed = pending;
+            pending = new CompletableFuture<>();
+            failed.completeExceptionally(new IllegalStateException("expected"));
+        }
+
+    }
+
+}
@@ -67,6 +67,12 @@ public final class MetricsStatsCounterTest {
     private final Counter estimatedInvalidations = DittoMetrics
             .counter(MetricsStatsCounter.MetricName.ESTIMATED_INVALIDATIONS.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
+    private final Counter refreshCount = DittoMetrics
+            .counter(MetricsStatsCounter.MetricName.REFRESHES.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
+    private final Counter refreshFailureCount = DittoMetrics
+            .counter(MetricsStatsCounter.MetricName.REFRESHES_FAILURE.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
 
     @Before
     public void resetMetrics() {
@@ -80,6 +86,8 @@ public final class MetricsStatsCounterTest {
         estimatedSize.reset();
         maxSize.reset();
         estimatedInvalidations.reset();
+        refreshCount.reset();
+        refreshFailureCount.reset();
     }
 
     @Test
@@ -170,6 +178,26 @@ public final class MetricsStatsCounterTest {
         });
     }
 
+    @Test
+    public void refresh() {
+        // GIVEN
+        final CaffeineCache<Integer, Integer> cache = createCaffeineCache();
+
+        final int knownKey = 0;
+        cache.get(knownKey).join();
+
+        // WHEN
+        cache.refresh(knownKey);
+        final int nonExistingKey = 42;
+        cache.refresh(nonExistingKey);
+
+        // THEN
+        waitUntilAsserted(() -> {
+            assertThat(refreshCount.getCount()).isEqualTo(1);
+            assertThat(refreshFailureCount.getCount()).isEqualTo(0);
+        });
+    }
+
     private CaffeineCache<Integer, Integer> createCaffeineCache() {
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE);
         final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
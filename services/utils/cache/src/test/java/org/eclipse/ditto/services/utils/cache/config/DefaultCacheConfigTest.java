@@ -70,6 +70,12 @@ public final class DefaultCacheConfigTest {
         softly.assertThat(underTest.getExpireAfterAccess())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath())
                 .isEqualTo(CacheConfig.CacheConfigValue.EXPIRE_AFTER_ACCESS.getDefaultValue());
+        softly.assertThat(underTest.getRefreshAfterWrite())
+                .as(CacheConfig.CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.REFRESH_AFTER_WRITE.getDefaultValue());
+        softly.assertThat(underTest.isServeStaleOnReloadFailure())
+                .as(CacheConfig.CacheConfigValue.SERVE_STALE_ON_RELOAD_FAILURE.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.SERVE_STALE_ON_RELOAD_FAILURE.getDefaultValue());
     }
 
     @Test
@@ -85,6 +91,12 @@ public final class DefaultCacheConfigTest {
         softly.assertThat(underTest.getExpireAfterAccess())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath())
                 .isEqualTo(Duration.ofMinutes(4));
+        softly.assertThat(underTest.getRefreshAfterWrite())
+                .as(CacheConfig.CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(1));
+        softly.assertThat(underTest.isServeStaleOnReloadFailure())
+                .as(CacheConfig.CacheConfigValue.SERVE_STALE_ON_RELOAD_FAILURE.getConfigPath())
+                .isTrue();
     }
 
 }
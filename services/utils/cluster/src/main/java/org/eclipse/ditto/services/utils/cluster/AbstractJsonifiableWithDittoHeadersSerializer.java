@@ -16,6 +16,7 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.io.IOException;
 import java.io.NotSerializableException;
+import java.lang.ref.WeakReference;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
@@ -97,6 +98,12 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private final Counter outCounter;
     private final String serializerName;
 
+    /**
+     * The binary format decided by {@link #manifest(Object)} for the object which is serialized next by the same
+     * thread, so that {@link #toBinary(Object, ByteBuffer)} does not have to determine the manifest again.
+     */
+    private final ThreadLocal<BinaryFormatDecision> lastBinaryFormatDecision = new ThreadLocal<>();
+
     /**
      * Constructs a new {@code AbstractJsonifiableWithDittoHeadersSerializer} object.
      *
@@ -134,27 +141,59 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public String manifest(final Object o) {
-        return manifestProvider.apply(o);
+        final String manifest = manifestProvider.apply(o);
+        if (getBinaryFormat().isEmpty()) {
+            return manifest;
+        }
+        final Optional<BinaryJsonifiableFormat> binaryFormat = getBinaryFormatToWrite(manifest);
+        lastBinaryFormatDecision.set(new BinaryFormatDecision(o, binaryFormat));
+        if (binaryFormat.isPresent()) {
+            return BinaryJsonifiableFormat.toBinaryManifest(manifest);
+        }
+        return manifest;
+    }
+
+    /**
+     * Returns the binary format to write frequently sent signals in and to read signals with a manifest of the binary
+     * format. Serializers without a binary format write and read all signals as JSON objects.
+     *
+     * @return the binary format or an empty Optional.
+     */
+    Optional<BinaryJsonifiableFormat> getBinaryFormat() {
+        return Optional.empty();
+    }
+
+    private Optional<BinaryJsonifiableFormat> getBinaryFormatToWrite(final String manifest) {
+        return getBinaryFormat().filter(binaryFormat -> binaryFormat.isWrittenFor(manifest));
+    }
+
+    private Optional<BinaryJsonifiableFormat> getBinaryFormatToWriteFor(final Object object) {
+        @Nullable final BinaryFormatDecision decision = lastBinaryFormatDecision.get();
+        if (null != decision) {
+            lastBinaryFormatDecision.remove();
+            if (decision.isFor(object)) {
+                return decision.binaryFormat;
+            }
+        }
+        if (getBinaryFormat().isEmpty()) {
+            return Optional.empty();
+        }
+        return getBinaryFormatToWrite(manifestProvider.apply(object));
     }
 
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
             final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
-
-            final JsonValue jsonValue;
-
-            if (object instanceof Jsonifiable.WithPredicate) {
-                final JsonSchemaVersion schemaVersion =
-                        dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
-
-                jsonValue = ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
-            } else {
-                jsonValue = ((Jsonifiable<?>) object).toJson();
+            final JsonValue jsonValue = getPayloadJson(object, dittoHeaders);
+            final Optional<BinaryJsonifiableFormat> binaryFormat = getBinaryFormatToWriteFor(object);
+            if (binaryFormat.isPresent()) {
+                toBinaryFormat(binaryFormat.get(), dittoHeaders, jsonValue, buf);
+                return;
             }
 
+            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
+            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
             jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
             final JsonObject jsonObject = jsonObjectBuilder.build();
             try {
@@ -181,6 +220,38 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
+    private static JsonValue getPayloadJson(final Object jsonifiable, final DittoHeaders dittoHeaders) {
+        final JsonValue jsonValue;
+        if (jsonifiable instanceof Jsonifiable.WithPredicate) {
+            final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+            jsonValue = ((Jsonifiable.WithPredicate) jsonifiable).toJson(schemaVersion, FieldType.regularOrSpecial());
+        } else {
+            jsonValue = ((Jsonifiable<?>) jsonifiable).toJson();
+        }
+        return jsonValue;
+    }
+
+    private void toBinaryFormat(final BinaryJsonifiableFormat binaryFormat, final DittoHeaders dittoHeaders,
+            final JsonValue payload, final ByteBuffer buf) {
+
+        try {
+            binaryFormat.write(dittoHeaders, payload, buf);
+            LOG.trace("toBinary binary payload about to send 'out': {}", payload);
+            outCounter.increment();
+        } catch (final BufferOverflowException e) {
+            final String errorMessage = MessageFormat.format(
+                    "Could not put binary format of <{0}> into ByteBuffer due to BufferOverflow", payload);
+            LOG.error(errorMessage, e);
+            throw new IllegalArgumentException(errorMessage, e);
+        } catch (final IOException e) {
+            final String errorMessage = MessageFormat.format(
+                    "Serialization failed with {0} on Jsonifiable with string representation <{1}>",
+                    e.getClass().getName(), payload);
+            LOG.warn(errorMessage, e);
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+
     /**
      * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
      *
@@ -259,6 +330,10 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private Jsonifiable<?> createJsonifiableFrom(final String manifest, final ByteBuffer bytebuffer)
             throws NotSerializableException {
 
+        if (BinaryJsonifiableFormat.isBinaryManifest(manifest)) {
+            return createJsonifiableFromBinaryFormat(manifest, bytebuffer);
+        }
+
         final JsonValue jsonValue = deserializeFromByteBuffer(bytebuffer);
 
         final JsonObject jsonObject;
@@ -283,6 +358,24 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         return deserializeJson(payload, manifest, dittoHeadersBuilder.build());
     }
 
+    private Jsonifiable<?> createJsonifiableFromBinaryFormat(final String manifest, final ByteBuffer bytebuffer)
+            throws NotSerializableException {
+
+        final BinaryJsonifiableFormat binaryFormat = getBinaryFormat().orElseThrow(() -> {
+            LOG.warn("Serializer {} cannot read manifest <{}> of the binary format!", serializerName, manifest);
+            return new NotSerializableException(manifest);
+        });
+        final DittoHeaders dittoHeaders = binaryFormat.readHeaders(bytebuffer);
+        final JsonValue payload = binaryFormat.readPayload(bytebuffer);
+        if (!payload.isObject()) {
+            final String errorMessage = MessageFormat.format("Payload <{0}> of manifest <{1}> is no object!",
+                    payload, manifest);
+            throw JsonParseException.newBuilder().message(errorMessage).build();
+        }
+        return deserializeJson(payload.asObject(), BinaryJsonifiableFormat.toJsonifiableManifest(manifest),
+                dittoHeaders);
+    }
+
     private Jsonifiable<?> deserializeJson(final JsonObject jsonPayload, final String manifest,
             final DittoHeaders dittoHeaders)
             throws NotSerializableException {
@@ -328,4 +421,22 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
         return result;
     }
+
+    private static final class BinaryFormatDecision {
+
+        // weak in order not to retain the object if it is not serialized after its manifest was determined
+        private final WeakReference<Object> object;
+        private final Optional<BinaryJsonifiableFormat> binaryFormat;
+
+        private BinaryFormatDecision(final Object object, final Optional<BinaryJsonifiableFormat> binaryFormat) {
+            this.object = new WeakReference<>(object);
+            this.binaryFormat = binaryFormat;
+        }
+
+        private boolean isFor(final Object object) {
+            return this.object.get() == object;
+        }
+
+    }
+
 }
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+
+/**
+ * Compact binary format of a {@link org.eclipse.ditto.model.base.json.Jsonifiable} with
+ * {@link DittoHeaders} used by {@link CborJsonifiableSerializer} for the most frequently sent signal types.
+ * <p>
+ * Instead of wrapping headers and payload into a JSON object, the headers are written as a list of indexes into a
+ * table of well-known header keys with their values, followed by the extra headers as key-value pairs, followed by
+ * the CBOR bytes of the payload:
+ * <pre>
+ * varint known-count, (varint key-index, string value)*, varint extra-count, (string key, string value)*, payload
+ * </pre>
+ * Strings are written as varint length followed by their UTF-8 bytes.
+ * <p>
+ * The version of the format is part of the serializer manifest: the manifest of a signal written in this format is
+ * {@value #MANIFEST_PREFIX} followed by the manifest of the signal. Every node can read this format, but it is only
+ * written if enabled, so that the format may be enabled after all nodes of a cluster were upgraded to a version able
+ * to read it. The table of well-known header keys of a format version must never change; a changed table requires a
+ * new version with a new manifest prefix.
+ */
+@Immutable
+final class BinaryJsonifiableFormat {
+
+    /**
+     * Prefix of the manifests of signals written in version 1 of the binary format.
+     */
+    static final String MANIFEST_PREFIX = "ditto-binary-v1/";
+
+    private static final List<String> KNOWN_HEADER_KEYS_V1 = List.of(
+            DittoHeaderDefinition.CORRELATION_ID.getKey(),
+            DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey(),
+            DittoHeaderDefinition.SCHEMA_VERSION.getKey(),
+            DittoHeaderDefinition.RESPONSE_REQUIRED.getKey(),
+            DittoHeaderDefinition.DRY_RUN.getKey(),
+            DittoHeaderDefinition.READ_SUBJECTS.getKey(),
+            DittoHeaderDefinition.READ_REVOKED_SUBJECTS.getKey(),
+            DittoHeaderDefinition.CONTENT_TYPE.getKey(),
+            DittoHeaderDefinition.REPLY_TO.getKey(),
+            DittoHeaderDefinition.CHANNEL.getKey(),
+            DittoHeaderDefinition.ORIGIN.getKey(),
+            DittoHeaderDefinition.ETAG.getKey(),
+            DittoHeaderDefinition.IF_MATCH.getKey(),
+            DittoHeaderDefinition.IF_NONE_MATCH.getKey(),
+            DittoHeaderDefinition.REPLY_TARGET.getKey(),
+            DittoHeaderDefinition.EXPECTED_RESPONSE_TYPES.getKey(),
+            DittoHeaderDefinition.INBOUND_PAYLOAD_MAPPER.getKey(),
+            DittoHeaderDefinition.ORIGINATOR.getKey(),
+            DittoHeaderDefinition.REQUESTED_ACKS.getKey(),
+            DittoHeaderDefinition.DECLARED_ACKS.getKey(),
+            DittoHeaderDefinition.TIMEOUT.getKey(),
+            DittoHeaderDefinition.ENTITY_ID.getKey(),
+            DittoHeaderDefinition.CONNECTION_ID.getKey(),
+            DittoHeaderDefinition.WEAK_ACK.getKey()
+    );
+
+    private static final Map<String, Integer> KNOWN_HEADER_INDEXES_V1 = indexKnownHeaderKeys();
+
+    private static final String NAMESPACE_SEPARATOR = ":";
+
+    private final CborFactory cborFactory;
+    private final boolean writeEnabled;
+    private final Set<String> manifests;
+    private final List<String> manifestNamespaces;
+
+    private BinaryJsonifiableFormat(final CborFactory cborFactory, final boolean writeEnabled,
+            final Collection<String> manifests) {
+
+        this.cborFactory = cborFactory;
+        this.writeEnabled = writeEnabled;
+        this.manifests = manifests.stream()
+                .filter(manifest -> !manifest.endsWith(NAMESPACE_SEPARATOR))
+                .collect(Collectors.toUnmodifiableSet());
+        manifestNamespaces = manifests.stream()
+                .filter(manifest -> manifest.endsWith(NAMESPACE_SEPARATOR))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns a new instance of the binary format.
+     *
+     * @param cborFactory the factory to write and read the payload with.
+     * @param writeEnabled whether signals are written in the binary format. Signals are read in the binary format
+     * regardless of this flag.
+     * @param manifests manifests of the signals to write in the binary format. An entry ending with {@code ":"} such as
+     * {@code "things.events:"} denotes all manifests of that namespace, all other entries have to match exactly.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static BinaryJsonifiableFormat of(final CborFactory cborFactory, final boolean writeEnabled,
+            final Collection<String> manifests) {
+
+        return new BinaryJsonifiableFormat(checkNotNull(cborFactory, "cborFactory"), writeEnabled,
+                checkNotNull(manifests, "manifests"));
+    }
+
+    /**
+     * Indicates whether a signal with the given manifest is written in the binary format.
+     *
+     * @param manifest the manifest of the signal.
+     * @return {@code true} if the signal is written in the binary format.
+     */
+    boolean isWrittenFor(final String manifest) {
+        if (!writeEnabled) {
+            return false;
+        }
+        if (manifests.contains(manifest)) {
+            return true;
+        }
+        for (final String manifestNamespace : manifestNamespaces) {
+            if (manifest.startsWith(manifestNamespace)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indicates whether the given serializer manifest denotes the binary format.
+     *
+     * @param serializerManifest the serializer manifest.
+     * @return {@code true} if the manifest denotes the binary format.
+     */
+    static boolean isBinaryManifest(final String serializerManifest) {
+        return serializerManifest.startsWith(MANIFEST_PREFIX);
+    }
+
+    /**
+     * Returns the serializer manifest of a signal written in the binary format.
+     *
+     * @param manifest the manifest of the signal.
+     * @return the serializer manifest.
+     */
+    static String toBinaryManifest(final String manifest) {
+        return MANIFEST_PREFIX + manifest;
+    }
+
+    /**
+     * Returns the manifest of the signal of a serializer manifest of the binary format.
+     *
+     * @param binaryManifest the serializer manifest of the binary format.
+     * @return the manifest of the signal.
+     */
+    static String toJsonifiableManifest(final String binaryManifest) {
+        return binaryManifest.substring(MANIFEST_PREFIX.length());
+    }
+
+    /**
+     * Writes headers and payload into the passed byte buffer.
+     *
+     * @param dittoHeaders the headers.
+     * @param payload the payload.
+     * @param byteBuffer the byte buffer to write into.
+     * @throws IOException if writing the payload fails.
+     * @throws java.nio.BufferOverflowException if the byte buffer is too small.
+     */
+    void write(final DittoHeaders dittoHeaders, final JsonValue payload, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        final List<Map.Entry<String, String>> extraHeaders = new ArrayList<>();
+        int knownHeadersCount = 0;
+        for (final Map.Entry<String, String> header : dittoHeaders.entrySet()) {
+            if (KNOWN_HEADER_INDEXES_V1.containsKey(header.getKey())) {
+                knownHeadersCount++;
+            } else {
+                extraHeaders.add(header);
+            }
+        }
+
+        writeVarInt(knownHeadersCount, byteBuffer);
+        for (final Map.Entry<String, String> header : dittoHeaders.entrySet()) {
+            @Nullable final Integer index = KNOWN_HEADER_INDEXES_V1.get(header.getKey());
+            if (null != index) {
+                writeVarInt(index, byteBuffer);
+                writeString(header.getValue(), byteBuffer);
+            }
+        }
+        writeVarInt(extraHeaders.size(), byteBuffer);
+        for (final Map.Entry<String, String> header : extraHeaders) {
+            writeString(header.getKey(), byteBuffer);
+            writeString(header.getValue(), byteBuffer);
+        }
+        cborFactory.writeToByteBuffer(payload, byteBuffer);
+    }
+
+    /**
+     * Reads the headers from the passed byte buffer and advances its position to the payload.
+     *
+     * @param byteBuffer the byte buffer to read from.
+     * @return the headers.
+     * @throws JsonParseException if the byte buffer does not contain headers in the binary format.
+     */
+    DittoHeaders readHeaders(final ByteBuffer byteBuffer) {
+        try {
+            final Map<String, String> headers = new HashMap<>();
+            final int knownHeadersCount = readVarInt(byteBuffer);
+            for (int i = 0; i < knownHeadersCount; i++) {
+                final int index = readVarInt(byteBuffer);
+                if (index < 0 || index >= KNOWN_HEADER_KEYS_V1.size()) {
+                    throw newJsonParseException(MessageFormat.format("Unknown header index <{0}>.", index));
+                }
+                headers.put(KNOWN_HEADER_KEYS_V1.get(index), readString(byteBuffer));
+            }
+            final int extraHeadersCount = readVarInt(byteBuffer);
+            for (int i = 0; i < extraHeadersCount; i++) {
+                final String key = readString(byteBuffer);
+                headers.put(key, readString(byteBuffer));
+            }
+            return DittoHeaders.of(headers);
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            throw newJsonParseException(MessageFormat.format("Headers are incomplete or invalid: {0}", e));
+        }
+    }
+
+    /**
+     * Reads the payload from the remaining bytes of the passed byte buffer.
+     *
+     * @param byteBuffer the byte buffer positioned at the payload.
+     * @return the payload.
+     * @throws JsonParseException if the remaining bytes are no valid CBOR.
+     */
+    JsonValue readPayload(final ByteBuffer byteBuffer) {
+        return cborFactory.readFromLazily(byteBuffer);
+    }
+
+    private static void writeString(final String string, final ByteBuffer byteBuffer) {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length, byteBuffer);
+        byteBuffer.put(bytes);
+    }
+
+    private static String readString(final ByteBuffer byteBuffer) {
+        final int length = readVarInt(byteBuffer);
+        if (length < 0 || length > byteBuffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final byte[] bytes = new byte[length];
+        byteBuffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(final int value, final ByteBuffer byteBuffer) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            byteBuffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        byteBuffer.put((byte) remaining);
+    }
+
+    private static int readVarInt(final ByteBuffer byteBuffer) {
+        int result = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final byte b = byteBuffer.get();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw newJsonParseException("Malformed variable length integer.");
+    }
+
+    private static JsonParseException newJsonParseException(final String message) {
+        return JsonParseException.newBuilder().message(message).build();
+    }
+
+    private static Map<String, Integer> indexKnownHeaderKeys() {
+        final Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < KNOWN_HEADER_KEYS_V1.size(); i++) {
+            result.put(KNOWN_HEADER_KEYS_V1.get(i), i);
+        }
+        return result;
+    }
+
+}
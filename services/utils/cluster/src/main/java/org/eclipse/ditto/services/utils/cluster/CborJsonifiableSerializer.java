@@ -14,22 +14,37 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.ditto.json.CborFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
 import akka.actor.ExtendedActorSystem;
 
 /**
  * Serializer of Eclipse Ditto for Jsonifiables via CBOR-based {@code ditto-json}.
+ * Signals with one of the configured manifests are written in the more compact {@link BinaryJsonifiableFormat} if it
+ * is enabled.
  */
 public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
 
     private static final int UNIQUE_IDENTIFIER = 656329405;
 
+    private static final String CONFIG_BINARY_FORMAT_ENABLED = "akka.actor.serializers-json.binary-format.enabled";
+    private static final String CONFIG_BINARY_FORMAT_MANIFESTS = "akka.actor.serializers-json.binary-format.manifests";
+
+    private static final Config FALLBACK_CONF = ConfigFactory.empty()
+            .withValue(CONFIG_BINARY_FORMAT_ENABLED, ConfigValueFactory.fromAnyRef(false))
+            .withValue(CONFIG_BINARY_FORMAT_MANIFESTS, ConfigValueFactory.fromIterable(List.of()));
 
     private final CborFactory cborFactory;
+    private final BinaryJsonifiableFormat binaryFormat;
 
     /**
      * Constructs a new {@code CborJsonifiableSerializer} object.
@@ -40,6 +55,14 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
         super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance(), "CBOR");
         final var cborFactoryLoader = CborFactoryLoader.getInstance();
         cborFactory = cborFactoryLoader.getCborFactoryOrThrow();
+        final Config config = actorSystem.settings().config().withFallback(FALLBACK_CONF);
+        binaryFormat = BinaryJsonifiableFormat.of(cborFactory, config.getBoolean(CONFIG_BINARY_FORMAT_ENABLED),
+                config.getStringList(CONFIG_BINARY_FORMAT_MANIFESTS));
+    }
+
+    @Override
+    Optional<BinaryJsonifiableFormat> getBinaryFormat() {
+        return Optional.of(binaryFormat);
     }
 
     @Override
@@ -49,7 +72,7 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        return cborFactory.readFrom(byteBuffer);
+        return cborFactory.readFromLazily(byteBuffer);
     }
 
 }
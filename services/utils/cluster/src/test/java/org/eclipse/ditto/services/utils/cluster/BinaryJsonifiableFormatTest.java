@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.NotSerializableException;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link BinaryJsonifiableFormat} as written and read by {@link CborJsonifiableSerializer}.
+ */
+public final class BinaryJsonifiableFormatTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("authSubject")))
+            .correlationId("correlationId")
+            .schemaVersion(JsonSchemaVersion.LATEST)
+            .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+            .putHeader("x-custom-header", "custom value with ümlaut")
+            .build();
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "binary");
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(THING_ID)
+            .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+            .build();
+
+    private static ExtendedActorSystem binaryWritingActorSystem;
+    private static ExtendedActorSystem jsonWritingActorSystem;
+
+    @BeforeClass
+    public static void setUpClass() {
+        binaryWritingActorSystem = getActorSystem(true);
+        jsonWritingActorSystem = getActorSystem(false);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        TestKit.shutdownActorSystem(binaryWritingActorSystem);
+        TestKit.shutdownActorSystem(jsonWritingActorSystem);
+    }
+
+    @Test
+    public void signalsWithConfiguredManifestsAreWrittenInBinaryFormat() {
+        final CborJsonifiableSerializer underTest = new CborJsonifiableSerializer(binaryWritingActorSystem);
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+
+        final String manifest = underTest.manifest(createThing);
+        final Object deserialized = underTest.fromBinary(underTest.toBinary(createThing), manifest);
+
+        assertThat(manifest).isEqualTo(BinaryJsonifiableFormat.MANIFEST_PREFIX + CreateThing.TYPE);
+        assertThat(deserialized).isEqualTo(createThing);
+        assertThat(((CreateThing) deserialized).getDittoHeaders()).isEqualTo(DITTO_HEADERS);
+    }
+
+    @Test
+    public void signalsWithOtherManifestsAreWrittenAsJson() {
+        final CborJsonifiableSerializer underTest = new CborJsonifiableSerializer(binaryWritingActorSystem);
+        final RetrieveThingResponse response = RetrieveThingResponse.of(THING_ID, THING, DITTO_HEADERS);
+
+        final String manifest = underTest.manifest(response);
+
+        assertThat(manifest).isEqualTo(RetrieveThingResponse.TYPE);
+        assertThat(underTest.fromBinary(underTest.toBinary(response), manifest)).isEqualTo(response);
+    }
+
+    @Test
+    public void manifestsAreMatchedExactlyUnlessTheyDenoteANamespace() {
+        final BinaryJsonifiableFormat underTest =
+                BinaryJsonifiableFormat.of(CborFactoryLoader.getInstance().getCborFactoryOrThrow(), true,
+                        List.of("things.events:", RetrieveThing.TYPE));
+
+        assertThat(underTest.isWrittenFor(RetrieveThing.TYPE)).isTrue();
+        assertThat(underTest.isWrittenFor(RetrieveThings.TYPE)).isFalse();
+        assertThat(underTest.isWrittenFor("things.events:thingCreated")).isTrue();
+        assertThat(underTest.isWrittenFor(CreateThing.TYPE)).isFalse();
+    }
+
+    @Test
+    public void toBinaryDoesNotUseTheFormatDecidedForAnotherSignal() {
+        final CborJsonifiableSerializer underTest = new CborJsonifiableSerializer(binaryWritingActorSystem);
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+        final RetrieveThingResponse response = RetrieveThingResponse.of(THING_ID, THING, DITTO_HEADERS);
+
+        underTest.manifest(createThing);
+        final byte[] bytes = underTest.toBinary(response);
+
+        assertThat(underTest.fromBinary(bytes, underTest.manifest(response))).isEqualTo(response);
+    }
+
+    @Test
+    public void binaryFormatIsReadIfWritingItIsDisabled() {
+        final CborJsonifiableSerializer writer = new CborJsonifiableSerializer(binaryWritingActorSystem);
+        final CborJsonifiableSerializer underTest = new CborJsonifiableSerializer(jsonWritingActorSystem);
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+
+        assertThat(underTest.manifest(createThing)).isEqualTo(CreateThing.TYPE);
+        assertThat(underTest.fromBinary(writer.toBinary(createThing), writer.manifest(createThing)))
+                .isEqualTo(createThing);
+        assertThat(writer.fromBinary(underTest.toBinary(createThing), underTest.manifest(createThing)))
+                .isEqualTo(createThing);
+    }
+
+    @Test
+    public void truncatedBinaryFormatIsNotSerializable() {
+        final CborJsonifiableSerializer underTest = new CborJsonifiableSerializer(binaryWritingActorSystem);
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+        final byte[] bytes = underTest.toBinary(createThing);
+        final byte[] truncated = new byte[8];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+        assertThat(underTest.fromBinary(truncated, underTest.manifest(createThing)))
+                .isInstanceOf(NotSerializableException.class);
+    }
+
+    private static ExtendedActorSystem getActorSystem(final boolean binaryFormatEnabled) {
+        return (ExtendedActorSystem) ExtendedActorSystem.create("test", ConfigFactory.parseMap(Map.of(
+                "ditto.mapping-strategy.implementation", ThingCommandsStrategy.class.getName(),
+                "akka.actor.serializers-json.binary-format.enabled", binaryFormatEnabled,
+                "akka.actor.serializers-json.binary-format.manifests", List.of("things.commands:")
+        )));
+    }
+
+    private static final class ThingCommandsStrategy extends MappingStrategies {
+
+        ThingCommandsStrategy() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalErrorRegistry.getInstance())
+                    .add(GlobalCommandRegistry.getInstance())
+                    .add(GlobalCommandResponseRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
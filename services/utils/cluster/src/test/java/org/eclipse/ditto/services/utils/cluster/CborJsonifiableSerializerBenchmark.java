@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Compares serializing and deserializing a {@link ModifyFeatureProperty} with {@link CborJsonifiableSerializer} as
+ * JSON object wrapping headers and payload against the {@link BinaryJsonifiableFormat}.
+ * <p>
+ * Both formats convert the signal to its JSON representation and back; the binary format saves converting the headers
+ * to JSON and writes the keys of well-known headers as table indexes.
+ */
+@State(Scope.Benchmark)
+public class CborJsonifiableSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final ModifyFeatureProperty SIGNAL = ModifyFeatureProperty.of(
+            ThingId.of("org.eclipse.ditto", "smart-coffee-1"),
+            "water-tank",
+            JsonPointer.of("status"),
+            JsonObject.newBuilder()
+                    .set("waterAmount", 725)
+                    .set("temperature", 43.9)
+                    .set("lastRefill", "2021-01-28T12:00:01.000Z")
+                    .build(),
+            DittoHeaders.newBuilder()
+                    .correlationId("a780b7b5-fdd2-4864-91fc-80df6bb0a636")
+                    .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                            AuthorizationSubject.newInstance("integration:org.eclipse.ditto:coffee")))
+                    .schemaVersion(JsonSchemaVersion.LATEST)
+                    .responseRequired(true)
+                    .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                    .putHeader("x-custom-header", "custom value")
+                    .build());
+
+    private ExtendedActorSystem jsonWritingActorSystem;
+    private ExtendedActorSystem binaryWritingActorSystem;
+    private CborJsonifiableSerializer jsonSerializer;
+    private CborJsonifiableSerializer binarySerializer;
+    private String jsonManifest;
+    private byte[] jsonBytes;
+    private String binaryManifest;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        jsonWritingActorSystem = getActorSystem(false);
+        binaryWritingActorSystem = getActorSystem(true);
+        jsonSerializer = new CborJsonifiableSerializer(jsonWritingActorSystem);
+        binarySerializer = new CborJsonifiableSerializer(binaryWritingActorSystem);
+        jsonManifest = jsonSerializer.manifest(SIGNAL);
+        jsonBytes = jsonSerializer.toBinary(SIGNAL);
+        binaryManifest = binarySerializer.manifest(SIGNAL);
+        binaryBytes = binarySerializer.toBinary(SIGNAL);
+    }
+
+    @TearDown
+    public void tearDown() {
+        TestKit.shutdownActorSystem(jsonWritingActorSystem);
+        TestKit.shutdownActorSystem(binaryWritingActorSystem);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] json_toBinary() {
+        jsonSerializer.manifest(SIGNAL);
+        return jsonSerializer.toBinary(SIGNAL);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] binary_toBinary() {
+        binarySerializer.manifest(SIGNAL);
+        return binarySerializer.toBinary(SIGNAL);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object json_fromBinary() {
+        return jsonSerializer.fromBinary(jsonBytes, jsonManifest);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object binary_fromBinary() {
+        return binarySerializer.fromBinary(binaryBytes, binaryManifest);
+    }
+
+    private static ExtendedActorSystem getActorSystem(final boolean binaryFormatEnabled) {
+        return (ExtendedActorSystem) ExtendedActorSystem.create("benchmark", ConfigFactory.parseMap(Map.of(
+                "ditto.mapping-strategy.implementation", ThingCommandsStrategy.class.getName(),
+                "akka.actor.serializers-json.binary-format.enabled", binaryFormatEnabled,
+                "akka.actor.serializers-json.binary-format.manifests", List.of(ModifyFeatureProperty.TYPE)
+        )));
+    }
+
+    private static final class ThingCommandsStrategy extends MappingStrategies {
+
+        ThingCommandsStrategy() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalErrorRegistry.getInstance())
+                    .add(GlobalCommandRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
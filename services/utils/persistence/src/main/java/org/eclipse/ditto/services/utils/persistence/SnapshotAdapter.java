@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.services.utils.persistence;
 
+import java.util.Optional;
+import java.util.OptionalLong;
+
 import javax.annotation.Nullable;
 
 import akka.persistence.SelectedSnapshot;
@@ -54,4 +57,46 @@ public interface SnapshotAdapter<T> {
     @Nullable
     T fromSnapshotStore(SelectedSnapshot selectedSnapshot);
 
+    /**
+     * Converts a "domain model snapshot" type to a delta snapshot which only contains the changes relative to the
+     * full snapshot it is based on.
+     * Delta snapshots are not supported by default.
+     *
+     * @param base the domain model type of the full snapshot the delta is based on.
+     * @param baseSequenceNumber the sequence number of the full snapshot the delta is based on.
+     * @param snapshot the domain model type to do a Snapshot for.
+     * @param maxDeltaRatio the maximum ratio of the size of the delta to the size of {@code base}.
+     * @return the transformed Database type which should be persisted into Snapshot-Store or an empty Optional if a
+     * full snapshot should be taken instead.
+     */
+    default Optional<Object> toDeltaSnapshotStore(final T base, final long baseSequenceNumber, final T snapshot,
+            final double maxDeltaRatio) {
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the sequence number of the full snapshot a "database snapshot" is based on if it is a delta snapshot.
+     *
+     * @param rawSnapshot the snapshot as loaded from the database.
+     * @return the sequence number of the base snapshot or an empty OptionalLong if {@code rawSnapshot} is a full
+     * snapshot.
+     */
+    default OptionalLong getDeltaBaseSequenceNumber(final Object rawSnapshot) {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Applies a "database delta snapshot" to the domain model type of the full snapshot it is based on.
+     * Delta snapshots are not supported by default.
+     *
+     * @param base the domain model type of the full snapshot the delta is based on.
+     * @param rawDeltaSnapshot the delta snapshot as loaded from the database.
+     * @return the domain model type of the delta snapshot or an empty Optional if the delta snapshot cannot be
+     * applied and the entity should be recovered from its events instead.
+     */
+    default Optional<T> applyDeltaSnapshot(final T base, final Object rawDeltaSnapshot) {
+        return Optional.empty();
+    }
+
 }
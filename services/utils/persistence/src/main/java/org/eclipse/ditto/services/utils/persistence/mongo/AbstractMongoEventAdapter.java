@@ -23,6 +23,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryPayloadConfig;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.EventRegistry;
 import org.slf4j.Logger;
@@ -34,6 +35,10 @@ import akka.persistence.journal.EventSeq;
 
 /**
  * Abstract event adapter for {@link org.eclipse.ditto.signals.events.base.Event}.
+ * <p>
+ * Events are written by {@link DittoBsonCbor} if the binary payload format is enabled in the config of the actor system,
+ * otherwise by {@link DittoBsonJson}. Events of both formats are read.
+ * </p>
  */
 public abstract class AbstractMongoEventAdapter<T extends Event> implements EventAdapter {
 
@@ -44,10 +49,13 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
 
     private final ExtendedActorSystem system;
     private final EventRegistry<T> eventRegistry;
+    private final boolean binaryPayload;
 
     protected AbstractMongoEventAdapter(final ExtendedActorSystem system, final EventRegistry<T> eventRegistry) {
         this.system = system;
         this.eventRegistry = eventRegistry;
+        binaryPayload = null != system &&
+                DefaultBinaryPayloadConfig.fromRootConfig(system.settings().config()).isEnabled();
     }
 
     @Override
@@ -67,7 +75,9 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
-            return DittoBsonJson.getInstance().parse(jsonObject);
+            return binaryPayload
+                    ? DittoBsonCbor.getInstance().parse(jsonObject)
+                    : DittoBsonJson.getInstance().parse(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -76,7 +86,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryParseEvent(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryParseEvent(DittoBsonCbor.getInstance().serialize((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
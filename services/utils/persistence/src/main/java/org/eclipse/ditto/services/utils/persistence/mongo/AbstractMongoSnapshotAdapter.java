@@ -15,19 +15,27 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryPayloadConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryPayloadConfig;
 import org.slf4j.Logger;
 
 import akka.persistence.SelectedSnapshot;
@@ -35,6 +43,12 @@ import akka.persistence.SnapshotOffer;
 
 /**
  * Abstract implementation of a MongoDB specific {@link SnapshotAdapter} for a {@link Jsonifiable}.
+ * Snapshots are written by {@link DittoBsonCbor} if the binary payload format is enabled, otherwise by
+ * {@link DittoBsonJson}. Snapshots of both formats are read.
+ * <p>
+ * Delta snapshots contain the top-level scalar fields of the entity, the sequence number of their full base snapshot
+ * in {@value #DELTA_BASE_FIELD} and an RFC 7396 merge patch against the base snapshot in {@value #DELTA_FIELD}.
+ * </p>
  *
  * @param <T> the jsonifiable type to snapshot.
  */
@@ -42,10 +56,26 @@ import akka.persistence.SnapshotOffer;
 public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>
         implements SnapshotAdapter<T> {
 
+    /**
+     * Name of the field containing the sequence number of the full snapshot a delta snapshot is based on.
+     */
+    public static final String DELTA_BASE_FIELD = "__deltaBase";
+
+    /**
+     * Name of the field containing the merge patch of a delta snapshot.
+     */
+    public static final String DELTA_FIELD = "__delta";
+
     private final Logger logger;
+    private final boolean binaryPayload;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, DefaultBinaryPayloadConfig.disabled());
+    }
+
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final BinaryPayloadConfig binaryPayloadConfig) {
         this.logger = logger;
+        binaryPayload = checkNotNull(binaryPayloadConfig, "binary payload config").isEnabled();
     }
 
     @Override
@@ -54,8 +84,98 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return toBson(json);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The delta is the merge patch which transforms the JSON of {@code base} into the JSON of {@code snapshot}.
+     * A full snapshot is requested if the patch is too large or if merging it does not restore the entity exactly,
+     * e.g. because the entity contains {@code null} values which a merge patch would remove.
+     */
+    @Override
+    public Optional<Object> toDeltaSnapshotStore(final T base, final long baseSequenceNumber, final T snapshot,
+            final double maxDeltaRatio) {
+
+        final JsonObject baseJson = convertToJson(checkNotNull(base, "base snapshot entity"));
+        final JsonObject json = convertToJson(checkNotNull(snapshot, "snapshot entity"));
+        final JsonValue patch = diff(baseJson, json);
+        if (patch.getUpperBoundForStringSize() > maxDeltaRatio * baseJson.getUpperBoundForStringSize() ||
+                !json.equals(JsonFactory.mergeJsonValues(patch, baseJson))) {
+            return Optional.empty();
+        }
+
+        onSnapshotStoreConversion(snapshot, json);
+
+        final JsonObjectBuilder deltaBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : json) {
+            final JsonValue value = field.getValue();
+            if (!value.isObject() && !value.isArray()) {
+                deltaBuilder.set(field);
+            }
+        }
+        deltaBuilder.set(DELTA_BASE_FIELD, baseSequenceNumber);
+        deltaBuilder.set(DELTA_FIELD, patch);
+        return Optional.of(toBson(deltaBuilder.build()));
+    }
+
+    @Override
+    public OptionalLong getDeltaBaseSequenceNumber(final Object rawSnapshot) {
+        if (rawSnapshot instanceof BsonValue && ((BsonValue) rawSnapshot).isDocument()) {
+            final BsonValue deltaBase = ((BsonValue) rawSnapshot).asDocument().get(DELTA_BASE_FIELD);
+            if (null != deltaBase && deltaBase.isNumber()) {
+                return OptionalLong.of(deltaBase.asNumber().longValue());
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<T> applyDeltaSnapshot(final T base, final Object rawDeltaSnapshot) {
+        final JsonObject baseJson = convertToJson(checkNotNull(base, "base snapshot entity"));
+        final JsonObject deltaJson = convertSnapshotEntityToJson(rawDeltaSnapshot);
+        final JsonValue patch = deltaJson.getValue(DELTA_FIELD).orElseThrow(() -> new IllegalArgumentException(
+                MessageFormat.format("Delta snapshot <{0}> has no field <{1}>!", deltaJson, DELTA_FIELD)));
+        final JsonObject snapshotJson = JsonFactory.mergeJsonValues(patch, baseJson).asObject();
+        return Optional.ofNullable(tryToCreateJsonifiableFrom(snapshotJson));
+    }
+
+    /**
+     * Computes the RFC 7396 merge patch which transforms {@code source} into {@code target}.
+     *
+     * @param source the JSON value to be patched.
+     * @param target the JSON value the patch should result in.
+     * @return the merge patch.
+     */
+    private static JsonValue diff(final JsonValue source, final JsonValue target) {
+        if (!source.isObject() || !target.isObject() || source.isNull() || target.isNull()) {
+            return target;
+        }
+        final JsonObject sourceObject = source.asObject();
+        final JsonObject targetObject = target.asObject();
+        final JsonObjectBuilder patchBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField sourceField : sourceObject) {
+            final JsonKey key = sourceField.getKey();
+            if (!targetObject.contains(key)) {
+                patchBuilder.set(key, JsonFactory.nullLiteral());
+            }
+        }
+        for (final JsonField targetField : targetObject) {
+            final JsonKey key = targetField.getKey();
+            final JsonValue targetValue = targetField.getValue();
+            final Optional<JsonValue> sourceValue = sourceObject.getValue(key);
+            if (!sourceValue.isPresent()) {
+                patchBuilder.set(key, targetValue);
+            } else if (!sourceValue.get().equals(targetValue)) {
+                patchBuilder.set(key, diff(sourceValue.get(), targetValue));
+            }
+        }
+        return patchBuilder.build();
+    }
+
+    private BsonValue toBson(final JsonObject json) {
+        return binaryPayload ? DittoBsonCbor.getInstance().parse(json) : DittoBsonJson.getInstance().parse(json);
     }
 
     /**
@@ -124,8 +244,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
+        final JsonObject jsonObject = DittoBsonCbor.getInstance().serialize(bsonValue).asObject();
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
     }
 
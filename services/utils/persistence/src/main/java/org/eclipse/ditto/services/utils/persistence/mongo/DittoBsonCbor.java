@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+
+/**
+ * MongoDB BSON converter which stores a JSON object as one CBOR encoded binary field instead of a BSON document.
+ * <p>
+ * The top-level scalar fields of the JSON object, e.g. IDs, revision and lifecycle, are additionally kept as BSON
+ * fields so that they stay available for queries and projections. Nested objects and arrays are only contained in the
+ * binary field, thus they need neither be converted to BSON nor be key-escaped.
+ * </p>
+ * <p>
+ * {@link #serialize(BsonValue)} reads BSON values with and without binary field so that documents written by
+ * {@link DittoBsonJson} stay readable.
+ * </p>
+ */
+@Immutable
+public final class DittoBsonCbor {
+
+    /**
+     * Name of the BSON field containing the CBOR encoded JSON object.
+     */
+    public static final String BINARY_PAYLOAD_FIELD = "__cbor";
+
+    private static final DittoBsonCbor INSTANCE = new DittoBsonCbor(new JacksonCborFactory());
+
+    private final CborFactory cborFactory;
+
+    private DittoBsonCbor(final CborFactory cborFactory) {
+        this.cborFactory = cborFactory;
+    }
+
+    /**
+     * Returns an instance of {@code DittoBsonCbor}.
+     *
+     * @return the instance.
+     */
+    public static DittoBsonCbor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Parses the specified {@link JsonObject} into a {@link BsonDocument} consisting of its top-level scalar fields and
+     * the binary field {@value #BINARY_PAYLOAD_FIELD} containing the whole JSON object.
+     *
+     * @param jsonObject the JSON object to be parsed.
+     * @return the BsonDocument.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws java.io.UncheckedIOException if {@code jsonObject} could not be encoded as CBOR.
+     */
+    public BsonDocument parse(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object to be parsed");
+        final JsonObjectBuilder scalarFields = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonObject) {
+            final JsonValue value = field.getValue();
+            if (!value.isObject() && !value.isArray()) {
+                scalarFields.set(field);
+            }
+        }
+        final BsonDocument bsonDocument = DittoBsonJson.getInstance().parse(scalarFields.build());
+        bsonDocument.put(BINARY_PAYLOAD_FIELD, new BsonBinary(toCbor(jsonObject)));
+        return bsonDocument;
+    }
+
+    /**
+     * Serializes the specified {@link BsonValue} to JSON. If it is a document with the binary field
+     * {@value #BINARY_PAYLOAD_FIELD}, only that field is decoded, otherwise the BsonValue is serialized by
+     * {@link DittoBsonJson}.
+     *
+     * @param bsonValue the BsonValue to be serialized.
+     * @return the BsonValue serialized as JsonValue.
+     * @throws NullPointerException if {@code bsonValue} is {@code null}.
+     * @throws IllegalArgumentException if {@code bsonValue} is not an instance of {@link BsonDocument} or
+     * {@link org.bson.BsonArray}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the binary field does not contain valid CBOR.
+     */
+    public JsonValue serialize(final BsonValue bsonValue) {
+        checkNotNull(bsonValue, "BsonValue to be serialized");
+        if (hasBinaryPayload(bsonValue)) {
+            final byte[] cbor = bsonValue.asDocument().getBinary(BINARY_PAYLOAD_FIELD).getData();
+            return cborFactory.readFrom(cbor);
+        }
+        return DittoBsonJson.getInstance().serialize(bsonValue);
+    }
+
+    /**
+     * Indicates whether the specified BsonValue was created by {@link #parse(JsonObject)}.
+     *
+     * @param bsonValue the BsonValue to check.
+     * @return {@code true} if {@code bsonValue} is a document with the binary field {@value #BINARY_PAYLOAD_FIELD}.
+     */
+    public static boolean hasBinaryPayload(final BsonValue bsonValue) {
+        if (bsonValue.isDocument()) {
+            final BsonValue binaryPayload = bsonValue.asDocument().get(BINARY_PAYLOAD_FIELD);
+            return null != binaryPayload && binaryPayload.isBinary();
+        }
+        return false;
+    }
+
+    private byte[] toCbor(final JsonObject jsonObject) {
+        try {
+            return cborFactory.toByteArray(jsonObject);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to encode JSON object as CBOR", e);
+        }
+    }
+
+}
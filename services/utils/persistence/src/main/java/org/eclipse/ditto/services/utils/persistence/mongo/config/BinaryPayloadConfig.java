@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the storage format of events and snapshots in MongoDB.
+ */
+@Immutable
+public interface BinaryPayloadConfig {
+
+    /**
+     * Indicates whether the JSON of events and snapshots is written as one CBOR encoded binary field instead of a
+     * BSON document. Only top-level scalar fields are additionally kept as BSON for queries.
+     *
+     * @return whether the binary payload format is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code BinaryPayloadConfig}.
+     */
+    enum BinaryPayloadConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the JSON of events and snapshots is written as one CBOR encoded binary field.
+         */
+        ENABLED("enabled", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        BinaryPayloadConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
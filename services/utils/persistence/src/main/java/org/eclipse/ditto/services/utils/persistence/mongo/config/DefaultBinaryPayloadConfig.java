@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * This class is the default implementation of {@link BinaryPayloadConfig}.
+ */
+@Immutable
+public final class DefaultBinaryPayloadConfig implements BinaryPayloadConfig {
+
+    private static final String CONFIG_PATH = "persistence.binary-payload";
+
+    private final boolean enabled;
+
+    private DefaultBinaryPayloadConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(BinaryPayloadConfigValue.ENABLED.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultBinaryPayloadConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the binary payload config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultBinaryPayloadConfig of(final Config config) {
+        return new DefaultBinaryPayloadConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, BinaryPayloadConfigValue.values()));
+    }
+
+    /**
+     * Returns an instance of {@code DefaultBinaryPayloadConfig} based on the settings of the {@code "ditto"} scope of
+     * the specified root Config, e.g. the Config of an actor system.
+     *
+     * @param rootConfig the root Config.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code rootConfig} is invalid.
+     */
+    public static DefaultBinaryPayloadConfig fromRootConfig(final Config rootConfig) {
+        if (rootConfig.hasPath(ScopedConfig.DITTO_SCOPE)) {
+            return of(DefaultScopedConfig.dittoScoped(rootConfig));
+        }
+        return disabled();
+    }
+
+    /**
+     * Returns an instance of {@code DefaultBinaryPayloadConfig} with all settings at their default values, i.e. with
+     * the binary payload format disabled.
+     *
+     * @return the instance.
+     */
+    public static DefaultBinaryPayloadConfig disabled() {
+        return of(ConfigFactory.empty());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultBinaryPayloadConfig that = (DefaultBinaryPayloadConfig) o;
+        return enabled == that.enabled;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                "]";
+    }
+
+}
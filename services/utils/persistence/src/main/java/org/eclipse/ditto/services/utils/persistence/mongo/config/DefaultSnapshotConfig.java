@@ -34,10 +34,12 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final double deltaRatio;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getDuration(SnapshotConfigValue.INTERVAL.getConfigPath());
         threshold = getThreshold(config);
+        deltaRatio = getDeltaRatio(config);
     }
 
     private static long getThreshold(final ScopedConfig config) {
@@ -49,6 +51,15 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return result;
     }
 
+    private static double getDeltaRatio(final ScopedConfig config) {
+        final double result = config.getDouble(SnapshotConfigValue.DELTA_RATIO.getConfigPath());
+        if (0.0 > result) {
+            final String msgPattern = "The snapshot delta ratio must not be negative but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
     /**
      * Returns an instance of the default snapshot config based on the settings of the specified Config.
      *
@@ -71,6 +82,11 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public double getDeltaRatio() {
+        return deltaRatio;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +96,14 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                Double.compare(that.deltaRatio, deltaRatio) == 0 &&
+                Objects.equals(interval, that.interval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, deltaRatio);
     }
 
     @Override
@@ -93,6 +111,7 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", deltaRatio=" + deltaRatio +
                 "]";
     }
 
@@ -38,6 +38,15 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Returns the maximum ratio of the size of a delta snapshot to the size of the full snapshot it is based on.
+     * A full snapshot is taken instead of a delta snapshot if the delta would exceed this ratio.
+     * A ratio of {@code 0} disables delta snapshots.
+     *
+     * @return the maximum delta ratio.
+     */
+    double getDeltaRatio();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +61,13 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * The maximum ratio of the size of a delta snapshot to the size of its full base snapshot; {@code 0} disables
+         * delta snapshots.
+         */
+        DELTA_RATIO("delta-ratio", 0.0);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DittoBsonCbor}.
+ */
+public final class DittoBsonCborTest {
+
+    private static final JsonObject THING = JsonObject.of("{" +
+            "\"__lifecycle\":\"ACTIVE\"," +
+            "\"_revision\":42," +
+            "\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"policyId\":\"org.eclipse.ditto:policy\"," +
+            "\"attributes\":{\"org.eclipse.ditto\":{\"$value\":[1,2.5,null,true,\"text\"]}}," +
+            "\"features\":{\"f1\":{\"properties\":{\"a\":{\"b\":-1}}}}" +
+            "}");
+
+    private DittoBsonCbor underTest;
+
+    @Before
+    public void setUp() {
+        underTest = DittoBsonCbor.getInstance();
+    }
+
+    @Test
+    public void parseKeepsOnlyTopLevelScalarFieldsAsBson() {
+        final BsonDocument bsonDocument = underTest.parse(THING);
+
+        assertThat(bsonDocument.keySet()).containsExactly("__lifecycle", "_revision", "thingId", "policyId",
+                DittoBsonCbor.BINARY_PAYLOAD_FIELD);
+        assertThat(bsonDocument.get("__lifecycle")).isEqualTo(new BsonString("ACTIVE"));
+        assertThat(bsonDocument.get("_revision").asNumber().longValue()).isEqualTo(42L);
+        assertThat(DittoBsonCbor.hasBinaryPayload(bsonDocument)).isTrue();
+    }
+
+    @Test
+    public void serializeBinaryPayloadReturnsOriginalJson() {
+        final BsonDocument bsonDocument = underTest.parse(THING);
+
+        assertThat(underTest.serialize(bsonDocument)).isEqualTo(THING);
+    }
+
+    @Test
+    public void serializeDocumentWithoutBinaryPayloadLikeDittoBsonJson() {
+        final BsonDocument bsonDocument = DittoBsonJson.getInstance().parse(THING);
+
+        assertThat(DittoBsonCbor.hasBinaryPayload(bsonDocument)).isFalse();
+        assertThat(underTest.serialize(bsonDocument)).isEqualTo(THING);
+    }
+
+    @Test
+    public void documentWithNonBinaryFieldOfSameNameHasNoBinaryPayload() {
+        final BsonDocument bsonDocument = new BsonDocument()
+                .append(DittoBsonCbor.BINARY_PAYLOAD_FIELD, new BsonInt64(1L));
+
+        assertThat(DittoBsonCbor.hasBinaryPayload(bsonDocument)).isFalse();
+        assertThat(underTest.serialize(bsonDocument))
+                .isEqualTo(JsonFactory.newObjectBuilder().set(DittoBsonCbor.BINARY_PAYLOAD_FIELD, 1L).build());
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryPayloadConfig}.
+ */
+public final class DefaultBinaryPayloadConfigTest {
+
+    private static Config binaryPayloadTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        binaryPayloadTestConf = ConfigFactory.load("binary-payload-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultBinaryPayloadConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultBinaryPayloadConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultBinaryPayloadConfig underTest = DefaultBinaryPayloadConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(BinaryPayloadConfig.BinaryPayloadConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(BinaryPayloadConfig.BinaryPayloadConfigValue.ENABLED.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultBinaryPayloadConfig underTest = DefaultBinaryPayloadConfig.of(binaryPayloadTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(BinaryPayloadConfig.BinaryPayloadConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+    }
+
+    @Test
+    public void fromRootConfigReadsDittoScope() {
+        final Config rootConfig = binaryPayloadTestConf.atKey("ditto");
+
+        softly.assertThat(DefaultBinaryPayloadConfig.fromRootConfig(rootConfig).isEnabled()).isTrue();
+        softly.assertThat(DefaultBinaryPayloadConfig.fromRootConfig(ConfigFactory.empty()).isEnabled()).isFalse();
+    }
+
+}
@@ -65,6 +65,9 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getDeltaRatio())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_RATIO.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.DELTA_RATIO.getDefaultValue());
     }
 
     @Test
@@ -77,5 +80,8 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.getDeltaRatio())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_RATIO.getConfigPath())
+                .isEqualTo(0.25);
     }
 }
@@ -65,6 +65,16 @@ public abstract class AbstractPersistentActorWithTimersAndCleanup extends Abstra
      */
     protected abstract long getLatestSnapshotSequenceNumber();
 
+    /**
+     * Returns the sequence number of the oldest snapshot which must survive a cleanup, e.g. because later snapshots
+     * are deltas based on it. Defaults to {@link #getLatestSnapshotSequenceNumber()}.
+     *
+     * @return the sequence number of the oldest snapshot to keep.
+     */
+    protected long getOldestRequiredSnapshotSequenceNumber() {
+        return getLatestSnapshotSequenceNumber();
+    }
+
     @Override
     public Receive createReceive() {
         return receiveBuilder()
@@ -160,7 +170,8 @@ public abstract class AbstractPersistentActorWithTimersAndCleanup extends Abstra
 
     private void startCleanup(final long latestSnapshotSequenceNumber) {
         origin = getSender();
-        final long maxSnapSeqNoToDelete = latestSnapshotSequenceNumber - 1;
+        final long maxSnapSeqNoToDelete =
+                Math.min(latestSnapshotSequenceNumber, getOldestRequiredSnapshotSequenceNumber()) - 1;
         final long maxEventSeqNoToDelete = latestSnapshotSequenceNumber - staleEventsKeptAfterCleanup();
         log.info("Starting cleanup for '{}', deleting snapshots to sequence number {} and events to {}.",
                 persistenceId(), maxSnapSeqNoToDelete, maxEventSeqNoToDelete);
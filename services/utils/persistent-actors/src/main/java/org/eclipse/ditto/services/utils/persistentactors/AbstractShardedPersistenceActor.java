@@ -13,8 +13,15 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -26,8 +33,12 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
@@ -37,13 +48,21 @@ import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.events.base.Event;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
+import akka.persistence.JournalProtocol;
+import akka.persistence.Persistence;
+import akka.persistence.PersistentRepr;
 import akka.persistence.RecoveryCompleted;
 import akka.persistence.RecoveryTimedOut;
 import akka.persistence.SaveSnapshotFailure;
 import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SelectedSnapshot;
 import akka.persistence.SnapshotOffer;
+import akka.persistence.SnapshotProtocol;
+import akka.persistence.SnapshotSelectionCriteria;
 import scala.Option;
 
 /**
@@ -63,11 +82,35 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event<? extends E>> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final String GROUP_COMMIT_BATCH_SIZE = "persistence_group_commit_batch_size";
+    private static final String GROUP_COMMIT_LATENCY = "persistence_group_commit_latency_millis";
+    private static final GroupCommitConfig DISABLED_GROUP_COMMIT_CONFIG = DefaultGroupCommitConfig.disabled();
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
+    private final List<ProvisionalEvent<E, S>> provisionalEvents;
+    private final List<RecoveredEvent<E>> eventsAfterDeltaSnapshot;
+    private final Histogram groupCommitBatchSize;
+    private final Histogram groupCommitLatency;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
+    private boolean batchInFlight;
+    private boolean batchRejected;
+    private boolean queryDeferred;
+
+    /**
+     * The entity of the latest confirmed full snapshot which delta snapshots are based on.
+     */
+    @Nullable private S deltaBase;
+    private long deltaBaseRevision;
+    @Nullable private S pendingDeltaBase;
+    private long pendingDeltaBaseRevision;
+
+    /**
+     * The delta snapshot offered during recovery whose base snapshot is yet to be loaded.
+     */
+    @Nullable private SnapshotOffer deltaSnapshotOffer;
 
     /**
      * The current entity, or null if it was never created.
@@ -96,11 +139,28 @@ public abstract class AbstractShardedPersistenceActor<
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        provisionalEvents = new ArrayList<>();
+        eventsAfterDeltaSnapshot = new ArrayList<>();
+        deltaBase = null;
+        deltaBaseRevision = 0L;
+        pendingDeltaBase = null;
+        pendingDeltaBaseRevision = 0L;
+        deltaSnapshotOffer = null;
+        batchInFlight = false;
+        batchRejected = false;
+        queryDeferred = false;
+        groupCommitBatchSize = DittoMetrics.histogram(GROUP_COMMIT_BATCH_SIZE);
+        groupCommitLatency = DittoMetrics.histogram(GROUP_COMMIT_LATENCY);
 
         handleEvents = ReceiveBuilder.create()
                 .match(getEventClass(), event -> {
-                    entity = getEventStrategy().handle((E) event, entity, getRevisionNumber());
-                    onEntityModified();
+                    if (null != deltaSnapshotOffer) {
+                        // replayed events are applied after the base of the offered delta snapshot is loaded
+                        eventsAfterDeltaSnapshot.add(new RecoveredEvent<>((E) event, getRevisionNumber()));
+                    } else {
+                        entity = getEventStrategy().handle((E) event, entity, getRevisionNumber());
+                        onEntityModified();
+                    }
                 })
                 .build();
 
@@ -158,6 +218,17 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * Returns the configuration for batched journal writes. Group commit is disabled by default; implementations
+     * enabling it must not rely on {@code getSender()} in the handlers passed to
+     * {@link #persistAndApplyEvent(Event, BiConsumer)}, because those are invoked after the whole batch is written.
+     *
+     * @return configuration for group commit.
+     */
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return DISABLED_GROUP_COMMIT_CONFIG;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -170,6 +241,17 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract DittoRuntimeExceptionBuilder<?> newNotAccessibleExceptionBuilder();
 
+    /**
+     * Creates the error to respond to a modifying command whose event was discarded because the journal rejected
+     * the group commit batch containing it or a preceding event.
+     *
+     * @param dittoHeaders the headers of the command.
+     * @return the error.
+     */
+    protected DittoRuntimeException newEventRejectedException(final DittoHeaders dittoHeaders) {
+        return newNotAccessibleExceptionBuilder().dittoHeaders(dittoHeaders).build();
+    }
+
     /**
      * Publish an event.
      *
@@ -244,11 +326,114 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, this::recoveryCompletedWithDeltaSnapshot)
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
                 .build());
     }
 
+    private void recoveryCompletedWithDeltaSnapshot(final RecoveryCompleted event) {
+        if (null == deltaSnapshotOffer) {
+            recoveryCompleted(event);
+        } else {
+            log.debug("Loading base snapshot <{}> of delta snapshot <{}> for entity with ID <{}>.",
+                    deltaBaseRevision, deltaSnapshotOffer.metadata().sequenceNr(), entityId);
+            loadSnapshot(persistenceId(),
+                    SnapshotSelectionCriteria.create(deltaBaseRevision, Long.MAX_VALUE, deltaBaseRevision, 0L),
+                    deltaBaseRevision);
+            getContext().become(ReceiveBuilder.create()
+                    .match(SnapshotProtocol.LoadSnapshotResult.class, result ->
+                            deltaBaseSnapshotLoaded(result.snapshot(), event))
+                    .match(SnapshotProtocol.LoadSnapshotFailed.class, failed -> {
+                        log.warning("Failed to load base snapshot <{}> of entity with ID <{}> due to <{}>. " +
+                                "Replaying all events instead.", deltaBaseRevision, entityId, failed.cause());
+                        replayAllEvents(event);
+                    })
+                    .matchAny(message -> stash())
+                    .build());
+        }
+    }
+
+    private void deltaBaseSnapshotLoaded(final Option<SelectedSnapshot> baseSnapshot, final RecoveryCompleted event) {
+        final SnapshotOffer deltaSnapshot = deltaSnapshotOffer;
+        deltaSnapshotOffer = null;
+        final S base = baseSnapshot.isDefined() ? snapshotAdapter.fromSnapshotStore(baseSnapshot.get()) : null;
+        if (null == base || null == deltaSnapshot) {
+            log.warning("Base snapshot <{}> of entity with ID <{}> is missing. Replaying all events instead.",
+                    deltaBaseRevision, entityId);
+            replayAllEvents(event);
+            return;
+        }
+        final Optional<S> deltaSnapshotEntity = snapshotAdapter.applyDeltaSnapshot(base, deltaSnapshot.snapshot());
+        if (deltaSnapshotEntity.isEmpty()) {
+            log.warning("Delta snapshot of entity with ID <{}> cannot be applied to its base snapshot <{}>. " +
+                    "Replaying all events instead.", entityId, deltaBaseRevision);
+            replayAllEvents(event);
+            return;
+        }
+        entity = deltaSnapshotEntity.get();
+        deltaBase = base;
+        onEntityModified();
+        for (final RecoveredEvent<E> recoveredEvent : eventsAfterDeltaSnapshot) {
+            entity = getEventStrategy().handle(recoveredEvent.getEvent(), entity, recoveredEvent.getRevision());
+            onEntityModified();
+        }
+        eventsAfterDeltaSnapshot.clear();
+        recoveryCompleted(event);
+        unstashAll();
+    }
+
+    private void replayAllEvents(final RecoveryCompleted event) {
+        // the offered delta snapshot is useless without its base: neither count it as latest snapshot for cleanup
+        // nor base further delta snapshots on anything but a full snapshot taken after the replay
+        deltaSnapshotOffer = null;
+        eventsAfterDeltaSnapshot.clear();
+        entity = null;
+        deltaBase = null;
+        lastSnapshotRevision = confirmedSnapshotRevision = 0L;
+
+        final ActorRef journal =
+                Persistence.get(getContext().getSystem()).journalFor(journalPluginId(), ConfigFactory.empty());
+        journal.tell(new JournalProtocol.ReplayMessages(1L, lastSequenceNr(), Long.MAX_VALUE, persistenceId(),
+                getSelf()), getSelf());
+        final AtomicLong firstReplayedSequenceNr = new AtomicLong(0L);
+        getContext().become(ReceiveBuilder.create()
+                .match(JournalProtocol.ReplayedMessage.class, replayed -> {
+                    firstReplayedSequenceNr.compareAndSet(0L, replayed.persistent().sequenceNr());
+                    applyReplayedEvent(replayed.persistent());
+                })
+                .match(JournalProtocol.RecoverySuccess.class, success -> {
+                    if (1L == firstReplayedSequenceNr.get()) {
+                        recoveryCompleted(event);
+                        takeSnapshot("the entity was recovered by replaying all events");
+                        unstashAll();
+                    } else {
+                        // the events before the base snapshot were deleted: replaying the remaining ones would
+                        // yield a partial entity, which must neither be served nor persisted as snapshot
+                        log.error("Cannot recover entity with ID <{}>: its base snapshot <{}> is missing and its " +
+                                        "replay starts at sequence number <{}> instead of 1.", entityId,
+                                deltaBaseRevision, firstReplayedSequenceNr.get());
+                        getContext().stop(getSelf());
+                    }
+                })
+                .match(JournalProtocol.ReplayMessagesFailure.class, failure -> {
+                    log.error(failure.cause(), "Failed to replay the events of entity with ID <{}>.", entityId);
+                    getContext().stop(getSelf());
+                })
+                .matchAny(message -> stash())
+                .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyReplayedEvent(final PersistentRepr persistentRepr) {
+        final Object payload = persistentRepr.payload();
+        if (getEventClass().isInstance(payload)) {
+            entity = getEventStrategy().handle((E) payload, entity, persistentRepr.sequenceNr());
+            onEntityModified();
+        } else {
+            log.warning("Unknown event in the journal of entity with ID <{}>: <{}>", entityId, payload);
+        }
+    }
+
     /**
      * Start handling messages for an existing entity and schedule maintenance messages to self.
      */
@@ -283,11 +468,22 @@ public abstract class AbstractShardedPersistenceActor<
 
     /**
      * Persist an event, modify actor state by the event strategy, then invoke the handler.
+     * <p>
+     * If group commit is enabled, the event is applied to the entity immediately as provisional state and written
+     * to the journal together with all other events produced while the previous write was in flight. The event is
+     * published and the handler invoked only after the batch is durable. Queries are deferred until no batch is in
+     * flight. If the journal rejects a batch, the entity is rolled back to its durable state; the events of the batch
+     * and all events applied after it are discarded without invoking their handlers.
+     * </p>
      *
      * @param event the event to persist and apply.
      * @param handler what happens afterwards.
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
+        persistAndApplyEvent(event, handler, () -> {});
+    }
+
+    private void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler, final Runnable onRejection) {
 
         final E modifiedEvent;
         if (null != entity) {
@@ -302,6 +498,8 @@ public abstract class AbstractShardedPersistenceActor<
 
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
+        } else if (getGroupCommitConfig().isEnabled()) {
+            applyProvisionally(modifiedEvent, handler, onRejection);
         } else {
             persistEvent(modifiedEvent, persistedEvent -> {
                 // after the event was persisted, apply the event on the current actor state
@@ -352,8 +550,8 @@ public abstract class AbstractShardedPersistenceActor<
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
-                .matchAny(this::notAccessible)
-                .build());
+                .build())
+                .orElse(matchAnyWhenDeleted());
     }
 
     /**
@@ -391,6 +589,17 @@ public abstract class AbstractShardedPersistenceActor<
 
     private <T extends Command<?>> void handleByStrategy(final T command,
             final CommandStrategy<T, S, K, E> strategy) {
+        if (provisionalEvents.size() >= getGroupCommitConfig().getMaxBatchSize()) {
+            // the next batch is full; resume handling commands after the batch in flight is written
+            stash();
+            return;
+        }
+        if (queryDeferred || (hasProvisionalEvents() && Command.Category.QUERY == command.getCategory())) {
+            // queries must not see state which is not durable yet; commands after a deferred query keep their order
+            queryDeferred = true;
+            stash();
+            return;
+        }
         log.debug("Handling by strategy: <{}>", command);
         accessCounter++;
         Result<E> result;
@@ -406,17 +615,33 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command<?> command, final E event, final WithDittoHeaders<?> response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
+        final ActorRef sender = getSender();
+        final boolean groupCommit = getGroupCommitConfig().isEnabled();
         persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
-                notifySender(response);
+                notifySender(sender, response);
             }
-            if (becomeDeleted) {
-                becomeDeletedHandler();
+            if (!groupCommit) {
+                becomeCreatedOrDeletedHandler(becomeCreated, becomeDeleted);
             }
-            if (becomeCreated) {
-                becomeCreatedHandler();
+        }, () -> {
+            if (shouldSendResponse(command.getDittoHeaders())) {
+                notifySender(sender, newEventRejectedException(command.getDittoHeaders()));
             }
         });
+        if (groupCommit) {
+            // the provisional state is already modified; subsequent commands must be handled accordingly
+            becomeCreatedOrDeletedHandler(becomeCreated, becomeDeleted);
+        }
+    }
+
+    private void becomeCreatedOrDeletedHandler(final boolean becomeCreated, final boolean becomeDeleted) {
+        if (becomeDeleted) {
+            becomeDeletedHandler();
+        }
+        if (becomeCreated) {
+            becomeCreatedHandler();
+        }
     }
 
     private boolean shouldSendResponse(final DittoHeaders dittoHeaders) {
@@ -441,7 +666,7 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private long getNextRevisionNumber() {
-        return getRevisionNumber() + 1;
+        return getRevisionNumber() + provisionalEvents.size() + 1;
     }
 
     private void persistEvent(final E event, final Consumer<E> handler) {
@@ -464,14 +689,100 @@ public abstract class AbstractShardedPersistenceActor<
         });
     }
 
+    private void applyProvisionally(final E event, final BiConsumer<E, S> handler, final Runnable onRejection) {
+        final long revision = getNextRevisionNumber();
+        final S previousEntity = entity;
+        entity = getEventStrategy().handle(event, entity, revision);
+        onEntityModified();
+        provisionalEvents.add(new ProvisionalEvent<>(event, previousEntity, entity, handler, onRejection));
+        if (!batchInFlight) {
+            persistProvisionalEvents();
+        }
+    }
+
+    private void persistProvisionalEvents() {
+        final List<ProvisionalEvent<E, S>> pendingEvents =
+                provisionalEvents.subList(0, Math.min(provisionalEvents.size(),
+                        getGroupCommitConfig().getMaxBatchSize()));
+        final List<ProvisionalEvent<E, S>> batch = new ArrayList<>(pendingEvents);
+        pendingEvents.clear();
+
+        log.debug("Persisting batch of <{}> events.", batch.size());
+        final long startNanos = System.nanoTime();
+        batchInFlight = true;
+        persistAllAsync(batch.stream().map(ProvisionalEvent::getEvent).collect(Collectors.toList()),
+                persistedEvent -> log.withCorrelationId(persistedEvent)
+                        .debug("Successfully persisted Event <{}>.", persistedEvent.getType()));
+        deferAsync(batch, persistedBatch -> batchPersisted(persistedBatch, startNanos));
+    }
+
+    private void batchPersisted(final List<ProvisionalEvent<E, S>> batch, final long startNanos) {
+        batchInFlight = false;
+        groupCommitBatchSize.record((long) batch.size());
+        groupCommitLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+
+        if (batchRejected) {
+            batchRejected = false;
+            discardProvisionalEvents(batch);
+            return;
+        }
+        log.info("Successfully persisted batch of <{}> events.", batch.size());
+        for (final ProvisionalEvent<E, S> provisionalEvent : batch) {
+            publishEvent(provisionalEvent.getEvent());
+            provisionalEvent.getHandler().accept(provisionalEvent.getEvent(), provisionalEvent.getResultingEntity());
+        }
+
+        if (provisionalEvents.isEmpty()) {
+            // snapshots are only consistent if the entity contains no provisional events
+            if (snapshotThresholdPassed()) {
+                takeSnapshot("snapshot threshold is reached");
+            }
+        } else {
+            persistProvisionalEvents();
+        }
+        queryDeferred = false;
+        unstashAll();
+    }
+
+    private void discardProvisionalEvents(final List<ProvisionalEvent<E, S>> rejectedBatch) {
+        // events after a rejected event must not be written: they were derived from the state it produced
+        final List<ProvisionalEvent<E, S>> discardedEvents = new ArrayList<>(rejectedBatch);
+        discardedEvents.addAll(provisionalEvents);
+        provisionalEvents.clear();
+        log.error("Journal rejected events of a batch of size <{}>. Discarding <{}> provisional events.",
+                rejectedBatch.size(), discardedEvents.size());
+
+        entity = discardedEvents.get(0).getPreviousEntity();
+        onEntityModified();
+        discardedEvents.forEach(discardedEvent -> discardedEvent.getOnRejection().run());
+        becomeCreatedOrDeletedHandler();
+        queryDeferred = false;
+        unstashAll();
+    }
+
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (batchInFlight) {
+            batchRejected = true;
+        }
+    }
+
+    private boolean hasProvisionalEvents() {
+        return batchInFlight || !provisionalEvents.isEmpty();
+    }
+
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (hasProvisionalEvents()) {
+            log.debug("Not taking snapshot for entity <{}> with events not yet persisted even if {}.", entityId,
+                    reason);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
 
-            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            final Object snapshotSubject = toSnapshotStore(entity, revision);
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
@@ -483,6 +794,21 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    private Object toSnapshotStore(final S snapshotEntity, final long revision) {
+        final double deltaRatio = getSnapshotConfig().getDeltaRatio();
+        if (0.0 < deltaRatio && null != deltaBase) {
+            final Optional<Object> deltaSnapshot =
+                    snapshotAdapter.toDeltaSnapshotStore(deltaBase, deltaBaseRevision, snapshotEntity, deltaRatio);
+            if (deltaSnapshot.isPresent()) {
+                return deltaSnapshot.get();
+            }
+        }
+        // becomes the base of delta snapshots once it is saved
+        pendingDeltaBase = snapshotEntity;
+        pendingDeltaBaseRevision = revision;
+        return snapshotAdapter.toSnapshotStore(snapshotEntity);
+    }
+
     private boolean snapshotThresholdPassed() {
         return getRevisionNumber() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
     }
@@ -508,6 +834,11 @@ public abstract class AbstractShardedPersistenceActor<
     private void saveSnapshotSuccess(final SaveSnapshotSuccess s) {
         log.debug("Got {}", s);
         confirmedSnapshotRevision = s.metadata().sequenceNr();
+        if (null != pendingDeltaBase && pendingDeltaBaseRevision == confirmedSnapshotRevision) {
+            deltaBase = pendingDeltaBase;
+            deltaBaseRevision = pendingDeltaBaseRevision;
+            pendingDeltaBase = null;
+        }
     }
 
     private void saveSnapshotFailure(final SaveSnapshotFailure s) {
@@ -515,8 +846,17 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
-        entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
-        lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        final long sequenceNumber = snapshotOffer.metadata().sequenceNr();
+        final OptionalLong baseSequenceNumber = snapshotAdapter.getDeltaBaseSequenceNumber(snapshotOffer.snapshot());
+        if (baseSequenceNumber.isPresent()) {
+            deltaSnapshotOffer = snapshotOffer;
+            deltaBaseRevision = baseSequenceNumber.getAsLong();
+        } else {
+            entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
+            deltaBase = entity;
+            deltaBaseRevision = sequenceNumber;
+        }
+        lastSnapshotRevision = confirmedSnapshotRevision = sequenceNumber;
     }
 
     @Override
@@ -524,6 +864,11 @@ public abstract class AbstractShardedPersistenceActor<
         return confirmedSnapshotRevision;
     }
 
+    @Override
+    protected long getOldestRequiredSnapshotSequenceNumber() {
+        return null != deltaBase ? Math.min(deltaBaseRevision, confirmedSnapshotRevision) : confirmedSnapshotRevision;
+    }
+
     private void notAccessible(final Object message) {
         final DittoRuntimeExceptionBuilder<?> builder = newNotAccessibleExceptionBuilder();
         if (message instanceof WithDittoHeaders) {
@@ -552,6 +897,19 @@ public abstract class AbstractShardedPersistenceActor<
                 .build();
     }
 
+    /**
+     * Default is to reply that the entity is not accessible, may be overwritten by implementations in order to handle
+     * additional messages while the entity does not exist.
+     *
+     * @return the match-all Receive object.
+     * @since 2.0.0
+     */
+    protected Receive matchAnyWhenDeleted() {
+        return ReceiveBuilder.create()
+                .matchAny(this::notAccessible)
+                .build();
+    }
+
     /**
      * Create a private {@code CheckForActivity} message for unit tests.
      *
@@ -581,6 +939,71 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    /**
+     * An event applied to the provisional state of the entity but not yet persisted.
+     */
+    private static final class ProvisionalEvent<E, S> {
+
+        private final E event;
+        @Nullable private final S previousEntity;
+        @Nullable private final S resultingEntity;
+        private final BiConsumer<E, S> handler;
+        private final Runnable onRejection;
+
+        private ProvisionalEvent(final E event, @Nullable final S previousEntity, @Nullable final S resultingEntity,
+                final BiConsumer<E, S> handler, final Runnable onRejection) {
+            this.event = event;
+            this.previousEntity = previousEntity;
+            this.resultingEntity = resultingEntity;
+            this.handler = handler;
+            this.onRejection = onRejection;
+        }
+
+        private E getEvent() {
+            return event;
+        }
+
+        @Nullable
+        private S getPreviousEntity() {
+            return previousEntity;
+        }
+
+        @Nullable
+        private S getResultingEntity() {
+            return resultingEntity;
+        }
+
+        private BiConsumer<E, S> getHandler() {
+            return handler;
+        }
+
+        private Runnable getOnRejection() {
+            return onRejection;
+        }
+    }
+
+    /**
+     * An event replayed after a delta snapshot together with its revision.
+     */
+    private static final class RecoveredEvent<E> {
+
+        private final E event;
+        private final long revision;
+
+        private RecoveredEvent(final E event, final long revision) {
+            this.event = event;
+            this.revision = revision;
+        }
+
+        private E getEvent() {
+            return event;
+        }
+
+        private long getRevision() {
+            return revision;
+        }
+    }
+
     private enum Control {
         TAKE_SNAPSHOT
     }
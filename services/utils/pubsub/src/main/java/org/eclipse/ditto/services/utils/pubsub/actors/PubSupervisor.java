@@ -12,14 +12,21 @@
  */
 package org.eclipse.ditto.services.utils.pubsub.actors;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DData;
 
 import akka.actor.ActorRef;
+import akka.actor.OneForOneStrategy;
 import akka.actor.Props;
+import akka.actor.SupervisorStrategy;
 import akka.actor.Terminated;
+import akka.japi.pf.DeciderBuilder;
 import akka.japi.pf.ReceiveBuilder;
 
 /**
@@ -28,12 +35,12 @@ import akka.japi.pf.ReceiveBuilder;
  * {@code
  *                                PubSupervisor
  *                                      +
- *              supervises one-for-many |
+ *               supervises one-for-one |
  *             +------------------------+
  *             |                        |
  *             |                        |
  *             v                        v
- *        Publisher                PubUpdater
+ *        Publisher(s)             PubUpdater
  *         +                         +
  *         |                         |
  *         |                         |
@@ -45,13 +52,18 @@ import akka.japi.pf.ReceiveBuilder;
  *         +--------------------> DDataReplicator
  * }
  * </pre>
+ * If more than one publisher shard is configured, publications are routed to the shards by entity ID.
+ * The shards share one subscriber index maintained by the first shard.
+ * A terminated publisher shard is restarted on its own after the restart delay; publications routed to it in the
+ * meantime are dropped. Only the termination of the updater restarts all children.
  */
 public final class PubSupervisor extends AbstractPubSubSupervisor {
 
     private final DData<ActorRef, ?, ?> ddata;
     private final DistributedAcks distributedAcks;
 
-    @Nullable private ActorRef publisher;
+    private final List<ActorRef> publishers;
+    @Nullable private SharedPublisherState sharedState;
     @Nullable private ActorRef updater;
 
     @SuppressWarnings("unused")
@@ -59,6 +71,7 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
         super();
         this.ddata = ddata;
         this.distributedAcks = distributedAcks;
+        publishers = new ArrayList<>(config.getPublisherShards());
     }
 
     /**
@@ -75,30 +88,58 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
     @Override
     protected Receive createPubSubBehavior() {
         return ReceiveBuilder.create()
-                .match(Publisher.Request.class, this::isPublisherAvailable, this::publish)
-                .match(Publisher.Request.class, this::publisherUnavailable)
+                .match(Publisher.Request.class, this::publish)
                 .match(Terminated.class, this::childTerminated)
+                .match(RestartShard.class, this::restartShard)
                 .build();
     }
 
+    @Override
+    public SupervisorStrategy supervisorStrategy() {
+        // stop only the failing child; its termination decides what to restart
+        return new OneForOneStrategy(
+                DeciderBuilder.matchAny(error -> {
+                    log.error(error, "Child <{}> crashed. Restarting it after <{}>", getSender(),
+                            config.getRestartDelay());
+                    return (SupervisorStrategy.Directive) SupervisorStrategy.stop();
+                }).build());
+    }
+
     @Override
     protected void onChildFailure(final ActorRef failingChild) {
-        publisher = null;
+        publishers.clear();
     }
 
     @Override
     protected void startChildren() {
         updater = startChild(PubUpdater.props(ddata.getWriter()), PubUpdater.ACTOR_NAME_PREFIX);
-        publisher = startChild(Publisher.props(ddata.getReader(), distributedAcks), Publisher.ACTOR_NAME_PREFIX);
+        publishers.clear();
+        sharedState = new SharedPublisherState();
+        for (int i = 0; i < config.getPublisherShards(); ++i) {
+            publishers.add(startShard(sharedState, i));
+            getTimers().cancel(new RestartShard(i));
+        }
     }
 
-    private boolean isPublisherAvailable() {
-        return publisher != null;
+    private ActorRef startShard(final SharedPublisherState sharedState, final int shardIndex) {
+        final Props props = Publisher.shardProps(ddata.getReader(), distributedAcks, sharedState, shardIndex == 0);
+        return startChild(props, Publisher.ACTOR_NAME_PREFIX);
     }
 
-    @SuppressWarnings("ConstantConditions")
     private void publish(final Publisher.Request publish) {
-        publisher.tell(publish, getSender());
+        @Nullable final ActorRef publisher;
+        if (publishers.isEmpty()) {
+            publisher = null;
+        } else if (publishers.size() == 1) {
+            publisher = publishers.get(0);
+        } else {
+            publisher = publishers.get(Publisher.getShardIndex(publish, publishers.size()));
+        }
+        if (null != publisher) {
+            publisher.tell(publish, getSender());
+        } else {
+            publisherUnavailable(publish);
+        }
     }
 
     private void publisherUnavailable(final Publisher.Request publish) {
@@ -110,11 +151,49 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
             log.error("Updater terminated, restart scheduled: <{}>", terminated.getActor());
             updater = null;
             scheduleRestartChildren();
-        } else if (terminated.getActor().equals(publisher)) {
-            log.error("Publisher terminated, restart scheduled: <{}>", terminated.getActor());
-            publisher = null;
-            scheduleRestartChildren();
+        } else {
+            final int shardIndex = publishers.indexOf(terminated.getActor());
+            if (shardIndex >= 0) {
+                log.error("Publisher shard <{}> terminated, restart scheduled: <{}>", shardIndex,
+                        terminated.getActor());
+                publishers.set(shardIndex, null);
+                final RestartShard restartShard = new RestartShard(shardIndex);
+                getTimers().startSingleTimer(restartShard, restartShard, config.getRestartDelay());
+            }
+        }
+        // let the other child actors run until scheduled restart.
+    }
+
+    private void restartShard(final RestartShard restartShard) {
+        final int shardIndex = restartShard.shardIndex;
+        if (null != sharedState && shardIndex < publishers.size() && null == publishers.get(shardIndex)) {
+            log.info("Restarting publisher shard <{}>", shardIndex);
+            publishers.set(shardIndex, startShard(sharedState, shardIndex));
         }
-        // let the other child actor run until scheduled restart.
+    }
+
+    private static final class RestartShard {
+
+        private final int shardIndex;
+
+        private RestartShard(final int shardIndex) {
+            this.shardIndex = shardIndex;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof RestartShard && ((RestartShard) o).shardIndex == shardIndex;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardIndex);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [shardIndex=" + shardIndex + "]";
+        }
+
     }
 }
@@ -47,6 +47,8 @@ import scala.jdk.javaapi.CollectionConverters;
 
 /**
  * Publishes messages according to topic distributed data.
+ * A node may run several publishers as shards; they share one {@link SharedPublisherState} which is kept up to date
+ * by the shard receiving distributed data changes.
  */
 public final class Publisher extends AbstractActor {
 
@@ -62,14 +64,20 @@ public final class Publisher extends AbstractActor {
     private final Counter messageCounter = DittoMetrics.counter("pubsub-published-messages");
     private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
 
-    private PublisherIndex<Long> publisherIndex = PublisherIndex.empty();
-    private RemoteAcksChanged remoteAcks = RemoteAcksChanged.of(Map.of());
+    private final SharedPublisherState sharedState;
 
     @SuppressWarnings("unused")
-    private Publisher(final DDataReader<ActorRef, String> ddataReader, final DistributedAcks distributedAcks) {
+    private Publisher(final DDataReader<ActorRef, String> ddataReader,
+            final DistributedAcks distributedAcks,
+            final SharedPublisherState sharedState,
+            final boolean updateSharedState) {
+
         this.ddataReader = ddataReader;
-        ddataReader.receiveChanges(getSelf());
-        distributedAcks.receiveDistributedDeclaredAcks(getSelf());
+        this.sharedState = sharedState;
+        if (updateSharedState) {
+            ddataReader.receiveChanges(getSelf());
+            distributedAcks.receiveDistributedDeclaredAcks(getSelf());
+        }
     }
 
     /**
@@ -82,7 +90,45 @@ public final class Publisher extends AbstractActor {
      */
     public static <T> Props props(final DDataReader<ActorRef, T> ddataReader, final DistributedAcks distributedAcks) {
 
-        return Props.create(Publisher.class, ddataReader, distributedAcks);
+        return shardProps(ddataReader, distributedAcks, new SharedPublisherState(), true);
+    }
+
+    /**
+     * Create Props for a publisher shard.
+     *
+     * @param <T> representation of topics in the distributed data.
+     * @param ddataReader reader of remote subscriptions.
+     * @param distributedAcks access to the declared ack labels ddata.
+     * @param sharedState the state shared by all publisher shards of this node.
+     * @param updateSharedState whether this shard should keep the shared state up to date. Must be true for
+     * exactly one shard.
+     * @return a Props object.
+     */
+    static <T> Props shardProps(final DDataReader<ActorRef, T> ddataReader,
+            final DistributedAcks distributedAcks,
+            final SharedPublisherState sharedState,
+            final boolean updateSharedState) {
+
+        return Props.create(Publisher.class, ddataReader, distributedAcks, sharedState, updateSharedState);
+    }
+
+    /**
+     * Select the shard responsible for a request such that all signals of one entity are published by the same shard.
+     *
+     * @param request the request to a publisher.
+     * @param numberOfShards how many publisher shards there are.
+     * @return index of the responsible shard.
+     */
+    static int getShardIndex(final Request request, final int numberOfShards) {
+        final CharSequence entityId;
+        if (request instanceof PublishWithAck) {
+            entityId = ((PublishWithAck) request).entityId;
+        } else if (request instanceof Publish) {
+            entityId = ((Publish) request).message.getEntityId();
+        } else {
+            return 0;
+        }
+        return Math.floorMod(entityId.toString().hashCode(), numberOfShards);
     }
 
     /**
@@ -134,6 +180,7 @@ public final class Publisher extends AbstractActor {
         final List<Pair<ActorRef, PublishSignal>> subscribers =
                 doPublish(publishWithAck.topics, publishWithAck.message);
 
+        final RemoteAcksChanged remoteAcks = sharedState.getRemoteAcks();
         final Set<String> subscriberDeclaredAcks = subscribers.stream()
                 .flatMap(pair -> {
                     final ActorRef subscriber = pair.first();
@@ -161,13 +208,13 @@ public final class Publisher extends AbstractActor {
         final List<Long> hashes = topics.stream().map(ddataReader::approximate).collect(Collectors.toList());
         final ActorRef sender = getSender();
         final List<Pair<ActorRef, PublishSignal>> subscribers =
-                publisherIndex.assignGroupsToSubscribers(signal, hashes);
+                sharedState.getPublisherIndex().assignGroupsToSubscribers(signal, hashes);
         subscribers.forEach(pair -> pair.first().tell(pair.second(), sender));
         return subscribers;
     }
 
     private void declaredAcksChanged(final RemoteAcksChanged event) {
-        remoteAcks = event;
+        sharedState.setRemoteAcks(event);
     }
 
     private void topicSubscribersChanged(final Replicator.Changed<?> event) {
@@ -177,7 +224,7 @@ public final class Publisher extends AbstractActor {
                 .stream()
                 .map(entry -> Pair.create(entry.getKey(), deserializeGroupedHashes(entry.getValue())))
                 .collect(Collectors.toMap(Pair::first, Pair::second));
-        publisherIndex = PublisherIndex.fromDeserializedMMap(deserializedMMap);
+        sharedState.setPublisherIndex(PublisherIndex.fromDeserializedMMap(deserializedMMap));
     }
 
     private void logUnhandled(final Object message) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.actors;
+
+import java.util.Map;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.pubsub.api.RemoteAcksChanged;
+
+/**
+ * Snapshot of the subscriber index and the declared acknowledgement labels shared by all publisher shards of a node.
+ * Both are immutable; they are replaced as a whole by the one shard receiving distributed data changes and read by
+ * every shard without locking.
+ */
+@ThreadSafe
+final class SharedPublisherState {
+
+    private volatile PublisherIndex<Long> publisherIndex = PublisherIndex.empty();
+    private volatile RemoteAcksChanged remoteAcks = RemoteAcksChanged.of(Map.of());
+
+    PublisherIndex<Long> getPublisherIndex() {
+        return publisherIndex;
+    }
+
+    void setPublisherIndex(final PublisherIndex<Long> publisherIndex) {
+        this.publisherIndex = publisherIndex;
+    }
+
+    RemoteAcksChanged getRemoteAcks() {
+        return remoteAcks;
+    }
+
+    void setRemoteAcks(final RemoteAcksChanged remoteAcks) {
+        this.remoteAcks = remoteAcks;
+    }
+
+}
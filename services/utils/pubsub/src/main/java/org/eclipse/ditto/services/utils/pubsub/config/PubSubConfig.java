@@ -41,6 +41,11 @@ public interface PubSubConfig {
      */
     Duration getUpdateInterval();
 
+    /**
+     * @return How many publisher actors share the publications of one node.
+     */
+    int getPublisherShards();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -85,7 +90,12 @@ public interface PubSubConfig {
         /**
          * How often to flush local subscriptions to the distributed data replicator.
          */
-        UPDATE_INTERVAL("update-interval", Duration.ofSeconds(3L));
+        UPDATE_INTERVAL("update-interval", Duration.ofSeconds(3L)),
+
+        /**
+         * How many publisher actors to start per node. Publications are routed to them by entity ID.
+         */
+        PUBLISHER_SHARDS("publisher-shards", 1);
 
         private final String path;
         private final Object defaultValue;
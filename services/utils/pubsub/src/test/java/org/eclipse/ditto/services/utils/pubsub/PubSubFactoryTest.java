@@ -16,6 +16,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +40,7 @@ import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.utils.pubsub.actors.ActorEvent;
+import org.eclipse.ditto.services.utils.pubsub.actors.Publisher;
 import org.eclipse.ditto.services.utils.pubsub.api.LocalAcksChanged;
 import org.eclipse.ditto.services.utils.pubsub.api.SubAck;
 import org.eclipse.ditto.services.utils.pubsub.api.Subscribe;
@@ -56,8 +58,10 @@ import com.typesafe.config.ConfigFactory;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorContext;
+import akka.actor.ActorIdentity;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.actor.Identify;
 import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.Terminated;
@@ -206,6 +210,82 @@ public final class PubSubFactoryTest {
         }};
     }
 
+    @Test
+    public void publicationsOfEachEntityKeepTheirOrderAcrossPublisherShards() {
+        new TestKit(system2) {{
+            final DistributedPub<Acknowledgement> pub = factory1.startDistributedPub();
+            final DistributedSub sub = factory2.startDistributedSub();
+            final TestProbe publisher = TestProbe.apply(system1);
+            final TestProbe subscriber = TestProbe.apply(system2);
+
+            // GIVEN: a subscriber of a topic
+            await(sub.subscribeWithFilterAndGroup(singleton("hello"), subscriber.ref(), null, null));
+
+            // WHEN: signals of several entities are published interleaved
+            final int entities = 10;
+            final int messagesPerEntity = 20;
+            IntStream.range(0, messagesPerEntity).forEach(i -> IntStream.range(0, entities)
+                    .forEach(entity -> pub.publish(signal("hello" + i, entity), publisher.ref())));
+
+            // THEN: the signals of each entity arrive in the order they were published
+            final Map<EntityId, List<String>> receivedLabels = new ConcurrentHashMap<>();
+            for (int i = 0; i < entities * messagesPerEntity; i++) {
+                final Acknowledgement received = subscriber.expectMsgClass(Acknowledgement.class);
+                receivedLabels.computeIfAbsent(received.getEntityId(), id -> new ArrayList<>())
+                        .add(received.getLabel().toString());
+            }
+            final List<String> expectedLabels = IntStream.range(0, messagesPerEntity)
+                    .mapToObj(i -> "hello" + i)
+                    .collect(Collectors.toList());
+            assertThat(receivedLabels).hasSize(entities);
+            receivedLabels.values().forEach(labels -> assertThat(labels).isEqualTo(expectedLabels));
+        }};
+    }
+
+    @Test
+    public void terminatedPublisherShardIsRestartedWithoutTheOtherShards() {
+        new TestKit(system1) {{
+            final DistributedPub<Acknowledgement> pub = factory1.startDistributedPub();
+            final DistributedSub sub = factory2.startDistributedSub();
+            final TestProbe publisher = TestProbe.apply(system1);
+            final TestProbe subscriber = TestProbe.apply(system2);
+            await(sub.subscribeWithFilterAndGroup(singleton("hello"), subscriber.ref(), null, null));
+
+            // GIVEN: all publisher shards are running
+            final List<ActorRef> shards = identifyPublisherShards(this);
+            assertThat(shards).hasSize(PubSubConfig.of(system1).getPublisherShards());
+            shards.forEach(this::watch);
+
+            // WHEN: one shard terminates
+            final ActorRef terminatedShard = shards.get(0);
+            system1.stop(terminatedShard);
+            expectTerminated(terminatedShard);
+
+            // THEN: the other shards keep running and the terminated shard is replaced after the restart delay
+            expectNoMessage(PubSubConfig.of(system1).getRestartDelay().plusMillis(500L));
+            final List<ActorRef> restartedShards = identifyPublisherShards(this);
+            assertThat(restartedShards).hasSameSizeAs(shards)
+                    .containsAll(shards.subList(1, shards.size()))
+                    .doesNotContain(terminatedShard);
+
+            // THEN: publications of every entity are delivered again
+            IntStream.range(0, 10).forEach(entity -> pub.publish(signal("hello", entity), publisher.ref()));
+            IntStream.range(0, 10).forEach(entity -> subscriber.expectMsgClass(Acknowledgement.class));
+        }};
+    }
+
+    private List<ActorRef> identifyPublisherShards(final TestKit testKit) {
+        system1.actorSelection("/user/*/*-pub-supervisor/" + Publisher.ACTOR_NAME_PREFIX + "*")
+                .tell(new Identify("publishers"), testKit.getRef());
+        final List<ActorRef> shards = new ArrayList<>();
+        final int expectedShards = PubSubConfig.of(system1).getPublisherShards();
+        for (int i = 0; i < expectedShards; i++) {
+            testKit.expectMsgClass(ActorIdentity.class).getActorRef().ifPresent(shards::add);
+        }
+        testKit.expectNoMessage(java.time.Duration.ofMillis(200L));
+        return shards;
+    }
+
     @Test
     public void watchForLocalActorTermination() {
         new TestKit(system2) {{
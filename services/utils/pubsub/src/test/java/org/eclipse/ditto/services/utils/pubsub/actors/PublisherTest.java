@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
+import org.eclipse.ditto.model.base.common.HttpStatus;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.acks.base.Acknowledgement;
+import org.junit.Test;
+
+/**
+ * Tests the routing of requests to publisher shards by {@link Publisher#getShardIndex(Publisher.Request, int)}.
+ */
+public final class PublisherTest {
+
+    private static final int SHARDS = 4;
+
+    @Test
+    public void requestsOfOneEntityAreRoutedToTheSameShard() {
+        final ThingId thingId = ThingId.of("ns:entity");
+        final Set<Integer> shardIndexes = IntStream.range(0, 20)
+                .mapToObj(i -> publish("label" + i, thingId))
+                .map(request -> Publisher.getShardIndex(request, SHARDS))
+                .collect(Collectors.toSet());
+
+        assertThat(shardIndexes).hasSize(1);
+    }
+
+    @Test
+    public void publishWithAckIsRoutedToTheShardOfItsEntity() {
+        final ThingId thingId = ThingId.of("ns:entity");
+        final Acknowledgement signal = signal("label", thingId);
+        final Publisher.Request publishWithAck =
+                Publisher.publishWithAck(Set.of("topic"), signal, Set.of(), thingId, DittoHeaders.empty());
+
+        assertThat(Publisher.getShardIndex(publishWithAck, SHARDS))
+                .isEqualTo(Publisher.getShardIndex(publish("label", thingId), SHARDS));
+    }
+
+    @Test
+    public void entitiesAreDistributedOverAllShards() {
+        final Set<Integer> shardIndexes = IntStream.range(0, 100)
+                .mapToObj(i -> publish("label", ThingId.of("ns:entity-" + i)))
+                .map(request -> Publisher.getShardIndex(request, SHARDS))
+                .collect(Collectors.toSet());
+
+        assertThat(shardIndexes).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    public void singleShardReceivesEverything() {
+        assertThat(Publisher.getShardIndex(publish("label", ThingId.of("ns:entity")), 1)).isZero();
+    }
+
+    private static Publisher.Request publish(final String label, final ThingId thingId) {
+        return Publisher.publish(Set.of("topic"), signal(label, thingId));
+    }
+
+    private static Acknowledgement signal(final String label, final ThingId thingId) {
+        return Acknowledgement.of(AcknowledgementLabel.of(label), thingId, HttpStatus.OK, DittoHeaders.empty());
+    }
+
+}
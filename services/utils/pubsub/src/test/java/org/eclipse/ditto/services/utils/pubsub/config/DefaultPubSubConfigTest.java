@@ -67,6 +67,10 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getUpdateInterval())
                 .as(PubSubConfig.ConfigValue.UPDATE_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(3L));
+
+        softly.assertThat(underTest.getPublisherShards())
+                .as(PubSubConfig.ConfigValue.PUBLISHER_SHARDS.getConfigPath())
+                .isEqualTo(1);
     }
 
     @Test
@@ -84,6 +88,10 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getUpdateInterval())
                 .as(PubSubConfig.ConfigValue.UPDATE_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(4L));
+
+        softly.assertThat(underTest.getPublisherShards())
+                .as(PubSubConfig.ConfigValue.PUBLISHER_SHARDS.getConfigPath())
+                .isEqualTo(5);
     }
 
 }
@@ -26,6 +26,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.common.HttpStatus;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -48,6 +49,16 @@ public final class QueryThingsResponse extends AbstractCommandResponse<QueryThin
      */
     public static final String TYPE = TYPE_PREFIX + QueryThings.NAME;
 
+    /**
+     * Name of the header which is set by the search service if the items of the search result were projected from the
+     * search index. Its value is a JSON array of the IDs of the found things which could not be projected and are
+     * contained in the search result only by their ID. The header is internal and never read from external headers.
+     *
+     * @since 2.0.0
+     */
+    public static final String UNPROJECTED_THING_IDS_HEADER =
+            DittoHeaderDefinition.SEARCH_UNPROJECTED_THING_IDS.getKey();
+
     private final SearchResult searchResult;
 
     private QueryThingsResponse(final SearchResult searchResult, final DittoHeaders dittoHeaders) {